@@ -1,5 +1,6 @@
 import CONFIG from './config.js';
 import api from './utils/api.js';
+import { isUrlBlocked } from './utils/blockMatcher.js';
 
 // Pomodoro timer state
 let pomodoroTimer = null;
@@ -17,6 +18,7 @@ chrome.runtime.onInstalled.addListener(() => {
   
   // Create alarm for checking notifications
   chrome.alarms.create('checkNotifications', { periodInMinutes: 5 });
+  chrome.alarms.create('flushFocusEvents', { periodInMinutes: 1 });
 });
 
 // Intercept navigation to blocked sites
@@ -32,31 +34,65 @@ chrome.webNavigation.onBeforeNavigate.addListener(async (details) => {
   }
   
   // Check if URL should be blocked
+  if (await shouldBlock(url)) {
+    // Redirect to block page with blocked URL as parameter
+    const blockPageUrl = chrome.runtime.getURL('block.html') + '?url=' + encodeURIComponent(url);
+    chrome.tabs.update(details.tabId, { url: blockPageUrl });
+  }
+});
+
+async function shouldBlock(url) {
   const result = await chrome.storage.local.get([
     CONFIG.STORAGE_KEYS.FOCUS_MODE_ENABLED,
-    CONFIG.STORAGE_KEYS.BLOCKED_WEBSITES
+    CONFIG.STORAGE_KEYS.BLOCKED_WEBSITES,
+    CONFIG.STORAGE_KEYS.BLOCKED_SITES_MATCHER
   ]);
-  
-  const isEnabled = result[CONFIG.STORAGE_KEYS.FOCUS_MODE_ENABLED] || false;
+
+  if (!result[CONFIG.STORAGE_KEYS.FOCUS_MODE_ENABLED]) return false;
+
+  const matcher = result[CONFIG.STORAGE_KEYS.BLOCKED_SITES_MATCHER];
+  if (matcher && matcher.trie) {
+    return isUrlBlocked(matcher.trie, url);
+  }
+
+  // No compiled matcher yet (offline or not synced): fall back to the raw list
   const blockedSites = result[CONFIG.STORAGE_KEYS.BLOCKED_WEBSITES] || [];
-  
-  if (isEnabled && blockedSites.length > 0) {
-    const isBlocked = blockedSites.some(site => url.includes(site));
-    
-    if (isBlocked) {
-      // Redirect to block page with blocked URL as parameter
-      const blockPageUrl = chrome.runtime.getURL('block.html') + '?url=' + encodeURIComponent(url);
-      chrome.tabs.update(details.tabId, { url: blockPageUrl });
+  return blockedSites.some(site => url.includes(site));
+}
+
+// Fetch the compiled matcher only when its version changed on the server
+async function syncBlockedSitesMatcher() {
+  try {
+    const result = await chrome.storage.local.get([CONFIG.STORAGE_KEYS.BLOCKED_SITES_MATCHER]);
+    const current = result[CONFIG.STORAGE_KEYS.BLOCKED_SITES_MATCHER];
+    const response = await api.getBlockedSiteMatcher(current && current.version);
+    if (response && response.data) {
+      await chrome.storage.local.set({ [CONFIG.STORAGE_KEYS.BLOCKED_SITES_MATCHER]: response.data });
     }
+  } catch (error) {
+    console.error('Failed to sync blocked sites matcher:', error);
+  }
+}
+
+// The popup writes the raw list after every load/save; resync the compiled form then
+chrome.storage.onChanged.addListener((changes, area) => {
+  if (area === 'local' && changes[CONFIG.STORAGE_KEYS.BLOCKED_WEBSITES]) {
+    syncBlockedSitesMatcher();
   }
 });
 
+chrome.runtime.onStartup.addListener(() => {
+  syncBlockedSitesMatcher();
+});
+
 // Handle alarm events
 chrome.alarms.onAlarm.addListener(async (alarm) => {
   if (alarm.name === 'checkNotifications') {
     await checkNotifications();
   } else if (alarm.name === 'pomodoroTick') {
     await handlePomodoroTick();
+  } else if (alarm.name === 'flushFocusEvents') {
+    await flushFocusEvents();
   }
 });
 
@@ -80,8 +116,105 @@ async function checkNotifications() {
   }
 }
 
+// Work sessions are reported to the backend as start/pause/resume/finish events. Events are
+// queued locally and sent in batches; each keeps its sequence number across retries so the
+// server applies it once.
+async function queueFocusEvent(type) {
+  if (type === 'START') {
+    pomodoroState.focusSessionId = crypto.randomUUID();
+    pomodoroState.focusSequence = 0;
+  }
+  if (!pomodoroState.focusSessionId) return;
+
+  // Captured before the first await: callers may clear the session right after queueing
+  const event = {
+    sessionId: pomodoroState.focusSessionId,
+    sequence: pomodoroState.focusSequence++,
+    type,
+    occurredAt: toLocalIsoString(new Date())
+  };
+  if (type === 'FINISH') {
+    pomodoroState.focusSessionId = null;
+  }
+
+  await updateFocusQueue(queue => [...queue, event]);
+
+  if (type === 'FINISH') {
+    await flushFocusEvents();
+  }
+}
+
+// Every read-modify-write of the stored queue runs on this chain, so concurrent callers
+// cannot overwrite each other's changes
+let focusQueueWrites = Promise.resolve();
+
+function updateFocusQueue(update) {
+  const key = CONFIG.STORAGE_KEYS.FOCUS_EVENT_QUEUE;
+  const write = focusQueueWrites.then(async () => {
+    const result = await chrome.storage.local.get([key]);
+    await chrome.storage.local.set({ [key]: update(result[key] || []) });
+  });
+  focusQueueWrites = write.catch(error => console.error('Failed to update focus event queue:', error));
+  return write;
+}
+
+// Transport errors and 5xx/408/429 are worth retrying; any other 4xx will fail again
+function isRetryable(error) {
+  return !error.status || error.status >= 500 || error.status === 408 || error.status === 429;
+}
+
+const MAX_REJECTED_FOCUS_EVENTS = 500;
+
+let flushingFocusEvents = false;
+
+async function flushFocusEvents() {
+  if (flushingFocusEvents) return;
+  flushingFocusEvents = true;
+  let batch = [];
+  try {
+    await focusQueueWrites;
+    const result = await chrome.storage.local.get([CONFIG.STORAGE_KEYS.FOCUS_EVENT_QUEUE]);
+    const queue = result[CONFIG.STORAGE_KEYS.FOCUS_EVENT_QUEUE] || [];
+    if (queue.length === 0) return;
+
+    batch = queue.slice(0, 500);
+    await api.sendFocusSessionEvents(batch);
+
+    // Events queued while the request was in flight stay for the next flush
+    await updateFocusQueue(latest => latest.slice(batch.length));
+  } catch (error) {
+    if (isRetryable(error)) {
+      // Keep the queue; the retry is deduplicated by the server
+      console.error('Failed to send focus session events:', error);
+    } else {
+      // The server rejected the batch itself; park it so it cannot block later events
+      console.error(`Focus session events rejected (${error.status}), parking ${batch.length}:`, error);
+      await parkRejectedFocusEvents(batch);
+      await updateFocusQueue(latest => latest.slice(batch.length));
+    }
+  } finally {
+    flushingFocusEvents = false;
+  }
+}
+
+async function parkRejectedFocusEvents(events) {
+  const key = CONFIG.STORAGE_KEYS.FOCUS_EVENT_REJECTED;
+  const result = await chrome.storage.local.get([key]);
+  const rejected = [...(result[key] || []), ...events].slice(-MAX_REJECTED_FOCUS_EVENTS);
+  await chrome.storage.local.set({ [key]: rejected });
+}
+
+// The backend stores LocalDateTime, so send wall-clock time without an offset
+function toLocalIsoString(date) {
+  const offsetMs = date.getTimezoneOffset() * 60000;
+  return new Date(date.getTime() - offsetMs).toISOString().slice(0, 23);
+}
+
 // Pomodoro timer functions
 function startPomodoro(settings) {
+  if (pomodoroState.isWorkSession) {
+    queueFocusEvent(pomodoroState.focusSessionId ? 'RESUME' : 'START');
+  }
   pomodoroState.isRunning = true;
   pomodoroState.settings = settings;
   
@@ -96,12 +229,20 @@ function startPomodoro(settings) {
 }
 
 function pausePomodoro() {
+  if (pomodoroState.isRunning && pomodoroState.isWorkSession) {
+    queueFocusEvent('PAUSE');
+  }
   pomodoroState.isRunning = false;
   chrome.alarms.clear('pomodoroTick');
   savePomodoroState();
 }
 
 function resetPomodoro() {
+  // An abandoned work session keeps the time focused so far but does not count as completed
+  if (pomodoroState.isRunning && pomodoroState.isWorkSession) {
+    queueFocusEvent('PAUSE');
+  }
+  pomodoroState.focusSessionId = null;
   pomodoroState.isRunning = false;
   pomodoroState.isWorkSession = true;
   pomodoroState.sessionCount = 0;
@@ -119,6 +260,7 @@ async function handlePomodoroTick() {
     // Session finished
     if (pomodoroState.isWorkSession) {
       pomodoroState.sessionCount++;
+      await queueFocusEvent('FINISH');
       
       // Check if it's time for long break
       const isLongBreak = pomodoroState.sessionCount % pomodoroState.settings.SESSIONS_BEFORE_LONG_BREAK === 0;
@@ -141,6 +283,7 @@ async function handlePomodoroTick() {
     } else {
       // Break finished
       pomodoroState.isWorkSession = true;
+      await queueFocusEvent('START');
       pomodoroState.timeRemaining = pomodoroState.settings.WORK_MINUTES * 60;
       
       chrome.notifications.create({
@@ -201,22 +344,14 @@ chrome.runtime.onMessage.addListener((request, sender, sendResponse) => {
       break;
       
     case 'CHECK_BLOCKED_WEBSITE':
-      checkBlockedWebsite(message.url, sendResponse);
+      checkBlockedWebsite(request.url, sendResponse);
       return true; // Keep channel open for async response
   }
 });
 
 async function checkBlockedWebsite(url, sendResponse) {
   try {
-    const result = await chrome.storage.local.get([
-      CONFIG.STORAGE_KEYS.FOCUS_MODE_ENABLED,
-      CONFIG.STORAGE_KEYS.BLOCKED_WEBSITES
-    ]);
-    
-    const isEnabled = result[CONFIG.STORAGE_KEYS.FOCUS_MODE_ENABLED] || false;
-    const blockedSites = result[CONFIG.STORAGE_KEYS.BLOCKED_WEBSITES] || [];
-    
-    const isBlocked = isEnabled && blockedSites.some(site => url.includes(site));
+    const isBlocked = await shouldBlock(url);
     
     sendResponse({ isBlocked });
   } catch (error) {
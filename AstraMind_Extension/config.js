@@ -25,6 +25,8 @@ const CONFIG = {
     
     // Focus Mode
     FOCUS_MODE_SETTINGS: '/focus-mode/settings',
+    BLOCKED_SITES_MATCHER: '/focus-mode/blocked-sites/matcher',
+    FOCUS_SESSION_EVENTS: '/focus-sessions/events',
     
     // Analytics & Streak
     STREAK: '/streak',
@@ -36,7 +38,11 @@ const CONFIG = {
     USER: 'currentUser',
     FOCUS_MODE_ENABLED: 'focusModeEnabled',
     BLOCKED_WEBSITES: 'blockedWebsites',
+    BLOCKED_SITES_MATCHER: 'blockedSitesMatcher',
+    FOCUS_SETTINGS: 'focusSettings',
     POMODORO_STATE: 'pomodoroState',
+    FOCUS_EVENT_QUEUE: 'focusEventQueue',
+    FOCUS_EVENT_REJECTED: 'focusEventRejected',
     DAILY_TIME_LIMITS: 'dailyTimeLimits',
     URL_TRACKING: 'urlTracking'
   },
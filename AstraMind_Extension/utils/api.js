@@ -10,13 +10,15 @@ class APIClient {
     return result[CONFIG.STORAGE_KEYS.ACCESS_TOKEN];
   }
 
+  // withETag: resolve to { data, eTag } so the caller can revalidate later
   async request(endpoint, options = {}) {
+    const { withETag, ...fetchOptions } = options;
     const url = `${this.baseURL}${endpoint}`;
     const token = await this.getToken();
 
     const headers = {
       'Content-Type': 'application/json',
-      ...options.headers,
+      ...fetchOptions.headers,
     };
 
     // Add token if not a public endpoint
@@ -26,7 +28,7 @@ class APIClient {
     }
 
     console.log('[API Request]', {
-      method: options.method || 'GET',
+      method: fetchOptions.method || 'GET',
       url: url,
       hasToken: !!token,
       isPublicEndpoint: publicEndpoints.some(ep => endpoint.includes(ep)),
@@ -35,7 +37,7 @@ class APIClient {
 
     try {
       const response = await fetch(url, {
-        ...options,
+        ...fetchOptions,
         headers,
         credentials: 'include',
       });
@@ -62,15 +64,22 @@ class APIClient {
         }
       }
 
+      // Conditional request and the resource is unchanged: the caller keeps its copy
+      if (response.status === 304) {
+        return null;
+      }
+
       const data = await response.json();
       console.log('[API Response Data]', data);
 
       if (!response.ok) {
         console.error('[API] Request failed:', data);
-        throw new Error(data.message || `Request failed with status ${response.status}`);
+        const error = new Error(data.message || `Request failed with status ${response.status}`);
+        error.status = response.status;
+        throw error;
       }
 
-      return data;
+      return withETag ? { data, eTag: response.headers.get('ETag') } : data;
     } catch (error) {
       console.error('[API] Request error:', error);
       throw error;
@@ -120,6 +129,7 @@ class APIClient {
       await chrome.storage.local.remove([
         CONFIG.STORAGE_KEYS.ACCESS_TOKEN,
         CONFIG.STORAGE_KEYS.USER,
+        CONFIG.STORAGE_KEYS.FOCUS_SETTINGS,
       ]);
     }
   }
@@ -209,8 +219,30 @@ class APIClient {
   }
 
   // Focus Mode
+  // Revalidates the stored copy by its ETag; on 304 the stored response is returned
   async getFocusModeSettings() {
-    return this.request(CONFIG.ENDPOINTS.FOCUS_MODE_SETTINGS);
+    const key = CONFIG.STORAGE_KEYS.FOCUS_SETTINGS;
+    const cached = (await chrome.storage.local.get([key]))[key];
+    const result = await this.request(CONFIG.ENDPOINTS.FOCUS_MODE_SETTINGS, {
+      headers: cached && cached.eTag ? { 'If-None-Match': cached.eTag } : {},
+      cache: 'no-store',
+      withETag: true,
+    });
+    if (result === null) {
+      return cached.data;
+    }
+    if (result.eTag) {
+      await chrome.storage.local.set({ [key]: result });
+    }
+    return result.data;
+  }
+
+  // Resolves to null when the matcher still has the given version
+  async getBlockedSiteMatcher(version) {
+    return this.request(CONFIG.ENDPOINTS.BLOCKED_SITES_MATCHER, {
+      headers: version ? { 'If-None-Match': `"${version}"` } : {},
+      cache: 'no-store',
+    });
   }
 
   async updateFocusModeSettings(settings) {
@@ -220,6 +252,14 @@ class APIClient {
     });
   }
 
+  // Focus sessions
+  async sendFocusSessionEvents(events) {
+    return this.request(CONFIG.ENDPOINTS.FOCUS_SESSION_EVENTS, {
+      method: 'POST',
+      body: JSON.stringify({ events }),
+    });
+  }
+
   // Streak
   async getStreak() {
     return this.request(CONFIG.ENDPOINTS.STREAK);
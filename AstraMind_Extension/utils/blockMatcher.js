@@ -0,0 +1,29 @@
+// Lookup in the blocked-site trie compiled by the backend (/focus-mode/blocked-sites/matcher).
+// Keys are domain labels from the top level down; '$' blocks a domain and all its subdomains,
+// '*' blocks subdomains only. Cost is proportional to the host length, not the list size.
+
+const BLOCK_SELF = '$';
+const BLOCK_SUBDOMAINS = '*';
+
+export function isUrlBlocked(trie, url) {
+  let host;
+  try {
+    host = new URL(url).hostname.toLowerCase();
+  } catch (error) {
+    return false;
+  }
+  return isHostBlocked(trie, host);
+}
+
+export function isHostBlocked(trie, host) {
+  if (!trie || !host) return false;
+
+  const labels = host.replace(/\.$/, '').split('.');
+  let node = trie;
+  for (let i = labels.length - 1; i >= 0; i--) {
+    node = Object.prototype.hasOwnProperty.call(node, labels[i]) ? node[labels[i]] : null;
+    if (!node) return false;
+    if (node[BLOCK_SELF] || (node[BLOCK_SUBDOMAINS] && i > 0)) return true;
+  }
+  return false;
+}
@@ -3,14 +3,26 @@ package az.schedule.backendservice;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.cloud.openfeign.EnableFeignClients;
+import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.annotation.EnableScheduling;
 
+import java.util.Map;
+
 @SpringBootApplication
 @EnableScheduling
+@EnableAsync
 @EnableFeignClients
 public class BackendServiceApplication {
 
     public static void main(String[] args) {
-        SpringApplication.run(BackendServiceApplication.class, args);
+        SpringApplication application = new SpringApplication(BackendServiceApplication.class);
+        // Defaults only: application.yml and the environment still override them
+        application.setDefaultProperties(Map.of(
+                "management.server.port", "8081",
+                "management.endpoints.web.exposure.include", "health,info,metrics,prometheus",
+                "management.metrics.tags.application", "backend-service",
+                "management.metrics.distribution.percentiles-histogram.http.server.requests", "true"
+        ));
+        application.run(args);
     }
 }
@@ -0,0 +1,18 @@
+package az.schedule.backendservice.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Overrides the default SQL budget of one controller route; a negative value keeps the default.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface QueryBudget {
+
+    int statements() default -1;
+
+    long millis() default -1;
+}
@@ -0,0 +1,123 @@
+package az.schedule.backendservice.aspect;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.data.repository.Repository;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Times the application's hot paths into Micrometer, tagged with the failing exception's simple name
+ * or {@code none}:
+ * <ul>
+ *     <li>{@code app.service.calls}: public methods of the service implementations, by service and
+ *     method</li>
+ *     <li>{@code app.repository.calls}: every Spring Data repository call, by repository interface and
+ *     method, so the count is the query count</li>
+ *     <li>{@code app.scheduled.runs}: every {@code @Scheduled} job run, by job</li>
+ *     <li>{@code app.ai.calls}: every {@code ChatModel} call, by provider</li>
+ * </ul>
+ * Calls a bean makes on itself bypass the proxy and are not timed.
+ */
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class MetricsAspect {
+    private final MeterRegistry meterRegistry;
+
+    // One provider per metric, owner and method; only the exception tag varies between calls
+    private final Map<TimerKey, Meter.MeterProvider<Timer>> timers = new ConcurrentHashMap<>();
+    private final Map<Class<?>, String> repositoryNames = new ConcurrentHashMap<>();
+
+    private record TimerKey(String metric, String owner, Method method) {
+    }
+
+    @Around("execution(public * az.schedule.backendservice.service.*+.*(..))")
+    public Object timeServiceCall(ProceedingJoinPoint joinPoint) throws Throwable {
+        String service = AopProxyUtils.ultimateTargetClass(joinPoint.getTarget()).getSimpleName();
+        return time(joinPoint, "app.service.calls", service, method -> Timer.builder("app.service.calls")
+                .tag("service", service)
+                .tag("method", method.getName()));
+    }
+
+    @Around("execution(* org.springframework.data.repository.Repository+.*(..))")
+    public Object timeRepositoryCall(ProceedingJoinPoint joinPoint) throws Throwable {
+        // save, findById... are declared once on CrudRepository, so the repository is part of the key
+        String repository = repositoryName(joinPoint.getThis());
+        return time(joinPoint, "app.repository.calls", repository, method -> Timer.builder("app.repository.calls")
+                .tag("repository", repository)
+                .tag("method", method.getName()));
+    }
+
+    @Around("@annotation(org.springframework.scheduling.annotation.Scheduled)")
+    public Object timeScheduledRun(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(joinPoint, "app.scheduled.runs", "", method -> Timer.builder("app.scheduled.runs")
+                .tag("job", method.getDeclaringClass().getSimpleName() + "." + method.getName())
+                .publishPercentileHistogram());
+    }
+
+    @Around("execution(* org.springframework.ai.chat.model.ChatModel+.call(..))")
+    public Object timeAiCall(ProceedingJoinPoint joinPoint) throws Throwable {
+        String provider = providerName(joinPoint.getTarget());
+        return time(joinPoint, "app.ai.calls", provider, method -> Timer.builder("app.ai.calls")
+                .tag("provider", provider)
+                .publishPercentileHistogram());
+    }
+
+    private Object time(ProceedingJoinPoint joinPoint, String metric, String owner,
+                        Function<Method, Timer.Builder> builder) throws Throwable {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        Meter.MeterProvider<Timer> timer = timers.computeIfAbsent(new TimerKey(metric, owner, method),
+                key -> builder.apply(key.method()).withRegistry(meterRegistry));
+        long start = System.nanoTime();
+        String exception = "none";
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            exception = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            timer.withTag("exception", exception).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * The application's repository interface behind a Spring Data proxy, e.g. {@code TaskRepository}
+     * for a {@code save} declared on {@code CrudRepository}.
+     */
+    private String repositoryName(Object proxy) {
+        return repositoryNames.computeIfAbsent(proxy.getClass(), type -> {
+            for (Class<?> candidate : AopProxyUtils.proxiedUserInterfaces(proxy)) {
+                if (Repository.class.isAssignableFrom(candidate)
+                        && !candidate.getPackageName().startsWith("org.springframework")) {
+                    return candidate.getSimpleName();
+                }
+            }
+            return type.getSimpleName();
+        });
+    }
+
+    /**
+     * {@code openai} for {@code OpenAiChatModel}: the model class name without its suffix.
+     */
+    private static String providerName(Object chatModel) {
+        String name = AopProxyUtils.ultimateTargetClass(chatModel).getSimpleName();
+        if (name.endsWith("ChatModel") && name.length() > "ChatModel".length()) {
+            name = name.substring(0, name.length() - "ChatModel".length());
+        }
+        return name.toLowerCase(Locale.ROOT);
+    }
+}
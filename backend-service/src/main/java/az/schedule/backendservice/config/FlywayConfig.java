@@ -0,0 +1,21 @@
+package az.schedule.backendservice.config;
+
+import org.springframework.boot.autoconfigure.flyway.FlywayConfigurationCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class FlywayConfig {
+
+    /**
+     * Existing databases were created by Hibernate (ddl-auto) and have no Flyway history table,
+     * so baseline them at version 0 and let every versioned migration run on top.
+     */
+    @Bean
+    public FlywayConfigurationCustomizer flywayConfigurationCustomizer() {
+        return configuration -> configuration
+                .baselineOnMigrate(true)
+                .baselineVersion("0")
+                .locations("classpath:db/migration");
+    }
+}
@@ -0,0 +1,45 @@
+package az.schedule.backendservice.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class JpaBatchConfig {
+
+    /**
+     * JDBC batching defaults; anything set under {@code spring.jpa.properties} wins.
+     * Ordered inserts/updates group statements per table so a batch is not split by interleaving.
+     */
+    @Bean
+    public HibernatePropertiesCustomizer jdbcBatchingCustomizer(@Value("${app.jpa.batch-size:50}") int batchSize) {
+        return properties -> {
+            properties.putIfAbsent(AvailableSettings.STATEMENT_BATCH_SIZE, batchSize);
+            properties.putIfAbsent(AvailableSettings.ORDER_INSERTS, true);
+            properties.putIfAbsent(AvailableSettings.ORDER_UPDATES, true);
+            properties.putIfAbsent(AvailableSettings.BATCH_VERSIONED_DATA, true);
+        };
+    }
+
+    /**
+     * Lets Connector/J rewrite a JDBC batch of inserts into one multi-row INSERT, so a batch is a
+     * single round trip instead of one per row.
+     */
+    @Bean
+    public static BeanPostProcessor rewriteBatchedStatementsPostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource dataSource
+                        && !dataSource.getDataSourceProperties().containsKey("rewriteBatchedStatements")) {
+                    dataSource.addDataSourceProperty("rewriteBatchedStatements", "true");
+                }
+                return bean;
+            }
+        };
+    }
+}
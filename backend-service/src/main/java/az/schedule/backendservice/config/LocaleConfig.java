@@ -30,8 +30,10 @@ public class LocaleConfig implements WebMvcConfigurer {
     @Bean
     public MessageSource messageSource() {
         ResourceBundleMessageSource messageSource = new ResourceBundleMessageSource();
-        messageSource.setBasename("messages");
+        messageSource.setBasenames("messages", "i18n/schedule-texts");
         messageSource.setDefaultEncoding("UTF-8");
+        // The language comes from the request, never from the server's locale
+        messageSource.setFallbackToSystemLocale(false);
         messageSource.setUseCodeAsDefaultMessage(true);
         return messageSource;
     }
@@ -0,0 +1,34 @@
+package az.schedule.backendservice.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+import java.util.Properties;
+
+@Configuration
+public class MailConfig {
+
+    /**
+     * JavaMail waits forever on connect and read by default, which would park an outbox worker on a
+     * hung SMTP server. Anything set under {@code spring.mail.properties} wins.
+     */
+    @Bean
+    public static BeanPostProcessor smtpTimeoutPostProcessor(@Value("${app.mail.smtp-timeout-ms:10000}") long timeoutMs) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof JavaMailSenderImpl mailSender) {
+                    Properties properties = mailSender.getJavaMailProperties();
+                    String timeout = String.valueOf(timeoutMs);
+                    properties.putIfAbsent("mail.smtp.connectiontimeout", timeout);
+                    properties.putIfAbsent("mail.smtp.timeout", timeout);
+                    properties.putIfAbsent("mail.smtp.writetimeout", timeout);
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,80 @@
+package az.schedule.backendservice.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Datasource tuning for the {@code prod} profile. Every value is a default: anything set under
+ * {@code spring.datasource.hikari} or {@code spring.jpa.properties} wins.
+ * {@code rewriteBatchedStatements} is set for every profile by {@link JpaBatchConfig}.
+ */
+@Configuration
+@Profile("prod")
+public class ProductionDataSourceConfig {
+
+    /**
+     * Connector/J keeps parsed statements and server-side prepared statements per connection, so a
+     * repeated query skips parsing on both sides, and answers session state queries from the client.
+     * Server-side statements count against MySQL's {@code max_prepared_stmt_count} (16382 by default)
+     * across all connections: 250 per connection keeps two pools of 20 at 10000.
+     */
+    private static final Map<String, String> CONNECTOR_J_DEFAULTS = Map.of(
+            "cachePrepStmts", "true",
+            "useServerPrepStmts", "true",
+            "prepStmtCacheSize", "250",
+            "prepStmtCacheSqlLimit", "2048",
+            "cacheServerConfiguration", "true",
+            "cacheResultSetMetadata", "true",
+            "useLocalSessionState", "true",
+            "elideSetAutoCommits", "true",
+            "maintainTimeStats", "false"
+    );
+
+    /**
+     * A fixed size pool: idle connections are kept rather than reopened under bursts. Applies to the
+     * read replica pool as well.
+     */
+    @Bean
+    public static BeanPostProcessor productionHikariPostProcessor(
+            @Value("${app.datasource.pool-size:20}") int poolSize) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource dataSource) {
+                    // Hikari leaves both at -1 until the pool starts when they are not configured
+                    if (dataSource.getMaximumPoolSize() <= 0) {
+                        dataSource.setMaximumPoolSize(poolSize);
+                    }
+                    if (dataSource.getMinimumIdle() < 0) {
+                        dataSource.setMinimumIdle(dataSource.getMaximumPoolSize());
+                    }
+                    Properties properties = dataSource.getDataSourceProperties();
+                    CONNECTOR_J_DEFAULTS.forEach(properties::putIfAbsent);
+                }
+                return bean;
+            }
+        };
+    }
+
+    /**
+     * Padding IN lists to powers of two keeps queries over id lists (bulk operations) to a few plans
+     * instead of one per list length.
+     */
+    @Bean
+    public HibernatePropertiesCustomizer queryPlanCacheCustomizer(
+            @Value("${app.jpa.plan-cache-size:4096}") int planCacheSize) {
+        return properties -> {
+            properties.putIfAbsent(AvailableSettings.QUERY_PLAN_CACHE_MAX_SIZE, planCacheSize);
+            properties.putIfAbsent(AvailableSettings.IN_CLAUSE_PARAMETER_PADDING, true);
+        };
+    }
+}
@@ -0,0 +1,35 @@
+package az.schedule.backendservice.config;
+
+import lombok.RequiredArgsConstructor;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+@RequiredArgsConstructor
+public class QueryBudgetConfig implements WebMvcConfigurer {
+    private final StatementBudgetTracker statementBudgetTracker;
+
+    /**
+     * Routes every statement through the tracker and has Hibernate log statements slower than
+     * {@code app.query-budget.slow-query-millis} on {@code org.hibernate.SQL_SLOW}, with the route comment
+     * when {@code app.query-budget.sql-comments} is on.
+     */
+    @Bean
+    public HibernatePropertiesCustomizer statementBudgetCustomizer(
+            @Value("${app.query-budget.slow-query-millis:200}") long slowQueryMillis) {
+        return properties -> {
+            properties.putIfAbsent(AvailableSettings.STATEMENT_INSPECTOR, statementBudgetTracker);
+            properties.putIfAbsent(AvailableSettings.LOG_SLOW_QUERY, slowQueryMillis);
+        };
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(statementBudgetTracker);
+    }
+}
@@ -1,8 +1,14 @@
 package az.schedule.backendservice.config;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 
+import io.lettuce.core.ClientOptions;
+import io.lettuce.core.SocketOptions;
+import io.lettuce.core.TimeoutOptions;
+import io.lettuce.core.resource.ClientResources;
+import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -10,11 +16,17 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.module.SimpleModule;
 import com.fasterxml.jackson.datatype.jsr310.deser.LocalDateTimeDeserializer;
 import com.fasterxml.jackson.datatype.jsr310.ser.LocalDateTimeSerializer;
+import org.springframework.data.redis.connection.RedisPassword;
 import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.connection.lettuce.LettucePoolingClientConfiguration;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.util.StringUtils;
 
 @Configuration
 public class RedisConfiguration {
@@ -24,16 +36,71 @@ public class RedisConfiguration {
     @Value("${spring.data.redis.host}")
     private String redisHost;
 
+    @Value("${spring.data.redis.password:}")
+    private String redisPassword;
+
+    @Value("${spring.data.redis.database:0}")
+    private int redisDatabase;
+
+    @Value("${spring.data.redis.timeout:2s}")
+    private Duration commandTimeout;
+
+    @Value("${spring.data.redis.connect-timeout:2s}")
+    private Duration connectTimeout;
+
+    @Value("${spring.data.redis.lettuce.pool.enabled:false}")
+    private boolean poolEnabled;
+
+    @Value("${spring.data.redis.lettuce.pool.max-active:8}")
+    private int poolMaxActive;
+
+    @Value("${spring.data.redis.lettuce.pool.max-idle:8}")
+    private int poolMaxIdle;
+
+    @Value("${spring.data.redis.lettuce.pool.min-idle:0}")
+    private int poolMinIdle;
+
+    @Value("${spring.data.redis.lettuce.pool.max-wait:2s}")
+    private Duration poolMaxWait;
+
+    /**
+     * One shared native connection serves all non-blocking commands by default. Enabling the pool
+     * only adds dedicated connections for blocking and transactional operations. The
+     * {@link ClientResources} bean is Spring Boot's, which the actuator instruments with Micrometer
+     * command latency timers ({@code lettuce.command.completion}, {@code lettuce.command.firstresponse}).
+     * Commands fail after {@code timeout}, and are rejected immediately instead of being buffered
+     * while disconnected.
+     */
     @Bean
-        public LettuceConnectionFactory redisConnectionFactory() {
+    public LettuceConnectionFactory redisConnectionFactory(ClientResources clientResources) {
         RedisStandaloneConfiguration cfg = new RedisStandaloneConfiguration(redisHost, Integer.parseInt(redisPort));
-        return new LettuceConnectionFactory(cfg);
+        cfg.setDatabase(redisDatabase);
+        if (StringUtils.hasText(redisPassword)) {
+            cfg.setPassword(RedisPassword.of(redisPassword));
+        }
+
+        ClientOptions clientOptions = ClientOptions.builder()
+                .socketOptions(SocketOptions.builder().connectTimeout(connectTimeout).keepAlive(true).build())
+                .timeoutOptions(TimeoutOptions.enabled(commandTimeout))
+                .disconnectedBehavior(ClientOptions.DisconnectedBehavior.REJECT_COMMANDS)
+                .build();
+
+        LettuceClientConfiguration.LettuceClientConfigurationBuilder builder = poolEnabled
+                ? LettucePoolingClientConfiguration.builder().poolConfig(poolConfig())
+                : LettuceClientConfiguration.builder();
+        LettuceClientConfiguration clientConfiguration = builder
+                .clientResources(clientResources)
+                .clientOptions(clientOptions)
+                .commandTimeout(commandTimeout)
+                .build();
+
+        return new LettuceConnectionFactory(cfg, clientConfiguration);
     }
 
     @Bean
-    RedisTemplate<String, Object> redisTemplate() {
+    RedisTemplate<String, Object> redisTemplate(LettuceConnectionFactory redisConnectionFactory) {
         RedisTemplate<String, Object> redisTemplate = new RedisTemplate<>();
-        redisTemplate.setConnectionFactory(redisConnectionFactory());
+        redisTemplate.setConnectionFactory(redisConnectionFactory);
 
         redisTemplate.setKeySerializer(new StringRedisSerializer());
         redisTemplate.setHashKeySerializer(new StringRedisSerializer());
@@ -43,6 +110,25 @@ public class RedisConfiguration {
         return redisTemplate;
     }
 
+    /**
+     * Plain UTF-8 strings for values that are already strings (token ids, expiries), instead of
+     * the JSON-quoted form {@link GenericJackson2JsonRedisSerializer} writes.
+     */
+    @Bean
+    StringRedisTemplate stringRedisTemplate(LettuceConnectionFactory redisConnectionFactory) {
+        return new StringRedisTemplate(redisConnectionFactory);
+    }
+
+    /**
+     * Pub/sub subscriptions for cross-instance cache invalidation; listeners register themselves.
+     */
+    @Bean
+    RedisMessageListenerContainer redisMessageListenerContainer(LettuceConnectionFactory redisConnectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        return container;
+    }
+
     @Bean
     public ObjectMapper redisObjectMapper() {
         ObjectMapper objectMapper = new ObjectMapper();
@@ -52,4 +138,13 @@ public class RedisConfiguration {
         objectMapper.registerModule(module);
         return objectMapper;
     }
+
+    private GenericObjectPoolConfig<?> poolConfig() {
+        GenericObjectPoolConfig<?> config = new GenericObjectPoolConfig<>();
+        config.setMaxTotal(poolMaxActive);
+        config.setMaxIdle(poolMaxIdle);
+        config.setMinIdle(poolMinIdle);
+        config.setMaxWait(poolMaxWait);
+        return config;
+    }
 }
@@ -1,12 +1,16 @@
 package az.schedule.backendservice.config;
 
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.SimpleAsyncTaskScheduler;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 
 @Configuration
 public class SchedulerConfig {
     @Bean
+    @ConditionalOnThreading(Threading.PLATFORM)
     public ThreadPoolTaskScheduler taskScheduler() {
         ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
         scheduler.setPoolSize(5);
@@ -14,4 +18,17 @@ public class SchedulerConfig {
         scheduler.initialize();
         return scheduler;
     }
+
+    /**
+     * With {@code spring.threads.virtual.enabled=true} every trigger fires on its own virtual thread,
+     * so a slow reminder run no longer delays the jobs queued behind it.
+     */
+    @Bean
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    public SimpleAsyncTaskScheduler virtualTaskScheduler() {
+        SimpleAsyncTaskScheduler scheduler = new SimpleAsyncTaskScheduler();
+        scheduler.setVirtualThreads(true);
+        scheduler.setThreadNamePrefix("TaskScheduler-");
+        return scheduler;
+    }
 }
@@ -0,0 +1,50 @@
+package az.schedule.backendservice.config;
+
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Hibernate second-level and query cache on Caffeine through JCache, for the reference data that is
+ * read on most requests and rarely written: entities annotated with {@code @Cache} and repository
+ * methods hinted {@code org.hibernate.cacheable}. Regions are sized in {@code hibernate-l2-cache.conf}.
+ * <p>
+ * Each instance caches in its own heap; {@link SecondLevelCacheInvalidator} evicts the other
+ * instances' copies after a commit.
+ */
+@Configuration
+public class SecondLevelCacheConfig {
+
+    private static final String ENABLED = "app.jpa.second-level-cache.enabled";
+
+    @Bean
+    @ConditionalOnProperty(name = ENABLED, havingValue = "true", matchIfMissing = true)
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer() {
+        return properties -> {
+            properties.putIfAbsent(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            properties.putIfAbsent(AvailableSettings.USE_QUERY_CACHE, true);
+            properties.putIfAbsent(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            properties.putIfAbsent(ConfigSettings.PROVIDER, CaffeineCachingProvider.class.getName());
+            properties.putIfAbsent(ConfigSettings.CONFIG_URI, "classpath:hibernate-l2-cache.conf");
+            // Regions not named in the file get its default policy
+            properties.putIfAbsent(ConfigSettings.MISSING_CACHE_STRATEGY, "create");
+        };
+    }
+
+    /**
+     * Hibernate turns the second-level cache on by itself once a region factory is on the classpath,
+     * so disabling means setting both switches off, over any {@code spring.jpa.properties} value.
+     */
+    @Bean
+    @ConditionalOnProperty(name = ENABLED, havingValue = "false")
+    public HibernatePropertiesCustomizer secondLevelCacheDisabledCustomizer() {
+        return properties -> {
+            properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, false);
+            properties.put(AvailableSettings.USE_QUERY_CACHE, false);
+        };
+    }
+}
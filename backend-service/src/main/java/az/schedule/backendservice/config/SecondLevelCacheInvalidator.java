@@ -0,0 +1,129 @@
+package az.schedule.backendservice.config;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostCommitDeleteEventListener;
+import org.hibernate.event.spi.PostCommitInsertEventListener;
+import org.hibernate.event.spi.PostCommitUpdateEventListener;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+/**
+ * Keeps the second-level cache of every instance in step. After a cached entity commits, its entity
+ * name and id are published on a Redis channel; every other instance evicts that entity and its
+ * query results, since their freshness checks only see local writes. The writing instance already
+ * updated its own cache in the transaction.
+ * <p>
+ * The region TTLs bound staleness if Redis is down. Bulk HQL updates on cached entities fire no
+ * events and are not propagated.
+ */
+@Component
+@ConditionalOnProperty(name = {"app.jpa.second-level-cache.enabled", "app.jpa.second-level-cache.redis-invalidation"},
+        havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+@Slf4j
+public class SecondLevelCacheInvalidator implements MessageListener, PostCommitInsertEventListener,
+        PostCommitUpdateEventListener, PostCommitDeleteEventListener {
+
+    static final String INVALIDATION_CHANNEL = "hibernate:l2:invalidate";
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+
+    // Tells this instance's own messages apart
+    private final String instanceId = UUID.randomUUID().toString();
+    private SessionFactoryImplementor sessionFactory;
+
+    @PostConstruct
+    void init() {
+        sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+        EventListenerRegistry registry = sessionFactory.getServiceRegistry().getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_COMMIT_INSERT, this);
+        registry.appendListeners(EventType.POST_COMMIT_UPDATE, this);
+        registry.appendListeners(EventType.POST_COMMIT_DELETE, this);
+        listenerContainer.addMessageListener(this, new ChannelTopic(INVALIDATION_CHANNEL));
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return persister.canWriteToCache();
+    }
+
+    // An insert has nothing to evict, but other instances may hold query results that miss it
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        publish(event.getPersister(), event.getId());
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        publish(event.getPersister(), event.getId());
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        publish(event.getPersister(), event.getId());
+    }
+
+    @Override
+    public void onPostInsertCommitFailed(PostInsertEvent event) {
+    }
+
+    @Override
+    public void onPostUpdateCommitFailed(PostUpdateEvent event) {
+    }
+
+    @Override
+    public void onPostDeleteCommitFailed(PostDeleteEvent event) {
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        String[] parts = body.split("\\|", 3);
+        if (parts.length != 3) {
+            log.warn("Ignoring malformed second-level cache invalidation '{}'", body);
+            return;
+        }
+        if (instanceId.equals(parts[0])) {
+            return;
+        }
+        try {
+            sessionFactory.getCache().evictEntityData(parts[1], Long.valueOf(parts[2]));
+            sessionFactory.getCache().evictDefaultQueryRegion();
+        } catch (RuntimeException e) {
+            log.warn("Could not apply second-level cache invalidation '{}': {}", body, e.getMessage());
+        }
+    }
+
+    private void publish(EntityPersister persister, Object id) {
+        if (!persister.canWriteToCache()) {
+            return;
+        }
+        try {
+            stringRedisTemplate.convertAndSend(INVALIDATION_CHANNEL,
+                    instanceId + "|" + persister.getEntityName() + "|" + id);
+        } catch (RuntimeException e) {
+            // Other instances fall back to the region TTL
+            log.warn("Could not publish invalidation of {}#{}: {}", persister.getEntityName(), id, e.getMessage());
+        }
+    }
+}
@@ -1,13 +1,20 @@
 package az.schedule.backendservice.config;
 
-import org.springframework.beans.factory.annotation.Value;
+import az.schedule.backendservice.enums.TokenType;
+import az.schedule.backendservice.exception.AppException;
+import az.schedule.backendservice.utils.JwtService;
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jwt.JWTClaimsSet;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
-import org.springframework.security.oauth2.jose.jws.MacAlgorithm;
+import org.springframework.security.oauth2.jwt.BadJwtException;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtClaimNames;
 import org.springframework.security.oauth2.jwt.JwtDecoder;
-import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
 import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationConverter;
 import org.springframework.security.oauth2.server.resource.authentication.JwtGrantedAuthoritiesConverter;
 import org.springframework.security.web.SecurityFilterChain;
@@ -15,7 +22,7 @@ import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 import org.springframework.web.filter.CorsFilter;
 
-import javax.crypto.spec.SecretKeySpec;
+import java.text.ParseException;
 
 @Configuration
 public class SecurityConfig {
@@ -38,12 +45,10 @@ public class SecurityConfig {
             "/api/v1/streak/**",
             "/api/v1/accounts/me",
             "/api/v1/accounts/update",
-            "/api/v1/focus-mode/**"
+            "/api/v1/focus-mode/**",
+            "/api/v1/focus-sessions/**"
     };
 
-    @Value("${app.jwtSecret}")
-    private String jwtSecret;
-
     @Bean
     public CorsFilter corsFilter() {
         CorsConfiguration corsConfiguration = new CorsConfiguration();
@@ -57,6 +62,7 @@ public class SecurityConfig {
         corsConfiguration.addAllowedHeader("*");
         corsConfiguration.setAllowCredentials(true);
         corsConfiguration.addExposedHeader("Authorization");
+        corsConfiguration.addExposedHeader("ETag");
 
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
         source.registerCorsConfiguration("/**", corsConfiguration);
@@ -65,8 +71,13 @@ public class SecurityConfig {
     }
 
     @Bean
-    public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
-        http.authorizeHttpRequests(request -> request.requestMatchers(PUBLIC_APIS)
+    public SecurityFilterChain filterChain(HttpSecurity http, JwtDecoder jwtDecoder) throws Exception {
+        // Prometheus scrapes without a token; the management port is not published outside the host
+        http.authorizeHttpRequests(request -> request.requestMatchers(EndpointRequest.to("health", "prometheus"))
+                .permitAll()
+                .requestMatchers(EndpointRequest.toAnyEndpoint())
+                .hasAuthority("ROLE_ADMIN")
+                .requestMatchers(PUBLIC_APIS)
                 .permitAll()
                 .requestMatchers(ADMIN_APIS)
                 .hasAuthority("ROLE_ADMIN")
@@ -79,7 +90,7 @@ public class SecurityConfig {
         http.cors(corsConfigurer -> corsConfigurer.configurationSource(corsConfigurationSource()));
 
         http.oauth2ResourceServer(oath2 -> oath2.jwt(jwtConfigurer ->
-                jwtConfigurer.decoder(jwtDecoder()).jwtAuthenticationConverter(jwtAuthenticationConverter())));
+                jwtConfigurer.decoder(jwtDecoder).jwtAuthenticationConverter(jwtAuthenticationConverter())));
 
         return http.build();
     }
@@ -96,18 +107,36 @@ public class SecurityConfig {
         config.addAllowedHeader("*");
         config.addAllowedMethod("*");
         config.addExposedHeader("Authorization");
+        config.addExposedHeader("ETag");
 
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
         source.registerCorsConfiguration("/**", config);
         return source;
     }
 
+    /**
+     * Verifies through {@link JwtService} so the resource server shares its pre-built verifier and
+     * verified-claims cache with introspection instead of parsing every bearer token again.
+     */
     @Bean
-    JwtDecoder jwtDecoder() {
-        SecretKeySpec secretKeySpec = new SecretKeySpec(jwtSecret.getBytes(), "HS512");
-        return NimbusJwtDecoder.withSecretKey(secretKeySpec)
-                .macAlgorithm(MacAlgorithm.HS512)
-                .build();
+    JwtDecoder jwtDecoder(JwtService jwtService) {
+        return token -> {
+            try {
+                JWTClaimsSet claims = jwtService.verifyToken(token, TokenType.ACCESS_TOKEN);
+                return Jwt.withTokenValue(token)
+                        .header("alg", JWSAlgorithm.HS512.getName())
+                        .claims(map -> {
+                            map.putAll(claims.getClaims());
+                            map.put(JwtClaimNames.EXP, claims.getExpirationTime().toInstant());
+                            if (claims.getIssueTime() != null) {
+                                map.put(JwtClaimNames.IAT, claims.getIssueTime().toInstant());
+                            }
+                        })
+                        .build();
+            } catch (AppException | ParseException | JOSEException e) {
+                throw new BadJwtException("Invalid access token", e);
+            }
+        };
     }
 
     @Bean
@@ -0,0 +1,129 @@
+package az.schedule.backendservice.config;
+
+import az.schedule.backendservice.annotation.QueryBudget;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Counts the SQL statements each controller request issues. The interceptor opens a count for the
+ * matched route on the request thread, and Hibernate hands every statement to {@link #inspect}.
+ * With {@code app.query-budget.sql-comments} the route is also prefixed to each statement as a comment,
+ * so the MySQL slow log and Hibernate's slow query log show where a statement came from. It is off by
+ * default: the comment makes otherwise identical statements differ per route, which splits
+ * server-side prepared statement caches and statement digests.
+ * <p>
+ * A request over its statement or time budget is logged. With {@code failOnExceed} the statement
+ * over the budget throws instead, so integration tests fail on a new N+1. Statements issued outside a
+ * controller request, or on another thread, are not counted.
+ * <p>
+ * The histogram is only recorded when a {@link MeterRegistry} exists. Web slice tests load this
+ * interceptor without metrics, and budgets still apply there.
+ */
+@Component
+@Slf4j
+public class StatementBudgetTracker implements StatementInspector, HandlerInterceptor {
+
+    private final ThreadLocal<RouteStatements> current = new ThreadLocal<>();
+    // null without a MeterRegistry
+    private final Meter.MeterProvider<DistributionSummary> statementCounts;
+    private final int maxStatements;
+    private final long maxMillis;
+    private final boolean failOnExceed;
+    private final boolean sqlComments;
+
+    public StatementBudgetTracker(ObjectProvider<MeterRegistry> meterRegistry,
+                                  @Value("${app.query-budget.max-statements:20}") int maxStatements,
+                                  @Value("${app.query-budget.max-millis:500}") long maxMillis,
+                                  @Value("${app.query-budget.fail-on-exceed:false}") boolean failOnExceed,
+                                  @Value("${app.query-budget.sql-comments:false}") boolean sqlComments) {
+        MeterRegistry registry = meterRegistry.getIfAvailable();
+        this.statementCounts = registry == null ? null : DistributionSummary.builder("app.request.statements")
+                .description("SQL statements issued per request, by route")
+                .publishPercentileHistogram()
+                .withRegistry(registry);
+        this.maxStatements = maxStatements;
+        this.maxMillis = maxMillis;
+        this.failOnExceed = failOnExceed;
+        this.sqlComments = sqlComments;
+    }
+
+    private static final class RouteStatements {
+        private final String method;
+        private final String route;
+        private final String comment;
+        private final int maxStatements;
+        private final long maxMillis;
+        private final long startedNanos = System.nanoTime();
+        private int count;
+
+        private RouteStatements(String method, String route, int maxStatements, long maxMillis) {
+            this.method = method;
+            this.route = route;
+            // A route such as /a/**/b must not close the comment early
+            this.comment = "/* " + (method + " " + route).replace("*/", "* /") + " */ ";
+            this.maxStatements = maxStatements;
+            this.maxMillis = maxMillis;
+        }
+    }
+
+    @Override
+    public String inspect(String sql) {
+        RouteStatements statements = current.get();
+        if (statements == null) {
+            return sql;
+        }
+        statements.count++;
+        if (failOnExceed && statements.count > statements.maxStatements) {
+            throw new IllegalStateException(String.format("%s %s exceeded its budget of %d SQL statements: %s",
+                    statements.method, statements.route, statements.maxStatements, sql));
+        }
+        return sqlComments ? statements.comment + sql : sql;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (handler instanceof HandlerMethod handlerMethod) {
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            QueryBudget budget = handlerMethod.getMethodAnnotation(QueryBudget.class);
+            current.set(new RouteStatements(
+                    request.getMethod(),
+                    pattern != null ? pattern.toString() : request.getRequestURI(),
+                    budget != null && budget.statements() >= 0 ? budget.statements() : maxStatements,
+                    budget != null && budget.millis() >= 0 ? budget.millis() : maxMillis));
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        RouteStatements statements = current.get();
+        if (statements == null) {
+            return;
+        }
+        current.remove();
+
+        long millis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - statements.startedNanos);
+        if (statementCounts != null) {
+            statementCounts.withTags("method", statements.method, "route", statements.route).record(statements.count);
+        }
+        if (statements.count > statements.maxStatements || millis > statements.maxMillis) {
+            log.warn("{} {} issued {} SQL statements in {} ms, budget {} statements and {} ms",
+                    statements.method, statements.route, statements.count, millis,
+                    statements.maxStatements, statements.maxMillis);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package az.schedule.backendservice.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Guardrails for {@code spring.threads.virtual.enabled=true}. In that mode Spring Boot already runs
+ * Tomcat requests and {@code @Async} methods on virtual threads, and {@link SchedulerConfig} does the
+ * same for scheduled jobs.
+ */
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadConfig {
+
+    // Hikari only resolves an unset maximum-pool-size to its default of 10 when the pool starts
+    private static final int HIKARI_DEFAULT_POOL_SIZE = 10;
+
+    /**
+     * Caps concurrent connection holders at the Hikari pool size so waiting happens in a fair queue
+     * in front of the pool. The wait is bounded by the pool's own connection timeout.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "app.threads.virtual.limit-db-concurrency", havingValue = "true", matchIfMissing = true)
+    public static BeanPostProcessor connectionLimitingPostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource dataSource) {
+                    int poolSize = dataSource.getMaximumPoolSize() > 0
+                            ? dataSource.getMaximumPoolSize()
+                            : HIKARI_DEFAULT_POOL_SIZE;
+                    return new ConnectionLimitingDataSource(dataSource, poolSize, dataSource.getConnectionTimeout());
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "app.threads.virtual.pinning-monitor.enabled", havingValue = "true", matchIfMissing = true)
+    public VirtualThreadPinningMonitor virtualThreadPinningMonitor(
+            @Value("${app.threads.virtual.pinning-monitor.threshold-ms:20}") long thresholdMs) {
+        return new VirtualThreadPinningMonitor(Duration.ofMillis(thresholdMs));
+    }
+}
@@ -0,0 +1,88 @@
+package az.schedule.backendservice.config;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordedThread;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Streams the JFR {@code jdk.VirtualThreadPinned} event and logs every time a virtual thread keeps
+ * its carrier thread blocked longer than the threshold, typically by blocking inside a
+ * {@code synchronized} block or a native frame. The logged stack points at the monitor to replace
+ * with a {@link java.util.concurrent.locks.ReentrantLock}.
+ */
+@Slf4j
+public class VirtualThreadPinningMonitor implements SmartLifecycle {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final int MAX_FRAMES = 12;
+
+    private final Duration threshold;
+    private final AtomicLong pinnedCount = new AtomicLong();
+    private RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(Duration threshold) {
+        this.threshold = threshold;
+    }
+
+    @Override
+    public synchronized void start() {
+        stream = new RecordingStream();
+        stream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        stream.onEvent(PINNED_EVENT, this::report);
+        stream.startAsync();
+        log.info("Virtual thread pinning monitor started, threshold {} ms", threshold.toMillis());
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (stream != null) {
+            stream.close();
+            stream = null;
+        }
+    }
+
+    @Override
+    public synchronized boolean isRunning() {
+        return stream != null;
+    }
+
+    public long getPinnedCount() {
+        return pinnedCount.get();
+    }
+
+    private void report(RecordedEvent event) {
+        pinnedCount.incrementAndGet();
+        RecordedThread thread = event.getThread();
+        log.warn("Virtual thread {} pinned its carrier for {} ms{}",
+                thread != null ? thread.getJavaName() : "?",
+                event.getDuration().toMillis(),
+                format(event.getStackTrace()));
+    }
+
+    private static String format(RecordedStackTrace stackTrace) {
+        if (stackTrace == null) {
+            return "";
+        }
+        StringBuilder builder = new StringBuilder();
+        List<RecordedFrame> frames = stackTrace.getFrames();
+        for (int i = 0; i < Math.min(frames.size(), MAX_FRAMES); i++) {
+            RecordedFrame frame = frames.get(i);
+            builder.append(System.lineSeparator()).append("\tat ")
+                    .append(frame.getMethod().getType().getName()).append('.')
+                    .append(frame.getMethod().getName()).append(':')
+                    .append(frame.getLineNumber());
+        }
+        if (frames.size() > MAX_FRAMES || stackTrace.isTruncated()) {
+            builder.append(System.lineSeparator()).append("\t...");
+        }
+        return builder.toString();
+    }
+}
@@ -1,5 +1,6 @@
 package az.schedule.backendservice.controller;
 
+import az.schedule.backendservice.annotation.QueryBudget;
 import az.schedule.backendservice.dto.AccountDTO;
 import az.schedule.backendservice.dto.request.admin.UpdateUserRoleRequest;
 import az.schedule.backendservice.dto.request.admin.UpdateUserStatusRequest;
@@ -34,6 +35,8 @@ public class AdminController {
     private final az.schedule.backendservice.utils.MessageUtils messageUtils;
 
     @Operation(summary = "Get system statistics", description = "Retrieve system-wide statistics including users, tasks, and categories")
+    // Three grouped counts when the snapshot is first loaded, none afterwards
+    @QueryBudget(statements = 3, millis = 1000)
     @GetMapping("/statistics")
     public ApiResponse<SystemStatisticsResponse> getSystemStatistics() {
         SystemStatisticsResponse statistics = adminService.getSystemStatistics();
@@ -57,11 +57,11 @@ public class AuthenticationController {
 
     @Operation(
             summary = "Refresh access token",
-            description = "Generate new access token using the refresh token from cookie"
+            description = "Generate new access token using the refresh token from cookie, which is replaced by a new one"
     )
     @PostMapping("/refresh-token")
-    public ApiResponse<AuthenticationResponse> refreshToken(HttpServletRequest request) {
-        AuthenticationResponse authenticationResponse = authenticationService.refreshToken(request);
+    public ApiResponse<AuthenticationResponse> refreshToken(HttpServletRequest request, HttpServletResponse response) {
+        AuthenticationResponse authenticationResponse = authenticationService.refreshToken(request, response);
         return ApiResponse.<AuthenticationResponse>builder()
                 .code(HttpStatus.OK.value())
                 .message(messageUtils.getMessage("success.token.refresh"))
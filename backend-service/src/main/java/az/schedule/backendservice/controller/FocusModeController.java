@@ -3,14 +3,20 @@ package az.schedule.backendservice.controller;
 import az.schedule.backendservice.dto.FocusModeSettingsDTO;
 import az.schedule.backendservice.dto.request.focusmode.FocusModeSettingsRequest;
 import az.schedule.backendservice.dto.response.ApiResponse;
+import az.schedule.backendservice.dto.response.BlockedSiteMatcherResponse;
 import az.schedule.backendservice.service.FocusModeService;
+import az.schedule.backendservice.service.impl.FocusModeSettingsCache;
 import az.schedule.backendservice.utils.SecurityUtils;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping("/api/v1/focus-mode")
@@ -20,15 +26,36 @@ public class FocusModeController {
     private final FocusModeService focusModeService;
     private final az.schedule.backendservice.utils.MessageUtils messageUtils;
     
-    @Operation(summary = "Get focus mode settings", description = "Get current user's focus mode settings including blocked websites and Pomodoro configuration")
+    @Operation(summary = "Get focus mode settings", description = "Get current user's focus mode settings including blocked websites and Pomodoro configuration. Supports If-None-Match; unchanged settings return 304")
     @GetMapping("/settings")
-    public ApiResponse<FocusModeSettingsDTO> getSettings() {
+    public ApiResponse<FocusModeSettingsDTO> getSettings(WebRequest webRequest, HttpServletResponse response) {
         Long accountId = SecurityUtils.getCurrentAccountId();
-        FocusModeSettingsDTO settings = focusModeService.getSettings(accountId);
+        FocusModeSettingsCache.CachedSettings cached = focusModeService.getCachedSettings(accountId);
+        // Revalidate on every use; set before Spring Security's default no-store headers are written
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CacheControl.noCache().cachePrivate().getHeaderValue());
+        if (webRequest.checkNotModified(cached.eTag())) {
+            return null;
+        }
         return ApiResponse.<FocusModeSettingsDTO>builder()
                 .code(HttpStatus.OK.value())
                 .message(messageUtils.getMessage("success.focus.mode.get"))
-                .data(settings)
+                .data(cached.settings())
+                .build();
+    }
+    
+    @Operation(summary = "Get compiled blocked-site matcher", description = "Get current user's block list compiled into a reversed-domain trie. The ETag is the matcher version; send it in If-None-Match to get 304 while the list is unchanged")
+    @GetMapping("/blocked-sites/matcher")
+    public ApiResponse<BlockedSiteMatcherResponse> getBlockedSiteMatcher(WebRequest webRequest, HttpServletResponse response) {
+        Long accountId = SecurityUtils.getCurrentAccountId();
+        FocusModeSettingsCache.CachedSettings cached = focusModeService.getCachedSettings(accountId);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CacheControl.noCache().cachePrivate().getHeaderValue());
+        if (webRequest.checkNotModified(cached.matcherETag())) {
+            return null;
+        }
+        return ApiResponse.<BlockedSiteMatcherResponse>builder()
+                .code(HttpStatus.OK.value())
+                .message(messageUtils.getMessage("success.focus.mode.matcher.get"))
+                .data(cached.matcher())
                 .build();
     }
     
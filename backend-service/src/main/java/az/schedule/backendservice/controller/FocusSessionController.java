@@ -0,0 +1,55 @@
+package az.schedule.backendservice.controller;
+
+import az.schedule.backendservice.dto.request.focussession.FocusSessionEventBatchRequest;
+import az.schedule.backendservice.dto.response.ApiResponse;
+import az.schedule.backendservice.dto.response.FocusDailyRollupResponse;
+import az.schedule.backendservice.dto.response.FocusSessionIngestResponse;
+import az.schedule.backendservice.service.FocusSessionService;
+import az.schedule.backendservice.utils.MessageUtils;
+import az.schedule.backendservice.utils.SecurityUtils;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Tag(name = "Focus Session API", description = "Endpoints for pomodoro session tracking and daily focus time")
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/focus-sessions")
+public class FocusSessionController {
+    private final FocusSessionService focusSessionService;
+    private final MessageUtils messageUtils;
+
+    @Operation(summary = "Ingest session events", description = "Record a batch of pomodoro start/pause/resume/finish events. Retried batches are applied once")
+    @PostMapping("/events")
+    public ApiResponse<FocusSessionIngestResponse> ingestEvents(@Valid @RequestBody FocusSessionEventBatchRequest request) {
+        Long accountId = SecurityUtils.getCurrentAccountId();
+        FocusSessionIngestResponse response = focusSessionService.ingestEvents(request, accountId);
+        return ApiResponse.<FocusSessionIngestResponse>builder()
+                .code(HttpStatus.OK.value())
+                .message(messageUtils.getMessage("success.focus.session.events.ingest", response.getApplied()))
+                .data(response)
+                .build();
+    }
+
+    @Operation(summary = "Get daily focus time", description = "Get focus minutes and completed sessions per day; days without focus time are omitted")
+    @GetMapping("/daily")
+    public ApiResponse<List<FocusDailyRollupResponse>> getDailyFocus(
+            @Parameter(description = "First day") @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "Last day") @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        Long accountId = SecurityUtils.getCurrentAccountId();
+        List<FocusDailyRollupResponse> days = focusSessionService.getDailyFocus(accountId, from, to);
+        return ApiResponse.<List<FocusDailyRollupResponse>>builder()
+                .code(HttpStatus.OK.value())
+                .message(messageUtils.getMessage("success.focus.session.daily.get"))
+                .data(days)
+                .build();
+    }
+}
@@ -1,8 +1,10 @@
 package az.schedule.backendservice.controller;
 
+import az.schedule.backendservice.annotation.QueryBudget;
 import az.schedule.backendservice.annotation.RequireSubscription;
 import az.schedule.backendservice.dto.TaskDTO;
 import az.schedule.backendservice.dto.request.task.AdvancedTaskFilterRequest;
+import az.schedule.backendservice.dto.request.task.BatchTaskCreateRequest;
 import az.schedule.backendservice.dto.request.task.BulkTaskRequest;
 import az.schedule.backendservice.dto.request.task.NaturalLanguageTaskRequest;
 import az.schedule.backendservice.dto.request.task.TaskRequest;
@@ -10,6 +12,7 @@ import az.schedule.backendservice.dto.response.ParsedTaskResponse;
 import az.schedule.backendservice.dto.response.ImageTaskParseResponse;
 import az.schedule.backendservice.dto.response.ApiResponse;
 import az.schedule.backendservice.dto.response.BulkOperationResponse;
+import az.schedule.backendservice.dto.response.CalendarTaskResponse;
 import az.schedule.backendservice.dto.response.PageResponse;
 import az.schedule.backendservice.dto.response.TaskStatisticsResponse;
 import az.schedule.backendservice.dto.response.ScheduleSuggestionResponse;
@@ -65,6 +68,21 @@ public class TaskController {
                 .build();
     }
 
+    @Operation(summary = "Create tasks in batch", description = "Create several tasks for the current user in one request")
+    // Account and categories, then per 50 tasks one insert batch and one task_seq allocation (select + update)
+    @QueryBudget(statements = 32, millis = 2000)
+    @PostMapping("/batch")
+    public ApiResponse<List<TaskDTO>> createTasks(@Valid @RequestBody BatchTaskCreateRequest request) {
+        Long accountId = SecurityUtils.getCurrentAccountId();
+        List<TaskDTO> tasks = taskService.createTasks(request.getTasks(), accountId);
+
+        return ApiResponse.<List<TaskDTO>>builder()
+                .code(HttpStatus.CREATED.value())
+                .message(messageUtils.getMessage("success.tasks.batch.create", tasks.size()))
+                .data(tasks)
+                .build();
+    }
+
     @Operation(summary = "Update a task", description = "Update an existing task")
     @PutMapping("/{id}")
     public ApiResponse<TaskDTO> updateTask(
@@ -196,6 +214,7 @@ public class TaskController {
     }
 
     @Operation(summary = "Get task statistics", description = "Get task statistics for the current user")
+    @QueryBudget(statements = 6)
     @GetMapping("/statistics")
     public ApiResponse<TaskStatisticsResponse> getTaskStatistics() {
         Long accountId = SecurityUtils.getCurrentAccountId();
@@ -208,6 +227,7 @@ public class TaskController {
     }
 
     @Operation(summary = "Get category task statistics", description = "Get task statistics for a specific category")
+    @QueryBudget(statements = 5)
     @GetMapping("/statistics/category/{categoryId}")
     public ApiResponse<TaskStatisticsResponse> getCategoryTaskStatistics(
             @Parameter(description = "Category ID") @PathVariable Long categoryId) {
@@ -323,6 +343,22 @@ public class TaskController {
                 .build();
     }
 
+    @Operation(summary = "Get calendar tasks", description = "Get compact tasks overlapping a calendar range [start, end)")
+    // One query per range of the window not cached yet
+    @QueryBudget(statements = 3)
+    @GetMapping("/calendar")
+    public ApiResponse<List<CalendarTaskResponse>> getCalendarTasks(
+            @Parameter(description = "Range start date time (inclusive)") @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime start,
+            @Parameter(description = "Range end date time (exclusive)") @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime end) {
+        Long accountId = SecurityUtils.getCurrentAccountId();
+        List<CalendarTaskResponse> tasks = taskService.getCalendarTasks(accountId, start, end);
+        return ApiResponse.<List<CalendarTaskResponse>>builder()
+                .code(HttpStatus.OK.value())
+                .message(messageUtils.getMessage("success.tasks.get.calendar"))
+                .data(tasks)
+                .build();
+    }
+
     @Operation(summary = "Parse task from natural language", description = "Parse natural language input into structured task data")
     @RequireSubscription
     @PostMapping("/ai/parse")
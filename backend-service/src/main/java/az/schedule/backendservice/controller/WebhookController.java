@@ -3,6 +3,7 @@ package az.schedule.backendservice.controller;
 import az.schedule.backendservice.dto.request.SepayWebhookRequest;
 import az.schedule.backendservice.dto.response.ApiResponse;
 import az.schedule.backendservice.service.PaymentService;
+import az.schedule.backendservice.service.impl.SepayWebhookWorker;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
@@ -18,6 +19,7 @@ import org.springframework.web.bind.annotation.*;
 public class WebhookController {
     
     private final PaymentService paymentService;
+    private final SepayWebhookWorker sepayWebhookWorker;
     
     @Operation(summary = "Sepay payment webhook", description = "Receive payment notifications from Sepay")
     @PostMapping("/sepay")
@@ -25,21 +27,15 @@ public class WebhookController {
         log.info("Received Sepay webhook: transactionId={}, amount={}, content={}", 
                 request.getId(), request.getTransferAmount(), request.getContent());
         
-        try {
-            paymentService.processSepayWebhook(request);
-            
-            return ApiResponse.<Void>builder()
-                    .code(HttpStatus.OK.value())
-                    .message("Webhook processed successfully")
-                    .build();
-        } catch (Exception e) {
-            log.error("Error processing Sepay webhook: {}", e.getMessage(), e);
-            
-            // Return 200 to prevent Sepay from retrying
-            return ApiResponse.<Void>builder()
-                    .code(HttpStatus.OK.value())
-                    .message("Webhook received but processing failed")
-                    .build();
+        // Acknowledged once stored; a failure to store is an error response, so Sepay retries and
+        // the unique transaction id keeps the retry from being stored twice
+        if (paymentService.acceptSepayWebhook(request)) {
+            sepayWebhookWorker.wakeUp();
         }
+        
+        return ApiResponse.<Void>builder()
+                .code(HttpStatus.OK.value())
+                .message("Webhook received")
+                .build();
     }
 }
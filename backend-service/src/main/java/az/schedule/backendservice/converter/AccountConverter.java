@@ -3,6 +3,7 @@ package az.schedule.backendservice.converter;
 import az.schedule.backendservice.dto.AccountDTO;
 import az.schedule.backendservice.dto.request.account.AccountUpdateRequest;
 import az.schedule.backendservice.dto.request.authentication.AccountCreationRequest;
+import az.schedule.backendservice.dto.response.authentication.AccountCreationResponse;
 import az.schedule.backendservice.entity.Account;
 import az.schedule.backendservice.entity.Role;
 import az.schedule.backendservice.entity.Subscription;
@@ -10,19 +11,23 @@ import az.schedule.backendservice.exception.AppException;
 import az.schedule.backendservice.exception.ErrorCode;
 import az.schedule.backendservice.repository.RoleRepository;
 import lombok.RequiredArgsConstructor;
-import org.modelmapper.ModelMapper;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
 
 @Component
 @RequiredArgsConstructor
 public class AccountConverter {
-    private final ModelMapper modelMapper;
     private final RoleRepository roleRepository;
     private final PasswordEncoder passwordEncoder;
 
     public Account toAccountEntity(AccountCreationRequest request) {
-        Account acc = modelMapper.map(request, Account.class);
+        Account acc = new Account();
+        acc.setUsername(request.getUsername());
+        acc.setFullName(request.getFullName());
+        acc.setEmail(request.getEmail());
+        acc.setPhoneNumber(request.getPhoneNumber());
+        acc.setBirthDate(request.getBirthDate());
+        acc.setGender(request.getGender());
         Role role =
                 roleRepository.findByCode("USER").orElseThrow(() -> new AppException(ErrorCode.NOT_FOUND));
         acc.setPassword(passwordEncoder.encode(request.getPassword()));
@@ -32,7 +37,19 @@ public class AccountConverter {
     }
 
     public AccountDTO toDTO(Account account) {
-        AccountDTO dto = modelMapper.map(account, AccountDTO.class);
+        AccountDTO dto = AccountDTO.builder()
+                .id(account.getId())
+                .username(account.getUsername())
+                .fullName(account.getFullName())
+                .email(account.getEmail())
+                .isActive(account.getIsActive())
+                .gender(account.getGender())
+                .birthDate(account.getBirthDate())
+                .avatarUrl(account.getAvatarUrl())
+                .phoneNumber(account.getPhoneNumber())
+                .createdAt(account.getCreatedAt())
+                .updatedAt(account.getUpdatedAt())
+                .build();
         
         if (account.getRole() != null) {
             dto.setRoleId(account.getRole().getId());
@@ -47,6 +64,15 @@ public class AccountConverter {
         return dto;
     }
 
+    public AccountCreationResponse toCreationResponse(Account account) {
+        return AccountCreationResponse.builder()
+                .accountID(account.getId())
+                .username(account.getUsername())
+                .email(account.getEmail())
+                .phoneNumber(account.getPhoneNumber())
+                .build();
+    }
+
     public void updateEntity(Account account, AccountUpdateRequest request, Role role, Subscription subscription) {
         if (request.getFullName() != null) {
             account.setFullName(request.getFullName());
@@ -4,17 +4,20 @@ import az.schedule.backendservice.dto.CategoryDTO;
 import az.schedule.backendservice.dto.request.category.CategoryRequest;
 import az.schedule.backendservice.entity.Account;
 import az.schedule.backendservice.entity.Category;
-import lombok.RequiredArgsConstructor;
-import org.modelmapper.ModelMapper;
 import org.springframework.stereotype.Component;
 
 @Component
-@RequiredArgsConstructor
 public class CategoryConverter {
-    private final ModelMapper modelMapper;
 
     public CategoryDTO toDTO(Category category) {
-        CategoryDTO dto = modelMapper.map(category, CategoryDTO.class);
+        CategoryDTO dto = CategoryDTO.builder()
+                .id(category.getId())
+                .name(category.getName())
+                .description(category.getDescription())
+                .color(category.getColor())
+                .createdAt(category.getCreatedAt())
+                .updatedAt(category.getUpdatedAt())
+                .build();
         
         if (category.getAccount() != null) {
             dto.setAccountId(category.getAccount().getId());
@@ -31,7 +34,10 @@ public class CategoryConverter {
     }
 
     public Category toEntity(CategoryRequest request, Account account) {
-        Category category = modelMapper.map(request, Category.class);
+        Category category = new Category();
+        category.setName(request.getName());
+        category.setDescription(request.getDescription());
+        category.setColor(request.getColor());
         category.setAccount(account);
         return category;
     }
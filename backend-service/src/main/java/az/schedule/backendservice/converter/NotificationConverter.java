@@ -4,17 +4,19 @@ import az.schedule.backendservice.dto.NotificationDTO;
 import az.schedule.backendservice.dto.request.notification.NotificationRequest;
 import az.schedule.backendservice.entity.Account;
 import az.schedule.backendservice.entity.Notification;
-import lombok.RequiredArgsConstructor;
-import org.modelmapper.ModelMapper;
 import org.springframework.stereotype.Component;
 
 @Component
-@RequiredArgsConstructor
 public class NotificationConverter {
-    private final ModelMapper modelMapper;
 
     public NotificationDTO toDTO(Notification notification) {
-        NotificationDTO dto = modelMapper.map(notification, NotificationDTO.class);
+        NotificationDTO dto = NotificationDTO.builder()
+                .id(notification.getId())
+                .title(notification.getTitle())
+                .message(notification.getMessage())
+                .isRead(notification.getIsRead())
+                .createdAt(notification.getCreatedAt())
+                .build();
         
         if (notification.getTargetAccount() != null) {
             dto.setTargetAccountId(notification.getTargetAccount().getId());
@@ -5,17 +5,23 @@ import az.schedule.backendservice.dto.request.task.TaskRequest;
 import az.schedule.backendservice.entity.Account;
 import az.schedule.backendservice.entity.Category;
 import az.schedule.backendservice.entity.Task;
-import lombok.RequiredArgsConstructor;
-import org.modelmapper.ModelMapper;
 import org.springframework.stereotype.Component;
 
 @Component
-@RequiredArgsConstructor
 public class TaskConverter {
-    private final ModelMapper modelMapper;
 
     public TaskDTO toDTO(Task task) {
-        TaskDTO dto = modelMapper.map(task, TaskDTO.class);
+        TaskDTO dto = TaskDTO.builder()
+                .id(task.getId())
+                .title(task.getTitle())
+                .description(task.getDescription())
+                .startTime(task.getStartTime())
+                .endTime(task.getEndTime())
+                .priority(task.getPriority())
+                .status(task.getStatus())
+                .createdAt(task.getCreatedAt())
+                .updatedAt(task.getUpdatedAt())
+                .build();
         
         if (task.getCategory() != null) {
             dto.setCategoryId(task.getCategory().getId());
@@ -0,0 +1,21 @@
+package az.schedule.backendservice.dto.request.focussession;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+import lombok.experimental.FieldDefaults;
+
+import java.util.List;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class FocusSessionEventBatchRequest {
+    @NotEmpty(message = "{validation.focus.events.required}")
+    @Size(max = 500, message = "{validation.focus.events.size}")
+    List<@Valid FocusSessionEventRequest> events;
+}
@@ -0,0 +1,34 @@
+package az.schedule.backendservice.dto.request.focussession;
+
+import az.schedule.backendservice.enums.FocusSessionEventType;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.PositiveOrZero;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+import lombok.experimental.FieldDefaults;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class FocusSessionEventRequest {
+    @NotBlank(message = "{validation.focus.session.id.required}")
+    @Size(max = 36, message = "{validation.focus.session.id.size}")
+    String sessionId;
+
+    // Increases by one per event within a session; retried events keep their number
+    @NotNull(message = "{validation.focus.event.sequence.required}")
+    @PositiveOrZero(message = "{validation.focus.event.sequence.required}")
+    Integer sequence;
+
+    @NotNull(message = "{validation.focus.event.type.required}")
+    FocusSessionEventType type;
+
+    @NotNull(message = "{validation.focus.event.time.required}")
+    LocalDateTime occurredAt;
+}
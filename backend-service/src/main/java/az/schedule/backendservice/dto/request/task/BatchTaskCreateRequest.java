@@ -0,0 +1,21 @@
+package az.schedule.backendservice.dto.request.task;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+import lombok.experimental.FieldDefaults;
+
+import java.util.List;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class BatchTaskCreateRequest {
+    @NotEmpty(message = "{validation.tasks.required}")
+    @Size(max = 500, message = "{validation.tasks.size}")
+    List<@Valid TaskRequest> tasks;
+}
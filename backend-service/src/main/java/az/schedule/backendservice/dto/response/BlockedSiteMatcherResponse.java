@@ -0,0 +1,18 @@
+package az.schedule.backendservice.dto.response;
+
+import lombok.*;
+import lombok.experimental.FieldDefaults;
+
+import java.util.Map;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class BlockedSiteMatcherResponse {
+    String version; // Changes only when the compiled block list changes
+    int patternCount; // Valid, de-duplicated patterns compiled into the trie
+    Map<String, Object> trie; // Reversed-label trie, see DomainTrie
+}
@@ -0,0 +1,36 @@
+package az.schedule.backendservice.dto.response;
+
+import az.schedule.backendservice.enums.Priority;
+import az.schedule.backendservice.enums.TaskStatus;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.*;
+import lombok.experimental.FieldDefaults;
+
+import java.time.LocalDateTime;
+
+/**
+ * Compact task view used by the calendar endpoints; selected directly by
+ * {@code TaskRepository.findCalendarTasks} so no entity is loaded or mapped.
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class CalendarTaskResponse {
+    Long id;
+    String title;
+
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    LocalDateTime startTime;
+
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    LocalDateTime endTime;
+
+    Priority priority;
+    TaskStatus status;
+    Long categoryId;
+    String categoryName;
+    String categoryColor;
+}
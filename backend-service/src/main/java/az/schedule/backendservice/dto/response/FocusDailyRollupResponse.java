@@ -0,0 +1,18 @@
+package az.schedule.backendservice.dto.response;
+
+import lombok.*;
+import lombok.experimental.FieldDefaults;
+
+import java.time.LocalDate;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class FocusDailyRollupResponse {
+    LocalDate day;
+    long focusMinutes;
+    int completedSessions;
+}
@@ -0,0 +1,15 @@
+package az.schedule.backendservice.dto.response;
+
+import lombok.*;
+import lombok.experimental.FieldDefaults;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class FocusSessionIngestResponse {
+    int applied; // Events that changed session state
+    int ignored; // Already applied (retries) or out of order
+}
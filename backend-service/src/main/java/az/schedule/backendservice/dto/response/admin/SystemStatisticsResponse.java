@@ -3,6 +3,9 @@ package az.schedule.backendservice.dto.response.admin;
 import lombok.*;
 import lombok.experimental.FieldDefaults;
 
+import java.time.LocalDateTime;
+import java.util.Map;
+
 @Getter
 @Setter
 @Builder
@@ -19,4 +22,7 @@ public class SystemStatisticsResponse {
     Long totalCategories;
     Long adminUsers;
     Long regularUsers;
+    Map<String, Long> usersByRole; // Role code -> accounts, NONE for accounts without a role
+    Map<String, Long> tasksByStatus;
+    LocalDateTime generatedAt; // When the snapshot was computed
 }
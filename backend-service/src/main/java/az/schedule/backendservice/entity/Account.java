@@ -33,9 +33,6 @@ public class Account extends BaseEntity{
 
     LocalDate birthDate;
 
-    @Column(name = "Otp", length = 7)
-    String otp;
-
     String avatarUrl;
 
     String phoneNumber;
@@ -46,7 +43,7 @@ public class Account extends BaseEntity{
     @OneToMany(mappedBy = "sendAccount", fetch = FetchType.LAZY)
     List<Notification> sentNotifications = new ArrayList<>();
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "RoleID")
     Role role;
 
@@ -59,7 +56,7 @@ public class Account extends BaseEntity{
     @OneToMany(mappedBy = "account", fetch = FetchType.LAZY)
     List<Payment> payments = new ArrayList<>();
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "SubscriptionID")
     Subscription subscription;
 }
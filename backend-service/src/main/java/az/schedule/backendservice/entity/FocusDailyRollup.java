@@ -0,0 +1,35 @@
+package az.schedule.backendservice.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import lombok.experimental.FieldDefaults;
+
+import java.time.LocalDate;
+
+/**
+ * Focus time per account and day, incremented as events are ingested. Analytics joins this table
+ * instead of scanning the event log.
+ */
+@Entity
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@FieldDefaults(level = AccessLevel.PRIVATE)
+@Table(name = "FocusDailyRollup", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_focus_daily_rollup_account_day", columnNames = {"accountId", "day"})
+})
+public class FocusDailyRollup extends BaseEntity {
+    @Column(nullable = false)
+    Long accountId;
+
+    @Column(nullable = false)
+    LocalDate day;
+
+    @Column(nullable = false)
+    Long focusSeconds;
+
+    @Column(nullable = false)
+    Integer completedSessions;
+}
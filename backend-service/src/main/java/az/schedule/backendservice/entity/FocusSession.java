@@ -0,0 +1,48 @@
+package az.schedule.backendservice.entity;
+
+import az.schedule.backendservice.enums.FocusSessionStatus;
+import jakarta.persistence.*;
+import lombok.*;
+import lombok.experimental.FieldDefaults;
+
+import java.time.LocalDateTime;
+
+/**
+ * Current state of one pomodoro work session, folded from its {@link FocusSessionEvent}s.
+ */
+@Entity
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE)
+@Table(name = "FocusSession", indexes = {
+        @Index(name = "idx_focus_session_account_status", columnList = "accountId, status")
+})
+public class FocusSession extends AuditableEntity {
+    // Client-generated UUID, so events can be sent before the server has seen the session
+    @Id
+    @Column(length = 36)
+    String sessionId;
+
+    @Column(nullable = false)
+    Long accountId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    FocusSessionStatus status;
+
+    LocalDateTime startedAt;
+
+    // Start of the interval being timed while RUNNING
+    LocalDateTime runningSince;
+
+    LocalDateTime finishedAt;
+
+    @Column(nullable = false)
+    Long focusedSeconds;
+
+    // Highest applied event sequence; older events arriving late are logged but not applied
+    @Column(nullable = false)
+    Integer lastSequence;
+}
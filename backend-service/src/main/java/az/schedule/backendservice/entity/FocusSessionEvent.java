@@ -0,0 +1,49 @@
+package az.schedule.backendservice.entity;
+
+import az.schedule.backendservice.enums.FocusSessionEventType;
+import jakarta.persistence.*;
+import lombok.*;
+import lombok.experimental.FieldDefaults;
+
+import java.time.LocalDateTime;
+
+/**
+ * Append-only log of pomodoro events as sent by the client. (sessionId, sequenceNo) is unique, so a
+ * retried batch is stored once; the log can be replayed to rebuild sessions and rollups.
+ */
+@Entity
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@FieldDefaults(level = AccessLevel.PRIVATE)
+@Table(name = "FocusSessionEvent", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_focus_session_event_session_sequence", columnNames = {"sessionId", "sequenceNo"})
+}, indexes = {
+        @Index(name = "idx_focus_session_event_account_occurred", columnList = "accountId, occurredAt")
+})
+public class FocusSessionEvent {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    Long id;
+
+    @Column(nullable = false)
+    Long accountId;
+
+    @Column(nullable = false, length = 36)
+    String sessionId;
+
+    @Column(nullable = false)
+    Integer sequenceNo;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    FocusSessionEventType type;
+
+    @Column(nullable = false)
+    LocalDateTime occurredAt;
+
+    @Column(nullable = false)
+    LocalDateTime receivedAt;
+}
@@ -0,0 +1,43 @@
+package az.schedule.backendservice.entity;
+
+import az.schedule.backendservice.enums.MailStatus;
+import jakarta.persistence.*;
+import lombok.*;
+import lombok.experimental.FieldDefaults;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@FieldDefaults(level = AccessLevel.PRIVATE)
+@Table(name = "MailOutbox", indexes = {
+        @Index(name = "idx_mail_outbox_status_next_attempt", columnList = "status, nextAttemptAt")
+})
+public class MailOutbox extends BaseEntity {
+    @Column(nullable = false)
+    String recipient;
+
+    String subject;
+
+    @Column(columnDefinition = "TEXT")
+    String body;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    MailStatus status;
+
+    @Column(nullable = false)
+    Integer attempts;
+
+    // When the row is next due: the retry time while PENDING, the lease expiry while SENDING
+    LocalDateTime nextAttemptAt;
+
+    LocalDateTime sentAt;
+
+    @Column(length = 500)
+    String lastError;
+}
@@ -23,11 +23,11 @@ public class Notification extends BaseEntity{
     @Column(name = "IsRead")
     Boolean isRead;
 
-    @ManyToOne()
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "AccountID")
     Account sendAccount;
 
-    @ManyToOne()
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "targetAccountID")
     Account targetAccount;
 
@@ -11,7 +11,9 @@ import lombok.experimental.FieldDefaults;
 @NoArgsConstructor
 @Builder
 @FieldDefaults(level = AccessLevel.PRIVATE)
-@Table(name = "Payment")
+@Table(name = "Payment", indexes = {
+        @Index(name = "idx_payment_status", columnList = "Status, id")
+})
 public class Payment extends BaseEntity {
     
     @ManyToOne
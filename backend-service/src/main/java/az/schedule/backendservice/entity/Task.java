@@ -14,8 +14,36 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 @NoArgsConstructor
 @FieldDefaults(level = AccessLevel.PRIVATE)
-@Table(name = "Task")
-public class Task extends BaseEntity{
+@NamedEntityGraphs({
+        @NamedEntityGraph(name = Task.GRAPH_ACCOUNT_CATEGORY, attributeNodes = {
+                @NamedAttributeNode("account"),
+                @NamedAttributeNode("category")
+        }),
+        @NamedEntityGraph(name = Task.GRAPH_CATEGORY, attributeNodes = @NamedAttributeNode("category")),
+        @NamedEntityGraph(name = Task.GRAPH_ACCOUNT, attributeNodes = @NamedAttributeNode("account"))
+})
+@Table(name = "Task", indexes = {
+        @Index(name = "idx_task_account_status", columnList = "AccountID, status"),
+        @Index(name = "idx_task_account_start_time", columnList = "AccountID, startTime"),
+        @Index(name = "idx_task_account_end_time_status", columnList = "AccountID, endTime, status"),
+        @Index(name = "idx_task_category_status", columnList = "CategoryID, status"),
+        @Index(name = "idx_task_status_start_time", columnList = "status, startTime"),
+        @Index(name = "idx_task_end_time_status", columnList = "endTime, status")
+})
+public class Task extends AuditableEntity {
+    // List and detail views: TaskConverter reads the account username and category name
+    public static final String GRAPH_ACCOUNT_CATEGORY = "Task.withAccountAndCategory";
+    // Analytics: grouping by category name
+    public static final String GRAPH_CATEGORY = "Task.withCategory";
+    // Reminder job: notification target account
+    public static final String GRAPH_ACCOUNT = "Task.withAccount";
+
+    // Pooled sequence (a table on MySQL) instead of IDENTITY so inserts can be JDBC-batched
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "task_seq")
+    @SequenceGenerator(name = "task_seq", sequenceName = "task_seq", allocationSize = 50)
+    Long id;
+
     @Column(nullable = false)
     String title;
 
@@ -29,7 +57,7 @@ public class Task extends BaseEntity{
     @Enumerated(EnumType.STRING)
     private Priority priority;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "CategoryID")
     Category category;
 
@@ -37,7 +65,7 @@ public class Task extends BaseEntity{
     @Column(nullable = false)
     private TaskStatus status = TaskStatus.TODO;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "AccountID")
     Account account;
 
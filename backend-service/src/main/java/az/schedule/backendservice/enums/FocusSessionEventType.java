@@ -0,0 +1,5 @@
+package az.schedule.backendservice.enums;
+
+public enum FocusSessionEventType {
+    START, PAUSE, RESUME, FINISH
+}
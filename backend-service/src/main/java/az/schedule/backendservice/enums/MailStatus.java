@@ -0,0 +1,5 @@
+package az.schedule.backendservice.enums;
+
+public enum MailStatus {
+    PENDING, SENDING, SENT, FAILED
+}
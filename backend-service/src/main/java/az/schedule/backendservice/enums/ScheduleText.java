@@ -0,0 +1,82 @@
+package az.schedule.backendservice.enums;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Message keys of the AI schedule suggestion texts, resolved from the {@code i18n/schedule-texts}
+ * bundles. Arguments are noted as {@code {n}}.
+ */
+@Getter
+@AllArgsConstructor
+public enum ScheduleText {
+    SLOT_MORNING("schedule.slot.morning"),
+    SLOT_AFTERNOON("schedule.slot.afternoon"),
+    SLOT_EVENING("schedule.slot.evening"),
+
+    DAY_MONDAY("schedule.day.monday"),
+    DAY_TUESDAY("schedule.day.tuesday"),
+    DAY_WEDNESDAY("schedule.day.wednesday"),
+    DAY_THURSDAY("schedule.day.thursday"),
+    DAY_FRIDAY("schedule.day.friday"),
+    DAY_SATURDAY("schedule.day.saturday"),
+    DAY_SUNDAY("schedule.day.sunday"),
+
+    // {0} percent, {1} slot
+    PATTERN_DOMINANT("schedule.pattern.dominant"),
+    // {0} slot, {1} percent
+    PATTERN_COMPLETED("schedule.pattern.completed"),
+    PATTERN_INSIGHT_MORNING("schedule.pattern.insight.morning"),
+    PATTERN_INSIGHT_AFTERNOON("schedule.pattern.insight.afternoon"),
+    PATTERN_INSIGHT_EVENING("schedule.pattern.insight.evening"),
+    PATTERN_INSUFFICIENT_DATA("schedule.pattern.insufficient-data"),
+
+    // {0} count
+    RECOMMENDATION_OVERDUE("schedule.recommendation.overdue"),
+    RECOMMENDATION_HIGH_PRIORITY("schedule.recommendation.high-priority"),
+    RECOMMENDATION_UNSCHEDULED("schedule.recommendation.unscheduled"),
+    // {0} day, {1} count
+    RECOMMENDATION_BUSIEST_DAY("schedule.recommendation.busiest-day"),
+    // {0} percent
+    RECOMMENDATION_MORNING("schedule.recommendation.morning"),
+    // {0} count
+    RECOMMENDATION_BREAKS("schedule.recommendation.breaks"),
+    RECOMMENDATION_WEEKEND("schedule.recommendation.weekend"),
+    RECOMMENDATION_PERFECT("schedule.recommendation.perfect"),
+
+    // {0} hours
+    REASON_OVERDUE("schedule.reason.overdue"),
+    REASON_DUE_WITHIN_DAY("schedule.reason.due-within-day"),
+    REASON_DUE_WITHIN_TWO_DAYS("schedule.reason.due-within-two-days"),
+    REASON_HIGH_PRIORITY("schedule.reason.high-priority"),
+    REASON_UNSCHEDULED("schedule.reason.unscheduled"),
+    REASON_TOO_EARLY("schedule.reason.too-early"),
+    REASON_TOO_LATE("schedule.reason.too-late"),
+    REASON_LUNCH("schedule.reason.lunch"),
+    REASON_HIGH_PRIORITY_AFTERNOON("schedule.reason.high-priority-afternoon"),
+    REASON_WEEKEND("schedule.reason.weekend"),
+    REASON_RECOMMENDATION("schedule.reason.recommendation"),
+    REASON_DEFAULT("schedule.reason.default"),
+
+    CURRENT_NOT_SCHEDULED("schedule.current.not-scheduled"),
+    // {0} start, {1} end time
+    CURRENT_RANGE("schedule.current.range"),
+    // {0} start
+    CURRENT_START("schedule.current.start"),
+    // {0} due date
+    CURRENT_DUE("schedule.current.due"),
+    // {0} start, {1} end time
+    SUGGESTED("schedule.suggested"),
+    SUGGESTED_URGENT("schedule.suggested.urgent"),
+
+    SUMMARY_NO_TASKS("schedule.summary.no-tasks"),
+    // {0} active tasks
+    SUMMARY_OPTIMAL("schedule.summary.optimal"),
+    // {0} suggestions, {1} active tasks
+    SUMMARY_OPPORTUNITIES("schedule.summary.opportunities"),
+    // {0} count
+    SUMMARY_URGENT("schedule.summary.urgent"),
+    SUMMARY_BENEFITS("schedule.summary.benefits");
+
+    private final String key;
+}
@@ -18,6 +18,8 @@ public enum ErrorCode {
     EMAIL_EXISTED(400, "error.email.existed", HttpStatus.CONFLICT),
     USERNAME_EXISTED(400, "error.username.existed", HttpStatus.CONFLICT),
     OTP_INVALID(400, "error.otp.invalid", HttpStatus.CONFLICT),
+    OTP_ATTEMPTS_EXCEEDED(429, "error.otp.attempts.exceeded", HttpStatus.TOO_MANY_REQUESTS),
+    OTP_RATE_LIMITED(429, "error.otp.rate.limited", HttpStatus.TOO_MANY_REQUESTS),
     RESOURCE_NOT_FOUND(400, "error.resource.not.found", HttpStatus.NOT_FOUND),
     PHONE_NUMBER_EXISTED(400, "error.phone.number.existed", HttpStatus.CONFLICT),
     TASK_NOT_FOUND(404, "error.task.not.found", HttpStatus.NOT_FOUND),
@@ -33,6 +35,7 @@ public enum ErrorCode {
     ACCOUNT_NOT_FOUND(404, "error.account.not.found", HttpStatus.NOT_FOUND),
     AI_PARSING_ERROR(500, "error.ai.parsing.error", HttpStatus.INTERNAL_SERVER_ERROR),
     INVALID_TASK_DATA(400, "error.invalid.task.data", HttpStatus.BAD_REQUEST),
+    INVALID_DATE_RANGE(400, "error.invalid.date.range", HttpStatus.BAD_REQUEST),
     INVALID_IMAGE_FORMAT(400, "error.invalid.image.format", HttpStatus.BAD_REQUEST),
     IMAGE_TOO_LARGE(400, "error.image.too.large", HttpStatus.BAD_REQUEST),
     IMAGE_NOT_SCHEDULE_RELATED(400, "error.image.not.schedule.related", HttpStatus.BAD_REQUEST),
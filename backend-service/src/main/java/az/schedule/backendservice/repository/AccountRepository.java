@@ -3,33 +3,56 @@ package az.schedule.backendservice.repository;
 import az.schedule.backendservice.entity.Account;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface AccountRepository extends JpaRepository<Account, Long> {
+    // Login, token refresh and profile lookups need the role (token scope) and subscription
+    @EntityGraph(attributePaths = {"role", "subscription"})
     public Optional<Account> findByUsername(String username);
 
     public boolean existsByUsername(String username);
 
+    @EntityGraph(attributePaths = {"subscription"})
+    public List<Account> findByUsernameIn(Collection<String> usernames);
+
     public boolean existsByEmail(String email);
 
     public boolean existsByPhoneNumber(String phoneNumber);
 
+    @EntityGraph(attributePaths = {"role", "subscription"})
     public Optional<Account> findByEmail(String email);
 
-    @Transactional
-    @Modifying
-    @Query("UPDATE Account a SET a.otp = NULL WHERE a.id = :accountID")
-    void clearOTP(Long accountID);
+    @EntityGraph(attributePaths = {"role", "subscription"})
+    public Optional<Account> findWithRoleAndSubscriptionById(Long id);
+
+    @Override
+    @EntityGraph(attributePaths = {"role", "subscription"})
+    Page<Account> findAll(Pageable pageable);
 
+    @EntityGraph(attributePaths = {"role", "subscription"})
     @Query("SELECT a FROM Account a WHERE " +
            "LOWER(a.username) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
            "LOWER(a.email) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
            "LOWER(a.fullName) LIKE LOWER(CONCAT('%', :keyword, '%'))")
     Page<Account> searchByKeyword(@Param("keyword") String keyword, Pageable pageable);
+
+    // One row per (role, active) pair, so the admin statistics never load accounts
+    @Query("SELECT r.code AS roleCode, a.isActive AS active, COUNT(a) AS count " +
+           "FROM Account a LEFT JOIN a.role r GROUP BY r.code, a.isActive")
+    List<RoleStatusCount> countByRoleAndStatus();
+
+    interface RoleStatusCount {
+        String getRoleCode();
+
+        Boolean getActive();
+
+        long getCount();
+    }
 }
@@ -1,10 +1,12 @@
 package az.schedule.backendservice.repository;
 
 import az.schedule.backendservice.entity.Category;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -14,7 +16,8 @@ import java.util.Optional;
 @Repository
 public interface CategoryRepository extends JpaRepository<Category, Long> {
     Page<Category> findByAccountId(Long accountId, Pageable pageable);
-    
+
+    @QueryHints(@QueryHint(name = "org.hibernate.cacheable", value = "true"))
     List<Category> findByAccountId(Long accountId);
     
     Optional<Category> findByNameAndAccountId(String name, Long accountId);
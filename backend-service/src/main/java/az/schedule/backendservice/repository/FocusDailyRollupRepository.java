@@ -0,0 +1,13 @@
+package az.schedule.backendservice.repository;
+
+import az.schedule.backendservice.entity.FocusDailyRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface FocusDailyRollupRepository extends JpaRepository<FocusDailyRollup, Long> {
+    List<FocusDailyRollup> findByAccountIdAndDayBetweenOrderByDay(Long accountId, LocalDate from, LocalDate to);
+}
@@ -1,6 +1,7 @@
 package az.schedule.backendservice.repository;
 
 import az.schedule.backendservice.entity.FocusModeSettings;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
@@ -8,5 +9,6 @@ import java.util.Optional;
 
 @Repository
 public interface FocusModeSettingsRepository extends JpaRepository<FocusModeSettings, Long> {
+    @EntityGraph(attributePaths = "blockedWebsites")
     Optional<FocusModeSettings> findByAccountId(Long accountId);
 }
@@ -0,0 +1,32 @@
+package az.schedule.backendservice.repository;
+
+import az.schedule.backendservice.entity.FocusDailyRollup;
+import az.schedule.backendservice.entity.FocusSessionEvent;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Multi-row writes for focus-session ingestion that JPA cannot express: insert-if-absent and
+ * additive upserts, each sent as one JDBC batch.
+ */
+@Repository
+public interface FocusSessionIngestRepository {
+
+    /**
+     * Creates a {@code CREATED} row for every session id that does not exist yet.
+     */
+    void createMissingSessions(Long accountId, Collection<String> sessionIds, LocalDateTime now);
+
+    /**
+     * Appends the events, skipping any whose (sessionId, sequenceNo) is already stored.
+     */
+    void appendEvents(List<FocusSessionEvent> events);
+
+    /**
+     * Adds each delta's focus seconds and completed sessions to the account's row for that day.
+     */
+    void addToDailyRollups(Collection<FocusDailyRollup> deltas, LocalDateTime now);
+}
@@ -0,0 +1,21 @@
+package az.schedule.backendservice.repository;
+
+import az.schedule.backendservice.entity.FocusSession;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface FocusSessionRepository extends JpaRepository<FocusSession, String> {
+
+    // Ordered by key so concurrent batches lock shared sessions in the same order
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM FocusSession s WHERE s.sessionId IN :sessionIds ORDER BY s.sessionId")
+    List<FocusSession> findAllForUpdate(@Param("sessionIds") Collection<String> sessionIds);
+}
@@ -0,0 +1,66 @@
+package az.schedule.backendservice.repository;
+
+import az.schedule.backendservice.entity.MailOutbox;
+import az.schedule.backendservice.enums.MailStatus;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface MailOutboxRepository extends JpaRepository<MailOutbox, Long> {
+
+    // lock.timeout -2 is SKIP LOCKED, so concurrent workers and instances claim disjoint rows
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT m FROM MailOutbox m WHERE m.status IN :statuses AND m.nextAttemptAt <= :now ORDER BY m.nextAttemptAt")
+    List<MailOutbox> findDueForUpdate(@Param("statuses") Collection<MailStatus> statuses,
+                                      @Param("now") LocalDateTime now,
+                                      Pageable pageable);
+
+    @Modifying
+    @Query("UPDATE MailOutbox m SET m.status = :status, m.nextAttemptAt = :nextAttemptAt WHERE m.id IN :ids")
+    int updateStatus(@Param("ids") Collection<Long> ids,
+                     @Param("status") MailStatus status,
+                     @Param("nextAttemptAt") LocalDateTime nextAttemptAt);
+
+    // The body is dropped once a row is final: it may hold an OTP and is never sent again
+    @Modifying
+    @Query("UPDATE MailOutbox m SET m.status = az.schedule.backendservice.enums.MailStatus.SENT, " +
+           "m.sentAt = :sentAt, m.attempts = m.attempts + 1, m.lastError = NULL, m.body = NULL WHERE m.id IN :ids")
+    int markSent(@Param("ids") Collection<Long> ids, @Param("sentAt") LocalDateTime sentAt);
+
+    @Modifying
+    @Query("UPDATE MailOutbox m SET m.status = az.schedule.backendservice.enums.MailStatus.FAILED, " +
+           "m.attempts = :attempts, m.nextAttemptAt = NULL, m.lastError = :lastError, m.body = NULL WHERE m.id = :id")
+    int markFailed(@Param("id") Long id,
+                   @Param("attempts") Integer attempts,
+                   @Param("lastError") String lastError);
+
+    @Modifying
+    @Query("UPDATE MailOutbox m SET m.status = :status, m.attempts = :attempts, " +
+           "m.nextAttemptAt = :nextAttemptAt, m.lastError = :lastError WHERE m.id = :id")
+    int markFailedAttempt(@Param("id") Long id,
+                          @Param("status") MailStatus status,
+                          @Param("attempts") Integer attempts,
+                          @Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+                          @Param("lastError") String lastError);
+
+    long countByStatus(MailStatus status);
+
+    // At most :limit rows per call, so a purge never holds many row locks at once
+    @Modifying
+    @Query(value = "DELETE FROM mail_outbox WHERE status IN ('SENT', 'FAILED') AND created_at < :cutoff LIMIT :limit",
+           nativeQuery = true)
+    int deleteFinishedBefore(@Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit);
+}
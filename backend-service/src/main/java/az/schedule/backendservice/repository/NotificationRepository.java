@@ -3,6 +3,7 @@ package az.schedule.backendservice.repository;
 import az.schedule.backendservice.entity.Notification;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
@@ -10,8 +11,10 @@ import java.util.List;
 
 @Repository
 public interface NotificationRepository extends JpaRepository<Notification, Long> {
+    @EntityGraph(attributePaths = {"targetAccount", "sendAccount"})
     Page<Notification> findByTargetAccountId(Long accountId, Pageable pageable);
     
+    @EntityGraph(attributePaths = {"targetAccount", "sendAccount"})
     List<Notification> findByTargetAccountIdAndIsReadFalse(Long accountId);
     
     long countByTargetAccountIdAndIsReadFalse(Long accountId);
@@ -1,13 +1,51 @@
 package az.schedule.backendservice.repository;
 
 import az.schedule.backendservice.entity.Payment;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface PaymentRepository extends JpaRepository<Payment, Long> {
     Optional<Payment> findByTransactionId(String transactionId);
     boolean existsByTransactionId(String transactionId);
+
+    /**
+     * Stores a webhook as a PENDING payment in its own transaction. A transaction id that is already
+     * stored fails on the unique key, so concurrent redeliveries are settled by the database instead of
+     * a check-then-insert; every other error still surfaces.
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO payment (transactionid, amount, gateway, content, reference_code, " +
+            "transaction_date, status, payment_method, created_at, updated_at) " +
+            "VALUES (:transactionId, :amount, :gateway, :content, :referenceCode, :transactionDate, " +
+            "'PENDING', 'BANK_TRANSFER', :now, :now)", nativeQuery = true)
+    int insertPending(@Param("transactionId") String transactionId,
+                              @Param("amount") Double amount,
+                              @Param("gateway") String gateway,
+                              @Param("content") String content,
+                              @Param("referenceCode") String referenceCode,
+                              @Param("transactionDate") String transactionDate,
+                              @Param("now") LocalDateTime now);
+
+    // lock.timeout -2 is SKIP LOCKED, so concurrent workers and instances claim disjoint rows
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT p FROM Payment p WHERE p.status = :status ORDER BY p.id")
+    List<Payment> findByStatusForUpdate(@Param("status") String status, Pageable pageable);
+
+    long countByStatus(String status);
 }
@@ -1,10 +1,13 @@
 package az.schedule.backendservice.repository;
 
 import az.schedule.backendservice.entity.Role;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 
 import java.util.Optional;
 
 public interface RoleRepository extends JpaRepository<Role, Long> {
+    @QueryHints(@QueryHint(name = "org.hibernate.cacheable", value = "true"))
     public Optional<Role> findByCode(String name);
 }
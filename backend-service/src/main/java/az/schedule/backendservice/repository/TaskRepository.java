@@ -1,10 +1,12 @@
 package az.schedule.backendservice.repository;
 
+import az.schedule.backendservice.dto.response.CalendarTaskResponse;
 import az.schedule.backendservice.entity.Task;
 import az.schedule.backendservice.enums.Priority;
 import az.schedule.backendservice.enums.TaskStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -12,28 +14,41 @@ import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface TaskRepository extends JpaRepository<Task, Long> {
+    @EntityGraph(Task.GRAPH_ACCOUNT_CATEGORY)
     Page<Task> findByAccountId(Long accountId, Pageable pageable);
     
+    @EntityGraph(Task.GRAPH_CATEGORY)
     List<Task> findByAccountId(Long accountId); // For analytics - get all tasks
+
+    @EntityGraph(Task.GRAPH_ACCOUNT_CATEGORY)
+    Optional<Task> findWithAccountAndCategoryById(Long id);
     
+    @EntityGraph(Task.GRAPH_ACCOUNT_CATEGORY)
     Page<Task> findByCategoryId(Long categoryId, Pageable pageable);
     
+    @EntityGraph(Task.GRAPH_ACCOUNT_CATEGORY)
     Page<Task> findByAccountIdAndStatus(Long accountId, TaskStatus status, Pageable pageable);
     
+    @EntityGraph(Task.GRAPH_ACCOUNT_CATEGORY)
     Page<Task> findByAccountIdAndCategoryId(Long accountId, Long categoryId, Pageable pageable);
     
+    @EntityGraph(Task.GRAPH_ACCOUNT_CATEGORY)
     Page<Task> findByAccountIdAndStatusContainingIgnoreCase(Long accountId, String keyword, Pageable pageable);
     
+    @EntityGraph(Task.GRAPH_ACCOUNT_CATEGORY)
     Page<Task> findByAccountIdAndPriority(Long accountId, Priority priority, Pageable pageable);
     
     // Overdue tasks - where endTime < now and status != DONE
+    @EntityGraph(Task.GRAPH_ACCOUNT_CATEGORY)
     List<Task> findByAccountIdAndEndTimeBeforeAndStatusNot(Long accountId, LocalDateTime dateTime, TaskStatus status);
     
     long countByAccountIdAndEndTimeBeforeAndStatusNot(Long accountId, LocalDateTime dateTime, TaskStatus status);
     
+    @EntityGraph(Task.GRAPH_ACCOUNT_CATEGORY)
     @Query("SELECT t FROM Task t WHERE t.account.id = :accountId AND " +
            "(LOWER(t.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
            "LOWER(t.description) LIKE LOWER(CONCAT('%', :keyword, '%')))")
@@ -41,11 +56,34 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
                                            @Param("keyword") String keyword, 
                                            Pageable pageable);
     
+    @EntityGraph(Task.GRAPH_ACCOUNT_CATEGORY)
     List<Task> findByAccountIdAndStartTimeBetween(Long accountId, LocalDateTime start, LocalDateTime end);
+
+    @EntityGraph(Task.GRAPH_ACCOUNT_CATEGORY)
+    // Tasks overlapping [start, end): started before the window ends and not finished before it starts
+    @Query("SELECT t FROM Task t WHERE t.account.id = :accountId " +
+            "AND t.startTime < :end " +
+            "AND (t.endTime > :start OR (t.endTime IS NULL AND t.startTime >= :start))")
+    List<Task> findOverlappingRange(@Param("accountId") Long accountId,
+                                    @Param("start") LocalDateTime start,
+                                    @Param("end") LocalDateTime end);
+
+    @Query("SELECT new az.schedule.backendservice.dto.response.CalendarTaskResponse(" +
+            "t.id, t.title, t.startTime, t.endTime, t.priority, t.status, c.id, c.name, c.color) " +
+            "FROM Task t LEFT JOIN t.category c WHERE t.account.id = :accountId " +
+            "AND t.startTime < :end " +
+            "AND (t.endTime > :start OR (t.endTime IS NULL AND t.startTime >= :start))")
+    List<CalendarTaskResponse> findCalendarTasks(@Param("accountId") Long accountId,
+                                                 @Param("start") LocalDateTime start,
+                                                 @Param("end") LocalDateTime end);
     
     long countByAccountId(Long accountId);
     
     long countByAccountIdAndStatus(Long accountId, TaskStatus status);
+
+    // Served from idx_task_status_start_time without touching task rows
+    @Query("SELECT t.status AS status, COUNT(t) AS count FROM Task t GROUP BY t.status")
+    List<StatusCount> countGroupByStatus();
     
     long countByCategoryId(Long categoryId);
     
@@ -53,6 +91,7 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
     
     boolean existsByTitleAndAccountId(String title, Long accountId);
 
+    @EntityGraph(Task.GRAPH_ACCOUNT)
     @Query("SELECT t FROM Task t WHERE " +
             "t.startTime <= :threshold " +
             "AND t.startTime > :now " +
@@ -64,6 +103,7 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
             @Param("status") TaskStatus status
     );
 
+    @EntityGraph(Task.GRAPH_ACCOUNT)
     @Query("SELECT t FROM Task t WHERE " +
             "t.endTime <= :threshold " +
             "AND t.endTime > :now " +
@@ -74,4 +114,10 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
             @Param("now") LocalDateTime now,
             @Param("statuses") List<TaskStatus> statuses
     );
+
+    interface StatusCount {
+        TaskStatus getStatus();
+
+        long getCount();
+    }
 }
@@ -12,6 +12,7 @@ import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
 import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.JoinType;
 import jakarta.persistence.criteria.Predicate;
 import jakarta.persistence.criteria.Root;
 import lombok.RequiredArgsConstructor;
@@ -61,6 +62,9 @@ public class AccountSearchRepositoryImpl implements AccountSearchRepository {
         CriteriaBuilder criteriaBuilder = em.getCriteriaBuilder();
         CriteriaQuery<Account> criteriaQuery = criteriaBuilder.createQuery(Account.class);
         Root<Account> root = criteriaQuery.from(Account.class);
+        // AccountConverter reads role and subscription, which are lazy
+        root.fetch("role", JoinType.LEFT);
+        root.fetch("subscription", JoinType.LEFT);
 
         Predicate predicate = criteriaBuilder.conjunction();
         AccountCriteriaQueryConsumer consumer =
@@ -0,0 +1,78 @@
+package az.schedule.backendservice.repository.impl;
+
+import az.schedule.backendservice.entity.FocusDailyRollup;
+import az.schedule.backendservice.entity.FocusSessionEvent;
+import az.schedule.backendservice.enums.FocusSessionStatus;
+import az.schedule.backendservice.repository.FocusSessionIngestRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Plain JDBC batches; with {@code rewriteBatchedStatements} (see JpaBatchConfig) each call is a
+ * single multi-row statement.
+ */
+@Repository
+@RequiredArgsConstructor
+public class FocusSessionIngestRepositoryImpl implements FocusSessionIngestRepository {
+
+    private static final String INSERT_SESSION =
+            "INSERT IGNORE INTO focus_session (session_id, account_id, status, focused_seconds, last_sequence, " +
+            "created_at, updated_at) VALUES (?, ?, ?, 0, -1, ?, ?)";
+
+    private static final String INSERT_EVENT =
+            "INSERT IGNORE INTO focus_session_event (account_id, session_id, sequence_no, type, occurred_at, " +
+            "received_at) VALUES (?, ?, ?, ?, ?, ?)";
+
+    private static final String UPSERT_ROLLUP =
+            "INSERT INTO focus_daily_rollup (account_id, day, focus_seconds, completed_sessions, created_at, " +
+            "updated_at) VALUES (?, ?, ?, ?, ?, ?) ON DUPLICATE KEY UPDATE " +
+            "focus_seconds = focus_seconds + VALUES(focus_seconds), " +
+            "completed_sessions = completed_sessions + VALUES(completed_sessions), " +
+            "updated_at = VALUES(updated_at)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void createMissingSessions(Long accountId, Collection<String> sessionIds, LocalDateTime now) {
+        Timestamp timestamp = Timestamp.valueOf(now);
+        jdbcTemplate.batchUpdate(INSERT_SESSION, sessionIds, sessionIds.size(), (ps, sessionId) -> {
+            ps.setString(1, sessionId);
+            ps.setLong(2, accountId);
+            ps.setString(3, FocusSessionStatus.CREATED.name());
+            ps.setTimestamp(4, timestamp);
+            ps.setTimestamp(5, timestamp);
+        });
+    }
+
+    @Override
+    public void appendEvents(List<FocusSessionEvent> events) {
+        jdbcTemplate.batchUpdate(INSERT_EVENT, events, events.size(), (ps, event) -> {
+            ps.setLong(1, event.getAccountId());
+            ps.setString(2, event.getSessionId());
+            ps.setInt(3, event.getSequenceNo());
+            ps.setString(4, event.getType().name());
+            ps.setTimestamp(5, Timestamp.valueOf(event.getOccurredAt()));
+            ps.setTimestamp(6, Timestamp.valueOf(event.getReceivedAt()));
+        });
+    }
+
+    @Override
+    public void addToDailyRollups(Collection<FocusDailyRollup> deltas, LocalDateTime now) {
+        Timestamp timestamp = Timestamp.valueOf(now);
+        jdbcTemplate.batchUpdate(UPSERT_ROLLUP, deltas, deltas.size(), (ps, delta) -> {
+            ps.setLong(1, delta.getAccountId());
+            ps.setDate(2, Date.valueOf(delta.getDay()));
+            ps.setLong(3, delta.getFocusSeconds());
+            ps.setInt(4, delta.getCompletedSessions());
+            ps.setTimestamp(5, timestamp);
+            ps.setTimestamp(6, timestamp);
+        });
+    }
+}
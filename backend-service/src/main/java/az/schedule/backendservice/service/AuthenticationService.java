@@ -28,7 +28,7 @@ public interface AuthenticationService {
 
     public void changePassword(ChangePasswordRequest request);
 
-    public AuthenticationResponse refreshToken(HttpServletRequest request);
+    public AuthenticationResponse refreshToken(HttpServletRequest request, HttpServletResponse response);
 
     public AuthenticationResponse outboundAuthenticate(String code);
 }
@@ -2,6 +2,7 @@ package az.schedule.backendservice.service;
 
 import org.springframework.stereotype.Service;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -21,8 +22,14 @@ public interface BaseRedisService {
 
     boolean exists(String key);
 
+    Long increment(String key, Long expire, TimeUnit timeUnit);
+
     Object get(String key);
 
+    List<Object> multiGet(Collection<String> keys);
+
+    List<Map<String, Object>> hashGetAll(List<String> keys);
+
     Map<String, Object> getField(String key);
 
     Object hashGet(String key, String field);
@@ -33,6 +40,8 @@ public interface BaseRedisService {
 
     void delete(String key);
 
+    void deleteAll(Collection<String> keys);
+
     void delete(String key, String field);
 
     void delete(String key, List<String> fields);
@@ -4,6 +4,7 @@ import az.schedule.backendservice.dto.FocusModeSettingsDTO;
 import az.schedule.backendservice.dto.request.focusmode.FocusModeSettingsRequest;
 import az.schedule.backendservice.entity.FocusModeSettings;
 import az.schedule.backendservice.repository.FocusModeSettingsRepository;
+import az.schedule.backendservice.service.impl.FocusModeSettingsCache;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -15,13 +16,20 @@ import java.util.ArrayList;
 public class FocusModeService {
     
     private final FocusModeSettingsRepository focusModeSettingsRepository;
+    private final FocusModeSettingsCache focusModeSettingsCache;
     
-    @Transactional(readOnly = true)
     public FocusModeSettingsDTO getSettings(Long accountId) {
-        FocusModeSettings settings = focusModeSettingsRepository.findByAccountId(accountId)
-                .orElseGet(() -> createDefaultSettings(accountId));
-        
-        return mapToDTO(settings);
+        return getCachedSettings(accountId).settings();
+    }
+    
+    /**
+     * Settings plus their ETag, served from {@link FocusModeSettingsCache}. Not transactional, so a
+     * cache hit does not borrow a connection; a miss is a single query fetching the blocked websites
+     * with the settings.
+     */
+    public FocusModeSettingsCache.CachedSettings getCachedSettings(Long accountId) {
+        return focusModeSettingsCache.get(accountId, id -> mapToDTO(focusModeSettingsRepository.findByAccountId(id)
+                .orElseGet(() -> createDefaultSettings(id))));
     }
     
     @Transactional
@@ -39,6 +47,7 @@ public class FocusModeService {
         settings.setPomodoroSessionsBeforeLongBreak(request.getPomodoroSessionsBeforeLongBreak() != null ? request.getPomodoroSessionsBeforeLongBreak() : 4);
         
         FocusModeSettings savedSettings = focusModeSettingsRepository.save(settings);
+        focusModeSettingsCache.evict(accountId);
         return mapToDTO(savedSettings);
     }
     
@@ -59,7 +68,7 @@ public class FocusModeService {
                 .id(settings.getId())
                 .accountId(settings.getAccountId())
                 .isEnabled(settings.getIsEnabled())
-                .blockedWebsites(settings.getBlockedWebsites())
+                .blockedWebsites(new ArrayList<>(settings.getBlockedWebsites()))
                 .pomodoroWorkMinutes(settings.getPomodoroWorkMinutes())
                 .pomodoroBreakMinutes(settings.getPomodoroBreakMinutes())
                 .pomodoroLongBreakMinutes(settings.getPomodoroLongBreakMinutes())
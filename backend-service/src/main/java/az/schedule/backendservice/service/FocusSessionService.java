@@ -0,0 +1,16 @@
+package az.schedule.backendservice.service;
+
+import az.schedule.backendservice.dto.request.focussession.FocusSessionEventBatchRequest;
+import az.schedule.backendservice.dto.response.FocusDailyRollupResponse;
+import az.schedule.backendservice.dto.response.FocusSessionIngestResponse;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Service
+public interface FocusSessionService {
+    FocusSessionIngestResponse ingestEvents(FocusSessionEventBatchRequest request, Long accountId);
+
+    List<FocusDailyRollupResponse> getDailyFocus(Long accountId, LocalDate from, LocalDate to);
+}
@@ -3,5 +3,15 @@ package az.schedule.backendservice.service;
 import az.schedule.backendservice.dto.request.SepayWebhookRequest;
 
 public interface PaymentService {
-    void processSepayWebhook(SepayWebhookRequest request);
+    /**
+     * Stores an incoming Sepay transfer for processing; returns false for outgoing transfers and
+     * transactions already stored.
+     */
+    boolean acceptSepayWebhook(SepayWebhookRequest request);
+
+    /**
+     * Processes up to {@code batchSize} stored transfers and returns how many were processed. Each
+     * transfer ends as SUCCESS or FAILED_*, even when another one in the batch fails.
+     */
+    int processPendingPayments(int batchSize);
 }
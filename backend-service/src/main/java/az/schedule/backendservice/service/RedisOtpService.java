@@ -0,0 +1,14 @@
+package az.schedule.backendservice.service;
+
+import org.springframework.stereotype.Service;
+
+@Service
+public interface RedisOtpService {
+    boolean tryAcquireSend(Long accountId);
+
+    void saveOtp(String username, String otp);
+
+    boolean verifyOtp(String username, String otp);
+
+    void deleteOtp(String username);
+}
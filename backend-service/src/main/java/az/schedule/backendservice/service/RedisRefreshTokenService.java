@@ -2,15 +2,16 @@ package az.schedule.backendservice.service;
 
 import org.springframework.stereotype.Service;
 
+import java.util.Collection;
 import java.util.concurrent.TimeUnit;
 
 @Service
 public interface RedisRefreshTokenService {
-    public boolean existsByTokenId(String key);
+    public void storeToken(Long accountId, String tokenId, long expire, TimeUnit timeUnit);
 
-    public void setToken(String key, String value, Long expire, TimeUnit timeUnit);
+    public boolean consumeToken(Long accountId, String tokenId);
 
-    public void deleteToken(String key);
+    public void revokeToken(Long accountId, String tokenId);
 
-    public String getToken(String key);
+    public void revokeAll(Collection<Long> accountIds);
 }
@@ -5,6 +5,7 @@ import az.schedule.backendservice.dto.request.task.AdvancedTaskFilterRequest;
 import az.schedule.backendservice.dto.request.task.BulkTaskRequest;
 import az.schedule.backendservice.dto.request.task.TaskRequest;
 import az.schedule.backendservice.dto.response.BulkOperationResponse;
+import az.schedule.backendservice.dto.response.CalendarTaskResponse;
 import az.schedule.backendservice.dto.response.PageResponse;
 import az.schedule.backendservice.dto.response.TaskStatisticsResponse;
 import az.schedule.backendservice.enums.Priority;
@@ -19,6 +20,9 @@ import java.util.List;
 public interface TaskService {
     TaskDTO createTask(TaskRequest request, Long accountId);
     
+    // Creates all tasks in one transaction; account and categories are resolved once
+    List<TaskDTO> createTasks(List<TaskRequest> requests, Long accountId);
+    
     TaskDTO updateTask(Long id, TaskRequest request, Long accountId);
     
     void deleteTask(Long id, Long accountId);
@@ -61,4 +65,7 @@ public interface TaskService {
     List<TaskDTO> getTasksByWeek(Long accountId, LocalDateTime weekStart);
     
     List<TaskDTO> getTasksByMonth(Long accountId, int year, int month);
+    
+    // Calendar view: compact tasks overlapping [start, end)
+    List<CalendarTaskResponse> getCalendarTasks(Long accountId, LocalDateTime start, LocalDateTime end);
 }
@@ -5,18 +5,27 @@ import az.schedule.backendservice.dto.response.ScheduleSuggestionResponse;
 import az.schedule.backendservice.dto.response.ScheduleSuggestionResponse.ScheduleAnalysis;
 import az.schedule.backendservice.dto.response.ScheduleSuggestionResponse.TaskSuggestion;
 import az.schedule.backendservice.enums.Priority;
+import az.schedule.backendservice.enums.ScheduleText;
 import az.schedule.backendservice.enums.TaskStatus;
 import az.schedule.backendservice.service.AIScheduleService;
 import az.schedule.backendservice.service.TaskService;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
 import java.time.DayOfWeek;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.time.YearMonth;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.stream.Collectors;
 
 @Service
@@ -24,31 +33,93 @@ import java.util.stream.Collectors;
 @Slf4j
 public class AIScheduleServiceImpl implements AIScheduleService {
     private final TaskService taskService;
+    private final ScheduleOptimizer scheduleOptimizer;
+    private final ScheduleSuggestionCache scheduleSuggestionCache;
+    private final ScheduleTextCatalog scheduleTextCatalog;
+    
+    @Value("${app.schedule.suggestions.refresh-concurrency:4}")
+    private int refreshConcurrency;
+    
+    private ExecutorService refreshExecutor;
     
     private static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("HH:mm");
     private static final DateTimeFormatter DATETIME_FORMATTER = DateTimeFormatter.ofPattern("dd MMM yyyy, HH:mm");
     
-    // Productive hours based on research
-    private static final LocalTime MORNING_START = LocalTime.of(8, 0);
-    private static final LocalTime MORNING_END = LocalTime.of(12, 0);
-    private static final LocalTime AFTERNOON_START = LocalTime.of(14, 0);
-    private static final LocalTime AFTERNOON_END = LocalTime.of(17, 0);
+    // Late in the month the remaining days are too few to place anything, so look at least this far ahead
+    private static final int MIN_HORIZON_DAYS = 7;
+    
+    @PostConstruct
+    void init() {
+        // A fixed number of workers bounds how many accounts are recomputed, and load the database, at once
+        refreshExecutor = Executors.newFixedThreadPool(refreshConcurrency,
+                Thread.ofVirtual().name("schedule-suggestions-", 0).factory());
+    }
+    
+    @PreDestroy
+    void shutdown() {
+        refreshExecutor.shutdownNow();
+    }
     
     @Override
     public ScheduleSuggestionResponse generateScheduleSuggestions(Long accountId, int year, int month, String language) {
-        log.info("Generating schedule suggestions for account {} - {}/{} in {} language", accountId, year, month, language);
+        ScheduleSuggestionCache.Key key = new ScheduleSuggestionCache.Key(accountId, year, month,
+                scheduleTextCatalog.resolveLanguage(language));
+        return scheduleSuggestionCache.get(key, this::computeScheduleSuggestions);
+    }
+    
+    /**
+     * Recomputes the cached suggestions of accounts whose tasks changed, and of entries past their
+     * maximum age, off the request path. The next run starts only after this one finishes.
+     */
+    @Scheduled(fixedDelayString = "${app.schedule.suggestions.refresh-ms:5000}",
+            initialDelayString = "${app.schedule.suggestions.refresh-ms:5000}")
+    public void refreshStaleSuggestions() {
+        List<ScheduleSuggestionCache.Key> stale = scheduleSuggestionCache.takeStale();
+        if (stale.isEmpty()) {
+            return;
+        }
+        List<Callable<Void>> refreshes = new ArrayList<>(stale.size());
+        for (ScheduleSuggestionCache.Key key : stale) {
+            refreshes.add(() -> {
+                try {
+                    scheduleSuggestionCache.put(key, computeScheduleSuggestions(key));
+                } catch (RuntimeException e) {
+                    // Keep serving the previous suggestions and retry on the next run
+                    log.warn("Could not refresh schedule suggestions for account {}: {}", key.accountId(), e.getMessage());
+                    scheduleSuggestionCache.markDirty(key.accountId());
+                }
+                return null;
+            });
+        }
+        try {
+            refreshExecutor.invokeAll(refreshes);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        log.debug("Refreshed {} schedule suggestion entries", stale.size());
+    }
+    
+    private ScheduleSuggestionResponse computeScheduleSuggestions(ScheduleSuggestionCache.Key key) {
+        Long accountId = key.accountId();
+        int year = key.year();
+        int month = key.month();
+        String language = key.language();
+        log.debug("Generating schedule suggestions for account {} - {}/{} in {} language", accountId, year, month, language);
+        ScheduleTextCatalog.Texts texts = scheduleTextCatalog.texts(language);
+        // Every text of this run is rendered into the same builder
+        StringBuilder scratch = new StringBuilder(1024);
         
         // Get all tasks for the month
         List<TaskDTO> monthTasks = taskService.getTasksByMonth(accountId, year, month);
         
         // Analyze tasks
-        ScheduleAnalysis analysis = analyzeSchedule(monthTasks, language);
+        ScheduleAnalysis analysis = analyzeSchedule(monthTasks, texts, scratch);
         
         // Generate suggestions
-        List<TaskSuggestion> suggestions = generateSuggestionsFromTasks(monthTasks, language);
+        List<TaskSuggestion> suggestions = generateSuggestionsFromTasks(monthTasks, year, month, texts, scratch);
         
         // Generate summary
-        String summary = generateSummary(monthTasks, suggestions, language);
+        String summary = generateSummary(monthTasks, suggestions, texts, scratch);
         
         return ScheduleSuggestionResponse.builder()
                 .summary(summary)
@@ -57,7 +128,7 @@ public class AIScheduleServiceImpl implements AIScheduleService {
                 .build();
     }
     
-    private ScheduleAnalysis analyzeSchedule(List<TaskDTO> tasks, String language) {
+    private ScheduleAnalysis analyzeSchedule(List<TaskDTO> tasks, ScheduleTextCatalog.Texts texts, StringBuilder scratch) {
         int totalTasks = tasks.size();
         LocalDateTime now = LocalDateTime.now();
         
@@ -72,10 +143,10 @@ public class AIScheduleServiceImpl implements AIScheduleService {
                 .count();
         
         // Analyze productivity pattern
-        String productivityPattern = analyzeProductivityPattern(tasks, language);
+        String productivityPattern = analyzeProductivityPattern(tasks, texts, scratch);
         
         // Generate recommendations
-        List<String> recommendations = generateRecommendations(tasks, overdueTasks, highPriorityTasks, language);
+        List<String> recommendations = generateRecommendations(tasks, overdueTasks, highPriorityTasks, texts);
         
         return ScheduleAnalysis.builder()
                 .totalTasks(totalTasks)
@@ -86,20 +157,20 @@ public class AIScheduleServiceImpl implements AIScheduleService {
                 .build();
     }
     
-    private String analyzeProductivityPattern(List<TaskDTO> tasks, String language) {
-        Map<String, Long> timeSlotCounts = new HashMap<>();
-        Map<String, Long> completedBySlot = new HashMap<>();
+    private String analyzeProductivityPattern(List<TaskDTO> tasks, ScheduleTextCatalog.Texts texts, StringBuilder scratch) {
+        Map<ScheduleText, Long> timeSlotCounts = new EnumMap<>(ScheduleText.class);
+        Map<ScheduleText, Long> completedBySlot = new EnumMap<>(ScheduleText.class);
         
         for (TaskDTO task : tasks) {
             if (task.getStartTime() != null) {
                 LocalTime time = task.getStartTime().toLocalTime();
-                String slot;
+                ScheduleText slot;
                 if (time.isBefore(LocalTime.of(12, 0))) {
-                    slot = "morning";
+                    slot = ScheduleText.SLOT_MORNING;
                 } else if (time.isBefore(LocalTime.of(18, 0))) {
-                    slot = "afternoon";
+                    slot = ScheduleText.SLOT_AFTERNOON;
                 } else {
-                    slot = "evening";
+                    slot = ScheduleText.SLOT_EVENING;
                 }
                 
                 timeSlotCounts.merge(slot, 1L, Long::sum);
@@ -111,120 +182,52 @@ public class AIScheduleServiceImpl implements AIScheduleService {
         }
         
         if (timeSlotCounts.isEmpty()) {
-            return isVietnamese(language) 
-                ? "📊 Chưa đủ dữ liệu để phân tích mô hình năng suất. Hãy bắt đầu lên lịch các công việc để AI có thể đưa ra phân tích chi tiết hơn." 
-                : "📊 Insufficient data to analyze productivity pattern. Start scheduling tasks for detailed AI analysis.";
+            return texts.render(ScheduleText.PATTERN_INSUFFICIENT_DATA);
         }
         
-        String dominantSlot = timeSlotCounts.entrySet().stream()
-                .max(Map.Entry.comparingByValue())
-                .map(Map.Entry::getKey)
-                .orElse("balanced");
+        ScheduleText dominantSlot = Collections.max(timeSlotCounts.entrySet(), Map.Entry.comparingByValue()).getKey();
         
         long totalScheduled = timeSlotCounts.values().stream().mapToLong(Long::longValue).sum();
         long totalCompleted = completedBySlot.values().stream().mapToLong(Long::longValue).sum();
         
-        StringBuilder pattern = new StringBuilder();
-        boolean isVi = isVietnamese(language);
+        scratch.setLength(0);
+        texts.appendTo(scratch, ScheduleText.PATTERN_DOMINANT,
+                Math.round((timeSlotCounts.getOrDefault(dominantSlot, 0L) * 100.0) / totalScheduled),
+                texts.template(dominantSlot).render());
         
-        if (isVi) {
-            pattern.append(String.format("📈 Phân tích mô hình làm việc của bạn: Bạn có xu hướng lên lịch %d%% công việc vào %s. ", 
-                    Math.round((timeSlotCounts.getOrDefault(dominantSlot, 0L) * 100.0) / totalScheduled),
-                    translateTimeSlot(dominantSlot, language)));
+        // Add completion rate analysis
+        if (totalCompleted > 0) {
+            ScheduleText mostProductiveSlot = Collections.max(completedBySlot.entrySet(), Map.Entry.comparingByValue()).getKey();
             
-            // Add completion rate analysis
-            if (totalCompleted > 0) {
-                String mostProductiveSlot = completedBySlot.entrySet().stream()
-                        .max(Map.Entry.comparingByValue())
-                        .map(Map.Entry::getKey)
-                        .orElse(dominantSlot);
-                
-                pattern.append(String.format("Bạn hoàn thành nhiều công việc nhất vào %s (%d%% tổng số công việc hoàn thành). ",
-                        translateTimeSlot(mostProductiveSlot, language),
-                        Math.round((completedBySlot.getOrDefault(mostProductiveSlot, 0L) * 100.0) / totalCompleted)));
-                
-                // Provide scientific insight
-                if (mostProductiveSlot.equals("morning")) {
-                    pattern.append("✨ Tuyệt vời! Bạn đang tận dụng 'golden hours' khi cortisol và năng lượng đạt đỉnh cao. ");
-                } else if (mostProductiveSlot.equals("evening")) {
-                    pattern.append("🌙 Bạn có vẻ là người 'night owl'. Tuy nhiên, nghiên cứu cho thấy việc dời công việc quan trọng sang buổi sáng có thể tăng hiệu suất 25%. ");
-                } else {
-                    pattern.append("☀️ Bạn làm việc hiệu quả vào buổi chiều. Hãy cân nhắc xử lý công việc phức tạp vào buổi sáng để tối ưu hơn. ");
-                }
-            }
-        } else {
-            pattern.append(String.format("📈 Your work pattern analysis: You tend to schedule %d%% of tasks in the %s. ", 
-                    Math.round((timeSlotCounts.getOrDefault(dominantSlot, 0L) * 100.0) / totalScheduled),
-                    dominantSlot));
+            scratch.append(' ');
+            texts.appendTo(scratch, ScheduleText.PATTERN_COMPLETED,
+                    texts.template(mostProductiveSlot).render(),
+                    Math.round((completedBySlot.getOrDefault(mostProductiveSlot, 0L) * 100.0) / totalCompleted));
             
-            // Add completion rate analysis
-            if (totalCompleted > 0) {
-                String mostProductiveSlot = completedBySlot.entrySet().stream()
-                        .max(Map.Entry.comparingByValue())
-                        .map(Map.Entry::getKey)
-                        .orElse(dominantSlot);
-                
-                pattern.append(String.format("You complete most tasks in the %s (%d%% of total completed tasks). ",
-                        mostProductiveSlot,
-                        Math.round((completedBySlot.getOrDefault(mostProductiveSlot, 0L) * 100.0) / totalCompleted)));
-                
-                // Provide scientific insight
-                if (mostProductiveSlot.equals("morning")) {
-                    pattern.append("✨ Excellent! You're leveraging 'golden hours' when cortisol and energy peak. ");
-                } else if (mostProductiveSlot.equals("evening")) {
-                    pattern.append("🌙 You appear to be a 'night owl'. However, research shows moving important tasks to morning can boost efficiency by 25%. ");
-                } else {
-                    pattern.append("☀️ You work effectively in the afternoon. Consider tackling complex tasks in the morning for better optimization. ");
-                }
-            }
+            // Provide scientific insight
+            scratch.append(' ');
+            texts.appendTo(scratch, switch (mostProductiveSlot) {
+                case SLOT_MORNING -> ScheduleText.PATTERN_INSIGHT_MORNING;
+                case SLOT_EVENING -> ScheduleText.PATTERN_INSIGHT_EVENING;
+                default -> ScheduleText.PATTERN_INSIGHT_AFTERNOON;
+            });
         }
         
-        return pattern.toString();
+        return scratch.toString();
     }
     
-    private String translateTimeSlot(String slot, String language) {
-        if (!isVietnamese(language)) {
-            return slot;
-        }
-        
-        return switch (slot) {
-            case "morning" -> "buổi sáng";
-            case "afternoon" -> "buổi chiều";
-            case "evening" -> "buổi tối";
-            default -> "cân bằng";
-        };
-    }
-    
-    private List<String> generateRecommendations(List<TaskDTO> tasks, int overdueTasks, int highPriorityTasks, String language) {
+    private List<String> generateRecommendations(List<TaskDTO> tasks, int overdueTasks, int highPriorityTasks,
+                                                 ScheduleTextCatalog.Texts texts) {
         List<String> recommendations = new ArrayList<>();
-        boolean isVi = isVietnamese(language);
         
         // 1. Overdue tasks - immediate action needed
         if (overdueTasks > 0) {
-            if (isVi) {
-                recommendations.add(String.format("🚨 Ưu tiên cao nhất: Xử lý %d công việc quá hạn ngay lập tức. " +
-                        "Nghiên cứu cho thấy việc giải quyết công việc quá hạn trong vòng 24 giờ giúp giảm 60%% stress " +
-                        "và tránh hiệu ứng domino ảnh hưởng đến các công việc khác.", overdueTasks));
-            } else {
-                recommendations.add(String.format("🚨 Top Priority: Address %d overdue task(s) immediately. " +
-                        "Research shows resolving overdue tasks within 24 hours reduces stress by 60%% " +
-                        "and prevents domino effects on other tasks.", overdueTasks));
-            }
+            recommendations.add(texts.render(ScheduleText.RECOMMENDATION_OVERDUE, overdueTasks));
         }
         
         // 2. High priority task management
         if (highPriorityTasks > 3) {
-            if (isVi) {
-                recommendations.add(String.format("⚡ Quản lý công việc ưu tiên: Bạn có %d công việc ưu tiên cao. " +
-                        "Theo phương pháp 'Eat the Frog' của Brian Tracy, hãy chia nhỏ thành các nhiệm vụ 25-45 phút " +
-                        "và xử lý 2-3 công việc quan trọng nhất vào 'golden hours' (8-11h sáng) khi não bộ hoạt động tối ưu nhất.", 
-                        highPriorityTasks));
-            } else {
-                recommendations.add(String.format("⚡ Priority Management: You have %d high-priority tasks. " +
-                        "Following Brian Tracy's 'Eat the Frog' method, break them into 25-45 minute chunks " +
-                        "and tackle 2-3 most important ones during 'golden hours' (8-11 AM) when brain function peaks.", 
-                        highPriorityTasks));
-            }
+            recommendations.add(texts.render(ScheduleText.RECOMMENDATION_HIGH_PRIORITY, highPriorityTasks));
         }
         
         // 3. Unscheduled tasks
@@ -233,17 +236,7 @@ public class AIScheduleServiceImpl implements AIScheduleService {
                 .count();
         
         if (unscheduledTasks > 0) {
-            if (isVi) {
-                recommendations.add(String.format("📅 Lên lịch cụ thể: %d công việc chưa có thời gian cụ thể. " +
-                        "Nghiên cứu từ Harvard Business Review chỉ ra rằng việc 'time-blocking' " +
-                        "(gán khung giờ cụ thể cho công việc) tăng tỷ lệ hoàn thành lên 78%% và giảm procrastination 65%%.", 
-                        unscheduledTasks));
-            } else {
-                recommendations.add(String.format("📅 Specific Scheduling: %d task(s) lack specific time slots. " +
-                        "Harvard Business Review research shows that 'time-blocking' " +
-                        "(assigning specific time slots) increases completion rate by 78%% and reduces procrastination by 65%%.", 
-                        unscheduledTasks));
-            }
+            recommendations.add(texts.render(ScheduleText.RECOMMENDATION_UNSCHEDULED, unscheduledTasks));
         }
         
         // 4. Task clustering analysis
@@ -258,20 +251,8 @@ public class AIScheduleServiceImpl implements AIScheduleService {
                 .max(Map.Entry.comparingByValue());
         
         if (busiestDay.isPresent() && busiestDay.get().getValue() > 5) {
-            String dayName = translateDayOfWeek(busiestDay.get().getKey(), language);
-            if (isVi) {
-                recommendations.add(String.format("⚖️ Cân bằng khối lượng công việc: %s có quá nhiều công việc (%d tasks). " +
-                        "Nghiên cứu về cognitive load cho thấy việc phân bổ đều công việc trong tuần " +
-                        "giúp duy trì năng suất ổn định và giảm 45%% nguy cơ burnout. " +
-                        "Hãy cân nhắc dời 2-3 công việc ít khẩn cấp sang các ngày khác.", 
-                        dayName, busiestDay.get().getValue()));
-            } else {
-                recommendations.add(String.format("⚖️ Workload Balance: %s is overloaded with %d tasks. " +
-                        "Cognitive load research shows that evenly distributing tasks throughout the week " +
-                        "maintains steady productivity and reduces burnout risk by 45%%. " +
-                        "Consider moving 2-3 less urgent tasks to other days.", 
-                        dayName, busiestDay.get().getValue()));
-            }
+            String dayName = texts.render(dayText(busiestDay.get().getKey()));
+            recommendations.add(texts.render(ScheduleText.RECOMMENDATION_BUSIEST_DAY, dayName, busiestDay.get().getValue()));
         }
         
         // 5. Morning productivity optimization
@@ -288,34 +269,13 @@ public class AIScheduleServiceImpl implements AIScheduleService {
                 .count();
         
         if (totalScheduledTasks > 0 && morningTasks < totalScheduledTasks * 0.3) {
-            if (isVi) {
-                recommendations.add("🌅 Tối ưu hóa buổi sáng: Chỉ " + Math.round((morningTasks * 100.0) / totalScheduledTasks) + 
-                        "% công việc được lên lịch vào buổi sáng. " +
-                        "Nghiên cứu từ University of Toronto cho thấy 'morning hours' (8-11h) là thời điểm vàng " +
-                        "với khả năng tập trung cao hơn 50% và giải quyết vấn đề phức tạp hiệu quả hơn 40%. " +
-                        "Hãy cân nhắc dời các công việc quan trọng vào khung giờ này.");
-            } else {
-                recommendations.add("🌅 Morning Optimization: Only " + Math.round((morningTasks * 100.0) / totalScheduledTasks) + 
-                        "% of tasks are scheduled in the morning. " +
-                        "University of Toronto research shows 'morning hours' (8-11 AM) are golden time " +
-                        "with 50% higher focus and 40% better complex problem-solving. " +
-                        "Consider moving important tasks to this window.");
-            }
+            recommendations.add(texts.render(ScheduleText.RECOMMENDATION_MORNING,
+                    Math.round((morningTasks * 100.0) / totalScheduledTasks)));
         }
         
         // 6. Break time reminder
         if (totalScheduledTasks > 8) {
-            if (isVi) {
-                recommendations.add("☕ Nhắc nhở về nghỉ ngơi: Với " + totalScheduledTasks + " công việc được lên lịch, " +
-                        "đừng quên áp dụng kỹ thuật Pomodoro (25 phút làm việc + 5 phút nghỉ). " +
-                        "Nghiên cứu từ DeskTime cho thấy nhịp làm việc 52/17 (52 phút làm + 17 phút nghỉ) " +
-                        "giúp duy trì năng suất cao nhất trong ngày và tăng sự sáng tạo lên 30%.");
-            } else {
-                recommendations.add("☕ Break Reminder: With " + totalScheduledTasks + " scheduled tasks, " +
-                        "don't forget to apply Pomodoro technique (25 min work + 5 min break). " +
-                        "DeskTime research shows 52/17 rhythm (52 min work + 17 min break) " +
-                        "maintains peak daily productivity and increases creativity by 30%.");
-            }
+            recommendations.add(texts.render(ScheduleText.RECOMMENDATION_BREAKS, totalScheduledTasks));
         }
         
         // 7. Weekend work-life balance
@@ -328,61 +288,63 @@ public class AIScheduleServiceImpl implements AIScheduleService {
                 .count();
         
         if (weekendTasks > 3) {
-            if (isVi) {
-                recommendations.add("🏖️ Cân bằng cuộc sống: Bạn có " + weekendTasks + " công việc vào cuối tuần. " +
-                        "Nghiên cứu về work-life balance từ WHO chỉ ra rằng nghỉ ngơi đầy đủ cuối tuần " +
-                        "giúp tăng năng suất tuần sau lên 35% và giảm 50% nguy cơ kiệt sức. " +
-                        "Trừ khi khẩn cấp, hãy cân nhắc dời sang tuần làm việc để bảo vệ sức khỏe tinh thần.");
-            } else {
-                recommendations.add("🏖️ Life Balance: You have " + weekendTasks + " tasks scheduled on weekends. " +
-                        "WHO work-life balance research indicates that adequate weekend rest " +
-                        "increases next week's productivity by 35% and reduces burnout risk by 50%. " +
-                        "Unless urgent, consider moving to weekdays to protect mental health.");
-            }
+            recommendations.add(texts.render(ScheduleText.RECOMMENDATION_WEEKEND, weekendTasks));
         }
         
         // 8. Perfect schedule encouragement
         if (recommendations.isEmpty()) {
-            if (isVi) {
-                recommendations.add("✨ Lịch trình hoàn hảo: Lịch trình của bạn đã được tối ưu hóa rất tốt! " +
-                        "Bạn đang áp dụng đúng các nguyên tắc khoa học về quản lý thời gian. " +
-                        "Hãy tiếp tục duy trì và theo dõi năng suất để điều chỉnh khi cần thiết.");
-            } else {
-                recommendations.add("✨ Perfect Schedule: Your schedule is well-optimized! " +
-                        "You're applying time management science principles correctly. " +
-                        "Keep maintaining this and monitor productivity for adjustments when needed.");
-            }
+            recommendations.add(texts.render(ScheduleText.RECOMMENDATION_PERFECT));
         }
         
         return recommendations;
     }
     
-    private String translateDayOfWeek(DayOfWeek day, String language) {
-        if (!isVietnamese(language)) {
-            return day.toString();
-        }
-        
+    private static ScheduleText dayText(DayOfWeek day) {
         return switch (day) {
-            case MONDAY -> "Thứ Hai";
-            case TUESDAY -> "Thứ Ba";
-            case WEDNESDAY -> "Thứ Tư";
-            case THURSDAY -> "Thứ Năm";
-            case FRIDAY -> "Thứ Sáu";
-            case SATURDAY -> "Thứ Bảy";
-            case SUNDAY -> "Chủ Nhật";
+            case MONDAY -> ScheduleText.DAY_MONDAY;
+            case TUESDAY -> ScheduleText.DAY_TUESDAY;
+            case WEDNESDAY -> ScheduleText.DAY_WEDNESDAY;
+            case THURSDAY -> ScheduleText.DAY_THURSDAY;
+            case FRIDAY -> ScheduleText.DAY_FRIDAY;
+            case SATURDAY -> ScheduleText.DAY_SATURDAY;
+            case SUNDAY -> ScheduleText.DAY_SUNDAY;
         };
     }
     
-    private List<TaskSuggestion> generateSuggestionsFromTasks(List<TaskDTO> tasks, String language) {
-        List<TaskSuggestion> suggestions = new ArrayList<>();
+    /**
+     * Packs every open task into the free working time from now to the end of the month in a single
+     * {@link ScheduleOptimizer} run, so suggested slots never overlap each other or a task that keeps
+     * its current slot.
+     */
+    private List<TaskSuggestion> generateSuggestionsFromTasks(List<TaskDTO> tasks, int year, int month,
+                                                              ScheduleTextCatalog.Texts texts, StringBuilder scratch) {
         LocalDateTime now = LocalDateTime.now();
         
+        Map<Long, Integer> scores = new HashMap<>();
+        List<TaskDTO> openTasks = new ArrayList<>();
+        List<ScheduleOptimizer.Job> jobs = new ArrayList<>();
         for (TaskDTO task : tasks) {
             if (task.getStatus() == TaskStatus.DONE) {
                 continue; // Skip completed tasks
             }
-            
-            TaskSuggestion suggestion = analyzeSingleTask(task, now, language);
+            int score = calculatePriorityScore(task, now);
+            scores.put(task.getId(), score);
+            openTasks.add(task);
+            jobs.add(toJob(task, score, now));
+        }
+        
+        YearMonth yearMonth = YearMonth.of(year, month);
+        LocalDateTime from = now.isAfter(yearMonth.atDay(1).atStartOfDay()) ? now : yearMonth.atDay(1).atStartOfDay();
+        LocalDateTime to = yearMonth.plusMonths(1).atDay(1).atStartOfDay();
+        if (to.isBefore(from.plusDays(MIN_HORIZON_DAYS))) {
+            to = from.plusDays(MIN_HORIZON_DAYS);
+        }
+        ScheduleOptimizer.Plan plan = scheduleOptimizer.optimize(jobs, from, to);
+        
+        List<TaskSuggestion> suggestions = new ArrayList<>();
+        for (TaskDTO task : openTasks) {
+            TaskSuggestion suggestion = analyzeSingleTask(task, scores.get(task.getId()),
+                    plan.slots().get(task.getId()), now, texts, scratch);
             if (suggestion != null) {
                 suggestions.add(suggestion);
             }
@@ -395,22 +357,20 @@ public class AIScheduleServiceImpl implements AIScheduleService {
         return suggestions.stream().limit(10).collect(Collectors.toList());
     }
     
-    private TaskSuggestion analyzeSingleTask(TaskDTO task, LocalDateTime now, String language) {
-        Integer priorityScore = calculatePriorityScore(task, now);
-        
-        // Only suggest if score is significant
-        if (priorityScore < 30) {
+    private TaskSuggestion analyzeSingleTask(TaskDTO task, Integer priorityScore, ScheduleOptimizer.Slot slot,
+                                             LocalDateTime now, ScheduleTextCatalog.Texts texts, StringBuilder scratch) {
+        // Only suggest if score is significant and the task fits in the horizon
+        if (priorityScore < 30 || slot == null) {
             return null;
         }
         
-        String currentSchedule = formatCurrentSchedule(task, language);
+        String currentSchedule = formatCurrentSchedule(task, texts, scratch);
         
-        // Generate optimal schedule with structured datetime
-        LocalDateTime suggestedStart = generateOptimalStartTime(task, now);
-        LocalDateTime suggestedEnd = generateOptimalEndTime(task, suggestedStart);
-        String suggestedSchedule = formatSuggestedSchedule(suggestedStart, suggestedEnd, task, now, language);
+        LocalDateTime suggestedStart = slot.start();
+        LocalDateTime suggestedEnd = slot.end();
+        String suggestedSchedule = formatSuggestedSchedule(suggestedStart, suggestedEnd, task, now, texts, scratch);
         
-        String reason = generateReason(task, now, language);
+        String reason = generateReason(task, now, texts, scratch);
         
         return TaskSuggestion.builder()
                 .taskId(task.getId())
@@ -424,6 +384,31 @@ public class AIScheduleServiceImpl implements AIScheduleService {
                 .build();
     }
     
+    /**
+     * Tasks scheduled at a reasonable hour that are not overdue keep their slot unless it collides
+     * with a higher-scoring one; the rest are placed from now, or from their own day when they were
+     * only scheduled too early or too late. A due date without a start time is the deadline.
+     */
+    private ScheduleOptimizer.Job toJob(TaskDTO task, int score, LocalDateTime now) {
+        int duration = estimateDurationMinutes(task);
+        boolean overdue = task.getEndTime() != null && task.getEndTime().isBefore(now);
+        
+        LocalDateTime pinnedStart = null;
+        LocalDateTime release = now;
+        if (task.getStartTime() != null && !overdue) {
+            LocalTime time = task.getStartTime().toLocalTime();
+            boolean reasonableHour = !time.isBefore(LocalTime.of(7, 0)) && !time.isAfter(LocalTime.of(21, 0));
+            if (reasonableHour && task.getStartTime().plusMinutes(duration).isAfter(now)) {
+                pinnedStart = task.getStartTime();
+            } else if (!reasonableHour && task.getStartTime().toLocalDate().atStartOfDay().isAfter(now)) {
+                release = task.getStartTime().toLocalDate().atStartOfDay();
+            }
+        }
+        
+        LocalDateTime deadline = task.getStartTime() == null && !overdue ? task.getEndTime() : null;
+        return new ScheduleOptimizer.Job(task.getId(), duration, score, pinnedStart, release, deadline);
+    }
+    
     private Integer calculatePriorityScore(TaskDTO task, LocalDateTime now) {
         int score = 0;
         
@@ -469,239 +454,72 @@ public class AIScheduleServiceImpl implements AIScheduleService {
         return score;
     }
     
-    private String formatCurrentSchedule(TaskDTO task, String language) {
-        boolean isVi = isVietnamese(language);
-        
+    private String formatCurrentSchedule(TaskDTO task, ScheduleTextCatalog.Texts texts, StringBuilder scratch) {
+        scratch.setLength(0);
         if (task.getStartTime() == null && task.getEndTime() == null) {
-            return isVi ? "Chưa lên lịch" : "Not scheduled";
-        }
-        
-        if (task.getStartTime() != null && task.getEndTime() != null) {
-            return String.format("%s - %s",
-                    task.getStartTime().format(DATETIME_FORMATTER),
-                    task.getEndTime().format(TIME_FORMATTER));
-        }
-        
-        if (task.getStartTime() != null) {
-            return task.getStartTime().format(DATETIME_FORMATTER);
-        }
-        
-        String dueLabel = isVi ? "Hạn chót: " : "Due: ";
-        return String.format("%s%s", dueLabel, task.getEndTime().format(DATETIME_FORMATTER));
-    }
-    
-    private LocalDateTime generateOptimalStartTime(TaskDTO task, LocalDateTime now) {
-        // If task is overdue, suggest ASAP
-        if (task.getEndTime() != null && task.getEndTime().isBefore(now)) {
-            return getNextProductiveSlot(now);
-        }
-        
-        // If unscheduled, find optimal slot
-        if (task.getStartTime() == null) {
-            if (task.getPriority() == Priority.HIGH) {
-                return getNextProductiveSlot(now);
-            } else {
-                return getNextAvailableSlot(now, task.getPriority());
-            }
-        }
-        
-        // If scheduled at non-optimal time, suggest better time
-        LocalTime currentTime = task.getStartTime().toLocalTime();
-        if (currentTime.isBefore(LocalTime.of(7, 0)) || currentTime.isAfter(LocalTime.of(21, 0))) {
-            return findOptimalTimeSlot(task.getStartTime().toLocalDate().atTime(9, 0));
+            texts.appendTo(scratch, ScheduleText.CURRENT_NOT_SCHEDULED);
+        } else if (task.getStartTime() != null && task.getEndTime() != null) {
+            texts.appendTo(scratch, ScheduleText.CURRENT_RANGE,
+                    DATETIME_FORMATTER.format(task.getStartTime()), TIME_FORMATTER.format(task.getEndTime()));
+        } else if (task.getStartTime() != null) {
+            texts.appendTo(scratch, ScheduleText.CURRENT_START, DATETIME_FORMATTER.format(task.getStartTime()));
+        } else {
+            texts.appendTo(scratch, ScheduleText.CURRENT_DUE, DATETIME_FORMATTER.format(task.getEndTime()));
         }
-        
-        return task.getStartTime();
+        return scratch.toString();
     }
     
-    private LocalDateTime generateOptimalEndTime(TaskDTO task, LocalDateTime suggestedStart) {
-        // Calculate duration from original task
-        if (task.getStartTime() != null && task.getEndTime() != null) {
-            long durationMinutes = java.time.Duration.between(task.getStartTime(), task.getEndTime()).toMinutes();
-            return suggestedStart.plusMinutes(durationMinutes);
+    private int estimateDurationMinutes(TaskDTO task) {
+        // Keep the duration of the original task
+        if (task.getStartTime() != null && task.getEndTime() != null && task.getEndTime().isAfter(task.getStartTime())) {
+            return (int) java.time.Duration.between(task.getStartTime(), task.getEndTime()).toMinutes();
         }
         
         // Default duration based on priority
-        long defaultDuration = switch (task.getPriority()) {
+        return switch (task.getPriority()) {
             case HIGH -> 120; // 2 hours for high priority
             case MEDIUM -> 90; // 1.5 hours for medium
             case LOW -> 60;   // 1 hour for low
         };
-        
-        return suggestedStart.plusMinutes(defaultDuration);
     }
     
-    private String formatSuggestedSchedule(LocalDateTime start, LocalDateTime end, TaskDTO task, LocalDateTime now, String language) {
-        boolean isVi = isVietnamese(language);
-        
+    private String formatSuggestedSchedule(LocalDateTime start, LocalDateTime end, TaskDTO task, LocalDateTime now,
+                                           ScheduleTextCatalog.Texts texts, StringBuilder scratch) {
         // If task is overdue, add urgent label
-        if (task.getEndTime() != null && task.getEndTime().isBefore(now)) {
-            String urgentLabel = isVi ? " (KHẨN CẤP)" : " (URGENT)";
-            return String.format("%s → %s%s",
-                    start.format(DATETIME_FORMATTER),
-                    end.format(TIME_FORMATTER),
-                    urgentLabel);
-        }
-        
-        return String.format("%s → %s",
-                start.format(DATETIME_FORMATTER),
-                end.format(TIME_FORMATTER));
-    }
-    
-    private String generateOptimalSchedule(TaskDTO task, LocalDateTime now, String language) {
-        LocalDateTime suggestedStart;
-        boolean isVi = isVietnamese(language);
-        
-        // If task is overdue, suggest ASAP
-        if (task.getEndTime() != null && task.getEndTime().isBefore(now)) {
-            suggestedStart = getNextProductiveSlot(now);
-            String urgentLabel = isVi ? " (KHẨN CẤP)" : " (URGENT)";
-            return String.format("%s%s", suggestedStart.format(DATETIME_FORMATTER), urgentLabel);
-        }
-        
-        // If unscheduled, find optimal slot
-        if (task.getStartTime() == null) {
-            if (task.getPriority() == Priority.HIGH) {
-                suggestedStart = getNextProductiveSlot(now);
-            } else {
-                suggestedStart = getNextAvailableSlot(now, task.getPriority());
-            }
-            return suggestedStart.format(DATETIME_FORMATTER);
-        }
-        
-        // If scheduled at non-optimal time, suggest better time
-        LocalTime currentTime = task.getStartTime().toLocalTime();
-        if (currentTime.isBefore(LocalTime.of(7, 0)) || currentTime.isAfter(LocalTime.of(21, 0))) {
-            LocalDateTime optimalTime = findOptimalTimeSlot(task.getStartTime().toLocalDate().atTime(9, 0));
-            return optimalTime.format(DATETIME_FORMATTER);
-        }
-        
-        return task.getStartTime().format(DATETIME_FORMATTER);
+        boolean overdue = task.getEndTime() != null && task.getEndTime().isBefore(now);
+        scratch.setLength(0);
+        texts.appendTo(scratch, overdue ? ScheduleText.SUGGESTED_URGENT : ScheduleText.SUGGESTED,
+                DATETIME_FORMATTER.format(start), TIME_FORMATTER.format(end));
+        return scratch.toString();
     }
     
-    private LocalDateTime getNextProductiveSlot(LocalDateTime from) {
-        LocalDateTime next = from.plusHours(1);
-        LocalTime time = next.toLocalTime();
-        
-        // If outside productive hours, move to next morning
-        if (time.isAfter(LocalTime.of(18, 0)) || time.isBefore(LocalTime.of(8, 0))) {
-            next = next.toLocalDate().plusDays(1).atTime(9, 0);
-        }
-        
-        // Skip weekends for work tasks
-        while (next.getDayOfWeek() == DayOfWeek.SATURDAY || next.getDayOfWeek() == DayOfWeek.SUNDAY) {
-            next = next.plusDays(1);
-        }
-        
-        return next;
-    }
-    
-    private LocalDateTime getNextAvailableSlot(LocalDateTime from, Priority priority) {
-        LocalDateTime slot = from.plusHours(2);
-        
-        // Medium priority: afternoon slots
-        if (priority == Priority.MEDIUM) {
-            if (slot.toLocalTime().isBefore(AFTERNOON_START)) {
-                slot = slot.toLocalDate().atTime(AFTERNOON_START);
-            }
-        }
-        
-        // Low priority: any available time
-        return slot;
-    }
-    
-    private LocalDateTime findOptimalTimeSlot(LocalDateTime baseTime) {
-        // Move to morning productive hours
-        if (baseTime.toLocalTime().isBefore(MORNING_START)) {
-            return baseTime.toLocalDate().atTime(MORNING_START);
-        }
-        
-        // Or afternoon productive hours
-        if (baseTime.toLocalTime().isAfter(LocalTime.of(17, 0))) {
-            return baseTime.toLocalDate().plusDays(1).atTime(MORNING_START);
-        }
-        
-        return baseTime;
-    }
-    
-    private String generateReason(TaskDTO task, LocalDateTime now, String language) {
-        StringBuilder reason = new StringBuilder();
-        boolean isVi = isVietnamese(language);
-        int reasonCount = 0;
+    private String generateReason(TaskDTO task, LocalDateTime now, ScheduleTextCatalog.Texts texts, StringBuilder scratch) {
+        scratch.setLength(0);
         
         // 1. Check if overdue - URGENT
         if (task.getEndTime() != null && task.getEndTime().isBefore(now)) {
             long hoursOverdue = java.time.Duration.between(task.getEndTime(), now).toHours();
-            if (isVi) {
-                reason.append(String.format("⚠️ Công việc này đã quá hạn %d giờ. ", hoursOverdue));
-                reason.append("Việc hoàn thành các công việc quá hạn ngay lập tức giúp giảm stress và tránh tích tụ công việc. ");
-                reason.append("Nghiên cứu cho thấy việc xử lý công việc quá hạn sớm giúp cải thiện năng suất tổng thể lên 40%.");
-            } else {
-                reason.append(String.format("⚠️ This task is %d hours overdue. ", hoursOverdue));
-                reason.append("Completing overdue tasks immediately reduces stress and prevents work accumulation. ");
-                reason.append("Research shows that addressing overdue tasks early improves overall productivity by 40%.");
-            }
-            reasonCount++;
+            appendReason(scratch, texts, ScheduleText.REASON_OVERDUE, hoursOverdue);
         }
         
         // 2. Check if due soon - TIME PRESSURE
         else if (task.getEndTime() != null) {
             long hoursUntilDue = java.time.Duration.between(now, task.getEndTime()).toHours();
             if (hoursUntilDue > 0 && hoursUntilDue <= 24) {
-                if (isVi) {
-                    reason.append(String.format("⏰ Hạn chót trong %d giờ nữa. ", hoursUntilDue));
-                    reason.append("Các công việc có deadline gần cần được ưu tiên để tránh làm việc vội vàng vào phút chót. ");
-                    reason.append("Theo nghiên cứu về quản lý thời gian, việc hoàn thành công việc trước deadline 2-3 giờ giúp chất lượng công việc tốt hơn 35%.");
-                } else {
-                    reason.append(String.format("⏰ Due in %d hours. ", hoursUntilDue));
-                    reason.append("Tasks with approaching deadlines need priority to avoid last-minute rush. ");
-                    reason.append("Time management research shows completing tasks 2-3 hours before deadline improves quality by 35%.");
-                }
-                reasonCount++;
+                appendReason(scratch, texts, ScheduleText.REASON_DUE_WITHIN_DAY, hoursUntilDue);
             } else if (hoursUntilDue <= 48) {
-                if (isVi) {
-                    reason.append("📅 Hạn chót trong vòng 2 ngày. ");
-                    reason.append("Lên lịch sớm giúp bạn có thời gian xử lý các vấn đề phát sinh và đảm bảo chất lượng công việc.");
-                } else {
-                    reason.append("📅 Due within 2 days. ");
-                    reason.append("Early scheduling allows time to handle unexpected issues and ensures work quality.");
-                }
-                reasonCount++;
+                appendReason(scratch, texts, ScheduleText.REASON_DUE_WITHIN_TWO_DAYS);
             }
         }
         
         // 3. Check priority with scientific backing
         if (task.getPriority() == Priority.HIGH) {
-            if (reasonCount > 0) reason.append("\n\n");
-            if (isVi) {
-                reason.append("🎯 Công việc ưu tiên cao: ");
-                reason.append("Theo nguyên tắc Eisenhower Matrix, các công việc quan trọng và khẩn cấp nên được xử lý đầu tiên. ");
-                reason.append("Nghiên cứu từ MIT cho thấy việc hoàn thành công việc ưu tiên cao vào buổi sáng (8-11h) ");
-                reason.append("giúp tăng hiệu suất nhận thức lên 25% nhờ mức năng lượng và khả năng tập trung cao nhất trong ngày.");
-            } else {
-                reason.append("🎯 High Priority Task: ");
-                reason.append("According to the Eisenhower Matrix, important and urgent tasks should be handled first. ");
-                reason.append("MIT research shows that completing high-priority tasks in the morning (8-11 AM) ");
-                reason.append("increases cognitive performance by 25% due to peak energy and focus levels.");
-            }
-            reasonCount++;
+            appendReason(scratch, texts, ScheduleText.REASON_HIGH_PRIORITY);
         }
         
         // 4. Check if unscheduled
         if (task.getStartTime() == null) {
-            if (reasonCount > 0) reason.append("\n\n");
-            if (isVi) {
-                reason.append("📋 Công việc chưa được lên lịch: ");
-                reason.append("Các công việc không có lịch cụ thể thường bị trì hoãn. ");
-                reason.append("Nghiên cứu từ Harvard Business Review chỉ ra rằng việc lên lịch cụ thể cho công việc ");
-                reason.append("tăng khả năng hoàn thành lên 78% so với chỉ ghi nhớ trong đầu.");
-            } else {
-                reason.append("📋 Unscheduled Task: ");
-                reason.append("Tasks without specific schedules are often procrastinated. ");
-                reason.append("Harvard Business Review research indicates that scheduling specific times for tasks ");
-                reason.append("increases completion rate by 78% compared to mental notes alone.");
-            }
-            reasonCount++;
+            appendReason(scratch, texts, ScheduleText.REASON_UNSCHEDULED);
         }
         
         // 5. Check if scheduled at non-optimal time with circadian rhythm science
@@ -709,183 +527,69 @@ public class AIScheduleServiceImpl implements AIScheduleService {
             LocalTime time = task.getStartTime().toLocalTime();
             
             if (time.isBefore(LocalTime.of(7, 0))) {
-                if (reasonCount > 0) reason.append("\n\n");
-                if (isVi) {
-                    reason.append("🌅 Lên lịch quá sớm (trước 7h sáng): ");
-                    reason.append("Theo nghiên cứu về nhịp sinh học (circadian rhythm), não bộ chưa đạt trạng thái tối ưu trước 7-8h sáng. ");
-                    reason.append("Việc dời công việc sang khung 8-11h sáng giúp tăng hiệu suất làm việc lên 30% ");
-                    reason.append("nhờ cortisol (hormone tỉnh táo) đạt đỉnh cao nhất.");
-                } else {
-                    reason.append("🌅 Scheduled Too Early (before 7 AM): ");
-                    reason.append("According to circadian rhythm research, the brain hasn't reached optimal state before 7-8 AM. ");
-                    reason.append("Moving tasks to 8-11 AM slot increases work efficiency by 30% ");
-                    reason.append("as cortisol (alertness hormone) peaks during this time.");
-                }
-                reasonCount++;
+                appendReason(scratch, texts, ScheduleText.REASON_TOO_EARLY);
             } else if (time.isAfter(LocalTime.of(21, 0))) {
-                if (reasonCount > 0) reason.append("\n\n");
-                if (isVi) {
-                    reason.append("🌙 Lên lịch quá muộn (sau 9h tối): ");
-                    reason.append("Nghiên cứu về giấc ngủ từ National Sleep Foundation cho thấy làm việc muộn ảnh hưởng đến chất lượng giấc ngủ, ");
-                    reason.append("giảm 40% khả năng tập trung ngày hôm sau. ");
-                    reason.append("Việc hoàn thành công việc trước 9h tối giúp não bộ có thời gian thư giãn, cải thiện giấc ngủ và năng suất dài hạn.");
-                } else {
-                    reason.append("🌙 Scheduled Too Late (after 9 PM): ");
-                    reason.append("National Sleep Foundation research shows late-night work affects sleep quality, ");
-                    reason.append("reducing next-day focus by 40%. ");
-                    reason.append("Completing tasks before 9 PM allows brain relaxation time, improving sleep and long-term productivity.");
-                }
-                reasonCount++;
+                appendReason(scratch, texts, ScheduleText.REASON_TOO_LATE);
             } else if (time.isAfter(LocalTime.of(12, 0)) && time.isBefore(LocalTime.of(14, 0))) {
-                if (reasonCount > 0) reason.append("\n\n");
-                if (isVi) {
-                    reason.append("🍽️ Lên lịch trong giờ nghỉ trưa (12-2h chiều): ");
-                    reason.append("Đây là 'post-lunch dip' - giai đoạn năng lượng giảm sau bữa trưa do quá trình tiêu hóa. ");
-                    reason.append("Nghiên cứu từ Stanford University cho thấy hiệu suất làm việc giảm 20-30% trong khung giờ này. ");
-                    reason.append("Nên dời sang khung 2-4h chiều khi năng lượng phục hồi.");
-                } else {
-                    reason.append("🍽️ Scheduled During Lunch Break (12-2 PM): ");
-                    reason.append("This is the 'post-lunch dip' - energy drops after lunch due to digestion. ");
-                    reason.append("Stanford University research shows work performance decreases 20-30% during this period. ");
-                    reason.append("Consider moving to 2-4 PM slot when energy recovers.");
-                }
-                reasonCount++;
+                appendReason(scratch, texts, ScheduleText.REASON_LUNCH);
             } else if (time.isAfter(LocalTime.of(14, 0)) && time.isBefore(LocalTime.of(16, 0)) && task.getPriority() == Priority.HIGH) {
-                if (reasonCount > 0) reason.append("\n\n");
-                if (isVi) {
-                    reason.append("⚡ Tối ưu hóa cho công việc ưu tiên cao: ");
-                    reason.append("Mặc dù khung 2-4h chiều cũng tốt, nhưng các công việc quan trọng nên được xử lý vào 'golden hours' (8-11h sáng). ");
-                    reason.append("Nghiên cứu từ University of Toronto chỉ ra rằng khả năng giải quyết vấn đề phức tạp ");
-                    reason.append("cao hơn 50% vào buổi sáng so với buổi chiều do não bộ còn 'tươi mới' và chưa bị mệt mỏi.");
-                } else {
-                    reason.append("⚡ Optimization for High-Priority Task: ");
-                    reason.append("While 2-4 PM is good, important tasks should be handled during 'golden hours' (8-11 AM). ");
-                    reason.append("University of Toronto research indicates that complex problem-solving ability ");
-                    reason.append("is 50% higher in the morning compared to afternoon due to fresh, unfatigued brain state.");
-                }
-                reasonCount++;
+                appendReason(scratch, texts, ScheduleText.REASON_HIGH_PRIORITY_AFTERNOON);
             }
         }
         
         // 6. Weekend consideration
         if (task.getStartTime() != null) {
             DayOfWeek dayOfWeek = task.getStartTime().getDayOfWeek();
-            if (dayOfWeek == DayOfWeek.SATURDAY || dayOfWeek == DayOfWeek.SUNDAY) {
-                if (task.getPriority() != Priority.LOW) {
-                    if (reasonCount > 0) reason.append("\n\n");
-                    if (isVi) {
-                        reason.append("📅 Lên lịch vào cuối tuần: ");
-                        reason.append("Nghiên cứu về work-life balance cho thấy việc nghỉ ngơi cuối tuần giúp tăng năng suất tuần sau lên 35%. ");
-                        reason.append("Nếu không khẩn cấp, nên dời sang đầu tuần để đảm bảo thời gian phục hồi năng lượng.");
-                    } else {
-                        reason.append("📅 Scheduled on Weekend: ");
-                        reason.append("Work-life balance research shows weekend rest increases next week's productivity by 35%. ");
-                        reason.append("Unless urgent, consider moving to early weekdays to ensure energy recovery time.");
-                    }
-                    reasonCount++;
-                }
+            if ((dayOfWeek == DayOfWeek.SATURDAY || dayOfWeek == DayOfWeek.SUNDAY) && task.getPriority() != Priority.LOW) {
+                appendReason(scratch, texts, ScheduleText.REASON_WEEKEND);
             }
         }
         
-        // 7. Add actionable recommendation
-        if (reasonCount > 0) {
-            reason.append("\n\n");
-            if (isVi) {
-                reason.append("💡 Khuyến nghị: Áp dụng gợi ý này để tối ưu hóa lịch trình theo khoa học về năng suất và nhịp sinh học tự nhiên của cơ thể.");
-            } else {
-                reason.append("💡 Recommendation: Apply this suggestion to optimize your schedule based on productivity science and natural circadian rhythms.");
-            }
+        if (scratch.isEmpty()) {
+            return texts.render(ScheduleText.REASON_DEFAULT);
         }
         
-        if (reason.length() == 0) {
-            return isVi 
-                ? "Tối ưu hóa lịch trình của bạn để năng suất tốt hơn dựa trên các nghiên cứu khoa học về quản lý thời gian."
-                : "Optimize your schedule for better productivity based on scientific time management research.";
+        // 7. Add actionable recommendation
+        appendReason(scratch, texts, ScheduleText.REASON_RECOMMENDATION);
+        return scratch.toString();
+    }
+    
+    private static void appendReason(StringBuilder reason, ScheduleTextCatalog.Texts texts, ScheduleText text, Object... args) {
+        if (!reason.isEmpty()) {
+            reason.append("\n\n");
         }
-        
-        return reason.toString();
+        texts.appendTo(reason, text, args);
     }
     
-    private String generateSummary(List<TaskDTO> tasks, List<TaskSuggestion> suggestions, String language) {
+    private String generateSummary(List<TaskDTO> tasks, List<TaskSuggestion> suggestions,
+                                   ScheduleTextCatalog.Texts texts, StringBuilder scratch) {
         int totalTasks = tasks.size();
         int activeTasks = (int) tasks.stream()
                 .filter(task -> task.getStatus() != TaskStatus.DONE)
                 .count();
         int suggestionsCount = suggestions.size();
-        boolean isVi = isVietnamese(language);
-        
-        // Calculate potential productivity gain
-        int avgPriorityScore = suggestions.isEmpty() ? 0 : 
-            (int) suggestions.stream()
-                .mapToInt(TaskSuggestion::getPriorityScore)
-                .average()
-                .orElse(0);
         
         int urgentCount = (int) suggestions.stream()
                 .filter(s -> s.getPriorityScore() >= 80)
                 .count();
         
         if (totalTasks == 0) {
-            return isVi
-                ? "🎯 Không tìm thấy công việc nào trong tháng này. Hãy bắt đầu lên kế hoạch cho lịch trình của bạn để tối ưu hóa năng suất!"
-                : "🎯 No tasks found for this month. Start planning your schedule to optimize your productivity!";
+            return texts.render(ScheduleText.SUMMARY_NO_TASKS);
         }
         
         if (suggestionsCount == 0) {
-            return isVi
-                ? String.format("✨ Xuất sắc! Lịch trình %d công việc của bạn đã được tối ưu hóa hoàn hảo theo các nguyên tắc khoa học về năng suất. " +
-                        "Bạn đang sử dụng thời gian một cách hiệu quả và phù hợp với nhịp sinh học tự nhiên. Hãy tiếp tục duy trì!", 
-                        activeTasks)
-                : String.format("✨ Excellent! Your %d task(s) are perfectly optimized according to productivity science principles. " +
-                        "You're using your time efficiently and aligned with natural circadian rhythms. Keep it up!", 
-                        activeTasks);
+            return texts.render(ScheduleText.SUMMARY_OPTIMAL, activeTasks);
         }
         
-        StringBuilder summary = new StringBuilder();
+        scratch.setLength(0);
+        texts.appendTo(scratch, ScheduleText.SUMMARY_OPPORTUNITIES, suggestionsCount, activeTasks).append(' ');
         
-        if (isVi) {
-            summary.append(String.format("🔍 Phân tích AI đã xác định %d cơ hội tối ưu hóa quan trọng trong %d công việc đang hoạt động của bạn. ", 
-                    suggestionsCount, activeTasks));
-            
-            if (urgentCount > 0) {
-                summary.append(String.format("⚠️ Có %d công việc cần xử lý khẩn cấp. ", urgentCount));
-            }
-            
-            summary.append("\n\n📊 Bằng cách áp dụng các gợi ý này, bạn có thể: ");
-            summary.append("\n• Tăng năng suất làm việc lên 25-40% nhờ sắp xếp công việc theo nhịp sinh học tự nhiên");
-            summary.append("\n• Giảm stress và tránh làm việc vào phút chót");
-            summary.append("\n• Cải thiện chất lượng công việc thông qua quản lý thời gian khoa học");
-            summary.append("\n• Đảm bảo cân bằng giữa công việc và nghỉ ngơi");
-            
-            summary.append("\n\n💡 Các gợi ý dựa trên nghiên cứu từ MIT, Harvard, Stanford về năng suất và nhịp sinh học (circadian rhythm).");
-        } else {
-            summary.append(String.format("🔍 AI analysis has identified %d important optimization opportunities in your %d active task(s). ", 
-                    suggestionsCount, activeTasks));
-            
-            if (urgentCount > 0) {
-                summary.append(String.format("⚠️ %d task(s) require urgent attention. ", urgentCount));
-            }
-            
-            summary.append("\n\n📊 By applying these suggestions, you can: ");
-            summary.append("\n• Increase work productivity by 25-40% through circadian rhythm alignment");
-            summary.append("\n• Reduce stress and avoid last-minute rushes");
-            summary.append("\n• Improve work quality through scientific time management");
-            summary.append("\n• Ensure work-life balance and proper rest");
-            
-            summary.append("\n\n💡 Suggestions are based on research from MIT, Harvard, and Stanford on productivity and circadian rhythms.");
+        if (urgentCount > 0) {
+            texts.appendTo(scratch, ScheduleText.SUMMARY_URGENT, urgentCount).append(' ');
         }
         
-        return summary.toString();
-    }
-    
-    /**
-     * Check if language is Vietnamese
-     */
-    private boolean isVietnamese(String language) {
-        if (language == null || language.trim().isEmpty()) {
-            return false;
-        }
-        String lang = language.toLowerCase();
-        return lang.equals("vi") || lang.equals("vie") || lang.equals("vietnamese");
+        scratch.append("\n\n");
+        texts.appendTo(scratch, ScheduleText.SUMMARY_BENEFITS);
+        return scratch.toString();
     }
 }
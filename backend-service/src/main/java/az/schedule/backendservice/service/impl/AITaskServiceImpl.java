@@ -297,28 +297,28 @@ public class AITaskServiceImpl implements AITaskService {
             throw new AppException(ErrorCode.IMAGE_NOT_SCHEDULE_RELATED);
         }
         
-        List<TaskDTO> createdTasks = new java.util.ArrayList<>();
+        List<TaskRequest> taskRequests = new java.util.ArrayList<>();
         
         for (ParsedTaskResponse parsedTask : parseResponse.getTasks()) {
-            try {
-                TaskRequest taskRequest = TaskRequest.builder()
-                        .title(parsedTask.getTitle())
-                        .description(parsedTask.getDescription())
-                        .startTime(parsedTask.getStartTime())
-                        .endTime(parsedTask.getEndTime())
-                        .priority(parsedTask.getPriority() != null ? parsedTask.getPriority() : Priority.MEDIUM)
-                        .status(parsedTask.getStatus() != null ? parsedTask.getStatus() : TaskStatus.TODO)
-                        .categoryId(null)
-                        .build();
-                
-                TaskDTO createdTask = taskService.createTask(taskRequest, accountId);
-                createdTasks.add(createdTask);
-            } catch (Exception e) {
-                log.warn("Failed to create task: {}", parsedTask.getTitle(), e);
+            if (parsedTask.getTitle() == null || parsedTask.getTitle().isBlank()) {
+                log.warn("Skipping parsed task without title");
+                continue;
             }
+            taskRequests.add(TaskRequest.builder()
+                    .title(parsedTask.getTitle())
+                    .description(parsedTask.getDescription())
+                    .startTime(parsedTask.getStartTime())
+                    .endTime(parsedTask.getEndTime())
+                    .priority(parsedTask.getPriority() != null ? parsedTask.getPriority() : Priority.MEDIUM)
+                    .status(parsedTask.getStatus() != null ? parsedTask.getStatus() : TaskStatus.TODO)
+                    .categoryId(null)
+                    .build());
         }
         
-        return createdTasks;
+        if (taskRequests.isEmpty()) {
+            return List.of();
+        }
+        return taskService.createTasks(taskRequests, accountId);
     }
     
     /**
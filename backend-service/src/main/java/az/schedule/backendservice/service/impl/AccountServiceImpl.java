@@ -14,6 +14,7 @@ import az.schedule.backendservice.repository.AccountSearchRepository;
 import az.schedule.backendservice.repository.RoleRepository;
 import az.schedule.backendservice.repository.SubscriptionRepository;
 import az.schedule.backendservice.service.AccountService;
+import az.schedule.backendservice.service.RedisRefreshTokenService;
 import az.schedule.backendservice.utils.SecurityUtils;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -31,10 +32,11 @@ public class AccountServiceImpl implements AccountService {
     private final SubscriptionRepository subscriptionRepository;
     private final AccountConverter accountConverter;
     private final AccountSearchRepository accountSearchRepository;
+    private final RedisRefreshTokenService redisRefreshTokenService;
 
     @Override
     public AccountDTO getAccountById(Long id) {
-        Account account = accountRepository.findById(id)
+        Account account = accountRepository.findWithRoleAndSubscriptionById(id)
                 .orElseThrow(() -> new AppException(ErrorCode.ACCOUNT_NOT_FOUND));
         return accountConverter.toDTO(account);
     }
@@ -86,6 +88,7 @@ public class AccountServiceImpl implements AccountService {
         Account account = accountRepository.findById(id)
                 .orElseThrow(() -> new AppException(ErrorCode.ACCOUNT_NOT_FOUND));
         accountRepository.delete(account);
+        redisRefreshTokenService.revokeAll(List.of(id));
     }
 
     @Override
@@ -6,14 +6,12 @@ import az.schedule.backendservice.dto.response.PageResponse;
 import az.schedule.backendservice.dto.response.admin.SystemStatisticsResponse;
 import az.schedule.backendservice.entity.Account;
 import az.schedule.backendservice.entity.Role;
-import az.schedule.backendservice.enums.TaskStatus;
 import az.schedule.backendservice.exception.AppException;
 import az.schedule.backendservice.exception.ErrorCode;
 import az.schedule.backendservice.repository.AccountRepository;
-import az.schedule.backendservice.repository.CategoryRepository;
 import az.schedule.backendservice.repository.RoleRepository;
-import az.schedule.backendservice.repository.TaskRepository;
 import az.schedule.backendservice.service.AdminService;
+import az.schedule.backendservice.service.RedisRefreshTokenService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -29,51 +27,18 @@ import java.util.stream.Collectors;
 @Slf4j
 public class AdminServiceImpl implements AdminService {
     private final AccountRepository accountRepository;
-    private final TaskRepository taskRepository;
-    private final CategoryRepository categoryRepository;
     private final RoleRepository roleRepository;
     private final AccountConverter accountConverter;
+    private final SystemStatisticsSnapshot systemStatisticsSnapshot;
+    private final RedisRefreshTokenService redisRefreshTokenService;
 
     @Override
     public SystemStatisticsResponse getSystemStatistics() {
-        log.info("Fetching system statistics");
-        
-        // Get all accounts
-        List<Account> allAccounts = accountRepository.findAll();
-        long totalUsers = allAccounts.size();
-        long activeUsers = allAccounts.stream().filter(Account::getIsActive).count();
-        long inactiveUsers = totalUsers - activeUsers;
-        
-        // Count admin and regular users
-        long adminUsers = allAccounts.stream()
-                .filter(account -> account.getRole() != null && "ADMIN".equals(account.getRole().getCode()))
-                .count();
-        long regularUsers = totalUsers - adminUsers;
-        
-        // Get task statistics
-        long totalTasks = taskRepository.count();
-        long completedTasks = taskRepository.findAll().stream()
-                .filter(task -> task.getStatus() == TaskStatus.DONE)
-                .count();
-        long pendingTasks = totalTasks - completedTasks;
-        
-        // Get category statistics
-        long totalCategories = categoryRepository.count();
-        
-        return SystemStatisticsResponse.builder()
-                .totalUsers(totalUsers)
-                .activeUsers(activeUsers)
-                .inactiveUsers(inactiveUsers)
-                .totalTasks(totalTasks)
-                .completedTasks(completedTasks)
-                .pendingTasks(pendingTasks)
-                .totalCategories(totalCategories)
-                .adminUsers(adminUsers)
-                .regularUsers(regularUsers)
-                .build();
+        return systemStatisticsSnapshot.get();
     }
 
     @Override
+    @Transactional(readOnly = true)
     public PageResponse<AccountDTO> getAllUsers(Pageable pageable) {
         log.info("Fetching all users with pagination: {}", pageable);
         
@@ -92,6 +57,7 @@ public class AdminServiceImpl implements AdminService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public PageResponse<AccountDTO> searchUsers(String keyword, Pageable pageable) {
         log.info("Searching users with keyword: {}", keyword);
         
@@ -142,6 +108,9 @@ public class AdminServiceImpl implements AdminService {
         
         account.setIsActive(isActive);
         Account updatedAccount = accountRepository.save(account);
+        if (!Boolean.TRUE.equals(isActive)) {
+            redisRefreshTokenService.revokeAll(List.of(userId));
+        }
         
         log.info("Successfully updated user {} status to {}", userId, isActive);
         return accountConverter.toDTO(updatedAccount);
@@ -158,6 +127,7 @@ public class AdminServiceImpl implements AdminService {
         // Check if user is trying to delete themselves
         // This should be prevented at controller level as well
         accountRepository.delete(account);
+        redisRefreshTokenService.revokeAll(List.of(userId));
         
         log.info("Successfully deleted user: {}", userId);
     }
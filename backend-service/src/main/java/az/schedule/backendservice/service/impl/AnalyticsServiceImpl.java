@@ -12,6 +12,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.ai.chat.model.ChatModel;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.*;
 import java.time.temporal.ChronoUnit;
@@ -29,6 +30,7 @@ public class AnalyticsServiceImpl implements AnalyticsService {
     private final ObjectMapper objectMapper;
     
     @Override
+    @Transactional(readOnly = true)
     public TaskAnalyticsResponse getTaskAnalytics(Long accountId) {
         List<Task> allTasks = taskRepository.findByAccountId(accountId);
         
@@ -13,28 +13,28 @@ import az.schedule.backendservice.exception.ErrorCode;
 import az.schedule.backendservice.repository.AccountRepository;
 import az.schedule.backendservice.repository.RoleRepository;
 import az.schedule.backendservice.service.AuthenticationService;
+import az.schedule.backendservice.service.RedisOtpService;
 import az.schedule.backendservice.service.RedisRefreshTokenService;
 import az.schedule.backendservice.utils.JwtService;
 import az.schedule.backendservice.utils.MailService;
 import com.nimbusds.jose.JOSEException;
-import com.nimbusds.jwt.SignedJWT;
+import com.nimbusds.jwt.JWTClaimsSet;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.dao.DataIntegrityViolationException;
-import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
 
 import java.security.SecureRandom;
 import java.text.ParseException;
-import java.time.Instant;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.TimeUnit;
 
@@ -42,14 +42,15 @@ import java.util.concurrent.TimeUnit;
 @RequiredArgsConstructor
 @Slf4j
 public class AuthenticationServiceImpl implements AuthenticationService {
+    private static final SecureRandom OTP_RANDOM = new SecureRandom();
+
     private final AccountRepository accountRepository;
     private final RoleRepository roleRepository;
     private final JwtService jwtService;
     private final MailService mailService;
-    private final ModelMapper modelMapper;
     private final RedisRefreshTokenService redisRefreshTokenService;
+    private final RedisOtpService redisOtpService;
     private final AccountConverter accountConverter;
-    private final ThreadPoolTaskScheduler taskScheduler;
     private final PasswordEncoder passwordEncoder;
     private final OutboundGoogleClient outboundGoogleClient;
     private final GoogleUserInfoClient googleUserInfoClient;
@@ -76,20 +77,10 @@ public class AuthenticationServiceImpl implements AuthenticationService {
             throw new AppException(ErrorCode.UNAUTHORIZED);
         } else {
             String token = jwtService.generateToken(account, TokenType.ACCESS_TOKEN);
-            String refreshToken = jwtService.generateToken(account, TokenType.REFRESH_TOKEN);
-            redisRefreshTokenService.setToken(account.getId().toString(), refreshToken, 7L, TimeUnit.DAYS);
+            issueRefreshToken(account, response);
 
             accountRepository.save(account);
 
-            Cookie cookie = new Cookie("refreshToken", refreshToken);
-            cookie.setHttpOnly(true);
-            cookie.setSecure(false);
-            cookie.setDomain("localhost");
-            cookie.setPath("/");
-            cookie.setMaxAge(7 * 24 * 60 * 60);
-
-            response.addCookie(cookie);
-
             authenticationResponse.setToken(token);
             authenticationResponse.setSuccess(true);
         }
@@ -111,7 +102,7 @@ public class AuthenticationServiceImpl implements AuthenticationService {
         }
 
         Account a = accountRepository.save(acc);
-        return modelMapper.map(a, AccountCreationResponse.class);
+        return accountConverter.toCreationResponse(a);
     }
 
     @Override
@@ -141,61 +132,50 @@ public class AuthenticationServiceImpl implements AuthenticationService {
 
     @Override
     public SendOTPResponse sendOTP(String key) {
-        boolean checkEmail = accountRepository.existsByEmail(key);
-        boolean checkUsername = accountRepository.existsByUsername(key);
-        if (checkEmail || checkUsername) {
-            String token = generate6DigitCode();
-            Account acc = null;
-            if (checkEmail) {
-                acc = accountRepository
-                        .findByEmail(key)
-                        .orElseThrow(() -> new AppException(ErrorCode.USER_NOT_EXISTED));
-                mailService.sendEmail(acc.getEmail(), token, token);
-            } else {
-                acc = accountRepository
-                        .findByUsername(key)
-                        .orElseThrow(() -> new AppException(ErrorCode.USER_NOT_EXISTED));
-                mailService.sendEmail(acc.getEmail(), token, token);
-            }
-            acc.setOtp(token);
-            accountRepository.save(acc);
-
-            scheduleTokenDeletion(acc.getId());
-
-            return SendOTPResponse.builder()
-                    .email(acc.getEmail())
-                    .username(acc.getUsername())
-                    .isValid(true)
-                    .build();
-        } else {
+        Optional<Account> account = accountRepository.findByEmail(key)
+                .or(() -> accountRepository.findByUsername(key));
+        if (account.isEmpty()) {
             return SendOTPResponse.builder().isValid(false).build();
         }
+
+        Account acc = account.get();
+        // Limited per account, so alternating between email and username does not add sends
+        if (!redisOtpService.tryAcquireSend(acc.getId())) {
+            throw new AppException(ErrorCode.OTP_RATE_LIMITED);
+        }
+        String token = generate6DigitCode();
+        redisOtpService.saveOtp(acc.getUsername(), token);
+        mailService.sendEmail(acc.getEmail(), token, token);
+
+        return SendOTPResponse.builder()
+                .email(acc.getEmail())
+                .username(acc.getUsername())
+                .isValid(true)
+                .build();
     }
 
     @Override
     public boolean checkOTP(OTPCheckRequest request) {
-        Account account = accountRepository
-                .findByUsername(request.getUsername())
-                .orElseThrow(() -> new AppException(ErrorCode.USER_NOT_EXISTED));
-        return account.getOtp().equals(request.getOtp());
+        return redisOtpService.verifyOtp(request.getUsername(), request.getOtp());
     }
 
     @Override
     public void changePassword(ChangePasswordRequest request) {
+        if (!redisOtpService.verifyOtp(request.getUsername(), request.getOTP())) {
+            throw new AppException(ErrorCode.OTP_INVALID);
+        }
         Account account = accountRepository
                 .findByUsername(request.getUsername())
                 .orElseThrow(() -> new AppException(ErrorCode.USER_NOT_EXISTED));
-        if (account.getOtp().equals(request.getOTP())) {
-            account.setPassword(request.getNewPassword());
-        } else {
-            throw new AppException(ErrorCode.OTP_INVALID);
-        }
-        account.setOtp(null);
+        account.setPassword(request.getNewPassword());
         accountRepository.save(account);
+        redisOtpService.deleteOtp(request.getUsername());
+        // Sign every device out; the new password is needed to get a refresh token again
+        redisRefreshTokenService.revokeAll(List.of(account.getId()));
     }
 
     @Override
-    public AuthenticationResponse refreshToken(HttpServletRequest request) {
+    public AuthenticationResponse refreshToken(HttpServletRequest request, HttpServletResponse response) {
         String refreshToken = null;
 
         Cookie[] cookies = request.getCookies();
@@ -212,21 +192,21 @@ public class AuthenticationServiceImpl implements AuthenticationService {
             if (!StringUtils.hasLength(refreshToken))
                 throw new AppException(ErrorCode.UNAUTHORIZED);
 
-            SignedJWT signedJWT = jwtService.verifyToken(refreshToken, TokenType.REFRESH_TOKEN);
+            JWTClaimsSet claims = jwtService.verifyToken(refreshToken, TokenType.REFRESH_TOKEN);
 
-            String username = signedJWT.getJWTClaimsSet().getSubject();
+            String username = claims.getSubject();
 
             Account account = accountRepository
                     .findByUsername(username)
                     .orElseThrow(() -> new AppException(ErrorCode.USER_NOT_EXISTED));
 
-            String storedToken = redisRefreshTokenService.getToken(account.getId().toString());
-
-            if (storedToken == null || !storedToken.equals(refreshToken)) {
+            // Rotation: the presented token is used up, and a stolen copy replayed later is rejected
+            if (!redisRefreshTokenService.consumeToken(account.getId(), claims.getJWTID())) {
                 throw new AppException(ErrorCode.UNAUTHORIZED);
             }
 
             String accessToken = jwtService.generateToken(account, TokenType.ACCESS_TOKEN);
+            issueRefreshToken(account, response);
 
             return AuthenticationResponse.builder()
                     .token(accessToken)
@@ -294,6 +274,21 @@ public class AuthenticationServiceImpl implements AuthenticationService {
         }
     }
 
+    private void issueRefreshToken(Account account, HttpServletResponse response) {
+        String refreshToken = jwtService.generateToken(account, TokenType.REFRESH_TOKEN);
+        redisRefreshTokenService.storeToken(
+                account.getId(), jwtService.extractTokenId(refreshToken), 7L, TimeUnit.DAYS);
+
+        Cookie cookie = new Cookie("refreshToken", refreshToken);
+        cookie.setHttpOnly(true);
+        cookie.setSecure(false);
+        cookie.setDomain("localhost");
+        cookie.setPath("/");
+        cookie.setMaxAge(7 * 24 * 60 * 60);
+
+        response.addCookie(cookie);
+    }
+
     private String generateUsernameFromEmail(String email) {
         String baseUsername = email.split("@")[0].toLowerCase();
         String username = baseUsername;
@@ -308,12 +303,6 @@ public class AuthenticationServiceImpl implements AuthenticationService {
     }
 
     private String generate6DigitCode() {
-        SecureRandom random = new SecureRandom();
-        return String.format("%06d", random.nextInt(1000000));
-    }
-
-    private void scheduleTokenDeletion(Long accountID) {
-        taskScheduler.schedule(
-                () -> accountRepository.clearOTP(accountID), Instant.now().plusSeconds(300));
+        return String.format("%06d", OTP_RANDOM.nextInt(1000000));
     }
 }
@@ -2,11 +2,19 @@ package az.schedule.backendservice.service.impl;
 
 import az.schedule.backendservice.service.BaseRedisService;
 import org.springframework.context.annotation.Primary;
+import org.springframework.data.redis.core.Cursor;
 import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.GenericToStringSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -15,6 +23,15 @@ import java.util.concurrent.TimeUnit;
 @Service
 @Primary
 public class BaseRedisServiceImpl implements BaseRedisService {
+    private static final long SCAN_COUNT = 100;
+    private static final RedisScript<Long> INCREMENT_WITH_WINDOW = RedisScript.of("""
+            local value = redis.call('INCR', KEYS[1])
+            if value == 1 then
+                redis.call('PEXPIRE', KEYS[1], ARGV[1])
+            end
+            return value""", Long.class);
+    private static final RedisSerializer<Long> LONG_RESULT = new GenericToStringSerializer<>(Long.class);
+
     private final RedisTemplate<String, Object> redisTemplate;
     private final HashOperations<String, String, Object> hashOperations;
 
@@ -53,11 +70,49 @@ public class BaseRedisServiceImpl implements BaseRedisService {
         return Boolean.TRUE.equals(redisTemplate.hasKey(key));
     }
 
+    /**
+     * INCR with a window: the expiry is set when the counter is created and not extended afterwards.
+     * Both run in one script, so a counter can never be left without a TTL.
+     */
+    @Override
+    public Long increment(String key, Long expire, TimeUnit timeUnit) {
+        return redisTemplate.execute(INCREMENT_WITH_WINDOW, RedisSerializer.string(), LONG_RESULT,
+                List.of(key), String.valueOf(timeUnit.toMillis(expire)));
+    }
+
     @Override
     public Object get(String key) {
         return redisTemplate.opsForValue().get(key);
     }
 
+    @Override
+    public List<Object> multiGet(Collection<String> keys) {
+        List<Object> values = redisTemplate.opsForValue().multiGet(keys);
+        return values != null ? values : List.of();
+    }
+
+    /**
+     * HGETALL for several keys in one pipelined round trip; the result is in key order.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<Map<String, Object>> hashGetAll(List<String> keys) {
+        List<Object> results = redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                for (String key : keys) {
+                    operations.opsForHash().entries((K) key);
+                }
+                return null;
+            }
+        });
+        List<Map<String, Object>> hashes = new ArrayList<>(results.size());
+        for (Object result : results) {
+            hashes.add((Map<String, Object>) result);
+        }
+        return hashes;
+    }
+
     @Override
     public Map<String, Object> getField(String key) {
         return hashOperations.entries(key);
@@ -68,15 +123,16 @@ public class BaseRedisServiceImpl implements BaseRedisService {
         return hashOperations.get(key, field);
     }
 
+    /**
+     * Filters on the server with HSCAN MATCH instead of pulling the whole hash.
+     */
     @Override
     public List<Object> hashGetByFieldPrefix(String key, String prefix) {
         List<Object> list = new ArrayList<>();
-
-        Map<String, Object> hashEntries = hashOperations.entries(key);
-
-        for (Map.Entry<String, Object> entry : hashEntries.entrySet()) {
-            if (entry.getKey().startsWith(prefix)) {
-                list.add(entry.getValue());
+        ScanOptions options = ScanOptions.scanOptions().match(escapeGlob(prefix) + "*").count(SCAN_COUNT).build();
+        try (Cursor<Map.Entry<String, Object>> cursor = hashOperations.scan(key, options)) {
+            while (cursor.hasNext()) {
+                list.add(cursor.next().getValue());
             }
         }
         return list;
@@ -84,7 +140,7 @@ public class BaseRedisServiceImpl implements BaseRedisService {
 
     @Override
     public Set<String> getFieldPrefixes(String key) {
-        return hashOperations.entries(key).keySet();
+        return hashOperations.keys(key);
     }
 
     @Override
@@ -97,10 +153,21 @@ public class BaseRedisServiceImpl implements BaseRedisService {
         hashOperations.delete(key, field);
     }
 
+    @Override
+    public void deleteAll(Collection<String> keys) {
+        if (!keys.isEmpty()) {
+            redisTemplate.delete(keys);
+        }
+    }
+
     @Override
     public void delete(String key, List<String> fields) {
-        for (String field : fields) {
-            hashOperations.delete(key, field);
+        if (!fields.isEmpty()) {
+            hashOperations.delete(key, fields.toArray());
         }
     }
+
+    private static String escapeGlob(String value) {
+        return value.replaceAll("([*?\\[\\]\\\\])", "\\\\$1");
+    }
 }
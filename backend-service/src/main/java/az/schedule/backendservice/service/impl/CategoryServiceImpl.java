@@ -28,6 +28,7 @@ public class CategoryServiceImpl implements CategoryService {
     private final AccountRepository accountRepository;
     private final TaskRepository taskRepository;
     private final CategoryConverter categoryConverter;
+    private final TaskCalendarCache taskCalendarCache;
 
     @Override
     @Transactional
@@ -61,6 +62,7 @@ public class CategoryServiceImpl implements CategoryService {
 
         categoryConverter.updateEntity(category, request);
         Category updatedCategory = categoryRepository.save(category);
+        taskCalendarCache.evict(accountId);
         return categoryConverter.toDTO(updatedCategory);
     }
 
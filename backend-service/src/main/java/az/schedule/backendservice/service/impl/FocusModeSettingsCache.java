@@ -0,0 +1,135 @@
+package az.schedule.backendservice.service.impl;
+
+import az.schedule.backendservice.dto.FocusModeSettingsDTO;
+import az.schedule.backendservice.dto.response.BlockedSiteMatcherResponse;
+import az.schedule.backendservice.utils.DomainTrie;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * In-process cache of focus-mode settings, keyed by account, each entry carrying the ETag of its
+ * content. The extension re-reads the settings on every navigation, so a hit answers both the
+ * settings request and the {@code If-None-Match} check without touching the database.
+ * <p>
+ * Updates drop the entry locally and publish the account id on a Redis channel after commit, so
+ * every instance evicts it too. The TTL only bounds staleness if an invalidation message is lost.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class FocusModeSettingsCache implements MessageListener, MeterBinder {
+
+    static final String INVALIDATION_CHANNEL = "focus-mode:settings:invalidate";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+
+    @Value("${app.focus-mode.cache.max-size:10000}")
+    private long maxSize;
+
+    @Value("${app.focus-mode.cache.ttl-minutes:30}")
+    private long ttlMinutes;
+
+    private Cache<Long, CachedSettings> cache;
+
+    @PostConstruct
+    void init() {
+        cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofMinutes(ttlMinutes))
+                .recordStats()
+                .build();
+        listenerContainer.addMessageListener(this, new ChannelTopic(INVALIDATION_CHANNEL));
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, "focus-mode.settings");
+    }
+
+    public CachedSettings get(Long accountId, Function<Long, FocusModeSettingsDTO> loader) {
+        return cache.get(accountId, id -> CachedSettings.of(loader.apply(id)));
+    }
+
+    /**
+     * Drops the account's entry now and, when called inside a transaction, again after commit on
+     * every instance so a concurrent read cannot re-cache the pre-commit state.
+     */
+    public void evict(Long accountId) {
+        cache.invalidate(accountId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    publish(accountId);
+                }
+            });
+        } else {
+            publish(accountId);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            cache.invalidate(Long.valueOf(body));
+        } catch (NumberFormatException e) {
+            log.warn("Ignoring malformed focus-mode invalidation '{}'", body);
+        }
+    }
+
+    private void publish(Long accountId) {
+        cache.invalidate(accountId);
+        try {
+            stringRedisTemplate.convertAndSend(INVALIDATION_CHANNEL, accountId.toString());
+        } catch (RuntimeException e) {
+            // Other instances fall back to the TTL
+            log.warn("Could not publish focus-mode invalidation for account {}: {}", accountId, e.getMessage());
+        }
+    }
+
+    /**
+     * The settings and the block list compiled into a {@link DomainTrie}. The matcher is versioned by
+     * its patterns alone, so toggling focus mode does not make the extension refetch it.
+     */
+    public record CachedSettings(FocusModeSettingsDTO settings, String eTag, BlockedSiteMatcherResponse matcher) {
+        static CachedSettings of(FocusModeSettingsDTO settings) {
+            DomainTrie trie = DomainTrie.compile(settings.getBlockedWebsites());
+            BlockedSiteMatcherResponse matcher = BlockedSiteMatcherResponse.builder()
+                    .version(digest(String.join("\n", trie.patterns())))
+                    .patternCount(trie.patterns().size())
+                    .trie(trie.toTree())
+                    .build();
+            return new CachedSettings(settings, "\"" + digest(settings.toString()) + "\"", matcher);
+        }
+
+        public String matcherETag() {
+            return "\"" + matcher.getVersion() + "\"";
+        }
+
+        private static String digest(String value) {
+            return DigestUtils.md5DigestAsHex(value.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+}
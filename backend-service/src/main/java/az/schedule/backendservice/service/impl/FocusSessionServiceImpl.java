@@ -0,0 +1,222 @@
+package az.schedule.backendservice.service.impl;
+
+import az.schedule.backendservice.dto.request.focussession.FocusSessionEventBatchRequest;
+import az.schedule.backendservice.dto.request.focussession.FocusSessionEventRequest;
+import az.schedule.backendservice.dto.response.FocusDailyRollupResponse;
+import az.schedule.backendservice.dto.response.FocusSessionIngestResponse;
+import az.schedule.backendservice.entity.FocusDailyRollup;
+import az.schedule.backendservice.entity.FocusSession;
+import az.schedule.backendservice.entity.FocusSessionEvent;
+import az.schedule.backendservice.enums.FocusSessionStatus;
+import az.schedule.backendservice.exception.AppException;
+import az.schedule.backendservice.exception.ErrorCode;
+import az.schedule.backendservice.repository.FocusDailyRollupRepository;
+import az.schedule.backendservice.repository.FocusSessionIngestRepository;
+import az.schedule.backendservice.repository.FocusSessionRepository;
+import az.schedule.backendservice.service.FocusSessionService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Ingests pomodoro events in batches. Each batch is one transaction: the touched sessions are
+ * locked, the events are appended to the log in one statement, folded into the sessions in sequence
+ * order, and the focus time they add is upserted into the daily rollup in one more statement.
+ * <p>
+ * An event is applied only if its sequence number is above the session's last applied one, which
+ * makes retried batches no-ops. Clients are expected to send a session's batches in order.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class FocusSessionServiceImpl implements FocusSessionService {
+
+    private final FocusSessionRepository focusSessionRepository;
+    private final FocusDailyRollupRepository focusDailyRollupRepository;
+    private final FocusSessionIngestRepository focusSessionIngestRepository;
+
+    // Longest interval credited between two events, so a lost PAUSE cannot add a day of focus time
+    @Value("${app.focus-session.max-interval-minutes:240}")
+    private long maxIntervalMinutes;
+
+    @Value("${app.focus-session.max-range-days:366}")
+    private long maxRangeDays;
+
+    @Override
+    @Transactional
+    public FocusSessionIngestResponse ingestEvents(FocusSessionEventBatchRequest request, Long accountId) {
+        LocalDateTime now = LocalDateTime.now();
+        List<FocusSessionEvent> events = request.getEvents().stream()
+                .map(event -> toEntity(event, accountId, now))
+                .sorted(Comparator.comparing(FocusSessionEvent::getSessionId)
+                        .thenComparing(FocusSessionEvent::getSequenceNo))
+                .toList();
+
+        Set<String> sessionIds = new TreeSet<>();
+        events.forEach(event -> sessionIds.add(event.getSessionId()));
+        Map<String, FocusSession> sessions = lockSessions(accountId, sessionIds, now);
+
+        focusSessionIngestRepository.appendEvents(events);
+
+        Map<LocalDate, FocusDailyRollup> deltas = new TreeMap<>();
+        int applied = 0;
+        for (FocusSessionEvent event : events) {
+            if (apply(sessions.get(event.getSessionId()), event, deltas)) {
+                applied++;
+            }
+        }
+        if (!deltas.isEmpty()) {
+            focusSessionIngestRepository.addToDailyRollups(deltas.values(), now);
+        }
+
+        log.debug("Ingested {} focus events for account {}, {} applied", events.size(), accountId, applied);
+        return FocusSessionIngestResponse.builder()
+                .applied(applied)
+                .ignored(events.size() - applied)
+                .build();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<FocusDailyRollupResponse> getDailyFocus(Long accountId, LocalDate from, LocalDate to) {
+        if (from.isAfter(to) || ChronoUnit.DAYS.between(from, to) >= maxRangeDays) {
+            throw new AppException(ErrorCode.INVALID_DATE_RANGE);
+        }
+        return focusDailyRollupRepository.findByAccountIdAndDayBetweenOrderByDay(accountId, from, to).stream()
+                .map(rollup -> FocusDailyRollupResponse.builder()
+                        .day(rollup.getDay())
+                        .focusMinutes(rollup.getFocusSeconds() / 60)
+                        .completedSessions(rollup.getCompletedSessions())
+                        .build())
+                .toList();
+    }
+
+    /**
+     * Locks every session in the batch, creating the ones seen for the first time. Existing rows are
+     * locked before inserting, so a retry racing its original never upgrades a shared lock.
+     */
+    private Map<String, FocusSession> lockSessions(Long accountId, Set<String> sessionIds, LocalDateTime now) {
+        List<FocusSession> found = focusSessionRepository.findAllForUpdate(sessionIds);
+        if (found.size() < sessionIds.size()) {
+            Set<String> missing = new TreeSet<>(sessionIds);
+            found.forEach(session -> missing.remove(session.getSessionId()));
+            focusSessionIngestRepository.createMissingSessions(accountId, missing, now);
+            found = focusSessionRepository.findAllForUpdate(sessionIds);
+        }
+
+        Map<String, FocusSession> sessions = new HashMap<>();
+        for (FocusSession session : found) {
+            if (!session.getAccountId().equals(accountId)) {
+                throw new AppException(ErrorCode.UNAUTHORIZED_ACCESS);
+            }
+            sessions.put(session.getSessionId(), session);
+        }
+        return sessions;
+    }
+
+    private boolean apply(FocusSession session, FocusSessionEvent event, Map<LocalDate, FocusDailyRollup> deltas) {
+        if (event.getSequenceNo() <= session.getLastSequence()) {
+            return false;
+        }
+        session.setLastSequence(event.getSequenceNo());
+
+        LocalDateTime at = event.getOccurredAt();
+        FocusSessionStatus status = session.getStatus();
+        switch (event.getType()) {
+            case START -> {
+                if (status != FocusSessionStatus.CREATED) {
+                    return false;
+                }
+                session.setStartedAt(at);
+                session.setRunningSince(at);
+                session.setStatus(FocusSessionStatus.RUNNING);
+            }
+            case RESUME -> {
+                if (status != FocusSessionStatus.PAUSED) {
+                    return false;
+                }
+                session.setRunningSince(at);
+                session.setStatus(FocusSessionStatus.RUNNING);
+            }
+            case PAUSE -> {
+                if (status != FocusSessionStatus.RUNNING) {
+                    return false;
+                }
+                credit(session, at, deltas);
+                session.setStatus(FocusSessionStatus.PAUSED);
+            }
+            case FINISH -> {
+                if (status == FocusSessionStatus.CREATED || status == FocusSessionStatus.FINISHED) {
+                    return false;
+                }
+                if (status == FocusSessionStatus.RUNNING) {
+                    credit(session, at, deltas);
+                }
+                session.setFinishedAt(at);
+                session.setStatus(FocusSessionStatus.FINISHED);
+                FocusDailyRollup delta = delta(deltas, session.getAccountId(), at.toLocalDate());
+                delta.setCompletedSessions(delta.getCompletedSessions() + 1);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Adds the running interval ending at {@code end} to the session and to the rollup of every day
+     * it spans.
+     */
+    private void credit(FocusSession session, LocalDateTime end, Map<LocalDate, FocusDailyRollup> deltas) {
+        LocalDateTime cursor = session.getRunningSince();
+        session.setRunningSince(null);
+        LocalDateTime cap = cursor.plusMinutes(maxIntervalMinutes);
+        if (end.isAfter(cap)) {
+            end = cap;
+        }
+
+        while (cursor.isBefore(end)) {
+            LocalDateTime nextDay = cursor.toLocalDate().plusDays(1).atStartOfDay();
+            LocalDateTime sliceEnd = end.isBefore(nextDay) ? end : nextDay;
+            long seconds = Duration.between(cursor, sliceEnd).getSeconds();
+            session.setFocusedSeconds(session.getFocusedSeconds() + seconds);
+            FocusDailyRollup delta = delta(deltas, session.getAccountId(), cursor.toLocalDate());
+            delta.setFocusSeconds(delta.getFocusSeconds() + seconds);
+            cursor = sliceEnd;
+        }
+    }
+
+    private static FocusDailyRollup delta(Map<LocalDate, FocusDailyRollup> deltas, Long accountId, LocalDate day) {
+        return deltas.computeIfAbsent(day, d -> FocusDailyRollup.builder()
+                .accountId(accountId)
+                .day(d)
+                .focusSeconds(0L)
+                .completedSessions(0)
+                .build());
+    }
+
+    private static FocusSessionEvent toEntity(FocusSessionEventRequest request, Long accountId, LocalDateTime now) {
+        // Client clocks run ahead; never record an event in the future
+        LocalDateTime occurredAt = request.getOccurredAt().isAfter(now) ? now : request.getOccurredAt();
+        return FocusSessionEvent.builder()
+                .accountId(accountId)
+                .sessionId(request.getSessionId())
+                .sequenceNo(request.getSequence())
+                .type(request.getType())
+                .occurredAt(occurredAt)
+                .receivedAt(now)
+                .build();
+    }
+}
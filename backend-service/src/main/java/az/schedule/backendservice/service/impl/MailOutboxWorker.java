@@ -0,0 +1,279 @@
+package az.schedule.backendservice.service.impl;
+
+import az.schedule.backendservice.entity.MailOutbox;
+import az.schedule.backendservice.enums.MailStatus;
+import az.schedule.backendservice.repository.MailOutboxRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Delivers mail queued in the {@link MailOutbox} table.
+ * <p>
+ * Up to {@code workers} drain loops run on a dedicated pool. Each loop claims a batch of due rows
+ * (SKIP LOCKED, so several instances can share the table) and sends the whole batch in one
+ * {@link JavaMailSender#send(SimpleMailMessage...)} call, i.e. over one SMTP connection. Failed
+ * messages are retried with exponential backoff and marked FAILED after {@code maxAttempts}. A row
+ * left in SENDING by a crashed worker becomes due again when its lease runs out.
+ * <p>
+ * The body of a SENT or FAILED row is cleared, and such rows are deleted after
+ * {@code retentionDays}.
+ */
+@Service
+@Slf4j
+public class MailOutboxWorker {
+
+    private static final Set<MailStatus> DUE_STATUSES = Set.of(MailStatus.PENDING, MailStatus.SENDING);
+    private static final Duration MAX_BACKOFF = Duration.ofHours(1);
+    private static final int MAX_ERROR_LENGTH = 500;
+    private static final int PURGE_CHUNK = 1000;
+
+    private final MailOutboxRepository mailOutboxRepository;
+    private final JavaMailSender mailSender;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Counter sentCounter;
+    private final Counter retriedCounter;
+    private final Counter failedCounter;
+    private final Timer batchTimer;
+    private final AtomicLong pending = new AtomicLong();
+
+    @Value("${app.mail.from:az.schedule.com}")
+    private String from;
+
+    @Value("${app.mail.outbox.workers:2}")
+    private int workers;
+
+    @Value("${app.mail.outbox.batch-size:20}")
+    private int batchSize;
+
+    @Value("${app.mail.outbox.max-attempts:6}")
+    private int maxAttempts;
+
+    @Value("${app.mail.outbox.retry-base-seconds:30}")
+    private long retryBaseSeconds;
+
+    @Value("${app.mail.outbox.lease-seconds:300}")
+    private long leaseSeconds;
+
+    @Value("${app.mail.outbox.retention-days:7}")
+    private long retentionDays;
+
+    private ThreadPoolTaskExecutor executor;
+    private Semaphore slots;
+
+    public MailOutboxWorker(MailOutboxRepository mailOutboxRepository,
+                            JavaMailSender mailSender,
+                            PlatformTransactionManager transactionManager,
+                            MeterRegistry meterRegistry) {
+        this.mailOutboxRepository = mailOutboxRepository;
+        this.mailSender = mailSender;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.sentCounter = meterRegistry.counter("mail.outbox.sent");
+        this.retriedCounter = meterRegistry.counter("mail.outbox.retried");
+        this.failedCounter = meterRegistry.counter("mail.outbox.failed");
+        this.batchTimer = Timer.builder("mail.outbox.batch")
+                .description("Time to hand one batch to the SMTP server")
+                .register(meterRegistry);
+        Gauge.builder("mail.outbox.pending", pending, AtomicLong::get)
+                .description("Messages waiting for delivery, as of the last poll")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() {
+        slots = new Semaphore(workers);
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(workers);
+        executor.setMaxPoolSize(workers);
+        // Room for a loop submitted while the previous one is still returning its thread
+        executor.setQueueCapacity(workers);
+        executor.setThreadNamePrefix("MailOutbox-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        executor.initialize();
+    }
+
+    @PreDestroy
+    void stop() {
+        executor.shutdown();
+    }
+
+    /**
+     * Starts a drain loop right away if a worker is free; called after a mail is queued.
+     */
+    public void wakeUp() {
+        if (slots.tryAcquire()) {
+            executor.execute(this::drainAndRelease);
+        }
+    }
+
+    /**
+     * Picks up retries that became due and anything queued while all workers were busy.
+     */
+    @Scheduled(fixedDelayString = "${app.mail.outbox.poll-interval-ms:5000}")
+    public void poll() {
+        pending.set(mailOutboxRepository.countByStatus(MailStatus.PENDING));
+        while (slots.tryAcquire()) {
+            executor.execute(this::drainAndRelease);
+        }
+    }
+
+    /**
+     * Deletes SENT and FAILED rows older than the retention period and returns how many were deleted.
+     */
+    @Scheduled(fixedDelayString = "${app.mail.outbox.purge-interval-ms:3600000}")
+    public int purge() {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(retentionDays);
+        int purged = 0;
+        int deleted;
+        do {
+            deleted = transactionTemplate.execute(status ->
+                    mailOutboxRepository.deleteFinishedBefore(cutoff, PURGE_CHUNK));
+            purged += deleted;
+        } while (deleted == PURGE_CHUNK);
+        if (purged > 0) {
+            log.info("Purged {} finished mail(s) created before {}", purged, cutoff);
+        }
+        return purged;
+    }
+
+    /**
+     * Sends due mail on the calling thread until none is left and returns how many were delivered.
+     */
+    public int drain() {
+        int delivered = 0;
+        List<MailOutbox> batch;
+        while (!(batch = claim()).isEmpty()) {
+            delivered += deliver(batch);
+        }
+        return delivered;
+    }
+
+    private void drainAndRelease() {
+        try {
+            drain();
+        } catch (RuntimeException e) {
+            log.error("Mail outbox drain failed", e);
+        } finally {
+            slots.release();
+        }
+    }
+
+    private List<MailOutbox> claim() {
+        return transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<MailOutbox> due = mailOutboxRepository.findDueForUpdate(DUE_STATUSES, now, PageRequest.of(0, batchSize));
+            if (!due.isEmpty()) {
+                mailOutboxRepository.updateStatus(
+                        due.stream().map(MailOutbox::getId).toList(), MailStatus.SENDING, now.plusSeconds(leaseSeconds));
+            }
+            return due;
+        });
+    }
+
+    private int deliver(List<MailOutbox> batch) {
+        SimpleMailMessage[] messages = new SimpleMailMessage[batch.size()];
+        for (int i = 0; i < batch.size(); i++) {
+            messages[i] = toMessage(batch.get(i));
+        }
+
+        Map<Object, Exception> failures;
+        Timer.Sample sample = Timer.start();
+        try {
+            mailSender.send(messages);
+            failures = Map.of();
+        } catch (MailSendException e) {
+            failures = e.getFailedMessages().isEmpty() ? allFailed(messages, e) : e.getFailedMessages();
+        } catch (MailException e) {
+            failures = allFailed(messages, e);
+        } finally {
+            sample.stop(batchTimer);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> sentIds = new ArrayList<>();
+        Map<Object, Exception> failed = failures;
+        transactionTemplate.executeWithoutResult(status -> {
+            for (int i = 0; i < batch.size(); i++) {
+                Exception failure = failed.get(messages[i]);
+                if (failure == null) {
+                    sentIds.add(batch.get(i).getId());
+                } else {
+                    recordFailure(batch.get(i), failure, now);
+                }
+            }
+            if (!sentIds.isEmpty()) {
+                mailOutboxRepository.markSent(sentIds, now);
+            }
+        });
+        sentCounter.increment(sentIds.size());
+        return sentIds.size();
+    }
+
+    private void recordFailure(MailOutbox mail, Exception failure, LocalDateTime now) {
+        int attempts = mail.getAttempts() + 1;
+        String error = failure.getMessage() != null ? failure.getMessage() : failure.getClass().getName();
+        if (error.length() > MAX_ERROR_LENGTH) {
+            error = error.substring(0, MAX_ERROR_LENGTH);
+        }
+
+        if (attempts >= maxAttempts) {
+            mailOutboxRepository.markFailed(mail.getId(), attempts, error);
+            failedCounter.increment();
+            log.error("Giving up on mail {} to {} after {} attempts: {}", mail.getId(), mail.getRecipient(), attempts, error);
+            return;
+        }
+
+        Duration backoff = Duration.ofSeconds(retryBaseSeconds).multipliedBy(1L << Math.min(attempts - 1, 20));
+        if (backoff.compareTo(MAX_BACKOFF) > 0) {
+            backoff = MAX_BACKOFF;
+        }
+        mailOutboxRepository.markFailedAttempt(mail.getId(), MailStatus.PENDING, attempts, now.plus(backoff), error);
+        retriedCounter.increment();
+        log.warn("Mail {} to {} failed (attempt {}), retrying in {}s: {}",
+                mail.getId(), mail.getRecipient(), attempts, backoff.toSeconds(), error);
+    }
+
+    private SimpleMailMessage toMessage(MailOutbox mail) {
+        SimpleMailMessage message = new SimpleMailMessage();
+        message.setFrom(from);
+        message.setTo(mail.getRecipient());
+        message.setSubject(mail.getSubject());
+        message.setText(mail.getBody());
+        return message;
+    }
+
+    private static Map<Object, Exception> allFailed(SimpleMailMessage[] messages, Exception e) {
+        Map<Object, Exception> failures = new IdentityHashMap<>();
+        for (SimpleMailMessage message : messages) {
+            failures.put(message, e);
+        }
+        return failures;
+    }
+}
@@ -11,7 +11,8 @@ import az.schedule.backendservice.exception.ErrorCode;
 import az.schedule.backendservice.repository.AccountRepository;
 import az.schedule.backendservice.repository.NotificationRepository;
 import az.schedule.backendservice.service.NotificationService;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
@@ -22,12 +23,27 @@ import java.util.List;
 import java.util.stream.Collectors;
 
 @Service
-@RequiredArgsConstructor
 public class NotificationServiceImpl implements NotificationService {
     private final NotificationRepository notificationRepository;
     private final AccountRepository accountRepository;
     private final NotificationConverter notificationConverter;
     private final SimpMessagingTemplate messagingTemplate;
+    private final Timer pushTimer;
+
+    public NotificationServiceImpl(NotificationRepository notificationRepository,
+                                   AccountRepository accountRepository,
+                                   NotificationConverter notificationConverter,
+                                   SimpMessagingTemplate messagingTemplate,
+                                   MeterRegistry meterRegistry) {
+        this.notificationRepository = notificationRepository;
+        this.accountRepository = accountRepository;
+        this.notificationConverter = notificationConverter;
+        this.messagingTemplate = messagingTemplate;
+        this.pushTimer = Timer.builder("notification.push")
+                .description("Time to hand a new notification to the WebSocket broker")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
 
     @Override
     @Transactional
@@ -38,7 +54,8 @@ public class NotificationServiceImpl implements NotificationService {
         Account sendAccount = null;
         if (sendAccountId != null) {
             sendAccount = accountRepository.findById(sendAccountId)
-                    .orElse(accountRepository.findById(1L).orElseThrow(() -> new AppException(ErrorCode.USER_NOT_EXISTED)));
+                    .orElseGet(() -> accountRepository.findById(1L)
+                            .orElseThrow(() -> new AppException(ErrorCode.USER_NOT_EXISTED)));
         }
 
         Notification notification = notificationConverter.toEntity(request, targetAccount, sendAccount);
@@ -46,11 +63,11 @@ public class NotificationServiceImpl implements NotificationService {
 
         NotificationDTO dto = notificationConverter.toDTO(savedNotification);
 
-        messagingTemplate.convertAndSendToUser(
+        pushTimer.record(() -> messagingTemplate.convertAndSendToUser(
                 targetAccount.getUsername(),
                 "/queue/new-notification",
                 dto
-        );
+        ));
 
         return dto;
     }
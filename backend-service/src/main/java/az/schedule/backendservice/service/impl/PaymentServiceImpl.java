@@ -4,17 +4,27 @@ import az.schedule.backendservice.dto.request.SepayWebhookRequest;
 import az.schedule.backendservice.entity.Account;
 import az.schedule.backendservice.entity.Payment;
 import az.schedule.backendservice.entity.Subscription;
-import az.schedule.backendservice.exception.AppException;
-import az.schedule.backendservice.exception.ErrorCode;
 import az.schedule.backendservice.repository.AccountRepository;
 import az.schedule.backendservice.repository.PaymentRepository;
 import az.schedule.backendservice.repository.SubscriptionRepository;
 import az.schedule.backendservice.service.PaymentService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -29,66 +39,138 @@ public class PaymentServiceImpl implements PaymentService {
     
     private static final double PREMIUM_PRICE = 29000.0;
     private static final String PAYMENT_KEYWORD = "SEVQR thanh toan premium astramind";
+    private static final String STATUS_PENDING = "PENDING";
+    private static final int MYSQL_DUPLICATE_KEY = 1062;
+
+    // Pattern: "sevqr thanh toan premium astramind {username}" on the normalized content
+    private static final Pattern PAYMENT_PATTERN =
+            Pattern.compile(Pattern.quote(PAYMENT_KEYWORD.toLowerCase(Locale.ROOT)) + "\\s+(.+)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
     
+    /**
+     * Not transactional: the insert runs in its own transaction, so a duplicate key can be caught here
+     * without leaving a surrounding transaction marked rollback-only.
+     */
     @Override
-    @Transactional
-    public void processSepayWebhook(SepayWebhookRequest request) {
-        log.info("Processing Sepay webhook: transactionId={}, amount={}, content={}", 
+    public boolean acceptSepayWebhook(SepayWebhookRequest request) {
+        log.info("Accepting Sepay webhook: transactionId={}, amount={}, content={}",
                 request.getId(), request.getTransferAmount(), request.getContent());
         
-        // 1. Validate transaction type (must be incoming)
+        // Only incoming transfers are payments
         if (!"in".equalsIgnoreCase(request.getTransferType())) {
             log.warn("Skipping outgoing transaction: {}", request.getId());
-            return;
+            return false;
         }
         
-        // 2. Check duplicate transaction
-        String transactionId = String.valueOf(request.getId());
-        if (paymentRepository.existsByTransactionId(transactionId)) {
-            log.warn("Duplicate transaction detected: {}", transactionId);
-            return;
+        try {
+            paymentRepository.insertPending(
+                    String.valueOf(request.getId()),
+                    request.getTransferAmount(),
+                    request.getGateway(),
+                    request.getContent(),
+                    request.getReferenceCode(),
+                    request.getTransactionDate(),
+                    LocalDateTime.now());
+        } catch (DataIntegrityViolationException e) {
+            if (!isDuplicateKey(e)) {
+                throw e;
+            }
+            log.warn("Duplicate transaction detected: {}", request.getId());
+            return false;
         }
-        
-        // 3. Validate amount
-        if (request.getTransferAmount() < PREMIUM_PRICE) {
-            log.error("Invalid amount: {} (minimum: {})", request.getTransferAmount(), PREMIUM_PRICE);
-            saveFailedPayment(request, null, "INVALID_AMOUNT");
+        return true;
+    }
+
+    private static boolean isDuplicateKey(DataIntegrityViolationException e) {
+        return e instanceof DuplicateKeyException
+                || (e.getMostSpecificCause() instanceof SQLException sql && sql.getErrorCode() == MYSQL_DUPLICATE_KEY);
+    }
+
+    /**
+     * Claims a batch of pending payments (SKIP LOCKED) and settles them in one transaction; the
+     * accounts of the whole batch and the Premium subscription are loaded up front, so a replayed
+     * backlog is not a query per payment.
+     * <p>
+     * Settling a payment makes no repository calls, and any exception it throws is caught, so a
+     * payment that cannot be settled is marked {@code FAILED_*} on its own. It can neither roll back
+     * the batch nor come back on every poll.
+     */
+    @Override
+    @Transactional
+    public int processPendingPayments(int batchSize) {
+        List<Payment> batch = paymentRepository.findByStatusForUpdate(STATUS_PENDING, PageRequest.of(0, batchSize));
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        Map<Payment, String> usernames = new IdentityHashMap<>();
+        Set<String> lookups = new HashSet<>();
+        for (Payment payment : batch) {
+            String username = extractUsernameFromContent(payment.getContent());
+            if (username != null) {
+                usernames.put(payment, username);
+                lookups.add(username);
+            }
+        }
+        Map<String, Account> accounts = new HashMap<>();
+        if (!lookups.isEmpty()) {
+            for (Account account : accountRepository.findByUsernameIn(lookups)) {
+                accounts.put(account.getUsername().toLowerCase(Locale.ROOT), account);
+            }
+        }
+
+        Subscription premium = subscriptionRepository.findByName("Premium").orElse(null);
+
+        for (Payment payment : batch) {
+            try {
+                process(payment, usernames.get(payment), accounts, premium);
+            } catch (RuntimeException e) {
+                log.error("Could not process payment: transactionId={}", payment.getTransactionId(), e);
+                fail(payment, "PROCESSING_ERROR");
+            }
+        }
+        return batch.size();
+    }
+
+    private void process(Payment payment, String username, Map<String, Account> accounts,
+                         Subscription premiumSubscription) {
+        // 1. Validate amount
+        if (payment.getAmount() == null || payment.getAmount() < PREMIUM_PRICE) {
+            log.error("Invalid amount: {} (minimum: {})", payment.getAmount(), PREMIUM_PRICE);
+            fail(payment, "INVALID_AMOUNT");
             return;
         }
         
-        // 4. Extract username from content
-        String username = extractUsernameFromContent(request.getContent());
+        // 2. Username from content
         if (username == null) {
-            log.error("Cannot extract username from content: {}", request.getContent());
-            saveFailedPayment(request, null, "INVALID_CONTENT");
+            log.error("Cannot extract username from content: {}", payment.getContent());
+            fail(payment, "INVALID_CONTENT");
             return;
         }
         
-        // 5. Find account by username
-        Account account = accountRepository.findByUsername(username).orElse(null);
+        // 3. Find account by username
+        Account account = accounts.get(username);
         if (account == null) {
             log.error("Account not found for username: {}", username);
-            saveFailedPayment(request, null, "ACCOUNT_NOT_FOUND");
+            fail(payment, "ACCOUNT_NOT_FOUND");
             return;
         }
         
-        // 6. Check if account already has subscription
+        // 4. Check if account already has subscription
         if (account.getSubscription() != null) {
             log.warn("Account {} already has subscription", username);
-            saveSuccessPayment(request, account, account.getSubscription());
+            succeed(payment, account, account.getSubscription());
             return;
         }
         
-        // 7. Find Premium subscription
-        Subscription premiumSubscription = subscriptionRepository.findByName("Premium")
-                .orElseThrow(() -> new AppException(ErrorCode.SUBSCRIPTION_NOT_FOUND));
-        
-        // 8. Activate Premium for account
+        // 5. Activate Premium for account
+        if (premiumSubscription == null) {
+            log.error("Premium subscription not found");
+            fail(payment, "SUBSCRIPTION_NOT_FOUND");
+            return;
+        }
         account.setSubscription(premiumSubscription);
-        accountRepository.save(account);
-        
-        // 9. Save successful payment
-        saveSuccessPayment(request, account, premiumSubscription);
+        succeed(payment, account, premiumSubscription);
         
         log.info("Premium activated successfully for account: {} (username: {})", 
                 account.getId(), username);
@@ -100,17 +182,12 @@ public class PaymentServiceImpl implements PaymentService {
         }
         
         // Normalize content (lowercase, remove extra spaces)
-        String normalizedContent = content.toLowerCase().trim().replaceAll("\\s+", " ");
-        
-        // Pattern: "thanh toan premium astramind {username}"
-        // Case insensitive, flexible spacing
-        String patternStr = PAYMENT_KEYWORD.toLowerCase() + "\\s+(.+)";
-        Pattern pattern = Pattern.compile(patternStr);
-        Matcher matcher = pattern.matcher(normalizedContent);
+        String normalizedContent = WHITESPACE.matcher(content.toLowerCase(Locale.ROOT).trim()).replaceAll(" ");
+        Matcher matcher = PAYMENT_PATTERN.matcher(normalizedContent);
         
         if (matcher.find()) {
             String username = matcher.group(1).trim();
-            log.info("Extracted username: {} from content: {}", username, content);
+            log.debug("Extracted username: {} from content: {}", username, content);
             return username;
         }
         
@@ -118,38 +195,15 @@ public class PaymentServiceImpl implements PaymentService {
         return null;
     }
     
-    private void saveSuccessPayment(SepayWebhookRequest request, Account account, Subscription subscription) {
-        Payment payment = Payment.builder()
-                .account(account)
-                .subscription(subscription)
-                .amount(request.getTransferAmount())
-                .transactionId(String.valueOf(request.getId()))
-                .gateway(request.getGateway())
-                .content(request.getContent())
-                .referenceCode(request.getReferenceCode())
-                .transactionDate(request.getTransactionDate())
-                .status("SUCCESS")
-                .paymentMethod("BANK_TRANSFER")
-                .build();
-        
-        paymentRepository.save(payment);
-        log.info("Payment saved successfully: transactionId={}", request.getId());
+    private void succeed(Payment payment, Account account, Subscription subscription) {
+        payment.setAccount(account);
+        payment.setSubscription(subscription);
+        payment.setStatus("SUCCESS");
+        log.info("Payment saved successfully: transactionId={}", payment.getTransactionId());
     }
     
-    private void saveFailedPayment(SepayWebhookRequest request, Account account, String reason) {
-        Payment payment = Payment.builder()
-                .account(account)
-                .amount(request.getTransferAmount())
-                .transactionId(String.valueOf(request.getId()))
-                .gateway(request.getGateway())
-                .content(request.getContent())
-                .referenceCode(request.getReferenceCode())
-                .transactionDate(request.getTransactionDate())
-                .status("FAILED_" + reason)
-                .paymentMethod("BANK_TRANSFER")
-                .build();
-        
-        paymentRepository.save(payment);
-        log.info("Failed payment saved: transactionId={}, reason={}", request.getId(), reason);
+    private void fail(Payment payment, String reason) {
+        payment.setStatus("FAILED_" + reason);
+        log.info("Failed payment saved: transactionId={}, reason={}", payment.getTransactionId(), reason);
     }
 }
@@ -0,0 +1,78 @@
+package az.schedule.backendservice.service.impl;
+
+import az.schedule.backendservice.exception.AppException;
+import az.schedule.backendservice.exception.ErrorCode;
+import az.schedule.backendservice.service.RedisOtpService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Password-reset OTPs kept in Redis and expired by key TTL, so nothing has to clean them up.
+ * <p>
+ * A successful check is a single GET. Wrong guesses are counted per username. After
+ * {@code maxAttempts} misses the code is deleted and has to be requested again. Sends are counted per
+ * account in a fixed window, whichever identifier the account was requested by.
+ */
+@Service
+public class RedisOtpServiceImpl extends BaseRedisServiceImpl implements RedisOtpService {
+    private static final String CODE_PREFIX = "otp:code:";
+    private static final String ATTEMPTS_PREFIX = "otp:attempts:";
+    private static final String SEND_PREFIX = "otp:send:";
+
+    @Value("${app.otp.ttl-seconds:300}")
+    private long ttlSeconds;
+
+    @Value("${app.otp.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${app.otp.send-limit:5}")
+    private int sendLimit;
+
+    @Value("${app.otp.send-window-minutes:15}")
+    private long sendWindowMinutes;
+
+    public RedisOtpServiceImpl(RedisTemplate<String, Object> redisTemplate) {
+        super(redisTemplate);
+    }
+
+    @Override
+    public boolean tryAcquireSend(Long accountId) {
+        Long sends = this.increment(SEND_PREFIX + accountId, sendWindowMinutes, TimeUnit.MINUTES);
+        return sends == null || sends <= sendLimit;
+    }
+
+    @Override
+    public void saveOtp(String username, String otp) {
+        this.set(CODE_PREFIX + username, otp, ttlSeconds, TimeUnit.SECONDS);
+        this.delete(ATTEMPTS_PREFIX + username);
+    }
+
+    @Override
+    public boolean verifyOtp(String username, String otp) {
+        Object stored = this.get(CODE_PREFIX + username);
+        if (stored == null) {
+            return false;
+        }
+        if (otp != null && MessageDigest.isEqual(
+                stored.toString().getBytes(StandardCharsets.UTF_8), otp.getBytes(StandardCharsets.UTF_8))) {
+            return true;
+        }
+        Long attempts = this.increment(ATTEMPTS_PREFIX + username, ttlSeconds, TimeUnit.SECONDS);
+        if (attempts != null && attempts >= maxAttempts) {
+            deleteOtp(username);
+            throw new AppException(ErrorCode.OTP_ATTEMPTS_EXCEEDED);
+        }
+        return false;
+    }
+
+    @Override
+    public void deleteOtp(String username) {
+        this.delete(CODE_PREFIX + username);
+        this.delete(ATTEMPTS_PREFIX + username);
+    }
+}
@@ -1,35 +1,89 @@
 package az.schedule.backendservice.service.impl;
 
+import az.schedule.backendservice.service.BaseRedisService;
 import az.schedule.backendservice.service.RedisRefreshTokenService;
-import org.springframework.data.redis.core.RedisTemplate;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.RedisPipelineException;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Service;
 
+import java.util.Collection;
 import java.util.concurrent.TimeUnit;
 
+/**
+ * Refresh tokens of one account, one per signed-in device, kept as a single hash
+ * {@code refresh:<accountId>} mapping the token's {@code jti} to its expiry (epoch seconds).
+ * <p>
+ * Each field gets its own HEXPIRE (Redis 7.4+), and the key TTL is only ever extended to the
+ * longest-lived token, so the hash disappears with its last token. The stored expiry is also
+ * checked on read, which keeps expiry correct on servers without hash-field TTLs. Values go
+ * through {@link StringRedisTemplate}.
+ */
 @Service
-public class RedisRefreshTokenServiceImpl extends BaseRedisServiceImpl implements RedisRefreshTokenService {
-    public RedisRefreshTokenServiceImpl(RedisTemplate<String, Object> redisTemplate) {
-        super(redisTemplate);
-    }
+@RequiredArgsConstructor
+@Slf4j
+public class RedisRefreshTokenServiceImpl implements RedisRefreshTokenService {
+    private static final String KEY_PREFIX = "refresh:";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final BaseRedisService baseRedisService;
 
     @Override
-    public boolean existsByTokenId(String key) {
-        return this.exists(key);
+    public void storeToken(Long accountId, String tokenId, long expire, TimeUnit timeUnit) {
+        String key = key(accountId);
+        long seconds = timeUnit.toSeconds(expire);
+        String expiresAt = String.valueOf(System.currentTimeMillis() / 1000 + seconds);
+
+        // HSET, field TTL and key TTL in one round trip. EXPIRE GT only extends an existing TTL and
+        // EXPIRE NX only sets a missing one, so together the key lives as long as its newest token.
+        try {
+            stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection redis = (StringRedisConnection) connection;
+                redis.hSet(key, tokenId, expiresAt);
+                redis.execute("HEXPIRE", key, String.valueOf(seconds), "FIELDS", "1", tokenId);
+                redis.execute("EXPIRE", key, String.valueOf(seconds), "GT");
+                redis.execute("EXPIRE", key, String.valueOf(seconds), "NX");
+                return null;
+            });
+        } catch (RedisPipelineException e) {
+            // The HSET has been applied; only a TTL command was rejected (HEXPIRE needs Redis 7.4)
+            log.warn("Refresh token TTL not fully applied for account {}: {}", accountId, e.getMessage());
+        }
     }
 
+    /**
+     * Removes the token and returns whether it was active, so a refresh token works once: of two
+     * concurrent refreshes with the same token only the one whose HDEL removed the field succeeds.
+     */
     @Override
-    public void setToken(String key, String value, Long expire, TimeUnit timeUnit) {
-        this.set(key, value, expire, timeUnit);
+    public boolean consumeToken(Long accountId, String tokenId) {
+        Object expiresAt = stringRedisTemplate.opsForHash().get(key(accountId), tokenId);
+        if (expiresAt == null) {
+            return false;
+        }
+        Long removed = stringRedisTemplate.opsForHash().delete(key(accountId), tokenId);
+        return removed != null && removed > 0
+                && Long.parseLong(expiresAt.toString()) > System.currentTimeMillis() / 1000;
     }
 
     @Override
-    public void deleteToken(String key) {
-        this.delete(key);
+    public void revokeToken(Long accountId, String tokenId) {
+        stringRedisTemplate.opsForHash().delete(key(accountId), tokenId);
     }
 
+    /**
+     * Signs every device of the given accounts out, with one DEL for all their hashes. Used when a
+     * password changes or an account is deactivated or deleted.
+     */
     @Override
-    public String getToken(String key) {
-        Object token = this.get(key);
-        return token != null ? token.toString() : null;
+    public void revokeAll(Collection<Long> accountIds) {
+        baseRedisService.deleteAll(accountIds.stream().map(RedisRefreshTokenServiceImpl::key).toList());
+    }
+
+    private static String key(Long accountId) {
+        return KEY_PREFIX + accountId;
     }
 }
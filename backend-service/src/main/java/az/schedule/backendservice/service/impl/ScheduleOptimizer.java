@@ -0,0 +1,336 @@
+package az.schedule.backendservice.service.impl;
+
+import az.schedule.backendservice.utils.FreeIntervalSet;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Packs tasks into the free working time of a horizon so that no two suggestions overlap each other
+ * or an existing task.
+ * <p>
+ * Time is indexed in minutes from the horizon start, rounded to {@code slot-minutes}. Pinned jobs
+ * (tasks that already have a usable slot) are reserved first, in weight order; a pinned job whose
+ * slot collides with a heavier one is moved like the rest. Movable jobs are then placed greedily,
+ * heaviest first and earliest deadline first, each at the first free working slot after its
+ * release, and a local search swaps, compacts and re-inserts placements while that lowers the cost:
+ * weighted waiting time, ten times that for minutes past a deadline, and a large penalty for jobs
+ * that do not fit at all.
+ * <p>
+ * The search is seeded, so a plan depends only on its input as long as it stops on
+ * {@code max-iterations}; {@code time-budget-ms} only bounds latency on very large inputs.
+ */
+@Service
+@Slf4j
+public class ScheduleOptimizer {
+
+    private static final int LATE_FACTOR = 10;
+
+    @Value("${app.schedule.optimizer.work-windows:08:00-12:00,14:00-17:00}")
+    private String workWindows;
+
+    @Value("${app.schedule.optimizer.skip-weekends:true}")
+    private boolean skipWeekends;
+
+    @Value("${app.schedule.optimizer.slot-minutes:15}")
+    private int slotMinutes;
+
+    @Value("${app.schedule.optimizer.time-budget-ms:200}")
+    private long timeBudgetMs;
+
+    @Value("${app.schedule.optimizer.max-iterations:20000}")
+    private int maxIterations;
+
+    @Value("${app.schedule.optimizer.seed:42}")
+    private long seed;
+
+    private List<LocalTime[]> windows;
+
+    @PostConstruct
+    void init() {
+        windows = new ArrayList<>();
+        for (String window : workWindows.split(",")) {
+            String[] bounds = window.trim().split("-");
+            LocalTime start = LocalTime.parse(bounds[0].trim());
+            LocalTime end = LocalTime.parse(bounds[1].trim());
+            if (!end.isAfter(start)) {
+                throw new IllegalStateException("Invalid work window " + window);
+            }
+            windows.add(new LocalTime[]{start, end});
+        }
+        windows.sort(Comparator.comparing(bounds -> bounds[0]));
+    }
+
+    /**
+     * A task to place. {@code pinnedStart} keeps the task where it is when that slot is free;
+     * {@code release} and {@code deadline} may be {@code null}.
+     */
+    public record Job(Long id, int durationMinutes, int weight, LocalDateTime pinnedStart,
+                      LocalDateTime release, LocalDateTime deadline) {
+    }
+
+    public record Slot(LocalDateTime start, LocalDateTime end) {
+    }
+
+    /**
+     * Placements by job id, in job order; jobs that did not fit are listed in {@code unplaced}.
+     */
+    public record Plan(Map<Long, Slot> slots, List<Long> unplaced, long cost, int iterations) {
+    }
+
+    public Plan optimize(List<Job> jobs, LocalDateTime from, LocalDateTime to) {
+        long startedAt = System.nanoTime();
+        LocalDateTime origin = ceilToSlot(from);
+        int horizon = Math.max(0, minutesBetween(origin, to));
+
+        // Working time left for movable jobs, and all time not taken by a pinned job
+        FreeIntervalSet free = workingTime(origin, horizon);
+        FreeIntervalSet unpinned = new FreeIntervalSet();
+        unpinned.release(Integer.MIN_VALUE / 2, Integer.MAX_VALUE / 2);
+
+        List<Job> byWeight = new ArrayList<>(jobs);
+        byWeight.sort(Comparator.comparingInt(Job::weight).reversed()
+                .thenComparing(Job::deadline, Comparator.nullsLast(Comparator.naturalOrder()))
+                .thenComparing(Comparator.comparingInt(Job::durationMinutes).reversed())
+                .thenComparing(Job::id));
+
+        Map<Long, Slot> pinned = new HashMap<>();
+        List<Task> movable = new ArrayList<>();
+        for (Job job : byWeight) {
+            int duration = ceilDiv(Math.max(job.durationMinutes(), 1), slotMinutes) * slotMinutes;
+            if (job.pinnedStart() != null) {
+                int start = Math.floorDiv(minutesBetween(origin, job.pinnedStart()), slotMinutes) * slotMinutes;
+                int end = start + duration;
+                if (unpinned.isFree(start, end)) {
+                    unpinned.reserve(start, end);
+                    free.reserve(start, end);
+                    pinned.put(job.id(), new Slot(job.pinnedStart(), job.pinnedStart().plusMinutes(job.durationMinutes())));
+                    continue;
+                }
+            }
+            int release = job.release() == null ? 0 : Math.max(0, ceilToSlot(minutesBetween(origin, job.release())));
+            int deadline = job.deadline() == null ? Integer.MAX_VALUE : minutesBetween(origin, job.deadline());
+            movable.add(new Task(job.id(), duration, Math.max(job.weight(), 1), release, deadline));
+        }
+
+        Search search = new Search(movable, free, horizon);
+        search.greedy();
+        int iterations = search.improve(startedAt + Duration.ofMillis(timeBudgetMs).toNanos());
+
+        Map<Long, Slot> slots = new LinkedHashMap<>();
+        List<Long> unplaced = new ArrayList<>();
+        for (Job job : jobs) {
+            Slot slot = pinned.get(job.id());
+            if (slot == null) {
+                Task task = search.byId.get(job.id());
+                if (task != null && task.start >= 0) {
+                    LocalDateTime start = origin.plusMinutes(task.start);
+                    slot = new Slot(start, start.plusMinutes(task.duration));
+                }
+            }
+            if (slot != null) {
+                slots.put(job.id(), slot);
+            } else {
+                unplaced.add(job.id());
+            }
+        }
+        log.debug("Placed {} of {} jobs ({} pinned) in {} iterations, cost {}",
+                slots.size(), jobs.size(), pinned.size(), iterations, search.cost);
+        return new Plan(slots, unplaced, search.cost, iterations);
+    }
+
+    private FreeIntervalSet workingTime(LocalDateTime origin, int horizon) {
+        FreeIntervalSet free = new FreeIntervalSet();
+        LocalDateTime end = origin.plusMinutes(horizon);
+        for (LocalDate day = origin.toLocalDate(); day.atStartOfDay().isBefore(end); day = day.plusDays(1)) {
+            if (skipWeekends && (day.getDayOfWeek() == DayOfWeek.SATURDAY || day.getDayOfWeek() == DayOfWeek.SUNDAY)) {
+                continue;
+            }
+            for (LocalTime[] window : windows) {
+                int windowStart = Math.max(0, ceilToSlot(minutesBetween(origin, day.atTime(window[0]))));
+                int windowEnd = Math.min(horizon, minutesBetween(origin, day.atTime(window[1])));
+                free.release(windowStart, windowEnd);
+            }
+        }
+        return free;
+    }
+
+    private LocalDateTime ceilToSlot(LocalDateTime time) {
+        LocalDateTime minute = time.withSecond(0).withNano(0);
+        if (minute.isBefore(time)) {
+            minute = minute.plusMinutes(1);
+        }
+        int offset = (minute.getHour() * 60 + minute.getMinute()) % slotMinutes;
+        return offset == 0 ? minute : minute.plusMinutes(slotMinutes - offset);
+    }
+
+    private int ceilToSlot(int minutes) {
+        return ceilDiv(minutes, slotMinutes) * slotMinutes;
+    }
+
+    private static int minutesBetween(LocalDateTime from, LocalDateTime to) {
+        long minutes = Duration.between(from, to).toMinutes();
+        return (int) Math.max(Integer.MIN_VALUE / 4, Math.min(Integer.MAX_VALUE / 4, minutes));
+    }
+
+    private static int ceilDiv(int value, int divisor) {
+        return -Math.floorDiv(-value, divisor);
+    }
+
+    private static final class Task {
+        final Long id;
+        final int duration;
+        final int weight;
+        final int release;
+        final int deadline;
+        int start = -1;
+
+        Task(Long id, int duration, int weight, int release, int deadline) {
+            this.id = id;
+            this.duration = duration;
+            this.weight = weight;
+            this.release = release;
+            this.deadline = deadline;
+        }
+    }
+
+    private final class Search {
+        final List<Task> tasks;
+        final Map<Long, Task> byId = new HashMap<>();
+        final FreeIntervalSet free;
+        final long unplacedPenalty;
+        final Random random = new Random(seed);
+        long cost;
+
+        Search(List<Task> tasks, FreeIntervalSet free, int horizon) {
+            this.tasks = tasks;
+            this.free = free;
+            // Worse than the latest possible placement, so fitting a job always pays off
+            this.unplacedPenalty = (long) (horizon + 1) * (LATE_FACTOR + 1);
+            for (Task task : tasks) {
+                byId.put(task.id, task);
+            }
+        }
+
+        void greedy() {
+            for (Task task : tasks) {
+                place(task);
+                cost += cost(task);
+            }
+        }
+
+        int improve(long deadlineNanos) {
+            // A single job already sits at its first fit
+            if (tasks.size() < 2) {
+                return 0;
+            }
+            int iteration = 0;
+            while (iteration < maxIterations && System.nanoTime() < deadlineNanos) {
+                iteration++;
+                Task a = tasks.get(random.nextInt(tasks.size()));
+                Task b = tasks.get(random.nextInt(tasks.size()));
+                if (a == b) {
+                    compact(a);
+                } else if (a.start < 0 || b.start < 0) {
+                    reinsert(a.start < 0 ? a : b, a.start < 0 ? b : a);
+                } else {
+                    swap(a, b);
+                }
+            }
+            return iteration;
+        }
+
+        /** Moves a job to the first slot after its release if one opened up earlier. */
+        private void compact(Task task) {
+            if (task.start < 0) {
+                return;
+            }
+            long before = cost(task);
+            int previous = task.start;
+            unplace(task);
+            place(task);
+            if (cost(task) < before) {
+                cost += cost(task) - before;
+            } else {
+                unplace(task);
+                placeAt(task, previous);
+            }
+        }
+
+        /** Lets {@code first} take the earliest slot, then places {@code second} after it. */
+        private void swap(Task a, Task b) {
+            Task first = a.start > b.start ? a : b;
+            Task second = first == a ? b : a;
+            tryReorder(first, second);
+        }
+
+        /** Tries to fit an unplaced job by placing it before a placed, lighter one. */
+        private void reinsert(Task unplaced, Task other) {
+            if (other.start >= 0 && other.weight > unplaced.weight) {
+                return;
+            }
+            tryReorder(unplaced, other);
+        }
+
+        private void tryReorder(Task first, Task second) {
+            long before = cost(first) + cost(second);
+            int firstStart = first.start;
+            int secondStart = second.start;
+            unplace(first);
+            unplace(second);
+            place(first);
+            place(second);
+            long after = cost(first) + cost(second);
+            if (after < before) {
+                cost += after - before;
+                return;
+            }
+            unplace(first);
+            unplace(second);
+            placeAt(first, firstStart);
+            placeAt(second, secondStart);
+        }
+
+        private void place(Task task) {
+            int start = free.firstFit(task.release, task.duration, Integer.MAX_VALUE);
+            placeAt(task, start);
+        }
+
+        private void placeAt(Task task, int start) {
+            task.start = start;
+            if (start >= 0) {
+                free.reserve(start, start + task.duration);
+            }
+        }
+
+        private void unplace(Task task) {
+            if (task.start >= 0) {
+                free.release(task.start, task.start + task.duration);
+                task.start = -1;
+            }
+        }
+
+        private long cost(Task task) {
+            if (task.start < 0) {
+                return task.weight * unplacedPenalty;
+            }
+            long wait = task.start - task.release;
+            long late = Math.max(0L, (long) task.start + task.duration - task.deadline);
+            return task.weight * (wait + LATE_FACTOR * late);
+        }
+    }
+}
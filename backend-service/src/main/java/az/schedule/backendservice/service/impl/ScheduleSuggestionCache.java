@@ -0,0 +1,120 @@
+package az.schedule.backendservice.service.impl;
+
+import az.schedule.backendservice.dto.response.ScheduleSuggestionResponse;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Precomputed schedule suggestions per account, month and language, plus the set of accounts whose
+ * tasks changed since their suggestions were computed.
+ * <p>
+ * Task writes mark the account dirty after commit instead of dropping its entries, so the endpoint
+ * keeps answering from memory while {@link AIScheduleServiceImpl} recomputes dirty accounts in the
+ * background. Entries also go stale after {@code max-age-minutes}, since overdue and due-soon
+ * scores move with the clock, and are dropped when not read for {@code ttl-minutes}.
+ */
+@Service
+public class ScheduleSuggestionCache implements MeterBinder {
+
+    @Value("${app.schedule.suggestions.cache.max-size:10000}")
+    private long maxSize;
+
+    @Value("${app.schedule.suggestions.cache.ttl-minutes:60}")
+    private long ttlMinutes;
+
+    @Value("${app.schedule.suggestions.cache.max-age-minutes:15}")
+    private long maxAgeMinutes;
+
+    private Cache<Key, Entry> cache;
+    private final Set<Long> dirtyAccounts = ConcurrentHashMap.newKeySet();
+
+    public record Key(Long accountId, int year, int month, String language) {
+    }
+
+    private record Entry(ScheduleSuggestionResponse response, Instant computedAt) {
+    }
+
+    @PostConstruct
+    void init() {
+        cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterAccess(Duration.ofMinutes(ttlMinutes))
+                .recordStats()
+                .build();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, "schedule.suggestions");
+        Gauge.builder("schedule.suggestions.dirty-accounts", dirtyAccounts, Set::size)
+                .description("Accounts waiting for their suggestions to be recomputed")
+                .register(registry);
+    }
+
+    /**
+     * Returns the cached suggestions, computing them on the caller's thread only the first time the
+     * key is requested.
+     */
+    public ScheduleSuggestionResponse get(Key key, Function<Key, ScheduleSuggestionResponse> loader) {
+        return cache.get(key, k -> new Entry(loader.apply(k), Instant.now())).response();
+    }
+
+    public void put(Key key, ScheduleSuggestionResponse response) {
+        cache.put(key, new Entry(response, Instant.now()));
+    }
+
+    /**
+     * Marks the account's suggestions for recomputation once the current transaction commits.
+     */
+    public void markDirty(Long accountId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    dirtyAccounts.add(accountId);
+                }
+            });
+        } else {
+            dirtyAccounts.add(accountId);
+        }
+    }
+
+    /**
+     * Returns the cached keys of dirty accounts and entries older than the maximum age, and clears
+     * the dirty set. A write that commits while these are recomputed marks the account again.
+     */
+    public List<Key> takeStale() {
+        Set<Long> dirty = Set.copyOf(dirtyAccounts);
+        dirtyAccounts.removeAll(dirty);
+
+        Instant staleBefore = Instant.now().minus(Duration.ofMinutes(maxAgeMinutes));
+        List<Key> stale = new ArrayList<>();
+        cache.asMap().forEach((key, entry) -> {
+            if (dirty.contains(key.accountId()) || entry.computedAt().isBefore(staleBefore)) {
+                stale.add(key);
+            }
+        });
+        return stale;
+    }
+
+    public long size() {
+        return cache.estimatedSize();
+    }
+}
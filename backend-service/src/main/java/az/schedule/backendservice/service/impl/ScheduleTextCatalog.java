@@ -0,0 +1,129 @@
+package az.schedule.backendservice.service.impl;
+
+import az.schedule.backendservice.enums.ScheduleText;
+import az.schedule.backendservice.utils.TextTemplate;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.MessageSource;
+import org.springframework.stereotype.Service;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The AI schedule texts of every supported language, read from the {@code i18n/schedule-texts}
+ * bundles through the application {@link MessageSource} and compiled into {@link TextTemplate}s
+ * once at startup.
+ * <p>
+ * Languages come from {@code app.schedule.texts.languages}; the first one is the default, used for
+ * unknown languages and for keys a bundle does not define. A language is matched by its code, its
+ * ISO 639-2 code or its English name, so {@code vi}, {@code vi-VN}, {@code vie} and
+ * {@code Vietnamese} all resolve to {@code vi}.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ScheduleTextCatalog {
+
+    private final MessageSource messageSource;
+
+    @Value("${app.schedule.texts.languages:en,vi}")
+    private String languages;
+
+    private String defaultLanguage;
+    private final Map<String, Texts> textsByLanguage = new LinkedHashMap<>();
+    private final Map<String, String> aliases = new HashMap<>();
+
+    @PostConstruct
+    void init() {
+        for (String code : languages.split(",")) {
+            String language = code.trim().toLowerCase(Locale.ROOT);
+            if (defaultLanguage == null) {
+                defaultLanguage = language;
+            }
+            Locale locale = Locale.forLanguageTag(language);
+            EnumMap<ScheduleText, TextTemplate> templates = new EnumMap<>(ScheduleText.class);
+            for (ScheduleText text : ScheduleText.values()) {
+                String pattern = messageSource.getMessage(text.getKey(), null, null, locale);
+                if (pattern == null || pattern.equals(text.getKey())) {
+                    if (language.equals(defaultLanguage)) {
+                        throw new IllegalStateException("Missing schedule text " + text.getKey() + " for " + language);
+                    }
+                    log.warn("Schedule text {} is missing for {}, using {}", text.getKey(), language, defaultLanguage);
+                    templates.put(text, textsByLanguage.get(defaultLanguage).templates.get(text));
+                } else {
+                    templates.put(text, TextTemplate.compile(pattern));
+                }
+            }
+            textsByLanguage.put(language, new Texts(language, templates));
+
+            aliases.put(language, language);
+            aliases.putIfAbsent(locale.getISO3Language(), language);
+            aliases.putIfAbsent(locale.getDisplayLanguage(Locale.ENGLISH).toLowerCase(Locale.ROOT), language);
+        }
+        log.info("Compiled {} schedule texts for languages {}", ScheduleText.values().length, textsByLanguage.keySet());
+    }
+
+    public Set<String> languages() {
+        return textsByLanguage.keySet();
+    }
+
+    /**
+     * Maps a language tag or {@code Accept-Language} value to a supported language code, or the
+     * default language.
+     */
+    public String resolveLanguage(String language) {
+        if (language == null || language.isBlank()) {
+            return defaultLanguage;
+        }
+        String value = language.trim().toLowerCase(Locale.ROOT);
+        // First entry of an Accept-Language list, without its quality and region
+        int end = value.length();
+        for (char stop : new char[]{',', ';', '-', '_'}) {
+            int index = value.indexOf(stop);
+            if (index >= 0 && index < end) {
+                end = index;
+            }
+        }
+        return aliases.getOrDefault(value.substring(0, end).trim(), defaultLanguage);
+    }
+
+    public Texts texts(String language) {
+        return textsByLanguage.get(resolveLanguage(language));
+    }
+
+    /**
+     * The compiled texts of one language.
+     */
+    public static final class Texts {
+        private final String language;
+        private final EnumMap<ScheduleText, TextTemplate> templates;
+
+        private Texts(String language, EnumMap<ScheduleText, TextTemplate> templates) {
+            this.language = language;
+            this.templates = templates;
+        }
+
+        public String language() {
+            return language;
+        }
+
+        public TextTemplate template(ScheduleText text) {
+            return templates.get(text);
+        }
+
+        public StringBuilder appendTo(StringBuilder out, ScheduleText text, Object... args) {
+            return templates.get(text).appendTo(out, args);
+        }
+
+        public String render(ScheduleText text, Object... args) {
+            return templates.get(text).render(args);
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package az.schedule.backendservice.service.impl;
+
+import az.schedule.backendservice.repository.PaymentRepository;
+import az.schedule.backendservice.service.PaymentService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Settles Sepay webhooks stored as PENDING payments, so the webhook request only has to insert the
+ * row before it is acknowledged.
+ * <p>
+ * Up to {@code workers} drain loops run on a dedicated pool, each claiming batches of
+ * {@code batchSize} pending payments until none is left. A batch is claimed with SKIP LOCKED and
+ * settled in the same transaction, so several instances can share the backlog and a crashed worker's
+ * batch simply stays pending. A payment that cannot be settled is marked failed on its own and does
+ * not hold back the rest of its batch.
+ */
+@Service
+@Slf4j
+public class SepayWebhookWorker {
+
+    private final PaymentService paymentService;
+    private final PaymentRepository paymentRepository;
+    private final Counter processedCounter;
+    private final AtomicLong pending = new AtomicLong();
+
+    @Value("${app.payment.webhook.workers:1}")
+    private int workers;
+
+    @Value("${app.payment.webhook.batch-size:50}")
+    private int batchSize;
+
+    private ThreadPoolTaskExecutor executor;
+    private Semaphore slots;
+
+    public SepayWebhookWorker(PaymentService paymentService,
+                              PaymentRepository paymentRepository,
+                              MeterRegistry meterRegistry) {
+        this.paymentService = paymentService;
+        this.paymentRepository = paymentRepository;
+        this.processedCounter = meterRegistry.counter("payment.webhook.processed");
+        Gauge.builder("payment.webhook.pending", pending, AtomicLong::get)
+                .description("Webhooks waiting to be processed, as of the last poll")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() {
+        slots = new Semaphore(workers);
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(workers);
+        executor.setMaxPoolSize(workers);
+        // Room for a loop submitted while the previous one is still returning its thread
+        executor.setQueueCapacity(workers);
+        executor.setThreadNamePrefix("SepayWebhook-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        executor.initialize();
+    }
+
+    @PreDestroy
+    void stop() {
+        executor.shutdown();
+    }
+
+    /**
+     * Starts a drain loop right away if a worker is free; called after a webhook is stored.
+     */
+    public void wakeUp() {
+        if (slots.tryAcquire()) {
+            executor.execute(this::drainAndRelease);
+        }
+    }
+
+    /**
+     * Picks up webhooks stored while all workers were busy, by another instance, or before a restart.
+     */
+    @Scheduled(fixedDelayString = "${app.payment.webhook.poll-interval-ms:5000}")
+    public void poll() {
+        pending.set(paymentRepository.countByStatus("PENDING"));
+        while (slots.tryAcquire()) {
+            executor.execute(this::drainAndRelease);
+        }
+    }
+
+    /**
+     * Processes pending webhooks on the calling thread until none is left and returns how many were
+     * processed.
+     */
+    public int drain() {
+        int processed = 0;
+        int batch;
+        while ((batch = paymentService.processPendingPayments(batchSize)) > 0) {
+            processed += batch;
+            processedCounter.increment(batch);
+        }
+        return processed;
+    }
+
+    private void drainAndRelease() {
+        try {
+            drain();
+        } catch (RuntimeException e) {
+            log.error("Sepay webhook drain failed", e);
+        } finally {
+            slots.release();
+        }
+    }
+}
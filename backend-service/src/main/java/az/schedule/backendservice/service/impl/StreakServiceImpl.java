@@ -10,6 +10,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.MessageSource;
 import org.springframework.context.i18n.LocaleContextHolder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -47,6 +48,7 @@ public class StreakServiceImpl implements StreakService {
     }
     
     @Override
+    @Transactional(readOnly = true)
     public StreakResponse getUserStreak(Long accountId) {
         List<Task> allTasks = taskRepository.findByAccountId(accountId);
         
@@ -35,7 +35,7 @@ public class SubscriptionServiceImpl implements SubscriptionService {
 
     @Override
     public SubscriptionDTO getAccountSubscription(Long accountId) {
-        Account account = accountRepository.findById(accountId)
+        Account account = accountRepository.findWithRoleAndSubscriptionById(accountId)
                 .orElseThrow(() -> new AppException(ErrorCode.ACCOUNT_NOT_FOUND));
         
         return subscriptionConverter.toDTO(account.getSubscription());
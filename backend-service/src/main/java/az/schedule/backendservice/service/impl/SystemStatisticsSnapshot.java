@@ -0,0 +1,130 @@
+package az.schedule.backendservice.service.impl;
+
+import az.schedule.backendservice.dto.response.admin.SystemStatisticsResponse;
+import az.schedule.backendservice.enums.TaskStatus;
+import az.schedule.backendservice.repository.AccountRepository;
+import az.schedule.backendservice.repository.CategoryRepository;
+import az.schedule.backendservice.repository.TaskRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Admin dashboard statistics, computed from grouped count queries and kept as an in-memory
+ * snapshot. The scheduler refreshes it every {@code app.admin.statistics.refresh-ms}, so the admin
+ * endpoint returns it in constant time. Figures can be up to one refresh interval old.
+ * <p>
+ * The queries run in a read-only {@link TransactionTemplate} rather than under
+ * {@code @Transactional}, so the first load from {@link #get()}, a self-call, gets the same
+ * transaction as the scheduled refresh.
+ */
+@Service
+@Slf4j
+public class SystemStatisticsSnapshot {
+
+    private static final String ADMIN_ROLE = "ADMIN";
+    private static final String NO_ROLE = "NONE";
+
+    private final AccountRepository accountRepository;
+    private final TaskRepository taskRepository;
+    private final CategoryRepository categoryRepository;
+    private final TransactionTemplate readOnlyTransaction;
+
+    // Not synchronized: the first load blocks on JDBC, which would pin a virtual thread
+    private final ReentrantLock firstLoad = new ReentrantLock();
+    private volatile SystemStatisticsResponse snapshot;
+
+    public SystemStatisticsSnapshot(AccountRepository accountRepository,
+                                    TaskRepository taskRepository,
+                                    CategoryRepository categoryRepository,
+                                    PlatformTransactionManager transactionManager) {
+        this.accountRepository = accountRepository;
+        this.taskRepository = taskRepository;
+        this.categoryRepository = categoryRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    public SystemStatisticsResponse get() {
+        SystemStatisticsResponse current = snapshot;
+        if (current == null) {
+            firstLoad.lock();
+            try {
+                current = snapshot;
+                if (current == null) {
+                    current = refresh();
+                }
+            } finally {
+                firstLoad.unlock();
+            }
+        }
+        return current;
+    }
+
+    @Scheduled(fixedDelayString = "${app.admin.statistics.refresh-ms:60000}",
+            initialDelayString = "${app.admin.statistics.refresh-ms:60000}")
+    public SystemStatisticsResponse refresh() {
+        long startedAt = System.nanoTime();
+        SystemStatisticsResponse statistics = readOnlyTransaction.execute(status -> compute());
+        snapshot = statistics;
+        log.debug("Refreshed system statistics in {} ms", (System.nanoTime() - startedAt) / 1_000_000);
+        return statistics;
+    }
+
+    private SystemStatisticsResponse compute() {
+
+        long totalUsers = 0;
+        long activeUsers = 0;
+        long adminUsers = 0;
+        Map<String, Long> usersByRole = new TreeMap<>();
+        for (AccountRepository.RoleStatusCount row : accountRepository.countByRoleAndStatus()) {
+            totalUsers += row.getCount();
+            if (Boolean.TRUE.equals(row.getActive())) {
+                activeUsers += row.getCount();
+            }
+            if (ADMIN_ROLE.equals(row.getRoleCode())) {
+                adminUsers += row.getCount();
+            }
+            usersByRole.merge(row.getRoleCode() != null ? row.getRoleCode() : NO_ROLE, row.getCount(), Long::sum);
+        }
+
+        long totalTasks = 0;
+        long completedTasks = 0;
+        Map<String, Long> tasksByStatus = new LinkedHashMap<>();
+        for (TaskStatus status : TaskStatus.values()) {
+            tasksByStatus.put(status.name(), 0L);
+        }
+        for (TaskRepository.StatusCount row : taskRepository.countGroupByStatus()) {
+            totalTasks += row.getCount();
+            if (row.getStatus() == TaskStatus.DONE) {
+                completedTasks += row.getCount();
+            }
+            if (row.getStatus() != null) {
+                tasksByStatus.put(row.getStatus().name(), row.getCount());
+            }
+        }
+
+        return SystemStatisticsResponse.builder()
+                .totalUsers(totalUsers)
+                .activeUsers(activeUsers)
+                .inactiveUsers(totalUsers - activeUsers)
+                .totalTasks(totalTasks)
+                .completedTasks(completedTasks)
+                .pendingTasks(totalTasks - completedTasks)
+                .totalCategories(categoryRepository.count())
+                .adminUsers(adminUsers)
+                .regularUsers(totalUsers - adminUsers)
+                .usersByRole(usersByRole)
+                .tasksByStatus(tasksByStatus)
+                .generatedAt(LocalDateTime.now())
+                .build();
+    }
+}
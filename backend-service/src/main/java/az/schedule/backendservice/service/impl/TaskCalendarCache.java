@@ -0,0 +1,196 @@
+package az.schedule.backendservice.service.impl;
+
+import az.schedule.backendservice.dto.response.CalendarTaskResponse;
+import az.schedule.backendservice.repository.TaskRepository;
+import az.schedule.backendservice.utils.IntervalTree;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Per-account cache of calendar tasks.
+ * <p>
+ * Every account keeps the time ranges already loaded from the database plus an {@link IntervalTree}
+ * of the tasks overlapping them. A request only hits the database for the part of its window that is
+ * not covered yet; loads are widened to whole months (plus {@code prefetchMonths} on each side) so
+ * navigating to an adjacent week or month is served from memory. Any task or category write for an
+ * account drops that account's entry.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TaskCalendarCache implements MeterBinder {
+
+    private final TaskRepository taskRepository;
+
+    @Value("${app.calendar.cache.max-accounts:1000}")
+    private int maxAccounts;
+
+    @Value("${app.calendar.cache.ttl-minutes:10}")
+    private long ttlMinutes;
+
+    @Value("${app.calendar.cache.prefetch-months:1}")
+    private int prefetchMonths;
+
+    private final Map<Long, AccountCalendar> calendars = new LinkedHashMap<>(16, 0.75f, true);
+    // A hit is a request served without loading anything from the database
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public List<CalendarTaskResponse> getTasks(Long accountId, LocalDateTime start, LocalDateTime end) {
+        AccountCalendar calendar = calendarFor(accountId);
+        // A lock rather than synchronized: the load below blocks on JDBC, which would pin a virtual thread
+        calendar.lock.lock();
+        try {
+            LocalDateTime loadStart = start.toLocalDate().withDayOfMonth(1).atStartOfDay()
+                    .minusMonths(prefetchMonths);
+            LocalDateTime loadEnd = end.toLocalDate().withDayOfMonth(1).atStartOfDay();
+            if (loadEnd.isBefore(end)) {
+                loadEnd = loadEnd.plusMonths(1);
+            }
+            loadEnd = loadEnd.plusMonths(prefetchMonths);
+
+            List<LocalDateTime[]> gaps = calendar.gaps(loadStart, loadEnd);
+            (gaps.isEmpty() ? hits : misses).increment();
+            for (LocalDateTime[] gap : gaps) {
+                List<CalendarTaskResponse> loaded = taskRepository.findCalendarTasks(accountId, gap[0], gap[1]);
+                calendar.add(gap[0], gap[1], loaded);
+                log.debug("Loaded {} calendar tasks for account {} in [{}, {})", loaded.size(), accountId, gap[0], gap[1]);
+            }
+            return calendar.tree.query(start, end);
+        } finally {
+            calendar.lock.unlock();
+        }
+    }
+
+    /**
+     * Drops the account's cached calendar now and, when called inside a transaction, again after
+     * commit so a concurrent read cannot re-cache the pre-commit state.
+     */
+    public void evict(Long accountId) {
+        remove(accountId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    remove(accountId);
+                }
+            });
+        }
+    }
+
+    /**
+     * Publishes hits, misses and size under the meter names of {@code CaffeineCacheMetrics}, so the
+     * hit ratio of every cache is queried the same way.
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("cache.gets", hits, LongAdder::sum)
+                .tags("cache", "task.calendar", "result", "hit")
+                .register(registry);
+        FunctionCounter.builder("cache.gets", misses, LongAdder::sum)
+                .tags("cache", "task.calendar", "result", "miss")
+                .register(registry);
+        Gauge.builder("cache.size", calendars, Map::size)
+                .tag("cache", "task.calendar")
+                .register(registry);
+    }
+
+    private void remove(Long accountId) {
+        synchronized (calendars) {
+            calendars.remove(accountId);
+        }
+    }
+
+    private AccountCalendar calendarFor(Long accountId) {
+        synchronized (calendars) {
+            AccountCalendar calendar = calendars.get(accountId);
+            if (calendar == null || calendar.isExpired(ttlMinutes)) {
+                calendar = new AccountCalendar();
+                calendars.put(accountId, calendar);
+                if (calendars.size() > maxAccounts) {
+                    Long eldest = calendars.keySet().iterator().next();
+                    calendars.remove(eldest);
+                }
+            }
+            return calendar;
+        }
+    }
+
+    private static final class AccountCalendar {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final LocalDateTime createdAt = LocalDateTime.now();
+        // Loaded ranges, start -> end, kept merged and non-overlapping
+        private final TreeMap<LocalDateTime, LocalDateTime> covered = new TreeMap<>();
+        private final Map<Long, CalendarTaskResponse> tasks = new HashMap<>();
+        private IntervalTree<CalendarTaskResponse> tree =
+                IntervalTree.empty(CalendarTaskResponse::getStartTime, CalendarTaskResponse::getEndTime);
+
+        boolean isExpired(long ttlMinutes) {
+            return createdAt.plusMinutes(ttlMinutes).isBefore(LocalDateTime.now());
+        }
+
+        List<LocalDateTime[]> gaps(LocalDateTime start, LocalDateTime end) {
+            List<LocalDateTime[]> gaps = new ArrayList<>();
+            LocalDateTime cursor = start;
+            Map.Entry<LocalDateTime, LocalDateTime> floor = covered.floorEntry(start);
+            if (floor != null && floor.getValue().isAfter(cursor)) {
+                cursor = floor.getValue();
+            }
+            for (Map.Entry<LocalDateTime, LocalDateTime> range : covered.subMap(start, false, end, false).entrySet()) {
+                if (range.getKey().isAfter(cursor)) {
+                    gaps.add(new LocalDateTime[]{cursor, range.getKey()});
+                }
+                if (range.getValue().isAfter(cursor)) {
+                    cursor = range.getValue();
+                }
+            }
+            if (cursor.isBefore(end)) {
+                gaps.add(new LocalDateTime[]{cursor, end});
+            }
+            return gaps;
+        }
+
+        void add(LocalDateTime start, LocalDateTime end, List<CalendarTaskResponse> loaded) {
+            for (CalendarTaskResponse task : loaded) {
+                tasks.put(task.getId(), task);
+            }
+            tree = new IntervalTree<>(tasks.values(), CalendarTaskResponse::getStartTime, CalendarTaskResponse::getEndTime);
+
+            LocalDateTime mergedStart = start;
+            LocalDateTime mergedEnd = end;
+            Map.Entry<LocalDateTime, LocalDateTime> floor = covered.floorEntry(start);
+            if (floor != null && !floor.getValue().isBefore(start)) {
+                mergedStart = floor.getKey();
+                if (floor.getValue().isAfter(mergedEnd)) {
+                    mergedEnd = floor.getValue();
+                }
+            }
+            Map<LocalDateTime, LocalDateTime> touching = covered.subMap(mergedStart, true, mergedEnd, true);
+            for (LocalDateTime rangeEnd : touching.values()) {
+                if (rangeEnd.isAfter(mergedEnd)) {
+                    mergedEnd = rangeEnd;
+                }
+            }
+            touching.clear();
+            covered.put(mergedStart, mergedEnd);
+        }
+    }
+}
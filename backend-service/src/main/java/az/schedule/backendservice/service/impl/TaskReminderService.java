@@ -6,26 +6,46 @@ import az.schedule.backendservice.enums.NotificationType;
 import az.schedule.backendservice.enums.TaskStatus;
 import az.schedule.backendservice.repository.TaskRepository;
 import az.schedule.backendservice.service.NotificationService;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
 
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class TaskReminderService {
 
     private final TaskRepository taskRepository;
     private final NotificationService notificationService;
     private final TrendyMessageService trendyMessageService;
+    private final Counter sentCounter;
+    private final Counter failedCounter;
+    private final AtomicLong backlog = new AtomicLong();
+
+    public TaskReminderService(TaskRepository taskRepository,
+                               NotificationService notificationService,
+                               TrendyMessageService trendyMessageService,
+                               MeterRegistry meterRegistry) {
+        this.taskRepository = taskRepository;
+        this.notificationService = notificationService;
+        this.trendyMessageService = trendyMessageService;
+        this.sentCounter = meterRegistry.counter("reminder.sent");
+        this.failedCounter = meterRegistry.counter("reminder.failed");
+        // The run duration itself is the app.scheduled.runs timer of MetricsAspect
+        Gauge.builder("reminder.backlog", backlog, AtomicLong::get)
+                .description("Tasks due for a reminder, as of the last run")
+                .register(meterRegistry);
+    }
 
     @Scheduled(fixedRate = 60000)
     public void sendTaskReminders() {
-        log.info("Running scheduled task: sendTaskReminders");
+        log.debug("Running scheduled task: sendTaskReminders");
 
         LocalDateTime now = LocalDateTime.now();
         LocalDateTime reminderThreshold = now.plusMinutes(10);
@@ -56,6 +76,7 @@ public class TaskReminderService {
                 now,
                 activeStatuses
         );
+        backlog.set(tasksStartingSoon.size() + tasksEndingSoon.size());
 
         for (Task task : tasksEndingSoon) {
             String trendyContent = trendyMessageService.getTrendyEndReminder(task.getTitle());
@@ -80,8 +101,10 @@ public class TaskReminderService {
 
         try {
             notificationService.createNotification(request, task.getAccount().getId());
-            log.info("Sent reminder for task ID: {}", task.getId());
+            sentCounter.increment();
+            log.debug("Sent reminder for task ID: {}", task.getId());
         } catch (Exception e) {
+            failedCounter.increment();
             log.error("Failed to send reminder for task ID: {}", task.getId(), e);
         }
     }
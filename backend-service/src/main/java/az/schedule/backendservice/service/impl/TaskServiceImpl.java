@@ -6,6 +6,7 @@ import az.schedule.backendservice.dto.request.task.AdvancedTaskFilterRequest;
 import az.schedule.backendservice.dto.request.task.BulkTaskRequest;
 import az.schedule.backendservice.dto.request.task.TaskRequest;
 import az.schedule.backendservice.dto.response.BulkOperationResponse;
+import az.schedule.backendservice.dto.response.CalendarTaskResponse;
 import az.schedule.backendservice.dto.response.PageResponse;
 import az.schedule.backendservice.dto.response.TaskStatisticsResponse;
 import az.schedule.backendservice.entity.Account;
@@ -29,18 +30,26 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class TaskServiceImpl implements TaskService {
+    private static final int MAX_CALENDAR_RANGE_DAYS = 366;
+
     private final TaskRepository taskRepository;
     private final AccountRepository accountRepository;
     private final CategoryRepository categoryRepository;
     private final TaskConverter taskConverter;
     private final NotificationService notificationService;
     private final TrendyMessageService trendyMessageService;
+    private final TaskCalendarCache taskCalendarCache;
+    private final ScheduleSuggestionCache scheduleSuggestionCache;
 
     @Override
     @Transactional
@@ -60,14 +69,52 @@ public class TaskServiceImpl implements TaskService {
 
         Task task = taskConverter.toEntity(request, account, category);
         Task savedTask = taskRepository.save(task);
+        taskCalendarCache.evict(accountId);
+        scheduleSuggestionCache.markDirty(accountId);
         
         return taskConverter.toDTO(savedTask);
     }
 
+    @Override
+    @Transactional
+    public List<TaskDTO> createTasks(List<TaskRequest> requests, Long accountId) {
+        Account account = accountRepository.findById(accountId)
+                .orElseThrow(() -> new AppException(ErrorCode.ACCOUNT_NOT_FOUND));
+
+        Set<Long> categoryIds = requests.stream()
+                .map(TaskRequest::getCategoryId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Map<Long, Category> categories = new HashMap<>();
+        if (!categoryIds.isEmpty()) {
+            for (Category category : categoryRepository.findAllById(categoryIds)) {
+                if (!category.getAccount().getId().equals(accountId)) {
+                    throw new AppException(ErrorCode.UNAUTHORIZED_ACCESS);
+                }
+                categories.put(category.getId(), category);
+            }
+            if (categories.size() != categoryIds.size()) {
+                throw new AppException(ErrorCode.CATEGORY_NOT_FOUND);
+            }
+        }
+
+        List<Task> tasks = requests.stream()
+                .map(request -> taskConverter.toEntity(request, account,
+                        request.getCategoryId() != null ? categories.get(request.getCategoryId()) : null))
+                .toList();
+        List<Task> savedTasks = taskRepository.saveAll(tasks);
+        taskCalendarCache.evict(accountId);
+        scheduleSuggestionCache.markDirty(accountId);
+
+        return savedTasks.stream()
+                .map(taskConverter::toDTO)
+                .toList();
+    }
+
     @Override
     @Transactional
     public TaskDTO updateTask(Long id, TaskRequest request, Long accountId) {
-        Task task = taskRepository.findById(id)
+        Task task = taskRepository.findWithAccountAndCategoryById(id)
                 .orElseThrow(() -> new AppException(ErrorCode.TASK_NOT_FOUND));
 
         if (!task.getAccount().getId().equals(accountId)) {
@@ -89,6 +136,8 @@ public class TaskServiceImpl implements TaskService {
         
         taskConverter.updateEntity(task, request, category);
         Task updatedTask = taskRepository.save(task);
+        taskCalendarCache.evict(accountId);
+        scheduleSuggestionCache.markDirty(accountId);
         
         if (wasNotDone && isNowDone) {
             sendTaskCompletionNotification(updatedTask, accountId);
@@ -108,11 +157,13 @@ public class TaskServiceImpl implements TaskService {
         }
 
         taskRepository.delete(task);
+        taskCalendarCache.evict(accountId);
+        scheduleSuggestionCache.markDirty(accountId);
     }
 
     @Override
     public TaskDTO getTaskById(Long id, Long accountId) {
-        Task task = taskRepository.findById(id)
+        Task task = taskRepository.findWithAccountAndCategoryById(id)
                 .orElseThrow(() -> new AppException(ErrorCode.TASK_NOT_FOUND));
 
         if (!task.getAccount().getId().equals(accountId)) {
@@ -123,24 +174,28 @@ public class TaskServiceImpl implements TaskService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public PageResponse<TaskDTO> getTasksByAccount(Long accountId, Pageable pageable) {
         Page<Task> taskPage = taskRepository.findByAccountId(accountId, pageable);
         return buildPageResponse(taskPage);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public PageResponse<TaskDTO> getTasksByAccountAndStatus(Long accountId, TaskStatus status, Pageable pageable) {
         Page<Task> taskPage = taskRepository.findByAccountIdAndStatus(accountId, status, pageable);
         return buildPageResponse(taskPage);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public PageResponse<TaskDTO> getTasksByAccountAndCategory(Long accountId, Long categoryId, Pageable pageable) {
         Page<Task> taskPage = taskRepository.findByAccountIdAndCategoryId(accountId, categoryId, pageable);
         return buildPageResponse(taskPage);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public PageResponse<TaskDTO> searchTasks(Long accountId, String keyword, Pageable pageable) {
         Page<Task> taskPage = taskRepository.searchByAccountIdAndKeyword(accountId, keyword, pageable);
         return buildPageResponse(taskPage);
@@ -155,6 +210,7 @@ public class TaskServiceImpl implements TaskService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public TaskStatisticsResponse getAccountTaskStatistics(Long accountId) {
         long total = taskRepository.countByAccountId(accountId);
         long todo = taskRepository.countByAccountIdAndStatus(accountId, TaskStatus.TODO);
@@ -174,6 +230,7 @@ public class TaskServiceImpl implements TaskService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public TaskStatisticsResponse getCategoryTaskStatistics(Long categoryId) {
         long total = taskRepository.countByCategoryId(categoryId);
         long todo = taskRepository.countByCategoryIdAndStatus(categoryId, TaskStatus.TODO);
@@ -226,6 +283,9 @@ public class TaskServiceImpl implements TaskService {
             }
         }
 
+        taskCalendarCache.evict(accountId);
+        scheduleSuggestionCache.markDirty(accountId);
+
         return BulkOperationResponse.builder()
                 .successCount(successCount)
                 .failureCount(failureCount)
@@ -257,6 +317,9 @@ public class TaskServiceImpl implements TaskService {
             }
         }
 
+        taskCalendarCache.evict(accountId);
+        scheduleSuggestionCache.markDirty(accountId);
+
         return BulkOperationResponse.builder()
                 .successCount(successCount)
                 .failureCount(failureCount)
@@ -265,6 +328,7 @@ public class TaskServiceImpl implements TaskService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public PageResponse<TaskDTO> advancedFilterTasks(AdvancedTaskFilterRequest filterRequest, Long accountId, Pageable pageable) {
         // This would require a custom query or Specification
         // For now, implementing basic version with keyword search
@@ -275,6 +339,7 @@ public class TaskServiceImpl implements TaskService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public PageResponse<TaskDTO> getTasksByAccountAndPriority(Long accountId, Priority priority, Pageable pageable) {
         Page<Task> taskPage = taskRepository.findByAccountIdAndPriority(accountId, priority, pageable);
         return buildPageResponse(taskPage);
@@ -294,11 +359,10 @@ public class TaskServiceImpl implements TaskService {
 
     @Override
     public List<TaskDTO> getTasksByWeek(Long accountId, LocalDateTime weekStart) {
-        // Calculate week end (7 days from start)
-        LocalDateTime weekEnd = weekStart.plusDays(7).minusSeconds(1);
+        LocalDateTime weekEnd = weekStart.plusDays(7);
         
         // Get all tasks that fall within or overlap with the week range
-        List<Task> tasks = taskRepository.findByAccountIdAndStartTimeBetween(accountId, weekStart, weekEnd);
+        List<Task> tasks = taskRepository.findOverlappingRange(accountId, weekStart, weekEnd);
         
         return tasks.stream()
                 .map(taskConverter::toDTO)
@@ -309,16 +373,25 @@ public class TaskServiceImpl implements TaskService {
     public List<TaskDTO> getTasksByMonth(Long accountId, int year, int month) {
         // Calculate month start and end
         LocalDateTime monthStart = LocalDateTime.of(year, month, 1, 0, 0, 0);
-        LocalDateTime monthEnd = monthStart.plusMonths(1).minusSeconds(1);
+        LocalDateTime monthEnd = monthStart.plusMonths(1);
         
         // Get all tasks that fall within or overlap with the month range
-        List<Task> tasks = taskRepository.findByAccountIdAndStartTimeBetween(accountId, monthStart, monthEnd);
+        List<Task> tasks = taskRepository.findOverlappingRange(accountId, monthStart, monthEnd);
         
         return tasks.stream()
                 .map(taskConverter::toDTO)
                 .toList();
     }
 
+    @Override
+    public List<CalendarTaskResponse> getCalendarTasks(Long accountId, LocalDateTime start, LocalDateTime end) {
+        if (start == null || end == null || !start.isBefore(end)
+                || start.plusDays(MAX_CALENDAR_RANGE_DAYS).isBefore(end)) {
+            throw new AppException(ErrorCode.INVALID_DATE_RANGE);
+        }
+        return taskCalendarCache.getTasks(accountId, start, end);
+    }
+
     private PageResponse<TaskDTO> buildPageResponse(Page<Task> taskPage) {
         List<TaskDTO> taskDTOs = taskPage.getContent().stream()
                 .map(taskConverter::toDTO)
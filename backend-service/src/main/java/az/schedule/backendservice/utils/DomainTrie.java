@@ -0,0 +1,176 @@
+package az.schedule.backendservice.utils;
+
+import java.net.IDN;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.regex.Pattern;
+
+/**
+ * Immutable trie of blocked domains keyed by reversed labels ({@code m.youtube.com} is stored as
+ * {@code com -> youtube -> m}), so a lookup walks the host from its top-level label and costs
+ * {@code O(host length)} regardless of how many patterns are compiled in.
+ * <p>
+ * A plain pattern such as {@code youtube.com} blocks the domain and every subdomain; a wildcard
+ * pattern such as {@code *.example.com} blocks subdomains only. Patterns may be pasted URLs: the
+ * scheme, port, path and a leading {@code www.} are dropped, and entries that are not domains are
+ * ignored.
+ * <p>
+ * {@link #toTree()} is the serialized form shipped to the extension: nested objects keyed by label,
+ * where {@value #BLOCK_SELF} marks a blocked domain and {@value #BLOCK_SUBDOMAINS} a wildcard.
+ */
+public final class DomainTrie {
+    public static final String BLOCK_SELF = "$";
+    public static final String BLOCK_SUBDOMAINS = "*";
+
+    private static final Pattern SCHEME = Pattern.compile("^[a-z][a-z0-9+.-]*://");
+    private static final Pattern LABEL = Pattern.compile("[a-z0-9_](?:[a-z0-9_-]*[a-z0-9_])?");
+
+    private final Node root = new Node();
+    private final List<String> patterns;
+
+    private DomainTrie(Collection<String> normalized) {
+        this.patterns = List.copyOf(normalized);
+        for (String pattern : patterns) {
+            boolean wildcard = pattern.startsWith("*.");
+            String[] labels = (wildcard ? pattern.substring(2) : pattern).split("\\.");
+            Node node = root;
+            for (int i = labels.length - 1; i >= 0; i--) {
+                node = node.children.computeIfAbsent(labels[i], label -> new Node());
+            }
+            if (wildcard) {
+                node.blocksSubdomains = true;
+            } else {
+                node.blocksSelf = true;
+            }
+        }
+    }
+
+    /**
+     * Compiles the patterns, dropping invalid entries and duplicates.
+     */
+    public static DomainTrie compile(Collection<String> patterns) {
+        TreeSet<String> normalized = new TreeSet<>();
+        if (patterns != null) {
+            for (String pattern : patterns) {
+                String domain = normalize(pattern);
+                if (domain != null) {
+                    normalized.add(domain);
+                }
+            }
+        }
+        return new DomainTrie(normalized);
+    }
+
+    /**
+     * Returns the pattern as a lower-case ASCII domain, keeping a leading {@code *.}, or
+     * {@code null} when it does not name a domain.
+     */
+    public static String normalize(String pattern) {
+        if (pattern == null) {
+            return null;
+        }
+        String value = pattern.trim().toLowerCase();
+        value = SCHEME.matcher(value).replaceFirst("");
+        int end = value.length();
+        for (char stop : new char[]{'/', '?', '#'}) {
+            int index = value.indexOf(stop);
+            if (index >= 0 && index < end) {
+                end = index;
+            }
+        }
+        value = value.substring(0, end);
+        value = value.substring(value.lastIndexOf('@') + 1);
+        int port = value.lastIndexOf(':');
+        if (port >= 0) {
+            value = value.substring(0, port);
+        }
+        if (value.endsWith(".")) {
+            value = value.substring(0, value.length() - 1);
+        }
+
+        boolean wildcard = value.startsWith("*.");
+        String domain = wildcard ? value.substring(2) : value;
+        if (domain.startsWith("www.")) {
+            domain = domain.substring(4);
+        }
+        try {
+            domain = IDN.toASCII(domain);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+        if (domain.isEmpty()) {
+            return null;
+        }
+        for (String label : domain.split("\\.", -1)) {
+            if (!LABEL.matcher(label).matches()) {
+                return null;
+            }
+        }
+        return wildcard ? "*." + domain : domain;
+    }
+
+    /**
+     * Whether {@code host} (a bare host name, optionally with a port) is blocked.
+     */
+    public boolean matches(String host) {
+        if (host == null || host.isEmpty()) {
+            return false;
+        }
+        String value = host.toLowerCase();
+        int port = value.lastIndexOf(':');
+        int end = port >= 0 ? port : value.length();
+        if (end > 0 && value.charAt(end - 1) == '.') {
+            end--;
+        }
+
+        Node node = root;
+        while (end > 0) {
+            int dot = value.lastIndexOf('.', end - 1);
+            node = node.children.get(value.substring(dot + 1, end));
+            if (node == null) {
+                return false;
+            }
+            if (node.blocksSelf || (node.blocksSubdomains && dot > 0)) {
+                return true;
+            }
+            end = dot;
+        }
+        return false;
+    }
+
+    /**
+     * The normalized patterns, sorted and without duplicates.
+     */
+    public List<String> patterns() {
+        return patterns;
+    }
+
+    public Map<String, Object> toTree() {
+        return root.toTree();
+    }
+
+    private static final class Node {
+        private final Map<String, Node> children = new HashMap<>();
+        private boolean blocksSelf;
+        private boolean blocksSubdomains;
+
+        Map<String, Object> toTree() {
+            Map<String, Object> tree = new TreeMap<>();
+            if (blocksSelf) {
+                tree.put(BLOCK_SELF, 1);
+            }
+            if (blocksSubdomains) {
+                tree.put(BLOCK_SUBDOMAINS, 1);
+            }
+            // A blocked domain covers all its subdomains, so deeper labels are never consulted
+            if (!blocksSelf) {
+                children.forEach((label, child) -> tree.put(label, child.toTree()));
+            }
+            return tree;
+        }
+    }
+}
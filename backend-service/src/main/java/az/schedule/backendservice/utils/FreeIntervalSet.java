@@ -0,0 +1,124 @@
+package az.schedule.backendservice.utils;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Mutable set of free half-open {@code [start, end)} ranges on an integer axis (minutes from some
+ * origin), kept as disjoint, non-adjacent ranges in a {@link TreeMap} keyed by start.
+ * <p>
+ * {@link #reserve} and {@link #release} split and merge ranges in {@code O(log n + k)} for the
+ * {@code k} ranges touched; {@link #firstFit} walks forward from the floor range and returns the
+ * earliest start at which a block fits.
+ */
+public final class FreeIntervalSet {
+    private final TreeMap<Integer, Integer> ranges = new TreeMap<>();
+    private long freeLength;
+
+    public FreeIntervalSet() {
+    }
+
+    private FreeIntervalSet(FreeIntervalSet other) {
+        ranges.putAll(other.ranges);
+        freeLength = other.freeLength;
+    }
+
+    public FreeIntervalSet copy() {
+        return new FreeIntervalSet(this);
+    }
+
+    public long freeLength() {
+        return freeLength;
+    }
+
+    public int rangeCount() {
+        return ranges.size();
+    }
+
+    /**
+     * Marks {@code [start, end)} as free, merging it with overlapping or adjacent ranges.
+     */
+    public void release(int start, int end) {
+        if (start >= end) {
+            return;
+        }
+        Map.Entry<Integer, Integer> floor = ranges.floorEntry(start);
+        if (floor != null && floor.getValue() >= start) {
+            start = floor.getKey();
+            end = Math.max(end, floor.getValue());
+            remove(floor.getKey());
+        }
+        Map.Entry<Integer, Integer> next = ranges.ceilingEntry(start);
+        while (next != null && next.getKey() <= end) {
+            end = Math.max(end, next.getValue());
+            remove(next.getKey());
+            next = ranges.ceilingEntry(start);
+        }
+        put(start, end);
+    }
+
+    /**
+     * Removes {@code [start, end)} from the free ranges; parts that are already busy are ignored.
+     */
+    public void reserve(int start, int end) {
+        if (start >= end) {
+            return;
+        }
+        Map.Entry<Integer, Integer> floor = ranges.floorEntry(start);
+        if (floor != null && floor.getValue() > start) {
+            int floorEnd = floor.getValue();
+            remove(floor.getKey());
+            put(floor.getKey(), start);
+            put(end, floorEnd);
+        }
+        Map.Entry<Integer, Integer> next = ranges.ceilingEntry(start);
+        while (next != null && next.getKey() < end) {
+            int nextEnd = next.getValue();
+            remove(next.getKey());
+            put(end, nextEnd);
+            next = ranges.higherEntry(next.getKey());
+        }
+    }
+
+    /**
+     * Whether all of {@code [start, end)} is free.
+     */
+    public boolean isFree(int start, int end) {
+        Map.Entry<Integer, Integer> floor = ranges.floorEntry(start);
+        return floor != null && floor.getValue() >= end;
+    }
+
+    /**
+     * Returns the earliest {@code s >= from} such that {@code [s, s + length)} is free and ends no
+     * later than {@code latestEnd}, or {@code -1} when there is none.
+     */
+    public int firstFit(int from, int length, int latestEnd) {
+        Map.Entry<Integer, Integer> range = ranges.floorEntry(from);
+        if (range == null || range.getValue() <= from) {
+            range = ranges.higherEntry(from);
+        }
+        while (range != null) {
+            int start = Math.max(range.getKey(), from);
+            if (start + length > latestEnd) {
+                return -1;
+            }
+            if (start + length <= range.getValue()) {
+                return start;
+            }
+            range = ranges.higherEntry(range.getKey());
+        }
+        return -1;
+    }
+
+    private void put(int start, int end) {
+        if (start < end) {
+            ranges.put(start, end);
+            freeLength += end - start;
+        }
+    }
+
+    private void remove(int start) {
+        Integer end = ranges.remove(start);
+        freeLength -= end - start;
+    }
+}
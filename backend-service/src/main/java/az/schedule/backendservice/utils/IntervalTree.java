@@ -0,0 +1,107 @@
+package az.schedule.backendservice.utils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Immutable interval tree over half-open {@code [start, end)} time ranges.
+ * <p>
+ * Items are kept sorted by start time and viewed as an implicit balanced BST (the middle element of
+ * every slice is the node); each node stores the maximum end of its subtree so whole branches can be
+ * skipped. Overlap queries run in {@code O(log n + k)} and return matches ordered by start time.
+ * Items without an end are treated as points at their start.
+ */
+public final class IntervalTree<T> {
+    private final List<T> items;
+    private final LocalDateTime[] starts;
+    private final LocalDateTime[] ends;
+    private final LocalDateTime[] maxEnds;
+
+    public IntervalTree(Collection<T> values,
+                        Function<T, LocalDateTime> startOf,
+                        Function<T, LocalDateTime> endOf) {
+        List<T> sorted = new ArrayList<>(values.size());
+        for (T value : values) {
+            if (startOf.apply(value) != null) {
+                sorted.add(value);
+            }
+        }
+        sorted.sort(Comparator.comparing(startOf));
+
+        int size = sorted.size();
+        this.items = sorted;
+        this.starts = new LocalDateTime[size];
+        this.ends = new LocalDateTime[size];
+        this.maxEnds = new LocalDateTime[size];
+        for (int i = 0; i < size; i++) {
+            T value = sorted.get(i);
+            starts[i] = startOf.apply(value);
+            LocalDateTime end = endOf.apply(value);
+            ends[i] = end == null || end.isBefore(starts[i]) ? starts[i] : end;
+        }
+        buildMaxEnds(0, size);
+    }
+
+    public static <T> IntervalTree<T> empty(Function<T, LocalDateTime> startOf,
+                                            Function<T, LocalDateTime> endOf) {
+        return new IntervalTree<>(List.of(), startOf, endOf);
+    }
+
+    public int size() {
+        return items.size();
+    }
+
+    public List<T> values() {
+        return items;
+    }
+
+    /**
+     * Returns every item overlapping {@code [from, to)}: it starts before {@code to} and either ends
+     * after {@code from} or is a point at or after {@code from}.
+     */
+    public List<T> query(LocalDateTime from, LocalDateTime to) {
+        List<T> result = new ArrayList<>();
+        collect(0, items.size(), from, to, result);
+        return result;
+    }
+
+    private LocalDateTime buildMaxEnds(int lo, int hi) {
+        if (lo >= hi) {
+            return null;
+        }
+        int mid = (lo + hi) >>> 1;
+        LocalDateTime max = ends[mid];
+        LocalDateTime left = buildMaxEnds(lo, mid);
+        LocalDateTime right = buildMaxEnds(mid + 1, hi);
+        if (left != null && left.isAfter(max)) {
+            max = left;
+        }
+        if (right != null && right.isAfter(max)) {
+            max = right;
+        }
+        maxEnds[mid] = max;
+        return max;
+    }
+
+    private void collect(int lo, int hi, LocalDateTime from, LocalDateTime to, List<T> result) {
+        if (lo >= hi) {
+            return;
+        }
+        int mid = (lo + hi) >>> 1;
+        if (maxEnds[mid].isBefore(from)) {
+            return;
+        }
+        collect(lo, mid, from, to, result);
+        if (!starts[mid].isBefore(to)) {
+            return;
+        }
+        if (ends[mid].isAfter(from) || !starts[mid].isBefore(from)) {
+            result.add(items.get(mid));
+        }
+        collect(mid + 1, hi, from, to, result);
+    }
+}
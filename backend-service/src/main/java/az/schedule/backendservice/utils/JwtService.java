@@ -4,25 +4,49 @@ import az.schedule.backendservice.entity.Account;
 import az.schedule.backendservice.enums.TokenType;
 import az.schedule.backendservice.exception.AppException;
 import az.schedule.backendservice.exception.ErrorCode;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import com.nimbusds.jose.*;
 import com.nimbusds.jose.crypto.MACSigner;
 import com.nimbusds.jose.crypto.MACVerifier;
 import com.nimbusds.jwt.JWTClaimsSet;
 import com.nimbusds.jwt.SignedJWT;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.text.ParseException;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.Base64;
 import java.util.Date;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
 import java.util.UUID;
-
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Issues and verifies the HS512 access and refresh tokens.
+ * <p>
+ * Signers and verifiers are built once per token type; both are thread-safe. Verified claims are
+ * cached per token type under the SHA-256 of the token until the token expires, so repeated
+ * introspection or resource-server checks of the same token skip parsing and the MAC check.
+ */
 @Component
 @RequiredArgsConstructor
-public class JwtService {
+public class JwtService implements MeterBinder {
+    private static final JWSHeader HEADER = new JWSHeader(JWSAlgorithm.HS512);
+
     @Value("${app.jwtSecret}")
     private String jwtSecret;
 
@@ -35,9 +59,35 @@ public class JwtService {
     @Value("${app.jwtRefreshExpirationMs}")
     private long jwtRefreshExpirationMs;
 
+    @Value("${app.jwt.claims-cache.max-size:10000}")
+    private long claimsCacheMaxSize;
+
+    private final Map<TokenType, JWSSigner> signers = new EnumMap<>(TokenType.class);
+    private final Map<TokenType, JWSVerifier> verifiers = new EnumMap<>(TokenType.class);
+    private final Map<TokenType, Cache<String, JWTClaimsSet>> verifiedClaims = new EnumMap<>(TokenType.class);
+
+    @PostConstruct
+    void init() throws JOSEException {
+        for (TokenType tokenType : TokenType.values()) {
+            byte[] secret = secretFor(tokenType).getBytes();
+            signers.put(tokenType, new MACSigner(secret));
+            verifiers.put(tokenType, new MACVerifier(secret));
+            verifiedClaims.put(tokenType, Caffeine.newBuilder()
+                    .maximumSize(claimsCacheMaxSize)
+                    .expireAfter(new UntilTokenExpiry())
+                    .recordStats()
+                    .build());
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        // The token type goes into the cache name: Prometheus needs the same tag keys on every cache
+        verifiedClaims.forEach((tokenType, cache) -> CaffeineCacheMetrics.monitor(registry, cache,
+                "jwt.verified-claims." + tokenType.name().toLowerCase(Locale.ROOT)));
+    }
+
     public String generateToken(Account account, TokenType tokenType) {
-        JWSHeader header = new JWSHeader(JWSAlgorithm.HS512);
-        String secret = tokenType.equals(TokenType.ACCESS_TOKEN) ? jwtSecret : jwtRefresh;
         long expiredTime = tokenType.equals(TokenType.ACCESS_TOKEN) ? jwtExpirations : jwtRefreshExpirationMs;
 
         JWTClaimsSet jwtClaimsSet = new JWTClaimsSet.Builder()
@@ -52,29 +102,41 @@ public class JwtService {
                 .jwtID(UUID.randomUUID().toString())
                 .build();
 
-        Payload payload = new Payload(jwtClaimsSet.toJSONObject());
-        JWSObject jwsObject = new JWSObject(header, payload);
+        JWSObject jwsObject = new JWSObject(HEADER, new Payload(jwtClaimsSet.toJSONObject()));
 
         try {
-            jwsObject.sign(new MACSigner(secret.getBytes()));
+            jwsObject.sign(signers.get(tokenType));
             return jwsObject.serialize();
         } catch (JOSEException e) {
             throw new AppException(ErrorCode.UNCATEGORIZED);
         }
     }
 
-    public SignedJWT verifyToken(String token, TokenType tokenType) throws JOSEException, ParseException {
-        String secret = tokenType.equals(TokenType.ACCESS_TOKEN) ? jwtSecret : jwtRefresh;
-        JWSVerifier verifier = new MACVerifier(secret.getBytes());
+    /**
+     * Returns the claims of a correctly signed, unexpired token of the given type, or throws
+     * {@link ErrorCode#UNAUTHORIZED}.
+     */
+    public JWTClaimsSet verifyToken(String token, TokenType tokenType) throws JOSEException, ParseException {
+        Cache<String, JWTClaimsSet> cache = verifiedClaims.get(tokenType);
+        String key = hash(token);
+        // Entries expire with the token, so a hit is still valid
+        JWTClaimsSet cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
 
         SignedJWT signedJWT = SignedJWT.parse(token);
+        JWTClaimsSet claims = signedJWT.getJWTClaimsSet();
+        Date expiryDate = claims.getExpirationTime();
 
-        Date expiryDate = signedJWT.getJWTClaimsSet().getExpirationTime();
-
-        if (!(signedJWT.verify(verifier)) && expiryDate.after(new Date()))
+        if (!JWSAlgorithm.HS512.equals(signedJWT.getHeader().getAlgorithm())
+                || !signedJWT.verify(verifiers.get(tokenType))
+                || expiryDate == null
+                || !expiryDate.after(new Date()))
             throw new AppException(ErrorCode.UNAUTHORIZED);
 
-        return signedJWT;
+        cache.put(key, claims);
+        return claims;
     }
 
     public long extractTokenExpired(String token) {
@@ -95,4 +157,43 @@ public class JwtService {
             throw new AppException(ErrorCode.UNCATEGORIZED);
         }
     }
-}
\ No newline at end of file
+
+    public String extractTokenId(String token) {
+        try {
+            return SignedJWT.parse(token).getJWTClaimsSet().getJWTID();
+        } catch (ParseException e) {
+            throw new AppException(ErrorCode.UNCATEGORIZED);
+        }
+    }
+
+    private String secretFor(TokenType tokenType) {
+        return tokenType.equals(TokenType.ACCESS_TOKEN) ? jwtSecret : jwtRefresh;
+    }
+
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private static final class UntilTokenExpiry implements Expiry<String, JWTClaimsSet> {
+        @Override
+        public long expireAfterCreate(String key, JWTClaimsSet claims, long currentTime) {
+            long remainingMs = claims.getExpirationTime().getTime() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(remainingMs, 0));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, JWTClaimsSet claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(String key, JWTClaimsSet claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -1,28 +1,46 @@
 package az.schedule.backendservice.utils;
 
-import az.schedule.backendservice.exception.AppException;
-import az.schedule.backendservice.exception.ErrorCode;
-import org.springframework.mail.SimpleMailMessage;
-import org.springframework.mail.javamail.JavaMailSender;
+import az.schedule.backendservice.entity.MailOutbox;
+import az.schedule.backendservice.enums.MailStatus;
+import az.schedule.backendservice.repository.MailOutboxRepository;
+import az.schedule.backendservice.service.impl.MailOutboxWorker;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import lombok.RequiredArgsConstructor;
 
+import java.time.LocalDateTime;
+
 @Component
 @RequiredArgsConstructor
 public class MailService {
-    private final JavaMailSender mailSender;
+    private final MailOutboxRepository mailOutboxRepository;
+    private final MailOutboxWorker mailOutboxWorker;
 
+    /**
+     * Queues the mail in the outbox and returns; {@link MailOutboxWorker} sends it in the background.
+     * Inside a transaction the worker is woken after commit, so it never looks for a row it cannot see.
+     */
     public void sendEmail(String email, String subject, String message) {
-        try {
-            SimpleMailMessage mailMessage = new SimpleMailMessage();
-            mailMessage.setFrom("az.schedule.com");
-            mailMessage.setTo(email);
-            mailMessage.setSubject(subject);
-            mailMessage.setText(message);
-            mailSender.send(mailMessage);
-        } catch (Exception e) {
-            throw new AppException(ErrorCode.UNCATEGORIZED);
+        mailOutboxRepository.save(MailOutbox.builder()
+                .recipient(email)
+                .subject(subject)
+                .body(message)
+                .status(MailStatus.PENDING)
+                .attempts(0)
+                .nextAttemptAt(LocalDateTime.now())
+                .build());
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    mailOutboxWorker.wakeUp();
+                }
+            });
+        } else {
+            mailOutboxWorker.wakeUp();
         }
     }
 }
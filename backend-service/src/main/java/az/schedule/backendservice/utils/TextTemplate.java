@@ -0,0 +1,87 @@
+package az.schedule.backendservice.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A message pattern with {@code {0}}, {@code {1}}, ... placeholders, split once into literal
+ * segments and argument indexes. Rendering appends the segments and arguments straight into a
+ * caller-supplied {@link StringBuilder}; unlike {@link java.text.MessageFormat} nothing is parsed per
+ * call, and quotes and {@code %} are plain text. A brace not followed by digits and {@code }} is kept
+ * literally.
+ */
+public final class TextTemplate {
+    private final String[] literals;
+    private final int[] arguments;
+    private final int argumentCount;
+
+    private TextTemplate(String[] literals, int[] arguments) {
+        this.literals = literals;
+        this.arguments = arguments;
+        int max = -1;
+        for (int argument : arguments) {
+            max = Math.max(max, argument);
+        }
+        this.argumentCount = max + 1;
+    }
+
+    public static TextTemplate compile(String pattern) {
+        List<String> literals = new ArrayList<>();
+        List<Integer> arguments = new ArrayList<>();
+        StringBuilder literal = new StringBuilder();
+        int i = 0;
+        while (i < pattern.length()) {
+            char c = pattern.charAt(i);
+            int close = c == '{' ? pattern.indexOf('}', i + 1) : -1;
+            if (close > i + 1 && isDigits(pattern, i + 1, close)) {
+                literals.add(literal.toString());
+                literal.setLength(0);
+                arguments.add(Integer.parseInt(pattern, i + 1, close, 10));
+                i = close + 1;
+            } else {
+                literal.append(c);
+                i++;
+            }
+        }
+        literals.add(literal.toString());
+        return new TextTemplate(literals.toArray(String[]::new),
+                arguments.stream().mapToInt(Integer::intValue).toArray());
+    }
+
+    /**
+     * Number of arguments the pattern refers to, that is the highest placeholder index plus one.
+     */
+    public int argumentCount() {
+        return argumentCount;
+    }
+
+    /**
+     * Appends the rendered text to {@code out}; placeholders without a matching argument render empty.
+     */
+    public StringBuilder appendTo(StringBuilder out, Object... args) {
+        for (int i = 0; i < arguments.length; i++) {
+            out.append(literals[i]);
+            int argument = arguments[i];
+            if (args != null && argument < args.length) {
+                out.append(args[argument]);
+            }
+        }
+        return out.append(literals[arguments.length]);
+    }
+
+    public String render(Object... args) {
+        if (arguments.length == 0) {
+            return literals[0];
+        }
+        return appendTo(new StringBuilder(), args).toString();
+    }
+
+    private static boolean isDigits(String value, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (!Character.isDigit(value.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,86 @@
+-- =====================================================
+-- Composite indexes for the Task table
+-- =====================================================
+-- Column names follow the Hibernate physical naming strategy used by the
+-- entity mapping (AccountID -> accountid, startTime -> start_time, ...).
+-- Each index is created only when the table exists and the index is missing,
+-- so the script is safe both on fresh schemas (Hibernate creates the table and
+-- the @Index declarations afterwards) and on databases created before Flyway.
+
+-- (account, status): list/count by status, statistics
+SET @ddl := (SELECT IF(
+        EXISTS(SELECT 1 FROM information_schema.tables
+               WHERE table_schema = DATABASE() AND table_name = 'task')
+        AND NOT EXISTS(SELECT 1 FROM information_schema.statistics
+                       WHERE table_schema = DATABASE() AND table_name = 'task'
+                         AND index_name = 'idx_task_account_status'),
+        'CREATE INDEX idx_task_account_status ON task (accountid, status)',
+        'DO 0'));
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- (account, start_time): week/month/date-range views
+SET @ddl := (SELECT IF(
+        EXISTS(SELECT 1 FROM information_schema.tables
+               WHERE table_schema = DATABASE() AND table_name = 'task')
+        AND NOT EXISTS(SELECT 1 FROM information_schema.statistics
+                       WHERE table_schema = DATABASE() AND table_name = 'task'
+                         AND index_name = 'idx_task_account_start_time'),
+        'CREATE INDEX idx_task_account_start_time ON task (accountid, start_time)',
+        'DO 0'));
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- (account, end_time, status): overdue list and overdue count
+SET @ddl := (SELECT IF(
+        EXISTS(SELECT 1 FROM information_schema.tables
+               WHERE table_schema = DATABASE() AND table_name = 'task')
+        AND NOT EXISTS(SELECT 1 FROM information_schema.statistics
+                       WHERE table_schema = DATABASE() AND table_name = 'task'
+                         AND index_name = 'idx_task_account_end_time_status'),
+        'CREATE INDEX idx_task_account_end_time_status ON task (accountid, end_time, status)',
+        'DO 0'));
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- (category, status): category listing and category statistics
+SET @ddl := (SELECT IF(
+        EXISTS(SELECT 1 FROM information_schema.tables
+               WHERE table_schema = DATABASE() AND table_name = 'task')
+        AND NOT EXISTS(SELECT 1 FROM information_schema.statistics
+                       WHERE table_schema = DATABASE() AND table_name = 'task'
+                         AND index_name = 'idx_task_category_status'),
+        'CREATE INDEX idx_task_category_status ON task (categoryid, status)',
+        'DO 0'));
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- (status, start_time): reminder job, tasks starting soon (no account filter)
+SET @ddl := (SELECT IF(
+        EXISTS(SELECT 1 FROM information_schema.tables
+               WHERE table_schema = DATABASE() AND table_name = 'task')
+        AND NOT EXISTS(SELECT 1 FROM information_schema.statistics
+                       WHERE table_schema = DATABASE() AND table_name = 'task'
+                         AND index_name = 'idx_task_status_start_time'),
+        'CREATE INDEX idx_task_status_start_time ON task (status, start_time)',
+        'DO 0'));
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- (end_time, status): reminder job, tasks ending soon (no account filter)
+SET @ddl := (SELECT IF(
+        EXISTS(SELECT 1 FROM information_schema.tables
+               WHERE table_schema = DATABASE() AND table_name = 'task')
+        AND NOT EXISTS(SELECT 1 FROM information_schema.statistics
+                       WHERE table_schema = DATABASE() AND table_name = 'task'
+                         AND index_name = 'idx_task_end_time_status'),
+        'CREATE INDEX idx_task_end_time_status ON task (end_time, status)',
+        'DO 0'));
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
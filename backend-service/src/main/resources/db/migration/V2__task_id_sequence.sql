@@ -0,0 +1,20 @@
+-- =====================================================
+-- Pooled id sequence for the Task table
+-- =====================================================
+-- Task ids now come from a pooled sequence (allocation size 50) so Hibernate
+-- can batch inserts. MySQL has no sequences, so Hibernate emulates it with a
+-- single-row table. Seed it above the current maximum id: the pooled
+-- optimizer hands out ids from (next_val - 49) up to next_val.
+
+CREATE TABLE IF NOT EXISTS task_seq (
+    next_val BIGINT
+) ENGINE = InnoDB;
+
+SET @ddl := (SELECT IF(
+        EXISTS(SELECT 1 FROM information_schema.tables
+               WHERE table_schema = DATABASE() AND table_name = 'task'),
+        'INSERT INTO task_seq (next_val) SELECT COALESCE(MAX(id), 0) + 100 FROM task WHERE NOT EXISTS (SELECT 1 FROM task_seq)',
+        'INSERT INTO task_seq (next_val) SELECT 1 FROM DUAL WHERE NOT EXISTS (SELECT 1 FROM task_seq)'));
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
@@ -0,0 +1,21 @@
+-- =====================================================
+-- Outbox for asynchronous mail delivery
+-- =====================================================
+-- Mail is written here on the request thread and sent by MailOutboxWorker.
+-- (status, next_attempt_at) serves the worker's due-row query.
+
+CREATE TABLE IF NOT EXISTS mail_outbox (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    recipient VARCHAR(255) NOT NULL,
+    subject VARCHAR(255),
+    body TEXT,
+    status VARCHAR(16) NOT NULL,
+    attempts INT NOT NULL,
+    next_attempt_at DATETIME(6),
+    sent_at DATETIME(6),
+    last_error VARCHAR(500),
+    created_at DATETIME(6),
+    updated_at DATETIME(6),
+    PRIMARY KEY (id),
+    INDEX idx_mail_outbox_status_next_attempt (status, next_attempt_at)
+) ENGINE = InnoDB;
@@ -0,0 +1,47 @@
+-- =====================================================
+-- Server-tracked pomodoro sessions
+-- =====================================================
+-- focus_session_event is an append-only log; (session_id, sequence_no) is
+-- unique so retried batches are inserted with INSERT IGNORE and stored once.
+-- focus_session holds the state folded from the log, focus_daily_rollup the
+-- focus time per account and day that analytics reads.
+
+CREATE TABLE IF NOT EXISTS focus_session_event (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    account_id BIGINT NOT NULL,
+    session_id VARCHAR(36) NOT NULL,
+    sequence_no INT NOT NULL,
+    type VARCHAR(16) NOT NULL,
+    occurred_at DATETIME(6) NOT NULL,
+    received_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (id),
+    UNIQUE KEY uk_focus_session_event_session_sequence (session_id, sequence_no),
+    INDEX idx_focus_session_event_account_occurred (account_id, occurred_at)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS focus_session (
+    session_id VARCHAR(36) NOT NULL,
+    account_id BIGINT NOT NULL,
+    status VARCHAR(16) NOT NULL,
+    started_at DATETIME(6),
+    running_since DATETIME(6),
+    finished_at DATETIME(6),
+    focused_seconds BIGINT NOT NULL,
+    last_sequence INT NOT NULL,
+    created_at DATETIME(6),
+    updated_at DATETIME(6),
+    PRIMARY KEY (session_id),
+    INDEX idx_focus_session_account_status (account_id, status)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS focus_daily_rollup (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    account_id BIGINT NOT NULL,
+    day DATE NOT NULL,
+    focus_seconds BIGINT NOT NULL,
+    completed_sessions INT NOT NULL,
+    created_at DATETIME(6),
+    updated_at DATETIME(6),
+    PRIMARY KEY (id),
+    UNIQUE KEY uk_focus_daily_rollup_account_day (account_id, day)
+) ENGINE = InnoDB;
@@ -0,0 +1,32 @@
+-- =====================================================
+-- Payment as the inbox of Sepay webhooks
+-- =====================================================
+-- Webhooks are stored as PENDING payments and processed by SepayWebhookWorker.
+-- A redelivered transaction id fails on the unique key and is skipped.
+-- Databases created by Hibernate already carry a unique key on transactionid
+-- (@Column(unique = true)); it is only added where none exists.
+
+SET @ddl := (SELECT IF(
+        EXISTS(SELECT 1 FROM information_schema.tables
+               WHERE table_schema = DATABASE() AND table_name = 'payment')
+        AND NOT EXISTS(SELECT 1 FROM information_schema.statistics
+                       WHERE table_schema = DATABASE() AND table_name = 'payment'
+                         AND column_name = 'transactionid' AND seq_in_index = 1 AND non_unique = 0),
+        'CREATE UNIQUE INDEX uk_payment_transaction_id ON payment (transactionid)',
+        'DO 0'));
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- (status, id): the worker's pending-batch query
+SET @ddl := (SELECT IF(
+        EXISTS(SELECT 1 FROM information_schema.tables
+               WHERE table_schema = DATABASE() AND table_name = 'payment')
+        AND NOT EXISTS(SELECT 1 FROM information_schema.statistics
+                       WHERE table_schema = DATABASE() AND table_name = 'payment'
+                         AND index_name = 'idx_payment_status'),
+        'CREATE INDEX idx_payment_status ON payment (status, id)',
+        'DO 0'));
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
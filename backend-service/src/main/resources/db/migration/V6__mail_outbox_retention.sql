@@ -0,0 +1,8 @@
+-- =====================================================
+-- Mail outbox retention
+-- =====================================================
+-- Bodies are no longer kept once a mail is SENT or FAILED (they may hold an
+-- OTP), and MailOutboxWorker purges such rows after the retention period.
+-- Clear the bodies already stored; the purge deletes the old rows.
+
+UPDATE mail_outbox SET body = NULL WHERE status IN ('SENT', 'FAILED') AND body IS NOT NULL;
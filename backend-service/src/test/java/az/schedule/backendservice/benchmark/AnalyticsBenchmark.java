@@ -0,0 +1,75 @@
+package az.schedule.backendservice.benchmark;
+
+import az.schedule.backendservice.config.LocaleConfig;
+import az.schedule.backendservice.dto.response.StreakResponse;
+import az.schedule.backendservice.dto.response.analytics.TaskAnalyticsResponse;
+import az.schedule.backendservice.repository.TaskRepository;
+import az.schedule.backendservice.service.impl.AnalyticsServiceImpl;
+import az.schedule.backendservice.service.impl.StreakServiceImpl;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * In-memory aggregation of one account's task history: {@code analytics} is
+ * {@link AnalyticsServiceImpl#getTaskAnalytics} (statistics, distributions, heatmap and 30-day and
+ * 12-week trends) and {@code streak} is {@link StreakServiceImpl#getUserStreak}. The repository is a
+ * mock returning a {@link TaskDatasets#history} of 1k, 10k or 100k tasks, so only the aggregation is
+ * measured.
+ * <p>
+ * Run from {@code backend-service} after {@code mvn test-compile}:
+ * <pre>
+ * mvn exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=az.schedule.backendservice.benchmark.AnalyticsBenchmark
+ * </pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AnalyticsBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int tasks;
+
+    private AnalyticsServiceImpl analyticsService;
+    private StreakServiceImpl streakService;
+
+    @Setup
+    public void setUp() {
+        TaskRepository taskRepository = mock(TaskRepository.class);
+        when(taskRepository.findByAccountId(TaskDatasets.ACCOUNT_ID))
+                .thenReturn(TaskDatasets.history(tasks, LocalDateTime.now()));
+
+        analyticsService = new AnalyticsServiceImpl(taskRepository, null, new ObjectMapper());
+        streakService = new StreakServiceImpl(taskRepository, new LocaleConfig().messageSource());
+    }
+
+    @Benchmark
+    public TaskAnalyticsResponse analytics() {
+        return analyticsService.getTaskAnalytics(TaskDatasets.ACCOUNT_ID);
+    }
+
+    @Benchmark
+    public StreakResponse streak() {
+        return streakService.getUserStreak(TaskDatasets.ACCOUNT_ID);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(AnalyticsBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,142 @@
+package az.schedule.backendservice.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Runs the benchmarks of the backend hot paths, writes the JMH results as JSON and compares them with
+ * a committed baseline:
+ * <ul>
+ *     <li>{@link AnalyticsBenchmark}: analytics and streak aggregation</li>
+ *     <li>{@link ScheduleSuggestionBenchmark}: schedule suggestions for a month of tasks</li>
+ *     <li>{@link ConverterBenchmark}: {@code TaskConverter.toDTO}</li>
+ *     <li>{@link JwtBenchmark}: token sign and verify</li>
+ *     <li>{@link PaymentContentBenchmark}: Sepay transfer content parsing</li>
+ * </ul>
+ * Run from {@code backend-service}:
+ * <pre>
+ * mvn -Pbenchmarks -DskipTests verify
+ * </pre>
+ * Results go to {@code target/jmh-result.json}. A benchmark regresses when its score is worse than the
+ * baseline in {@code benchmarks/baseline.json} by more than {@code benchmark.tolerance} (a fraction,
+ * 0.15 by default), and any regression fails the run. A missing baseline fails the run before any
+ * benchmark starts, so a deleted or mistyped baseline path cannot pass silently. Record one with
+ * {@code -Dbenchmark.updateBaseline=true}, which writes the results as the new baseline instead of
+ * comparing. Record it on the machine the comparison runs on and commit it; scores from different
+ * hardware are not comparable.
+ * <p>
+ * {@code benchmark.include} replaces the default benchmarks with comma-separated JMH include patterns,
+ * for example {@code -Dbenchmark.include=AnalyticsBenchmark.analytics}.
+ */
+public class BenchmarkSuite {
+
+    private static final List<String> DEFAULT_INCLUDES = List.of(
+            AnalyticsBenchmark.class.getSimpleName(),
+            ScheduleSuggestionBenchmark.class.getSimpleName(),
+            ConverterBenchmark.class.getSimpleName(),
+            JwtBenchmark.class.getSimpleName(),
+            PaymentContentBenchmark.class.getSimpleName()
+    );
+
+    public static void main(String[] args) throws RunnerException, IOException {
+        Path results = Path.of(System.getProperty("benchmark.results", "target/jmh-result.json"));
+        Path baseline = Path.of(System.getProperty("benchmark.baseline", "benchmarks/baseline.json"));
+        double tolerance = Double.parseDouble(System.getProperty("benchmark.tolerance", "0.15"));
+        boolean updateBaseline = Boolean.parseBoolean(System.getProperty("benchmark.updateBaseline", "false"));
+        if (!updateBaseline && !Files.exists(baseline)) {
+            throw new IllegalStateException("No benchmark baseline at " + baseline.toAbsolutePath()
+                    + "; record one with -Dbenchmark.updateBaseline=true");
+        }
+
+        String include = System.getProperty("benchmark.include", "");
+        List<String> includes = include.isBlank() ? DEFAULT_INCLUDES : List.of(include.split(","));
+        ChainedOptionsBuilder options = new OptionsBuilder()
+                .resultFormat(ResultFormatType.JSON)
+                .result(results.toString());
+        includes.forEach(pattern -> options.include(pattern.trim()));
+        Files.createDirectories(results.toAbsolutePath().getParent());
+        new Runner(options.build()).run();
+
+        if (updateBaseline) {
+            Files.createDirectories(baseline.toAbsolutePath().getParent());
+            Files.copy(results, baseline, StandardCopyOption.REPLACE_EXISTING);
+            System.out.println("Recorded baseline " + baseline);
+            return;
+        }
+
+        List<String> regressions = compare(readScores(baseline), readScores(results), tolerance);
+        if (!regressions.isEmpty()) {
+            throw new IllegalStateException(regressions.size() + " benchmark(s) regressed by more than "
+                    + Math.round(tolerance * 100) + "%: " + String.join(", ", regressions));
+        }
+    }
+
+    /**
+     * Prints every current score with its change against the baseline and returns the benchmarks
+     * that regressed. Throughput regresses when it drops, every other mode when the score
+     * rises.
+     */
+    static List<String> compare(Map<String, Score> baseline, Map<String, Score> current, double tolerance) {
+        List<String> regressions = new ArrayList<>();
+        System.out.printf("%n%-90s %14s %14s %8s%n", "Benchmark", "Baseline", "Current", "Change");
+        for (Map.Entry<String, Score> entry : current.entrySet()) {
+            Score before = baseline.get(entry.getKey());
+            Score after = entry.getValue();
+            if (before == null || !before.unit().equals(after.unit())) {
+                System.out.printf("%-90s %14s %14.3f %8s%n", entry.getKey(), "-", after.value(), "new");
+                continue;
+            }
+            double change = (after.value() - before.value()) / before.value();
+            boolean regressed = after.higherIsBetter() ? change < -tolerance : change > tolerance;
+            System.out.printf("%-90s %14.3f %14.3f %+7.1f%% %s%s%n", entry.getKey(), before.value(), after.value(),
+                    change * 100, after.unit(), regressed ? "  REGRESSION" : "");
+            if (regressed) {
+                regressions.add(entry.getKey());
+            }
+        }
+        return regressions;
+    }
+
+    /**
+     * Reads a JMH JSON result file into scores keyed by benchmark name and parameters.
+     */
+    static Map<String, Score> readScores(Path file) throws IOException {
+        Map<String, Score> scores = new LinkedHashMap<>();
+        for (JsonNode run : new ObjectMapper().readTree(file.toFile())) {
+            StringBuilder key = new StringBuilder(run.get("benchmark").asText()
+                    .replace("az.schedule.backendservice.benchmark.", ""));
+            JsonNode params = run.get("params");
+            if (params != null) {
+                Map<String, String> sorted = new TreeMap<>();
+                for (Iterator<Map.Entry<String, JsonNode>> it = params.fields(); it.hasNext(); ) {
+                    Map.Entry<String, JsonNode> param = it.next();
+                    sorted.put(param.getKey(), param.getValue().asText());
+                }
+                sorted.forEach((name, value) -> key.append(' ').append(name).append('=').append(value));
+            }
+            JsonNode metric = run.get("primaryMetric");
+            scores.put(key.toString(), new Score(metric.get("score").asDouble(), metric.get("scoreUnit").asText(),
+                    "thrpt".equals(run.get("mode").asText())));
+        }
+        return scores;
+    }
+
+    record Score(double value, String unit, boolean higherIsBetter) {
+    }
+}
@@ -0,0 +1,144 @@
+package az.schedule.backendservice.benchmark;
+
+import az.schedule.backendservice.converter.NotificationConverter;
+import az.schedule.backendservice.converter.TaskConverter;
+import az.schedule.backendservice.dto.NotificationDTO;
+import az.schedule.backendservice.dto.TaskDTO;
+import az.schedule.backendservice.entity.Account;
+import az.schedule.backendservice.entity.Category;
+import az.schedule.backendservice.entity.Notification;
+import az.schedule.backendservice.entity.Task;
+import az.schedule.backendservice.enums.NotificationType;
+import az.schedule.backendservice.enums.Priority;
+import az.schedule.backendservice.enums.TaskStatus;
+import org.modelmapper.ModelMapper;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-DTO mapping cost of the hand-written converters against the previous reflection-based
+ * {@link ModelMapper} path, for the two DTOs on the hottest list endpoints.
+ * <p>
+ * Run from {@code backend-service} after {@code mvn test-compile}:
+ * <pre>
+ * mvn exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=az.schedule.backendservice.benchmark.ConverterBenchmark
+ * </pre>
+ * The GC profiler is enabled so {@code gc.alloc.rate.norm} reports bytes allocated per mapping.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConverterBenchmark {
+
+    private ModelMapper modelMapper;
+    private TaskConverter taskConverter;
+    private NotificationConverter notificationConverter;
+    private Task task;
+    private Notification notification;
+
+    @Setup
+    public void setUp() {
+        modelMapper = new ModelMapper();
+        taskConverter = new TaskConverter();
+        notificationConverter = new NotificationConverter();
+
+        Account account = new Account();
+        account.setId(7L);
+        account.setUsername("benchmark_user");
+        account.setEmail("benchmark@example.com");
+
+        Account admin = new Account();
+        admin.setId(1L);
+        admin.setUsername("admin");
+
+        Category category = new Category();
+        category.setId(3L);
+        category.setName("Work");
+        category.setColor("#3366FF");
+        category.setAccount(account);
+
+        task = new Task();
+        task.setId(42L);
+        task.setTitle("Prepare sprint review");
+        task.setDescription("Collect demo notes and metrics");
+        task.setStartTime(LocalDateTime.of(2025, 5, 12, 9, 0));
+        task.setEndTime(LocalDateTime.of(2025, 5, 12, 11, 0));
+        task.setPriority(Priority.HIGH);
+        task.setStatus(TaskStatus.IN_PROGRESS);
+        task.setCategory(category);
+        task.setAccount(account);
+        task.setCreatedAt(LocalDateTime.of(2025, 5, 1, 8, 0));
+        task.setUpdatedAt(LocalDateTime.of(2025, 5, 2, 8, 0));
+
+        notification = new Notification();
+        notification.setId(99L);
+        notification.setTitle("Task Completed!");
+        notification.setMessage("Nice work, keep going");
+        notification.setIsRead(false);
+        notification.setType(NotificationType.TASK_COMPLETED);
+        notification.setTargetAccount(account);
+        notification.setSendAccount(admin);
+        notification.setCreatedAt(LocalDateTime.of(2025, 5, 3, 8, 0));
+
+        // Warm the ModelMapper type maps so the baseline measures steady-state mapping
+        modelMapper.map(task, TaskDTO.class);
+        modelMapper.map(notification, NotificationDTO.class);
+    }
+
+    @Benchmark
+    public TaskDTO taskDtoModelMapper() {
+        TaskDTO dto = modelMapper.map(task, TaskDTO.class);
+        if (task.getCategory() != null) {
+            dto.setCategoryId(task.getCategory().getId());
+            dto.setCategoryName(task.getCategory().getName());
+        }
+        if (task.getAccount() != null) {
+            dto.setAccountId(task.getAccount().getId());
+            dto.setAccountUsername(task.getAccount().getUsername());
+        }
+        return dto;
+    }
+
+    @Benchmark
+    public TaskDTO taskDtoConverter() {
+        return taskConverter.toDTO(task);
+    }
+
+    @Benchmark
+    public NotificationDTO notificationDtoModelMapper() {
+        NotificationDTO dto = modelMapper.map(notification, NotificationDTO.class);
+        if (notification.getTargetAccount() != null) {
+            dto.setTargetAccountId(notification.getTargetAccount().getId());
+            dto.setTargetAccountUsername(notification.getTargetAccount().getUsername());
+        }
+        if (notification.getSendAccount() != null) {
+            dto.setSendAccountId(notification.getSendAccount().getId());
+            dto.setSendAccountUsername(notification.getSendAccount().getUsername());
+        }
+        return dto;
+    }
+
+    @Benchmark
+    public NotificationDTO notificationDtoConverter() {
+        return notificationConverter.toDTO(notification);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(ConverterBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,114 @@
+package az.schedule.backendservice.benchmark;
+
+import az.schedule.backendservice.entity.Account;
+import az.schedule.backendservice.entity.Role;
+import az.schedule.backendservice.enums.TokenType;
+import az.schedule.backendservice.utils.JwtService;
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.JWSObject;
+import com.nimbusds.jose.Payload;
+import com.nimbusds.jose.crypto.MACSigner;
+import com.nimbusds.jose.crypto.MACVerifier;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.text.ParseException;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sign and verify cost of {@link JwtService} against the previous per-call path, which built a new
+ * {@link MACSigner} or {@link MACVerifier} and parsed the token on every call. {@code verifyCached}
+ * re-verifies the same token, as introspection and the resource server do for a token in use.
+ * <p>
+ * Run from {@code backend-service} after {@code mvn test-compile}:
+ * <pre>
+ * mvn exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=az.schedule.backendservice.benchmark.JwtBenchmark
+ * </pre>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+public class JwtBenchmark {
+
+    private static final String SECRET = "benchmark-secret-benchmark-secret-benchmark-secret-benchmark-secret!";
+
+    private JwtService jwtService;
+    private Account account;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtService = new JwtService();
+        ReflectionTestUtils.setField(jwtService, "jwtSecret", SECRET);
+        ReflectionTestUtils.setField(jwtService, "jwtRefresh", SECRET + "-refresh");
+        ReflectionTestUtils.setField(jwtService, "jwtExpirations", 3600L);
+        ReflectionTestUtils.setField(jwtService, "jwtRefreshExpirationMs", 604800L);
+        ReflectionTestUtils.setField(jwtService, "claimsCacheMaxSize", 10_000L);
+        ReflectionTestUtils.invokeMethod(jwtService, "init");
+
+        Role role = new Role();
+        role.setCode("USER");
+        account = new Account();
+        account.setId(42L);
+        account.setUsername("benchmark_user");
+        account.setRole(role);
+        token = jwtService.generateToken(account, TokenType.ACCESS_TOKEN);
+    }
+
+    @Benchmark
+    public String signPerCall() throws JOSEException {
+        JWTClaimsSet claims = new JWTClaimsSet.Builder()
+                .subject(account.getUsername())
+                .issuer("az.schedule.com")
+                .issueTime(new Date())
+                .claim("scope", account.getRole().getCode())
+                .claim("accountId", account.getId())
+                .expirationTime(new Date(Instant.now().plus(3600, ChronoUnit.SECONDS).toEpochMilli()))
+                .jwtID(UUID.randomUUID().toString())
+                .build();
+        JWSObject jwsObject = new JWSObject(new JWSHeader(JWSAlgorithm.HS512), new Payload(claims.toJSONObject()));
+        jwsObject.sign(new MACSigner(SECRET.getBytes()));
+        return jwsObject.serialize();
+    }
+
+    @Benchmark
+    public String signPrebuilt() {
+        return jwtService.generateToken(account, TokenType.ACCESS_TOKEN);
+    }
+
+    @Benchmark
+    public boolean verifyPerCall() throws JOSEException, ParseException {
+        SignedJWT signedJWT = SignedJWT.parse(token);
+        signedJWT.getJWTClaimsSet();
+        return signedJWT.verify(new MACVerifier(SECRET.getBytes()));
+    }
+
+    @Benchmark
+    public JWTClaimsSet verifyCached() throws JOSEException, ParseException {
+        return jwtService.verifyToken(token, TokenType.ACCESS_TOKEN);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(JwtBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,67 @@
+package az.schedule.backendservice.benchmark;
+
+import az.schedule.backendservice.service.impl.PaymentServiceImpl;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Username extraction from the transfer content of a Sepay webhook
+ * ({@code PaymentServiceImpl.extractUsernameFromContent}, called through reflection), for a
+ * well-formed content, one with the bank's extra spacing and reference suffix, and one without the
+ * payment keyword. Logging of the service is raised to {@code ERROR} so that only the parsing is
+ * measured.
+ * <p>
+ * Run from {@code backend-service} after {@code mvn test-compile}:
+ * <pre>
+ * mvn exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=az.schedule.backendservice.benchmark.PaymentContentBenchmark
+ * </pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PaymentContentBenchmark {
+
+    @Param({
+            "SEVQR thanh toan premium astramind benchmark_user",
+            "  MBVCB.8123456.SEVQR   Thanh toan  PREMIUM astramind   benchmark_user  .CT tu 0123456789 ",
+            "Chuyen tien an trua thang 5"
+    })
+    private String content;
+
+    private PaymentServiceImpl paymentService;
+    private Method extractUsernameFromContent;
+
+    @Setup
+    public void setUp() throws NoSuchMethodException {
+        ((Logger) LoggerFactory.getLogger(PaymentServiceImpl.class)).setLevel(Level.ERROR);
+
+        paymentService = new PaymentServiceImpl(null, null, null);
+        extractUsernameFromContent = PaymentServiceImpl.class.getDeclaredMethod("extractUsernameFromContent", String.class);
+        extractUsernameFromContent.setAccessible(true);
+    }
+
+    @Benchmark
+    public Object extractUsername() throws ReflectiveOperationException {
+        return extractUsernameFromContent.invoke(paymentService, content);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(PaymentContentBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,96 @@
+package az.schedule.backendservice.benchmark;
+
+import az.schedule.backendservice.service.impl.ScheduleOptimizer;
+import az.schedule.backendservice.service.impl.ScheduleOptimizer.Job;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One month of schedule optimization for a user with 100 and with 2,000 open tasks. A quarter of
+ * the tasks keep a pinned slot and a third carry a deadline. {@code greedyOnly} runs with no
+ * local-search iterations, {@code optimize} with the default budget of 200 ms and 20,000
+ * iterations, so the difference is the cost of the local search. At 2,000 tasks the month is
+ * oversubscribed and most moves try to re-insert jobs that do not fit.
+ * <p>
+ * Run from {@code backend-service} after {@code mvn test-compile}:
+ * <pre>
+ * mvn exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=az.schedule.backendservice.benchmark.ScheduleOptimizerBenchmark
+ * </pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ScheduleOptimizerBenchmark {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 3, 3, 9, 7);
+    private static final LocalDateTime MONTH_END = LocalDateTime.of(2025, 4, 1, 0, 0);
+
+    @Param({"100", "2000"})
+    private int tasks;
+
+    private ScheduleOptimizer greedy;
+    private ScheduleOptimizer optimizer;
+    private List<Job> jobs;
+
+    @Setup
+    public void setUp() {
+        greedy = optimizer(0);
+        optimizer = optimizer(20_000);
+
+        Random random = new Random(42);
+        jobs = new ArrayList<>(tasks);
+        for (long id = 1; id <= tasks; id++) {
+            int duration = 15 * (1 + random.nextInt(8));
+            int weight = 10 + random.nextInt(200);
+            LocalDateTime pinned = null;
+            if (random.nextInt(4) == 0) {
+                pinned = NOW.toLocalDate().plusDays(random.nextInt(28)).atTime(7 + random.nextInt(14), 15 * random.nextInt(4));
+            }
+            LocalDateTime deadline = random.nextInt(3) == 0 ? NOW.plusDays(1 + random.nextInt(20)) : null;
+            jobs.add(new Job(id, duration, weight, pinned, NOW, deadline));
+        }
+    }
+
+    private static ScheduleOptimizer optimizer(int maxIterations) {
+        ScheduleOptimizer optimizer = new ScheduleOptimizer();
+        ReflectionTestUtils.setField(optimizer, "workWindows", "08:00-12:00,14:00-17:00");
+        ReflectionTestUtils.setField(optimizer, "skipWeekends", true);
+        ReflectionTestUtils.setField(optimizer, "slotMinutes", 15);
+        ReflectionTestUtils.setField(optimizer, "timeBudgetMs", 200L);
+        ReflectionTestUtils.setField(optimizer, "maxIterations", maxIterations);
+        ReflectionTestUtils.setField(optimizer, "seed", 42L);
+        ReflectionTestUtils.invokeMethod(optimizer, "init");
+        return optimizer;
+    }
+
+    @Benchmark
+    public ScheduleOptimizer.Plan greedyOnly() {
+        return greedy.optimize(jobs, NOW, MONTH_END);
+    }
+
+    @Benchmark
+    public ScheduleOptimizer.Plan optimize() {
+        return optimizer.optimize(jobs, NOW, MONTH_END);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(ScheduleOptimizerBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,94 @@
+package az.schedule.backendservice.benchmark;
+
+import az.schedule.backendservice.config.LocaleConfig;
+import az.schedule.backendservice.dto.TaskDTO;
+import az.schedule.backendservice.service.impl.AIScheduleServiceImpl;
+import az.schedule.backendservice.service.impl.ScheduleOptimizer;
+import az.schedule.backendservice.service.impl.ScheduleTextCatalog;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.slf4j.LoggerFactory;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.lang.reflect.Method;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code AIScheduleServiceImpl.generateSuggestionsFromTasks} for a month of 1k, 10k and 100k tasks
+ * from {@link TaskDatasets#month}: priority scoring, one {@link ScheduleOptimizer} run with the
+ * default 200 ms budget, and the texts of every suggestion. The method is private and is called
+ * through reflection; the suggestion cache and task service in front of it are not involved.
+ * <p>
+ * Run from {@code backend-service} after {@code mvn test-compile}:
+ * <pre>
+ * mvn exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=az.schedule.backendservice.benchmark.ScheduleSuggestionBenchmark
+ * </pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ScheduleSuggestionBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int tasks;
+
+    private AIScheduleServiceImpl aiScheduleService;
+    private Method generateSuggestionsFromTasks;
+    private ScheduleTextCatalog.Texts texts;
+    private List<TaskDTO> monthTasks;
+    private int year;
+    private int month;
+
+    @Setup
+    public void setUp() throws NoSuchMethodException {
+        // Per-run debug lines of the optimizer would otherwise be part of the measurement
+        ((Logger) LoggerFactory.getLogger(ScheduleOptimizer.class)).setLevel(Level.INFO);
+
+        ScheduleOptimizer optimizer = new ScheduleOptimizer();
+        ReflectionTestUtils.setField(optimizer, "workWindows", "08:00-12:00,14:00-17:00");
+        ReflectionTestUtils.setField(optimizer, "skipWeekends", true);
+        ReflectionTestUtils.setField(optimizer, "slotMinutes", 15);
+        ReflectionTestUtils.setField(optimizer, "timeBudgetMs", 200L);
+        ReflectionTestUtils.setField(optimizer, "maxIterations", 20_000);
+        ReflectionTestUtils.setField(optimizer, "seed", 42L);
+        ReflectionTestUtils.invokeMethod(optimizer, "init");
+
+        ScheduleTextCatalog catalog = new ScheduleTextCatalog(new LocaleConfig().messageSource());
+        ReflectionTestUtils.setField(catalog, "languages", "en,vi");
+        ReflectionTestUtils.invokeMethod(catalog, "init");
+        texts = catalog.texts("en");
+
+        aiScheduleService = new AIScheduleServiceImpl(null, optimizer, null, catalog);
+        generateSuggestionsFromTasks = AIScheduleServiceImpl.class.getDeclaredMethod("generateSuggestionsFromTasks",
+                List.class, int.class, int.class, ScheduleTextCatalog.Texts.class, StringBuilder.class);
+        generateSuggestionsFromTasks.setAccessible(true);
+
+        LocalDateTime now = LocalDateTime.now();
+        year = now.getYear();
+        month = now.getMonthValue();
+        monthTasks = TaskDatasets.month(tasks, now);
+    }
+
+    @Benchmark
+    public Object generateSuggestions() throws ReflectiveOperationException {
+        return generateSuggestionsFromTasks.invoke(aiScheduleService, monthTasks, year, month, texts, new StringBuilder(1024));
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(ScheduleSuggestionBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+}
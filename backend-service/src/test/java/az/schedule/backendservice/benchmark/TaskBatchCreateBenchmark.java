@@ -0,0 +1,160 @@
+package az.schedule.backendservice.benchmark;
+
+import az.schedule.backendservice.config.JpaBatchConfig;
+import az.schedule.backendservice.converter.TaskConverter;
+import az.schedule.backendservice.dto.TaskDTO;
+import az.schedule.backendservice.dto.request.task.TaskRequest;
+import az.schedule.backendservice.entity.Account;
+import az.schedule.backendservice.entity.Category;
+import az.schedule.backendservice.entity.Task;
+import az.schedule.backendservice.enums.Priority;
+import az.schedule.backendservice.enums.TaskStatus;
+import az.schedule.backendservice.repository.AccountRepository;
+import az.schedule.backendservice.repository.CategoryRepository;
+import az.schedule.backendservice.repository.TaskRepository;
+import az.schedule.backendservice.service.NotificationService;
+import az.schedule.backendservice.service.TaskService;
+import az.schedule.backendservice.service.impl.ScheduleSuggestionCache;
+import az.schedule.backendservice.service.impl.TaskCalendarCache;
+import az.schedule.backendservice.service.impl.TaskServiceImpl;
+import az.schedule.backendservice.service.impl.TrendyMessageService;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.data.jpa.JpaRepositoriesAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration;
+import org.springframework.boot.autoconfigure.transaction.TransactionAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.testcontainers.containers.MySQLContainer;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Creating N tasks one {@code createTask} call at a time versus one {@code createTasks} call, against
+ * MySQL in a container (Docker required). Run from {@code backend-service} after {@code mvn test-compile}:
+ * <pre>
+ * mvn exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=az.schedule.backendservice.benchmark.TaskBatchCreateBenchmark
+ * </pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TaskBatchCreateBenchmark {
+
+    @Param({"100", "200"})
+    public int taskCount;
+
+    private MySQLContainer<?> mysql;
+    private ConfigurableApplicationContext context;
+    private TaskService taskService;
+    private TaskRepository taskRepository;
+    private Long accountId;
+    private List<TaskRequest> requests;
+
+    @TestConfiguration(proxyBeanMethods = false)
+    @ImportAutoConfiguration({DataSourceAutoConfiguration.class, HibernateJpaAutoConfiguration.class,
+            TransactionAutoConfiguration.class, JpaRepositoriesAutoConfiguration.class})
+    @EntityScan(basePackageClasses = Task.class)
+    @EnableJpaRepositories(basePackageClasses = TaskRepository.class)
+    @Import({JpaBatchConfig.class, TaskServiceImpl.class, TaskConverter.class, TaskCalendarCache.class,
+            ScheduleSuggestionCache.class, TrendyMessageService.class})
+    static class BenchmarkConfig {
+        @Bean
+        NotificationService notificationService() {
+            return Mockito.mock(NotificationService.class);
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void startDatabase() {
+        mysql = new MySQLContainer<>("mysql:8.0");
+        mysql.start();
+        context = new SpringApplicationBuilder(BenchmarkConfig.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=" + mysql.getJdbcUrl(),
+                        "spring.datasource.username=" + mysql.getUsername(),
+                        "spring.datasource.password=" + mysql.getPassword(),
+                        "spring.jpa.hibernate.ddl-auto=create-drop")
+                .run();
+        taskService = context.getBean(TaskService.class);
+        taskRepository = context.getBean(TaskRepository.class);
+
+        Account account = new Account();
+        account.setUsername("benchmark_user");
+        account.setEmail("benchmark_user@example.com");
+        account.setPassword("password");
+        account.setIsActive(true);
+        account = context.getBean(AccountRepository.class).save(account);
+        accountId = account.getId();
+
+        Category category = new Category();
+        category.setName("Benchmark");
+        category.setAccount(account);
+        category = context.getBean(CategoryRepository.class).save(category);
+
+        LocalDateTime base = LocalDateTime.of(2025, 6, 1, 8, 0);
+        requests = new ArrayList<>();
+        for (int i = 0; i < taskCount; i++) {
+            requests.add(TaskRequest.builder()
+                    .title("Benchmark task " + i)
+                    .startTime(base.plusHours(i))
+                    .endTime(base.plusHours(i).plusMinutes(30))
+                    .priority(Priority.MEDIUM)
+                    .status(TaskStatus.TODO)
+                    .categoryId(category.getId())
+                    .build());
+        }
+    }
+
+    @TearDown(Level.Iteration)
+    public void clearTasks() {
+        taskRepository.deleteAllInBatch();
+    }
+
+    @TearDown(Level.Trial)
+    public void stopDatabase() {
+        context.close();
+        mysql.stop();
+    }
+
+    @Benchmark
+    public List<TaskDTO> createOneByOne() {
+        List<TaskDTO> created = new ArrayList<>(requests.size());
+        for (TaskRequest request : requests) {
+            created.add(taskService.createTask(request, accountId));
+        }
+        return created;
+    }
+
+    @Benchmark
+    public List<TaskDTO> createInBatch() {
+        return taskService.createTasks(requests, accountId);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(TaskBatchCreateBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+}
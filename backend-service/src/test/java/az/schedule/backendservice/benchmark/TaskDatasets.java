@@ -0,0 +1,125 @@
+package az.schedule.backendservice.benchmark;
+
+import az.schedule.backendservice.converter.TaskConverter;
+import az.schedule.backendservice.dto.TaskDTO;
+import az.schedule.backendservice.entity.Account;
+import az.schedule.backendservice.entity.Category;
+import az.schedule.backendservice.entity.Task;
+import az.schedule.backendservice.enums.Priority;
+import az.schedule.backendservice.enums.TaskStatus;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Synthetic task histories of one account for the benchmarks, at the {@code 1000}, {@code 10000} and
+ * {@code 100000} task scales of their {@code @Param}s. A dataset depends only on its size and the
+ * reference time, so every run and every fork sees the same tasks.
+ * <p>
+ * {@link #history} spreads tasks over the half year before {@code now}, as analytics and streaks
+ * read them. About half are done, a third of the rest are overdue and most carry a category and a
+ * start time. {@link #month} returns the tasks of the month of {@code now} as the schedule
+ * suggestions read them, with a quarter still unscheduled.
+ */
+final class TaskDatasets {
+
+    static final long ACCOUNT_ID = 7L;
+
+    private static final int HISTORY_DAYS = 180;
+    private static final String[] CATEGORIES = {"Work", "Study", "Health", "Family", "Errands", "Side project"};
+    private static final Priority[] PRIORITIES = Priority.values();
+
+    private TaskDatasets() {
+    }
+
+    static List<Task> history(int size, LocalDateTime now) {
+        Random random = new Random(size);
+        Account account = account();
+        List<Category> categories = categories(account);
+
+        List<Task> tasks = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            LocalDateTime createdAt = now.minusDays(random.nextInt(HISTORY_DAYS)).minusMinutes(random.nextInt(24 * 60));
+            Task task = task(i + 1L, random, account, categories, createdAt);
+            if (task.getStatus() == TaskStatus.DONE) {
+                // Completed at most two weeks after creation, never in the future
+                LocalDateTime completedAt = createdAt.plusHours(1 + random.nextInt(14 * 24));
+                task.setUpdatedAt(completedAt.isAfter(now) ? now.minusMinutes(1 + random.nextInt(60)) : completedAt);
+            } else {
+                task.setUpdatedAt(createdAt);
+            }
+            tasks.add(task);
+        }
+        return tasks;
+    }
+
+    static List<TaskDTO> month(int size, LocalDateTime now) {
+        Random random = new Random(size);
+        Account account = account();
+        List<Category> categories = categories(account);
+        TaskConverter converter = new TaskConverter();
+        LocalDateTime monthStart = now.toLocalDate().withDayOfMonth(1).atStartOfDay();
+        int monthDays = now.toLocalDate().lengthOfMonth();
+
+        List<TaskDTO> tasks = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            LocalDateTime createdAt = monthStart.plusDays(random.nextInt(monthDays)).plusMinutes(random.nextInt(24 * 60));
+            Task task = task(i + 1L, random, account, categories, createdAt);
+            if (random.nextInt(4) == 0) {
+                task.setStartTime(null);
+                task.setEndTime(null);
+            }
+            task.setUpdatedAt(createdAt);
+            tasks.add(converter.toDTO(task));
+        }
+        return tasks;
+    }
+
+    private static Task task(long id, Random random, Account account, List<Category> categories, LocalDateTime createdAt) {
+        Task task = new Task();
+        task.setId(id);
+        task.setTitle("Task " + id);
+        task.setDescription(random.nextInt(3) == 0 ? "Notes for task " + id : null);
+        task.setAccount(account);
+        task.setPriority(random.nextInt(10) == 0 ? null : PRIORITIES[random.nextInt(PRIORITIES.length)]);
+        task.setCategory(random.nextInt(5) == 0 ? null : categories.get(random.nextInt(categories.size())));
+        task.setCreatedAt(createdAt);
+
+        int roll = random.nextInt(100);
+        task.setStatus(roll < 50 ? TaskStatus.DONE
+                : roll < 75 ? TaskStatus.TODO
+                : roll < 92 ? TaskStatus.IN_PROGRESS
+                : TaskStatus.PAUSED);
+
+        if (random.nextInt(5) != 0) {
+            LocalDateTime start = createdAt.toLocalDate().plusDays(random.nextInt(10)).atTime(7 + random.nextInt(14), 15 * random.nextInt(4));
+            task.setStartTime(start);
+            task.setEndTime(start.plusMinutes(30L * (1 + random.nextInt(6))));
+        } else if (random.nextBoolean()) {
+            task.setEndTime(createdAt.plusDays(1 + random.nextInt(14)));
+        }
+        return task;
+    }
+
+    private static Account account() {
+        Account account = new Account();
+        account.setId(ACCOUNT_ID);
+        account.setUsername("benchmark_user");
+        account.setEmail("benchmark@example.com");
+        return account;
+    }
+
+    private static List<Category> categories(Account account) {
+        List<Category> categories = new ArrayList<>(CATEGORIES.length);
+        for (int i = 0; i < CATEGORIES.length; i++) {
+            Category category = new Category();
+            category.setId(i + 1L);
+            category.setName(CATEGORIES[i]);
+            category.setAccount(account);
+            categories.add(category);
+        }
+        return categories;
+    }
+}
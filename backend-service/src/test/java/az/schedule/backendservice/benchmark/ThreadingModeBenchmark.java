@@ -0,0 +1,198 @@
+package az.schedule.backendservice.benchmark;
+
+import az.schedule.backendservice.config.ConnectionLimitingDataSource;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Request throughput of the platform-thread setup (Tomcat's default 200 worker threads) against
+ * one virtual thread per request with {@link ConnectionLimitingDataSource} in front of the pool.
+ * <p>
+ * The load is the service's mix: most requests are CRUD calls holding a pooled connection for a
+ * few short queries, the rest are AI calls that wait on the model for much longer and then write
+ * the result. The pool is a stand-in with the Hikari defaults (10 connections, 30 s timeout); no
+ * database or model is involved, so the numbers isolate the threading model.
+ * <p>
+ * Run from {@code backend-service} after {@code mvn test-compile}:
+ * <pre>
+ * mvn exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=az.schedule.backendservice.benchmark.ThreadingModeBenchmark
+ * </pre>
+ * The JMH results go to {@code benchmarks/threading-mode.json} (override with
+ * {@code benchmark.results}) and the virtual to platform throughput ratio per AI share is printed.
+ * The committed file is the published comparison; {@code benchmarks/README.md} records the JDK and
+ * machine it was run on, so update both together.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class ThreadingModeBenchmark {
+
+    private static final int REQUESTS = 2000;
+    private static final int POOL_SIZE = 10;
+    private static final int TOMCAT_MAX_THREADS = 200;
+    private static final long CONNECTION_TIMEOUT_MS = 30_000;
+    private static final long QUERY_MS = 3;
+    private static final int CRUD_QUERIES = 2;
+    private static final long AI_CALL_MS = 150;
+
+    public enum Threading { PLATFORM, VIRTUAL }
+
+    @Param({"PLATFORM", "VIRTUAL"})
+    public Threading threading;
+
+    @Param({"10", "30"})
+    public int aiPercent;
+
+    private ExecutorService executor;
+    private DataSource dataSource;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        DataSource pool = new SimulatedPool(POOL_SIZE, CONNECTION_TIMEOUT_MS);
+        if (threading == Threading.VIRTUAL) {
+            executor = Executors.newVirtualThreadPerTaskExecutor();
+            dataSource = new ConnectionLimitingDataSource(pool, POOL_SIZE, CONNECTION_TIMEOUT_MS);
+        } else {
+            executor = Executors.newFixedThreadPool(TOMCAT_MAX_THREADS);
+            dataSource = pool;
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(REQUESTS)
+    public int mixedLoad() throws Exception {
+        List<Future<Integer>> responses = new ArrayList<>(REQUESTS);
+        for (int i = 0; i < REQUESTS; i++) {
+            boolean ai = ThreadLocalRandom.current().nextInt(100) < aiPercent;
+            responses.add(executor.submit(() -> ai ? aiRequest() : crudRequest()));
+        }
+        int completed = 0;
+        for (Future<Integer> response : responses) {
+            completed += response.get();
+        }
+        return completed;
+    }
+
+    private int crudRequest() throws Exception {
+        try (Connection connection = dataSource.getConnection()) {
+            for (int q = 0; q < CRUD_QUERIES; q++) {
+                connection.isValid(0);
+            }
+        }
+        return 1;
+    }
+
+    private int aiRequest() throws Exception {
+        Thread.sleep(AI_CALL_MS);
+        try (Connection connection = dataSource.getConnection()) {
+            connection.isValid(0);
+        }
+        return 1;
+    }
+
+    /**
+     * Connection pool stand-in: a bounded number of connections, a wait timeout like Hikari's, and
+     * every statement (modelled as {@code isValid}) blocking for {@link #QUERY_MS}.
+     */
+    private static final class SimulatedPool extends AbstractDataSource {
+        private final Semaphore connections;
+        private final long timeoutMs;
+
+        SimulatedPool(int size, long timeoutMs) {
+            this.connections = new Semaphore(size);
+            this.timeoutMs = timeoutMs;
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            try {
+                if (!connections.tryAcquire(timeoutMs, TimeUnit.MILLISECONDS)) {
+                    throw new SQLTransientConnectionException("Connection is not available");
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new SQLTransientConnectionException("Interrupted", e);
+            }
+            return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                    new Class<?>[]{Connection.class},
+                    (proxy, method, args) -> switch (method.getName()) {
+                        case "isValid" -> {
+                            Thread.sleep(QUERY_MS);
+                            yield true;
+                        }
+                        case "close" -> {
+                            connections.release();
+                            yield null;
+                        }
+                        case "equals" -> proxy == args[0];
+                        case "hashCode" -> System.identityHashCode(proxy);
+                        default -> null;
+                    });
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return getConnection();
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException, IOException {
+        Path results = Path.of(System.getProperty("benchmark.results", "benchmarks/threading-mode.json"));
+        Files.createDirectories(results.toAbsolutePath().getParent());
+        Options options = new OptionsBuilder()
+                .include(ThreadingModeBenchmark.class.getSimpleName())
+                .resultFormat(ResultFormatType.JSON)
+                .result(results.toString())
+                .build();
+        Collection<RunResult> runs = new Runner(options).run();
+
+        Map<String, Map<Threading, Double>> scores = new TreeMap<>();
+        for (RunResult run : runs) {
+            scores.computeIfAbsent(run.getParams().getParam("aiPercent"), key -> new EnumMap<>(Threading.class))
+                    .put(Threading.valueOf(run.getParams().getParam("threading")), run.getPrimaryResult().getScore());
+        }
+        System.out.printf("%n%-10s %16s %16s %8s%n", "AI share", "Platform req/s", "Virtual req/s", "Ratio");
+        scores.forEach((aiPercent, byThreading) -> {
+            double platform = byThreading.getOrDefault(Threading.PLATFORM, Double.NaN);
+            double virtual = byThreading.getOrDefault(Threading.VIRTUAL, Double.NaN);
+            System.out.printf("%-10s %16.1f %16.1f %7.2fx%n", aiPercent + "%", platform, virtual, virtual / platform);
+        });
+        System.out.println("Results written to " + results);
+    }
+}
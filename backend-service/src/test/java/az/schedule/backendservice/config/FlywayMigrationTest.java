@@ -0,0 +1,70 @@
+package az.schedule.backendservice.config;
+
+import az.schedule.backendservice.support.MySqlJpaTest;
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.MigrationInfo;
+import org.flywaydb.core.api.MigrationState;
+import org.flywaydb.core.api.configuration.FluentConfiguration;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("Flyway migrations")
+class FlywayMigrationTest extends MySqlJpaTest {
+
+    @Autowired
+    private Flyway flyway;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private boolean indexExists(String table, String index) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM information_schema.statistics " +
+                "WHERE table_schema = DATABASE() AND table_name = ? AND index_name = ?",
+                Integer.class, table, index) > 0;
+    }
+
+    @Test
+    @DisplayName("Should apply every migration on an empty database")
+    void testMigrate_EmptyDatabase() {
+        assertEquals(0, flyway.info().pending().length);
+        for (MigrationInfo migration : flyway.info().applied()) {
+            assertEquals(MigrationState.SUCCESS, migration.getState(), migration.getScript());
+        }
+        assertTrue(indexExists("mail_outbox", "idx_mail_outbox_status_next_attempt"));
+        assertTrue(indexExists("focus_session_event", "uk_focus_session_event_session_sequence"));
+    }
+
+    @Test
+    @DisplayName("Should add the missing indexes to a database created by Hibernate before Flyway")
+    void testMigrate_DatabaseCreatedBeforeFlyway() {
+        // The schema Hibernate built stands in for a pre-Flyway database, minus the keys the migrations add
+        jdbcTemplate.execute("DROP INDEX idx_task_account_status ON task");
+        jdbcTemplate.execute("DROP INDEX idx_payment_status ON payment");
+        String transactionIdKey = jdbcTemplate.queryForObject("SELECT index_name FROM information_schema.statistics " +
+                "WHERE table_schema = DATABASE() AND table_name = 'payment' AND column_name = 'transactionid' " +
+                "AND non_unique = 0", String.class);
+        jdbcTemplate.execute("DROP INDEX " + transactionIdKey + " ON payment");
+
+        // Same configuration as the application, with its own history table so every version runs again
+        FluentConfiguration configuration = Flyway.configure().dataSource(dataSource).table("flyway_upgrade_history");
+        new FlywayConfig().flywayConfigurationCustomizer().customize(configuration);
+        configuration.load().migrate();
+
+        assertTrue(indexExists("task", "idx_task_account_status"));
+        assertTrue(indexExists("payment", "idx_payment_status"));
+        assertTrue(indexExists("payment", "uk_payment_transaction_id"));
+    }
+}
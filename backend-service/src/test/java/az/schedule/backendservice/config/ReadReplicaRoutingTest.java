@@ -0,0 +1,148 @@
+package az.schedule.backendservice.config;
+
+import az.schedule.backendservice.entity.Task;
+import az.schedule.backendservice.repository.TaskRepository;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Routes JPA transactions across two independent MySQL servers standing in for a primary and its
+ * replica. The servers are told apart by {@code @@hostname}, and the offload is measured with each
+ * server's {@code Com_select} counter. No schema is needed: only native queries run.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=none",
+        "spring.flyway.enabled=false"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Testcontainers(disabledWithoutDocker = true)
+@Import(ReadReplicaConfig.class)
+@DisplayName("Read replica routing")
+@Slf4j
+class ReadReplicaRoutingTest {
+
+    @Container
+    static MySQLContainer<?> primary = new MySQLContainer<>("mysql:8.0");
+
+    @Container
+    static MySQLContainer<?> replica = new MySQLContainer<>("mysql:8.0");
+
+    private static final int READS = 500;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    @Qualifier("primaryDataSource")
+    private DataSource primaryDataSource;
+
+    @Autowired
+    @Qualifier("replicaDataSource")
+    private DataSource replicaDataSource;
+
+    private String primaryHost;
+    private String replicaHost;
+
+    @SpringBootConfiguration
+    @EntityScan(basePackageClasses = Task.class)
+    @EnableJpaRepositories(basePackageClasses = TaskRepository.class)
+    static class JpaSliceConfig {
+    }
+
+    @DynamicPropertySource
+    static void dataSources(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", primary::getJdbcUrl);
+        registry.add("spring.datasource.username", primary::getUsername);
+        registry.add("spring.datasource.password", primary::getPassword);
+        registry.add("app.datasource.replica.url", replica::getJdbcUrl);
+        registry.add("app.datasource.replica.username", replica::getUsername);
+        registry.add("app.datasource.replica.password", replica::getPassword);
+    }
+
+    @BeforeEach
+    void setUp() {
+        primaryHost = new JdbcTemplate(primaryDataSource).queryForObject("SELECT @@hostname", String.class);
+        replicaHost = new JdbcTemplate(replicaDataSource).queryForObject("SELECT @@hostname", String.class);
+    }
+
+    private String hostIn(boolean readOnly) {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setReadOnly(readOnly);
+        return transaction.execute(status ->
+                String.valueOf(entityManager.createNativeQuery("SELECT @@hostname").getSingleResult()));
+    }
+
+    private static long selects(DataSource dataSource) {
+        return new JdbcTemplate(dataSource).queryForObject(
+                "SELECT VARIABLE_VALUE FROM performance_schema.global_status WHERE VARIABLE_NAME = 'Com_select'",
+                Long.class);
+    }
+
+    @Test
+    @DisplayName("Read-only transactions run on the replica, read-write ones on the primary")
+    void testRouting() {
+        assertEquals(replicaHost, hostIn(true));
+        assertEquals(primaryHost, hostIn(false));
+    }
+
+    @Test
+    @DisplayName("A read-only method joining a read-write transaction stays on the primary")
+    void testJoinedTransaction() {
+        TransactionTemplate outer = new TransactionTemplate(transactionManager);
+        String host = outer.execute(status -> hostIn(true));
+        assertEquals(primaryHost, host);
+    }
+
+    @Test
+    @DisplayName("Read-only traffic leaves the primary idle")
+    void testPrimaryOffload() {
+        long primaryBefore = selects(primaryDataSource);
+        long replicaBefore = selects(replicaDataSource);
+
+        long started = System.nanoTime();
+        for (int i = 0; i < READS; i++) {
+            hostIn(true);
+        }
+        long elapsedMs = (System.nanoTime() - started) / 1_000_000;
+
+        // The counter query itself is one select on each server
+        long primarySelects = selects(primaryDataSource) - primaryBefore - 1;
+        long replicaSelects = selects(replicaDataSource) - replicaBefore - 1;
+        log.info("{} read-only transactions in {} ms: {} selects on the primary, {} on the replica",
+                READS, elapsedMs, primarySelects, replicaSelects);
+
+        assertTrue(replicaSelects >= READS, "Replica selects: " + replicaSelects);
+        // Allows for the session setup queries of a connection the primary pool opens meanwhile
+        assertTrue(primarySelects < READS / 50, "Primary selects: " + primarySelects);
+    }
+}
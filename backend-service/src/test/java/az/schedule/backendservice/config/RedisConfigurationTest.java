@@ -0,0 +1,89 @@
+package az.schedule.backendservice.config;
+
+import io.lettuce.core.metrics.MicrometerCommandLatencyRecorder;
+import io.lettuce.core.metrics.MicrometerOptions;
+import io.lettuce.core.resource.ClientResources;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("Lettuce connection factory")
+class RedisConfigurationTest {
+
+    private static final String PASSWORD = "redis_password123";
+
+    @Container
+    static GenericContainer<?> redis = new GenericContainer<>("redis:7.4-alpine")
+            .withCommand("redis-server", "--requirepass", PASSWORD)
+            .withExposedPorts(6379);
+
+    private static SimpleMeterRegistry meterRegistry;
+    private static ClientResources clientResources;
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate stringRedisTemplate;
+
+    @BeforeAll
+    static void connect() {
+        meterRegistry = new SimpleMeterRegistry();
+        clientResources = ClientResources.builder()
+                .commandLatencyRecorder(new MicrometerCommandLatencyRecorder(meterRegistry, MicrometerOptions.create()))
+                .build();
+
+        RedisConfiguration configuration = new RedisConfiguration();
+        ReflectionTestUtils.setField(configuration, "redisHost", redis.getHost());
+        ReflectionTestUtils.setField(configuration, "redisPort", String.valueOf(redis.getMappedPort(6379)));
+        ReflectionTestUtils.setField(configuration, "redisPassword", PASSWORD);
+        ReflectionTestUtils.setField(configuration, "commandTimeout", Duration.ofSeconds(2));
+        ReflectionTestUtils.setField(configuration, "connectTimeout", Duration.ofSeconds(2));
+        ReflectionTestUtils.setField(configuration, "poolMaxWait", Duration.ofSeconds(2));
+
+        connectionFactory = configuration.redisConnectionFactory(clientResources);
+        connectionFactory.afterPropertiesSet();
+        stringRedisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void disconnect() {
+        connectionFactory.destroy();
+        clientResources.shutdown();
+    }
+
+    @BeforeEach
+    void setUp() {
+        stringRedisTemplate.getConnectionFactory().getConnection().serverCommands().flushAll();
+    }
+
+    @Test
+    @DisplayName("Should authenticate with the configured password")
+    void testConnectionFactory_Authenticates() {
+        stringRedisTemplate.opsForValue().set("auth:check", "ok");
+
+        assertEquals("ok", stringRedisTemplate.opsForValue().get("auth:check"));
+    }
+
+    @Test
+    @DisplayName("Should record command latency through Micrometer")
+    void testConnectionFactory_RecordsLatency() {
+        stringRedisTemplate.opsForValue().set("latency:check", "1");
+        stringRedisTemplate.opsForValue().get("latency:check");
+
+        assertNotNull(meterRegistry.find("lettuce.command.completion").tag("command", "GET").timer());
+        assertTrue(meterRegistry.find("lettuce.command.completion").tag("command", "GET").timer().count() > 0);
+    }
+}
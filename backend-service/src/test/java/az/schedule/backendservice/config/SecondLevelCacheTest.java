@@ -0,0 +1,150 @@
+package az.schedule.backendservice.config;
+
+import az.schedule.backendservice.entity.Category;
+import az.schedule.backendservice.entity.Role;
+import az.schedule.backendservice.entity.Subscription;
+import az.schedule.backendservice.repository.CategoryRepository;
+import az.schedule.backendservice.repository.RoleRepository;
+import az.schedule.backendservice.repository.SubscriptionRepository;
+import az.schedule.backendservice.support.MySqlJpaTest;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import(SecondLevelCacheConfig.class)
+@DisplayName("Second-level cache for reference data")
+class SecondLevelCacheTest extends MySqlJpaTest {
+
+    @Autowired
+    private RoleRepository roleRepository;
+
+    @Autowired
+    private SubscriptionRepository subscriptionRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private SessionFactoryImplementor sessionFactory;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+        statistics = sessionFactory.getStatistics();
+    }
+
+    @AfterEach
+    void tearDown() {
+        categoryRepository.deleteAll();
+        subscriptionRepository.deleteAll();
+        roleRepository.deleteAll();
+        sessionFactory.getCache().evictAllRegions();
+    }
+
+    @Test
+    @DisplayName("A repeated role lookup by code runs no SQL")
+    void testQueryCache() {
+        Role role = new Role();
+        role.setCode("USER");
+        roleRepository.save(role);
+
+        statistics.clear();
+        roleRepository.findByCode("USER");
+        assertEquals(1, statistics.getPrepareStatementCount(), "First lookup");
+
+        statistics.clear();
+        assertEquals(role.getId(), roleRepository.findByCode("USER").orElseThrow().getId());
+        assertEquals(0, statistics.getPrepareStatementCount(), "Repeated lookup");
+    }
+
+    @Test
+    @DisplayName("A cached subscription is loaded by id without SQL")
+    void testEntityCache() {
+        Subscription subscription = new Subscription();
+        subscription.setName("Premium");
+        subscription.setPrice(99000.0);
+        Long id = subscriptionRepository.save(subscription).getId();
+        subscriptionRepository.findById(id);
+
+        statistics.clear();
+        assertEquals("Premium", subscriptionRepository.findById(id).orElseThrow().getName());
+        assertEquals(0, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @DisplayName("Committed changes are published, and other instances' messages evict the entity")
+    void testInvalidation() {
+        StringRedisTemplate stringRedisTemplate = mock(StringRedisTemplate.class);
+        SecondLevelCacheInvalidator invalidator = new SecondLevelCacheInvalidator(
+                entityManagerFactory, stringRedisTemplate, mock(RedisMessageListenerContainer.class));
+        ReflectionTestUtils.invokeMethod(invalidator, "init");
+
+        Category category = new Category();
+        category.setName("Work");
+        Long id = categoryRepository.save(category).getId();
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                categoryRepository.findById(id).orElseThrow().setName("Deep work"));
+
+        ArgumentCaptor<String> published = ArgumentCaptor.forClass(String.class);
+        verify(stringRedisTemplate, atLeastOnce())
+                .convertAndSend(eq(SecondLevelCacheInvalidator.INVALIDATION_CHANNEL), published.capture());
+        assertTrue(published.getValue().endsWith("|" + Category.class.getName() + "|" + id), published.getValue());
+        assertTrue(sessionFactory.getCache().containsEntity(Category.class, id));
+
+        String fromOtherInstance = "other-instance|" + Category.class.getName() + "|" + id;
+        invalidator.onMessage(new DefaultMessage(
+                SecondLevelCacheInvalidator.INVALIDATION_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                fromOtherInstance.getBytes(StandardCharsets.UTF_8)), null);
+        assertFalse(sessionFactory.getCache().containsEntity(Category.class, id));
+    }
+
+    @Test
+    @DisplayName("Disabling the cache switches both Hibernate caches off over configured properties")
+    void testDisabledCustomizer_OverridesProperties() {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+
+        new SecondLevelCacheConfig().secondLevelCacheDisabledCustomizer().customize(properties);
+
+        assertEquals(false, properties.get(AvailableSettings.USE_SECOND_LEVEL_CACHE));
+        assertEquals(false, properties.get(AvailableSettings.USE_QUERY_CACHE));
+    }
+}
@@ -0,0 +1,139 @@
+package az.schedule.backendservice.config;
+
+import az.schedule.backendservice.annotation.QueryBudget;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("Per-route SQL statement budget")
+class StatementBudgetTrackerTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private ObjectProvider<MeterRegistry> meterRegistryProvider;
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+
+    static class SampleController {
+        public void list() {
+        }
+
+        @QueryBudget(statements = 5)
+        public void dashboard() {
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        meterRegistryProvider = new StaticListableBeanFactory(Map.of("meterRegistry", meterRegistry))
+                .getBeanProvider(MeterRegistry.class);
+    }
+
+    private static HandlerMethod handler(String method) throws NoSuchMethodException {
+        return new HandlerMethod(new SampleController(), SampleController.class.getMethod(method));
+    }
+
+    private static MockHttpServletRequest request(String route) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", route.replace("{id}", "42"));
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, route);
+        return request;
+    }
+
+    @Test
+    @DisplayName("Statements of a request carry the route and land in its histogram")
+    void testCountsPerRoute() throws Exception {
+        StatementBudgetTracker tracker = new StatementBudgetTracker(meterRegistryProvider, 2, 500, false, true);
+        MockHttpServletRequest request = request("/api/v1/tasks/{id}");
+        HandlerMethod handler = handler("list");
+
+        tracker.preHandle(request, response, handler);
+        assertEquals("/* GET /api/v1/tasks/{id} */ select 1", tracker.inspect("select 1"));
+        tracker.inspect("select 2");
+        tracker.inspect("select 3");
+        tracker.afterCompletion(request, response, handler, null);
+
+        DistributionSummary summary = meterRegistry.get("app.request.statements")
+                .tag("method", "GET")
+                .tag("route", "/api/v1/tasks/{id}")
+                .summary();
+        assertEquals(1, summary.count());
+        assertEquals(3, summary.totalAmount());
+        assertEquals("select 4", tracker.inspect("select 4"), "Statements after the request are not tagged");
+    }
+
+    @Test
+    @DisplayName("Test mode fails the statement over the budget")
+    void testFailOnExceed() throws Exception {
+        StatementBudgetTracker tracker = new StatementBudgetTracker(meterRegistryProvider, 2, 500, true, false);
+        MockHttpServletRequest request = request("/api/v1/tasks");
+        tracker.preHandle(request, response, handler("list"));
+
+        tracker.inspect("select 1");
+        tracker.inspect("select 2");
+        assertThrows(IllegalStateException.class, () -> tracker.inspect("select 3"));
+    }
+
+    @Test
+    @DisplayName("@QueryBudget overrides the default budget of its route")
+    void testAnnotationOverride() throws Exception {
+        StatementBudgetTracker tracker = new StatementBudgetTracker(meterRegistryProvider, 2, 500, true, false);
+        MockHttpServletRequest request = request("/api/v1/dashboard");
+        tracker.preHandle(request, response, handler("dashboard"));
+
+        for (int i = 0; i < 5; i++) {
+            tracker.inspect("select " + i);
+        }
+        assertThrows(IllegalStateException.class, () -> tracker.inspect("select 5"));
+    }
+
+    @Test
+    @DisplayName("Comment terminators in a route are escaped")
+    void testRouteEscaping() throws Exception {
+        StatementBudgetTracker tracker = new StatementBudgetTracker(meterRegistryProvider, 2, 500, false, true);
+        tracker.preHandle(request("/files/**/raw"), response, handler("list"));
+
+        assertEquals("/* GET /files/** /raw */ select 1", tracker.inspect("select 1"));
+    }
+
+    @Test
+    @DisplayName("Statements are left as they are unless SQL comments are enabled")
+    void testCommentsOffByDefault() throws Exception {
+        StatementBudgetTracker tracker = new StatementBudgetTracker(meterRegistryProvider, 2, 500, false, false);
+        MockHttpServletRequest request = request("/api/v1/tasks");
+        HandlerMethod handler = handler("list");
+        tracker.preHandle(request, response, handler);
+
+        assertEquals("select 1", tracker.inspect("select 1"));
+        tracker.afterCompletion(request, response, handler, null);
+
+        assertEquals(1, meterRegistry.get("app.request.statements").tag("route", "/api/v1/tasks").summary()
+                .totalAmount());
+    }
+
+    @Test
+    @DisplayName("Budgets apply without a meter registry")
+    void testWithoutMeterRegistry() throws Exception {
+        ObjectProvider<MeterRegistry> noRegistry = new StaticListableBeanFactory().getBeanProvider(MeterRegistry.class);
+        StatementBudgetTracker tracker = new StatementBudgetTracker(noRegistry, 1, 500, true, false);
+        MockHttpServletRequest request = request("/api/v1/tasks");
+        HandlerMethod handler = handler("list");
+        tracker.preHandle(request, response, handler);
+
+        tracker.inspect("select 1");
+        assertThrows(IllegalStateException.class, () -> tracker.inspect("select 2"));
+        tracker.afterCompletion(request, response, handler, null);
+    }
+}
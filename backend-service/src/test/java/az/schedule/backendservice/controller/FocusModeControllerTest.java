@@ -0,0 +1,124 @@
+package az.schedule.backendservice.controller;
+
+import az.schedule.backendservice.dto.FocusModeSettingsDTO;
+import az.schedule.backendservice.dto.response.BlockedSiteMatcherResponse;
+import az.schedule.backendservice.service.FocusModeService;
+import az.schedule.backendservice.service.SubscriptionService;
+import az.schedule.backendservice.service.impl.FocusModeSettingsCache;
+import az.schedule.backendservice.utils.MessageUtils;
+import az.schedule.backendservice.utils.SecurityUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedStatic;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(FocusModeController.class)
+@AutoConfigureMockMvc(addFilters = false)
+@DisplayName("FocusModeController Unit Tests")
+class FocusModeControllerTest {
+
+    private static final String ETAG = "\"0123456789abcdef\"";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private FocusModeService focusModeService;
+
+    @MockitoBean
+    private MessageUtils messageUtils;
+
+    // GlobalExceptionHandler depends on it
+    @MockitoBean
+    private SubscriptionService subscriptionService;
+
+    @BeforeEach
+    void setUp() {
+        FocusModeSettingsDTO settings = FocusModeSettingsDTO.builder()
+                .accountId(1L)
+                .isEnabled(true)
+                .blockedWebsites(List.of("youtube.com"))
+                .pomodoroWorkMinutes(25)
+                .build();
+        BlockedSiteMatcherResponse matcher = BlockedSiteMatcherResponse.builder()
+                .version("feedface")
+                .patternCount(1)
+                .trie(Map.of("com", Map.of("youtube", Map.of("$", 1))))
+                .build();
+        when(focusModeService.getCachedSettings(1L))
+                .thenReturn(new FocusModeSettingsCache.CachedSettings(settings, ETAG, matcher));
+        when(messageUtils.getMessage("success.focus.mode.get")).thenReturn("Focus mode settings retrieved");
+    }
+
+    @Test
+    @DisplayName("Should return settings with an ETag on first request")
+    void testGetSettings_ReturnsETag() throws Exception {
+        try (MockedStatic<SecurityUtils> securityUtilsMock = mockStatic(SecurityUtils.class)) {
+            securityUtilsMock.when(SecurityUtils::getCurrentAccountId).thenReturn(1L);
+
+            mockMvc.perform(get("/api/v1/focus-mode/settings"))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string(HttpHeaders.ETAG, ETAG))
+                    .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache, private"))
+                    .andExpect(jsonPath("$.data.isEnabled").value(true))
+                    .andExpect(jsonPath("$.data.blockedWebsites[0]").value("youtube.com"));
+        }
+    }
+
+    @Test
+    @DisplayName("Should return 304 without a body when the ETag matches")
+    void testGetSettings_NotModified() throws Exception {
+        try (MockedStatic<SecurityUtils> securityUtilsMock = mockStatic(SecurityUtils.class)) {
+            securityUtilsMock.when(SecurityUtils::getCurrentAccountId).thenReturn(1L);
+
+            mockMvc.perform(get("/api/v1/focus-mode/settings").header(HttpHeaders.IF_NONE_MATCH, ETAG))
+                    .andExpect(status().isNotModified())
+                    .andExpect(header().string(HttpHeaders.ETAG, ETAG))
+                    .andExpect(content().string(""));
+        }
+    }
+
+    @Test
+    @DisplayName("Should return the settings again when the ETag is stale")
+    void testGetSettings_StaleETag() throws Exception {
+        try (MockedStatic<SecurityUtils> securityUtilsMock = mockStatic(SecurityUtils.class)) {
+            securityUtilsMock.when(SecurityUtils::getCurrentAccountId).thenReturn(1L);
+
+            mockMvc.perform(get("/api/v1/focus-mode/settings").header(HttpHeaders.IF_NONE_MATCH, "\"stale\""))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string(HttpHeaders.ETAG, ETAG));
+        }
+        verify(focusModeService, never()).getSettings(anyLong());
+    }
+
+    @Test
+    @DisplayName("Should return the compiled matcher versioned by its ETag")
+    void testGetBlockedSiteMatcher_ReturnsTrie() throws Exception {
+        try (MockedStatic<SecurityUtils> securityUtilsMock = mockStatic(SecurityUtils.class)) {
+            securityUtilsMock.when(SecurityUtils::getCurrentAccountId).thenReturn(1L);
+
+            mockMvc.perform(get("/api/v1/focus-mode/blocked-sites/matcher"))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string(HttpHeaders.ETAG, "\"feedface\""))
+                    .andExpect(jsonPath("$.data.version").value("feedface"))
+                    .andExpect(jsonPath("$.data.trie.com.youtube['$']").value(1));
+
+            mockMvc.perform(get("/api/v1/focus-mode/blocked-sites/matcher")
+                            .header(HttpHeaders.IF_NONE_MATCH, "\"feedface\""))
+                    .andExpect(status().isNotModified());
+        }
+    }
+}
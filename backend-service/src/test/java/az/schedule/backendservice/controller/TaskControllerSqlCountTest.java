@@ -0,0 +1,298 @@
+package az.schedule.backendservice.controller;
+
+import az.schedule.backendservice.config.QueryBudgetConfig;
+import az.schedule.backendservice.config.StatementBudgetTracker;
+import az.schedule.backendservice.converter.TaskConverter;
+import az.schedule.backendservice.dto.request.task.AdvancedTaskFilterRequest;
+import az.schedule.backendservice.dto.request.task.BatchTaskCreateRequest;
+import az.schedule.backendservice.dto.request.task.BulkTaskRequest;
+import az.schedule.backendservice.dto.request.task.TaskRequest;
+import az.schedule.backendservice.entity.Account;
+import az.schedule.backendservice.entity.Category;
+import az.schedule.backendservice.entity.Task;
+import az.schedule.backendservice.enums.Priority;
+import az.schedule.backendservice.enums.TaskStatus;
+import az.schedule.backendservice.repository.AccountRepository;
+import az.schedule.backendservice.repository.CategoryRepository;
+import az.schedule.backendservice.repository.TaskRepository;
+import az.schedule.backendservice.service.AIScheduleService;
+import az.schedule.backendservice.service.AITaskService;
+import az.schedule.backendservice.service.NotificationService;
+import az.schedule.backendservice.service.impl.ScheduleSuggestionCache;
+import az.schedule.backendservice.service.impl.TaskCalendarCache;
+import az.schedule.backendservice.service.impl.TaskServiceImpl;
+import az.schedule.backendservice.service.impl.TrendyMessageService;
+import az.schedule.backendservice.support.MySqlJpaTest;
+import az.schedule.backendservice.utils.MessageUtils;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.ReflectionUtils;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.lang.reflect.Method;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Pins the number of SQL statements each TaskController endpoint issues, so lazy associations that
+ * start loading per row (N+1) fail the build. Runs without an outer transaction or open-session-in-view,
+ * so an association read outside its fetch plan fails with LazyInitializationException as well.
+ * The AI endpoints only delegate to the (mocked) AI services and are not covered here.
+ * JDBC batching and the second-level cache are switched off so every row write and read counts as one
+ * statement, and the seed data stays inside the first pooled Task id allocation so measured calls
+ * never touch the id sequence table.
+ * <p>
+ * Each call also runs inside a {@link StatementBudgetTracker} count with {@code fail-on-exceed} on,
+ * as a request through the dispatcher would, so an endpoint over its budget fails here too. Routes with a
+ * {@code @QueryBudget} run under that budget, the others under the default.
+ */
+@TestPropertySource(properties = {
+        "app.query-budget.fail-on-exceed=true",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.properties.hibernate.jdbc.batch_size=0",
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=false"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({TaskController.class, TaskServiceImpl.class, TaskConverter.class, TaskCalendarCache.class,
+        ScheduleSuggestionCache.class, TrendyMessageService.class, StatementBudgetTracker.class,
+        QueryBudgetConfig.class, TaskControllerSqlCountTest.MetricsConfig.class})
+@DisplayName("TaskController SQL statement count")
+class TaskControllerSqlCountTest extends MySqlJpaTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 6, 10, 9, 0);
+    private static final int PAGE_SIZE = 2;
+    private static final Method RUN = ReflectionUtils.findMethod(Runnable.class, "run");
+
+    @TestConfiguration
+    static class MetricsConfig {
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+
+    @Autowired
+    private TaskController taskController;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private StatementBudgetTracker statementBudgetTracker;
+
+    @MockitoBean
+    private AITaskService aiTaskService;
+
+    @MockitoBean
+    private AIScheduleService aiScheduleService;
+
+    @MockitoBean
+    private NotificationService notificationService;
+
+    @MockitoBean
+    private PasswordEncoder passwordEncoder;
+
+    @MockitoBean
+    private MessageUtils messageUtils;
+
+    private Statistics statistics;
+    private Long categoryId;
+    private final List<Long> taskIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        Account account = new Account();
+        account.setUsername("sql_count_user");
+        account.setEmail("sql_count_user@example.com");
+        account.setPassword("password");
+        account.setIsActive(true);
+        account = accountRepository.save(account);
+
+        Category category = new Category();
+        category.setName("Work");
+        category.setAccount(account);
+        category = categoryRepository.save(category);
+        categoryId = category.getId();
+
+        taskIds.clear();
+        for (int i = 1; i <= 4; i++) {
+            Task task = new Task();
+            task.setTitle("Task " + i);
+            task.setStatus(TaskStatus.TODO);
+            task.setPriority(Priority.HIGH);
+            task.setStartTime(BASE.plusHours(i));
+            task.setEndTime(BASE.plusHours(i + 1));
+            task.setAccount(account);
+            task.setCategory(category);
+            taskIds.add(taskRepository.save(task).getId());
+        }
+
+        Jwt jwt = Jwt.withTokenValue("token")
+                .header("alg", "HS512")
+                .subject(account.getUsername())
+                .claim("accountId", account.getId())
+                .build();
+        SecurityContextHolder.getContext().setAuthentication(new JwtAuthenticationToken(jwt));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        taskRepository.deleteAll();
+        categoryRepository.deleteAll();
+        accountRepository.deleteAll();
+    }
+
+    private void assertStatements(long expected, Runnable endpoint) {
+        assertStatements(expected, new HandlerMethod(endpoint, RUN), endpoint);
+    }
+
+    private void assertStatements(long expected, String controllerMethod, Runnable endpoint) {
+        Method method = Arrays.stream(TaskController.class.getMethods())
+                .filter(candidate -> candidate.getName().equals(controllerMethod))
+                .findFirst()
+                .orElseThrow();
+        assertStatements(expected, new HandlerMethod(taskController, method), endpoint);
+    }
+
+    private void assertStatements(long expected, HandlerMethod handler, Runnable endpoint) {
+        statistics.clear();
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "TaskController");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        statementBudgetTracker.preHandle(request, response, handler);
+        try {
+            endpoint.run();
+        } finally {
+            statementBudgetTracker.afterCompletion(request, response, handler, null);
+        }
+        assertEquals(expected, statistics.getPrepareStatementCount(), "SQL statements executed");
+    }
+
+    private TaskRequest taskRequest(String title) {
+        return TaskRequest.builder()
+                .title(title)
+                .startTime(BASE.plusDays(1))
+                .endTime(BASE.plusDays(1).plusHours(1))
+                .priority(Priority.MEDIUM)
+                .status(TaskStatus.TODO)
+                .categoryId(categoryId)
+                .build();
+    }
+
+    @Test
+    @DisplayName("Create: account, category, insert")
+    void testCreateTask() {
+        assertStatements(3, () -> taskController.createTask(taskRequest("New task")));
+    }
+
+    @Test
+    @DisplayName("Batch create: account and categories once, one insert per task")
+    void testCreateTasks() {
+        BatchTaskCreateRequest request = BatchTaskCreateRequest.builder()
+                .tasks(List.of(taskRequest("First batch task"), taskRequest("Second batch task")))
+                .build();
+        assertStatements(4, "createTasks", () -> taskController.createTasks(request));
+    }
+
+    @Test
+    @DisplayName("Update: task with account and category, update")
+    void testUpdateTask() {
+        assertStatements(2, () -> taskController.updateTask(taskIds.get(0), taskRequest("Renamed")));
+    }
+
+    @Test
+    @DisplayName("Delete: task, delete")
+    void testDeleteTask() {
+        assertStatements(2, () -> taskController.deleteTask(taskIds.get(0)));
+    }
+
+    @Test
+    @DisplayName("Detail: one select")
+    void testGetTaskById() {
+        assertStatements(1, () -> taskController.getTaskById(taskIds.get(0)));
+    }
+
+    @Test
+    @DisplayName("Paged lists: page select and count")
+    void testPagedLists() {
+        assertStatements(2, () -> taskController.getTasks(0, PAGE_SIZE, "id", "desc"));
+        assertStatements(2, () -> taskController.getTasksByStatus(TaskStatus.TODO, 0, PAGE_SIZE, "id", "desc"));
+        assertStatements(2, () -> taskController.getTasksByCategory(categoryId, 0, PAGE_SIZE, "id", "desc"));
+        assertStatements(2, () -> taskController.searchTasks("Task", 0, PAGE_SIZE, "id", "desc"));
+        assertStatements(2, () -> taskController.getTasksByPriority(Priority.HIGH, 0, PAGE_SIZE, "id", "desc"));
+        AdvancedTaskFilterRequest filter = AdvancedTaskFilterRequest.builder().keyword("Task").build();
+        assertStatements(2, () -> taskController.advancedFilterTasks(filter, 0, PAGE_SIZE, "id", "desc"));
+    }
+
+    @Test
+    @DisplayName("Range lists: one select each")
+    void testRangeLists() {
+        assertStatements(1, () -> taskController.getTasksByDateRange(BASE, BASE.plusDays(1)));
+        assertStatements(1, () -> taskController.getOverdueTasks());
+        assertStatements(1, () -> taskController.getTasksByWeek(BASE.minusDays(1)));
+        assertStatements(1, () -> taskController.getTasksByMonth(BASE.getYear(), BASE.getMonthValue()));
+    }
+
+    @Test
+    @DisplayName("Calendar: one select on miss, none on hit")
+    void testCalendar() {
+        assertStatements(1, "getCalendarTasks", () -> taskController.getCalendarTasks(BASE.minusDays(1), BASE.plusDays(6)));
+        assertStatements(0, "getCalendarTasks", () -> taskController.getCalendarTasks(BASE.plusDays(6), BASE.plusDays(13)));
+    }
+
+    @Test
+    @DisplayName("Statistics: one count per figure")
+    void testStatistics() {
+        assertStatements(6, "getTaskStatistics", () -> taskController.getTaskStatistics());
+        assertStatements(5, "getCategoryTaskStatistics", () -> taskController.getCategoryTaskStatistics(categoryId));
+    }
+
+    @Test
+    @DisplayName("Bulk operations: one select and one write per task")
+    void testBulkOperations() {
+        BulkTaskRequest request = BulkTaskRequest.builder()
+                .taskIds(taskIds.subList(0, 2))
+                .status(TaskStatus.DONE)
+                .build();
+        assertStatements(4, () -> taskController.bulkUpdateTaskStatus(request));
+        assertStatements(4, () -> taskController.bulkDeleteTasks(taskIds.subList(2, 4)));
+    }
+}
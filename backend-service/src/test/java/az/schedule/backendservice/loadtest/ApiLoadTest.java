@@ -0,0 +1,317 @@
+package az.schedule.backendservice.loadtest;
+
+import az.schedule.backendservice.dto.request.task.TaskRequest;
+import az.schedule.backendservice.entity.Account;
+import az.schedule.backendservice.entity.Notification;
+import az.schedule.backendservice.entity.Role;
+import az.schedule.backendservice.entity.Task;
+import az.schedule.backendservice.enums.NotificationType;
+import az.schedule.backendservice.enums.Priority;
+import az.schedule.backendservice.enums.TaskStatus;
+import az.schedule.backendservice.enums.TokenType;
+import az.schedule.backendservice.repository.AccountRepository;
+import az.schedule.backendservice.repository.NotificationRepository;
+import az.schedule.backendservice.repository.RoleRepository;
+import az.schedule.backendservice.repository.TaskRepository;
+import az.schedule.backendservice.service.impl.TaskReminderService;
+import az.schedule.backendservice.support.MySqlTestcontainersConfig;
+import az.schedule.backendservice.utils.JwtService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.ai.chat.model.ChatModel;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.context.annotation.Primary;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * End-to-end load run of the release traffic mix against the whole application on a random port,
+ * with MySQL and Redis in containers and {@link FakeChatModel} in place of OpenAI. Virtual users
+ * replay four flows of the web client, and the reminder job fires alongside them:
+ * <ul>
+ *     <li>dashboard: task statistics, analytics and streak, and now and then the AI insights</li>
+ *     <li>calendar: calendar range, month and week views around the current month</li>
+ *     <li>task CRUD: create, read, update, list and mostly delete</li>
+ *     <li>notification polling: unread count and the first page, sometimes marking all read</li>
+ * </ul>
+ * p50/p95/p99 and throughput per endpoint go to {@code target/load-test/report.json} and are compared
+ * with {@code benchmarks/load-baseline.json}; more than 1% errors on an endpoint, or a p95, p99 or
+ * throughput change beyond {@code load.tolerance}, fails the test. A missing baseline fails it before
+ * any load is generated; with {@code -Dload.update-baseline=true} a run is only checked for errors and,
+ * when it passes, becomes the baseline to commit.
+ * <p>
+ * {@code app.query-budget.fail-on-exceed} is on, so a request over its SQL statement budget fails
+ * and counts as an error of its endpoint.
+ * <p>
+ * Only runs on request, from {@code backend-service}:
+ * <pre>
+ * mvn test -Dtest=ApiLoadTest -Dload.test=true
+ * </pre>
+ * Scale with {@code -Dload.users}, {@code -Dload.accounts}, {@code -Dload.tasks-per-account},
+ * {@code -Dload.duration-seconds} and {@code -Dload.warmup-seconds}.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.jpa.hibernate.ddl-auto=update",
+        "spring.threads.virtual.enabled=true",
+        "app.query-budget.fail-on-exceed=true",
+        "spring.mail.host=localhost",
+        "spring.ai.openai.api-key=load-test",
+        "app.jwtSecret=load-test-access-secret-load-test-access-secret-load-test-access-secret",
+        "app.jwtRefresh=load-test-refresh-secret-load-test-refresh-secret-load-test-refresh-secret",
+        "app.jwtExpirationMs=7200",
+        "app.jwtRefreshExpirationMs=86400",
+        "cloudinary.cloud-name=load-test",
+        "cloudinary.api-key=load-test",
+        "cloudinary.api-secret=load-test",
+        "google.client-id=load-test",
+        "google.client-secret=load-test",
+        "google.redirect-uri=http://localhost/oauth2/callback",
+        "open.api.title=AstraMind",
+        "open.api.version=load-test",
+        "open.api.description=Load test",
+        "open.api.serverName=local",
+        "open.api.serverUrl=http://localhost",
+        "logging.level.az.schedule.backendservice=WARN"
+})
+@Testcontainers(disabledWithoutDocker = true)
+@Import(MySqlTestcontainersConfig.class)
+@EnabledIfSystemProperty(named = "load.test", matches = "true")
+@DisplayName("REST API load run")
+@Slf4j
+class ApiLoadTest {
+
+    @Container
+    static GenericContainer<?> redis = new GenericContainer<>("redis:7.4-alpine").withExposedPorts(6379);
+
+    private static final int USERS = Integer.getInteger("load.users", 32);
+    private static final int ACCOUNTS = Integer.getInteger("load.accounts", 50);
+    private static final int TASKS_PER_ACCOUNT = Integer.getInteger("load.tasks-per-account", 300);
+    private static final int NOTIFICATIONS_PER_ACCOUNT = 30;
+    private static final int WARMUP_SECONDS = Integer.getInteger("load.warmup-seconds", 20);
+    private static final int DURATION_SECONDS = Integer.getInteger("load.duration-seconds", 60);
+    private static final long CHAT_LATENCY_MS = Long.getLong("load.chat-latency-ms", 800);
+    private static final long REMINDER_INTERVAL_MS = 5_000;
+    private static final double TOLERANCE = Double.parseDouble(System.getProperty("load.tolerance", "0.25"));
+    private static final boolean UPDATE_BASELINE = Boolean.getBoolean("load.update-baseline");
+    private static final Path REPORT = Path.of("target/load-test/report.json");
+    private static final Path BASELINE = Path.of(System.getProperty("load.baseline", "benchmarks/load-baseline.json"));
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private RoleRepository roleRepository;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Autowired
+    private TaskReminderService taskReminderService;
+
+    @DynamicPropertySource
+    static void redisProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.data.redis.host", redis::getHost);
+        registry.add("spring.data.redis.port", () -> redis.getMappedPort(6379));
+    }
+
+    @TestConfiguration
+    static class FakeChatModelConfig {
+        @Bean
+        @Primary
+        ChatModel fakeChatModel() {
+            return new FakeChatModel(CHAT_LATENCY_MS);
+        }
+    }
+
+    @Test
+    @DisplayName("Should serve the release traffic mix within the stored baseline")
+    void testReleaseMix_WithinBaseline() throws Exception {
+        assertTrue(UPDATE_BASELINE || Files.exists(BASELINE), () -> "No load baseline at "
+                + BASELINE.toAbsolutePath() + "; record one with -Dload.update-baseline=true");
+        List<String> tokens = seed();
+        LoadDriver driver = new LoadDriver(URI.create("http://localhost:" + port), objectMapper);
+
+        LoadReport report = driver.run(mix(), tokens, USERS, Duration.ofSeconds(WARMUP_SECONDS),
+                Duration.ofSeconds(DURATION_SECONDS), 42, List.of(() -> fireReminderJob(driver)));
+        log.info("{} users over {} accounts for {} s:{}", USERS, ACCOUNTS, DURATION_SECONDS, report.format());
+        report.write(REPORT);
+
+        LoadReport baseline = UPDATE_BASELINE ? null : LoadReport.read(BASELINE);
+        List<String> regressions = report.regressions(baseline, TOLERANCE);
+        if (UPDATE_BASELINE && regressions.isEmpty()) {
+            report.write(BASELINE);
+            log.info("Recorded load baseline {}", BASELINE);
+        }
+        assertTrue(regressions.isEmpty(), () -> "Load regressions:\n" + String.join("\n", regressions));
+    }
+
+    private List<LoadDriver.WeightedScenario> mix() {
+        return List.of(
+                new LoadDriver.WeightedScenario("dashboard", 30, this::dashboard),
+                new LoadDriver.WeightedScenario("calendar", 25, this::calendar),
+                new LoadDriver.WeightedScenario("task CRUD", 20, this::taskCrud),
+                new LoadDriver.WeightedScenario("notification polling", 25, this::notificationPolling));
+    }
+
+    private void dashboard(LoadDriver.Session session) throws Exception {
+        session.get("GET /api/v1/tasks/statistics", "/api/v1/tasks/statistics");
+        session.get("GET /api/v1/analytics", "/api/v1/analytics");
+        session.get("GET /api/v1/streak", "/api/v1/streak");
+        if (session.random().nextInt(10) == 0) {
+            session.get("GET /api/v1/analytics/ai-insights", "/api/v1/analytics/ai-insights");
+        }
+    }
+
+    private void calendar(LoadDriver.Session session) throws Exception {
+        YearMonth month = YearMonth.now().plusMonths(session.random().nextInt(5) - 2);
+        LocalDateTime start = month.atDay(1).atStartOfDay();
+        session.get("GET /api/v1/tasks/calendar", "/api/v1/tasks/calendar?start=" + start + "&end=" + start.plusMonths(1));
+        session.get("GET /api/v1/tasks/month", "/api/v1/tasks/month?year=" + month.getYear() + "&month=" + month.getMonthValue());
+        LocalDateTime weekStart = start.plusDays(7L * session.random().nextInt(4));
+        session.get("GET /api/v1/tasks/week", "/api/v1/tasks/week?weekStart=" + weekStart);
+    }
+
+    private void taskCrud(LoadDriver.Session session) throws Exception {
+        // Starts within the reminder window, so the reminder job has work as well
+        LocalDateTime start = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS).plusMinutes(2 + session.random().nextInt(8));
+        TaskRequest request = TaskRequest.builder()
+                .title("Load task " + session.random().nextInt(1_000_000))
+                .description("Created by the load run")
+                .startTime(start)
+                .endTime(start.plusMinutes(45))
+                .priority(Priority.MEDIUM)
+                .status(TaskStatus.TODO)
+                .build();
+        JsonNode created = session.post("POST /api/v1/tasks", "/api/v1/tasks", request);
+        long id = created.path("id").asLong();
+
+        session.get("GET /api/v1/tasks/{id}", "/api/v1/tasks/" + id);
+        request.setPriority(Priority.HIGH);
+        request.setDescription("Updated by the load run");
+        session.put("PUT /api/v1/tasks/{id}", "/api/v1/tasks/" + id, request);
+        session.get("GET /api/v1/tasks", "/api/v1/tasks?pageNo=0&pageSize=10");
+        if (session.random().nextInt(4) != 0) {
+            session.delete("DELETE /api/v1/tasks/{id}", "/api/v1/tasks/" + id);
+        }
+    }
+
+    private void notificationPolling(LoadDriver.Session session) throws Exception {
+        session.get("GET /api/v1/notifications/unread/count", "/api/v1/notifications/unread/count");
+        session.get("GET /api/v1/notifications", "/api/v1/notifications?pageNo=0&pageSize=10");
+        if (session.random().nextInt(10) == 0) {
+            session.put("PUT /api/v1/notifications/mark-all-read", "/api/v1/notifications/mark-all-read", null);
+        }
+    }
+
+    private void fireReminderJob(LoadDriver driver) {
+        try {
+            Thread.sleep(REMINDER_INTERVAL_MS);
+            driver.timed("JOB sendTaskReminders", () -> {
+                taskReminderService.sendTaskReminders();
+                return null;
+            });
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.warn("Reminder job failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Accounts with a task history around the current month and a page of notifications each, and an
+     * access token per account.
+     */
+    private List<String> seed() {
+        Role role = roleRepository.findByCode("USER").orElseGet(() -> {
+            Role user = new Role();
+            user.setCode("USER");
+            user.setDescription("User");
+            return roleRepository.save(user);
+        });
+
+        Random random = new Random(42);
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MINUTES);
+        Priority[] priorities = Priority.values();
+        TaskStatus[] statuses = TaskStatus.values();
+        List<String> tokens = new ArrayList<>(ACCOUNTS);
+        for (int a = 0; a < ACCOUNTS; a++) {
+            Account account = new Account();
+            account.setUsername("load_user_" + a);
+            account.setEmail("load_user_" + a + "@example.com");
+            account.setPassword("not-used");
+            account.setIsActive(true);
+            account.setRole(role);
+            accountRepository.save(account);
+
+            List<Task> tasks = new ArrayList<>(TASKS_PER_ACCOUNT);
+            for (int t = 0; t < TASKS_PER_ACCOUNT; t++) {
+                Task task = new Task();
+                task.setTitle("Seed task " + t);
+                task.setAccount(account);
+                task.setPriority(priorities[random.nextInt(priorities.length)]);
+                task.setStatus(statuses[random.nextInt(statuses.length)]);
+                // Spread over two months back and one ahead, clear of the reminder window
+                LocalDateTime start = now.minusDays(60).plusHours(random.nextInt(90 * 24));
+                if (start.isAfter(now.minusHours(1)) && start.isBefore(now.plusHours(1))) {
+                    start = start.plusHours(2);
+                }
+                task.setStartTime(start);
+                task.setEndTime(start.plusMinutes(30L * (1 + random.nextInt(6))));
+                tasks.add(task);
+            }
+            taskRepository.saveAll(tasks);
+
+            List<Notification> notifications = new ArrayList<>(NOTIFICATIONS_PER_ACCOUNT);
+            for (int n = 0; n < NOTIFICATIONS_PER_ACCOUNT; n++) {
+                Notification notification = new Notification();
+                notification.setTitle(NotificationType.TASK_REMINDER.getTitle());
+                notification.setMessage("Seed notification " + n);
+                notification.setIsRead(random.nextBoolean());
+                notification.setTargetAccount(account);
+                notification.setType(NotificationType.TASK_REMINDER);
+                notifications.add(notification);
+            }
+            notificationRepository.saveAll(notifications);
+
+            tokens.add(jwtService.generateToken(account, TokenType.ACCESS_TOKEN));
+        }
+        return tokens;
+    }
+}
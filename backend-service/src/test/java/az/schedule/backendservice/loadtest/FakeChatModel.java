@@ -0,0 +1,49 @@
+package az.schedule.backendservice.loadtest;
+
+import org.springframework.ai.chat.messages.AssistantMessage;
+import org.springframework.ai.chat.model.ChatModel;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.ai.chat.model.Generation;
+import org.springframework.ai.chat.prompt.Prompt;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Stand-in for the OpenAI chat model: answers every prompt with the same well-formed insights JSON
+ * after a fixed delay, so AI endpoints cost what a model round trip costs without a network call.
+ */
+class FakeChatModel implements ChatModel {
+
+    private static final String INSIGHTS = """
+            {
+              "summary": "Steady week with most high priority work done on time.",
+              "strengths": ["Consistent morning focus", "Few overdue tasks"],
+              "weaknesses": ["Large backlog of unscheduled tasks"],
+              "suggestions": ["Schedule the backlog in the afternoon", "Batch small tasks", "Review priorities weekly"],
+              "productivityScore": "Good"
+            }
+            """;
+
+    private final long latencyMs;
+    private final AtomicLong calls = new AtomicLong();
+
+    FakeChatModel(long latencyMs) {
+        this.latencyMs = latencyMs;
+    }
+
+    @Override
+    public ChatResponse call(Prompt prompt) {
+        calls.incrementAndGet();
+        try {
+            Thread.sleep(latencyMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return new ChatResponse(List.of(new Generation(new AssistantMessage(INSIGHTS))));
+    }
+
+    long calls() {
+        return calls.get();
+    }
+}
@@ -0,0 +1,225 @@
+package az.schedule.backendservice.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Closed-model HTTP load driver: a fixed number of virtual users, each on its own virtual thread,
+ * repeatedly pick a scenario from a weighted mix and run it without think time. Every request is
+ * timed per endpoint name into an HdrHistogram. Samples of the warm-up period are discarded.
+ */
+@Slf4j
+class LoadDriver {
+
+    // Longest latency the histograms resolve; slower requests are clamped to it
+    private static final long MAX_LATENCY_MICROS = TimeUnit.SECONDS.toMicros(60);
+
+    interface Scenario {
+        void run(Session session) throws Exception;
+    }
+
+    record WeightedScenario(String name, int weight, Scenario scenario) {
+    }
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    private final ObjectMapper objectMapper;
+    private final URI baseUri;
+    private final Map<String, Endpoint> endpoints = new ConcurrentHashMap<>();
+    private volatile boolean recording;
+
+    LoadDriver(URI baseUri, ObjectMapper objectMapper) {
+        this.baseUri = baseUri;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Runs the mix with one session per entry of {@code tokens} (reused round robin when there are
+     * more users than tokens) and {@code background} tasks alongside, for the warm-up and then the
+     * measured duration.
+     */
+    LoadReport run(List<WeightedScenario> mix, List<String> tokens, int users, Duration warmup, Duration duration,
+                   long seed, List<Runnable> background) throws InterruptedException {
+        int totalWeight = mix.stream().mapToInt(WeightedScenario::weight).sum();
+        long measureStart = System.nanoTime() + warmup.toNanos();
+        long end = measureStart + duration.toNanos();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> running = new ArrayList<>();
+            for (Runnable task : background) {
+                running.add(executor.submit(() -> {
+                    while (System.nanoTime() < end && !Thread.currentThread().isInterrupted()) {
+                        task.run();
+                    }
+                }));
+            }
+            for (int user = 0; user < users; user++) {
+                Session session = new Session(tokens.get(user % tokens.size()), new Random(seed + user));
+                running.add(executor.submit(() -> {
+                    while (System.nanoTime() < end) {
+                        WeightedScenario scenario = pick(mix, totalWeight, session.random());
+                        try {
+                            scenario.scenario().run(session);
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                            return;
+                        } catch (Exception e) {
+                            log.debug("Scenario {} failed: {}", scenario.name(), e.getMessage());
+                        }
+                    }
+                }));
+            }
+
+            TimeUnit.NANOSECONDS.sleep(Math.max(0, measureStart - System.nanoTime()));
+            recording = true;
+            TimeUnit.NANOSECONDS.sleep(Math.max(0, end - System.nanoTime()));
+            recording = false;
+            for (Future<?> future : running) {
+                try {
+                    future.get();
+                } catch (Exception e) {
+                    log.warn("Load task ended with {}", e.toString());
+                }
+            }
+        }
+
+        double seconds = duration.toNanos() / 1e9;
+        Map<String, LoadReport.EndpointStats> stats = new TreeMap<>();
+        endpoints.forEach((name, endpoint) -> {
+            Histogram histogram = endpoint.latencies;
+            long count = histogram.getTotalCount();
+            stats.put(name, new LoadReport.EndpointStats(count, endpoint.errors.get(), count / seconds,
+                    histogram.getValueAtPercentile(50) / 1000.0,
+                    histogram.getValueAtPercentile(95) / 1000.0,
+                    histogram.getValueAtPercentile(99) / 1000.0));
+        });
+        return new LoadReport(seconds, stats);
+    }
+
+    /**
+     * Times {@code action} under {@code endpoint}; any exception counts as an error and is rethrown.
+     */
+    <T> T timed(String endpoint, ThrowingSupplier<T> action) throws Exception {
+        long started = System.nanoTime();
+        boolean failed = true;
+        try {
+            T result = action.get();
+            failed = false;
+            return result;
+        } finally {
+            record(endpoint, System.nanoTime() - started, failed);
+        }
+    }
+
+    private void record(String endpoint, long elapsedNanos, boolean failed) {
+        if (!recording) {
+            return;
+        }
+        Endpoint stats = endpoints.computeIfAbsent(endpoint, name -> new Endpoint());
+        stats.latencies.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(elapsedNanos), MAX_LATENCY_MICROS));
+        if (failed) {
+            stats.errors.incrementAndGet();
+        }
+    }
+
+    private static WeightedScenario pick(List<WeightedScenario> mix, int totalWeight, Random random) {
+        int roll = random.nextInt(totalWeight);
+        for (WeightedScenario scenario : mix) {
+            roll -= scenario.weight();
+            if (roll < 0) {
+                return scenario;
+            }
+        }
+        return mix.getLast();
+    }
+
+    @FunctionalInterface
+    interface ThrowingSupplier<T> {
+        T get() throws Exception;
+    }
+
+    private static final class Endpoint {
+        final Histogram latencies = new ConcurrentHistogram(MAX_LATENCY_MICROS, 3);
+        final AtomicLong errors = new AtomicLong();
+    }
+
+    /**
+     * One virtual user: an authenticated client whose calls are recorded under an endpoint name,
+     * for example {@code GET /api/v1/tasks/{id}}, rather than the concrete path.
+     */
+    final class Session {
+        private final String token;
+        private final Random random;
+
+        Session(String token, Random random) {
+            this.token = token;
+            this.random = random;
+        }
+
+        Random random() {
+            return random;
+        }
+
+        JsonNode get(String endpoint, String path) throws Exception {
+            return send(endpoint, request(path).GET());
+        }
+
+        JsonNode post(String endpoint, String path, Object body) throws Exception {
+            return send(endpoint, request(path).POST(json(body)));
+        }
+
+        JsonNode put(String endpoint, String path, Object body) throws Exception {
+            return send(endpoint, request(path).PUT(json(body)));
+        }
+
+        JsonNode delete(String endpoint, String path) throws Exception {
+            return send(endpoint, request(path).DELETE());
+        }
+
+        private HttpRequest.Builder request(String path) {
+            return HttpRequest.newBuilder(baseUri.resolve(path))
+                    .timeout(Duration.ofSeconds(30))
+                    .header("Authorization", "Bearer " + token)
+                    .header("Accept-Language", "en")
+                    .header("Content-Type", "application/json");
+        }
+
+        private HttpRequest.BodyPublisher json(Object body) throws Exception {
+            return HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body));
+        }
+
+        /**
+         * Returns the {@code data} of the {@code ApiResponse}; a non-2xx status is an error.
+         */
+        private JsonNode send(String endpoint, HttpRequest.Builder request) throws Exception {
+            return timed(endpoint, () -> {
+                HttpResponse<byte[]> response = httpClient.send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+                if (response.statusCode() / 100 != 2) {
+                    throw new IllegalStateException(endpoint + " returned " + response.statusCode());
+                }
+                return objectMapper.readTree(response.body()).path("data");
+            });
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package az.schedule.backendservice.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Latency percentiles and throughput per endpoint of one load run, stored as JSON so a run can be
+ * compared with the baseline of the previous release.
+ */
+record LoadReport(double durationSeconds, Map<String, EndpointStats> endpoints) {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+    // Latency changes below this are noise on a developer machine, whatever the ratio
+    private static final double MIN_LATENCY_DELTA_MS = 5.0;
+    private static final double MAX_ERROR_RATE = 0.01;
+
+    record EndpointStats(long count, long errors, double throughput, double p50Ms, double p95Ms, double p99Ms) {
+
+        double errorRate() {
+            return count == 0 ? 0.0 : (double) errors / count;
+        }
+    }
+
+    static LoadReport read(Path file) throws IOException {
+        return MAPPER.readValue(file.toFile(), LoadReport.class);
+    }
+
+    void write(Path file) throws IOException {
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        MAPPER.writeValue(file.toFile(), this);
+    }
+
+    String format() {
+        StringBuilder out = new StringBuilder(String.format("%n%-48s %8s %7s %9s %9s %9s %9s%n",
+                "Endpoint", "Requests", "Errors", "Req/s", "p50 ms", "p95 ms", "p99 ms"));
+        endpoints.forEach((endpoint, stats) -> out.append(String.format("%-48s %8d %7d %9.1f %9.1f %9.1f %9.1f%n",
+                endpoint, stats.count(), stats.errors(), stats.throughput(), stats.p50Ms(), stats.p95Ms(), stats.p99Ms())));
+        return out.toString();
+    }
+
+    /**
+     * Endpoints that fail more than 1% of their requests, and, against the baseline, endpoints whose
+     * p95 or p99 grew or whose throughput dropped by more than {@code tolerance} (a fraction).
+     * Endpoints missing from the baseline are only checked for errors.
+     */
+    List<String> regressions(LoadReport baseline, double tolerance) {
+        List<String> regressions = new ArrayList<>();
+        endpoints.forEach((endpoint, current) -> {
+            if (current.errorRate() > MAX_ERROR_RATE) {
+                regressions.add(String.format("%s: %d of %d requests failed", endpoint, current.errors(), current.count()));
+            }
+            EndpointStats before = baseline == null ? null : baseline.endpoints().get(endpoint);
+            if (before == null) {
+                return;
+            }
+            checkLatency(regressions, endpoint, "p95", before.p95Ms(), current.p95Ms(), tolerance);
+            checkLatency(regressions, endpoint, "p99", before.p99Ms(), current.p99Ms(), tolerance);
+            if (current.throughput() < before.throughput() * (1 - tolerance)) {
+                regressions.add(String.format("%s: throughput %.1f req/s, baseline %.1f req/s",
+                        endpoint, current.throughput(), before.throughput()));
+            }
+        });
+        return regressions;
+    }
+
+    private static void checkLatency(List<String> regressions, String endpoint, String percentile,
+                                     double before, double current, double tolerance) {
+        if (current > before * (1 + tolerance) && current - before > MIN_LATENCY_DELTA_MS) {
+            regressions.add(String.format("%s: %s %.1f ms, baseline %.1f ms", endpoint, percentile, current, before));
+        }
+    }
+}
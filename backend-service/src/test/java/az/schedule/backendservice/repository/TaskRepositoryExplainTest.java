@@ -0,0 +1,173 @@
+package az.schedule.backendservice.repository;
+
+import az.schedule.backendservice.entity.Account;
+import az.schedule.backendservice.entity.Category;
+import az.schedule.backendservice.entity.Task;
+import az.schedule.backendservice.enums.Priority;
+import az.schedule.backendservice.enums.TaskStatus;
+import az.schedule.backendservice.support.MySqlJpaTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs every query declared on {@link TaskRepository} against a MySQL 8 container, captures the
+ * SQL Hibernate actually sends (through the server general log) and fails if EXPLAIN reports a
+ * full table scan on the Task table.
+ */
+@DisplayName("TaskRepository index coverage")
+class TaskRepositoryExplainTest extends MySqlJpaTest {
+
+    private static final int ACCOUNT_COUNT = 20;
+    private static final int TASKS_PER_ACCOUNT = 100;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long accountId;
+    private Long categoryId;
+    private LocalDateTime baseTime;
+
+    @BeforeEach
+    void setUp() {
+        baseTime = LocalDateTime.now().withNano(0);
+        TaskStatus[] statuses = TaskStatus.values();
+        Priority[] priorities = Priority.values();
+
+        for (int a = 0; a < ACCOUNT_COUNT; a++) {
+            Account account = new Account();
+            account.setUsername("explain_user_" + a);
+            account.setEmail("explain_user_" + a + "@example.com");
+            account.setPassword("password");
+            account.setIsActive(true);
+            entityManager.persist(account);
+
+            Category category = new Category();
+            category.setName("Category " + a);
+            category.setAccount(account);
+            entityManager.persist(category);
+
+            for (int t = 0; t < TASKS_PER_ACCOUNT; t++) {
+                LocalDateTime start = baseTime.minusDays(60).plusHours(t * 29L);
+                Task task = new Task();
+                task.setTitle("Task " + a + "-" + t);
+                task.setDescription("Generated task " + t);
+                task.setStatus(statuses[t % statuses.length]);
+                task.setPriority(priorities[t % priorities.length]);
+                task.setStartTime(start);
+                task.setEndTime(start.plusHours(2));
+                task.setAccount(account);
+                task.setCategory(t % 2 == 0 ? category : null);
+                entityManager.persist(task);
+            }
+
+            if (a == ACCOUNT_COUNT / 2) {
+                accountId = account.getId();
+                categoryId = category.getId();
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        jdbcTemplate.execute("ANALYZE TABLE task");
+        jdbcTemplate.execute("SET GLOBAL log_output = 'TABLE'");
+        jdbcTemplate.execute("SET GLOBAL general_log = 'ON'");
+    }
+
+    @Test
+    @DisplayName("Every TaskRepository query should use an index on the Task table")
+    void everyQueryShouldAvoidFullTableScan() throws Exception {
+        List<String> failures = new ArrayList<>();
+
+        for (Method method : TaskRepository.class.getDeclaredMethods()) {
+            jdbcTemplate.execute("TRUNCATE TABLE mysql.general_log");
+            method.invoke(taskRepository, argumentsFor(method));
+
+            List<String> statements = capturedTaskSelects();
+            assertFalse(statements.isEmpty(), "No SQL captured for " + method.getName());
+
+            for (String sql : statements) {
+                for (Map<String, Object> row : jdbcTemplate.queryForList("EXPLAIN " + sql)) {
+                    if ("ALL".equals(row.get("type"))) {
+                        failures.add(method.getName() + " -> " + sql);
+                    }
+                }
+            }
+        }
+
+        jdbcTemplate.execute("SET GLOBAL general_log = 'OFF'");
+        assertTrue(failures.isEmpty(), "Full table scans detected:\n" + String.join("\n", failures));
+    }
+
+    private List<String> capturedTaskSelects() {
+        List<String> statements = new ArrayList<>();
+        List<byte[]> arguments = jdbcTemplate.queryForList(
+                "SELECT argument FROM mysql.general_log WHERE command_type = 'Query'", byte[].class);
+        for (byte[] argument : arguments) {
+            String sql = new String(argument, StandardCharsets.UTF_8).trim();
+            String lower = sql.toLowerCase(Locale.ROOT);
+            if (lower.startsWith("select") && lower.contains(" from task ")
+                    && !lower.contains("mysql.general_log")) {
+                statements.add(sql);
+            }
+        }
+        return statements;
+    }
+
+    private Object[] argumentsFor(Method method) {
+        Parameter[] parameters = method.getParameters();
+        Object[] args = new Object[parameters.length];
+        for (int i = 0; i < parameters.length; i++) {
+            Class<?> type = parameters[i].getType();
+            String name = parameters[i].getName().toLowerCase(Locale.ROOT);
+            if (type == Long.class) {
+                args[i] = name.contains("category") ? categoryId : accountId;
+            } else if (type == TaskStatus.class) {
+                args[i] = TaskStatus.TODO;
+            } else if (type == Priority.class) {
+                args[i] = Priority.HIGH;
+            } else if (type == String.class) {
+                args[i] = name.contains("title") ? "Task 1-1" : "task";
+            } else if (type == LocalDateTime.class) {
+                args[i] = timeFor(name);
+            } else if (type == List.class) {
+                args[i] = List.of(TaskStatus.TODO, TaskStatus.IN_PROGRESS);
+            } else if (org.springframework.data.domain.Pageable.class.isAssignableFrom(type)) {
+                args[i] = PageRequest.of(0, 10);
+            } else {
+                throw new IllegalStateException("Unsupported parameter type " + type + " on " + method);
+            }
+        }
+        return args;
+    }
+
+    private LocalDateTime timeFor(String parameterName) {
+        return switch (parameterName) {
+            case "end" -> baseTime.plusDays(7);
+            case "threshold" -> baseTime.plusMinutes(10);
+            default -> baseTime;
+        };
+    }
+}
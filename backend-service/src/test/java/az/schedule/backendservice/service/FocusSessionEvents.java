@@ -0,0 +1,35 @@
+package az.schedule.backendservice.service;
+
+import az.schedule.backendservice.dto.request.focussession.FocusSessionEventBatchRequest;
+import az.schedule.backendservice.dto.request.focussession.FocusSessionEventRequest;
+import az.schedule.backendservice.enums.FocusSessionEventType;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Focus-session events and batches as the extension sends them, for the ingest and load tests.
+ */
+final class FocusSessionEvents {
+
+    private FocusSessionEvents() {
+    }
+
+    static FocusSessionEventRequest event(String sessionId, int sequence, FocusSessionEventType type,
+                                          LocalDateTime at) {
+        return FocusSessionEventRequest.builder()
+                .sessionId(sessionId)
+                .sequence(sequence)
+                .type(type)
+                .occurredAt(at)
+                .build();
+    }
+
+    static FocusSessionEventBatchRequest batch(List<FocusSessionEventRequest> events) {
+        return FocusSessionEventBatchRequest.builder().events(events).build();
+    }
+
+    static FocusSessionEventBatchRequest batch(FocusSessionEventRequest... events) {
+        return batch(List.of(events));
+    }
+}
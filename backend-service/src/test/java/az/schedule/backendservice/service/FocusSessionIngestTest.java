@@ -0,0 +1,139 @@
+package az.schedule.backendservice.service;
+
+import az.schedule.backendservice.config.JpaBatchConfig;
+import az.schedule.backendservice.dto.request.focussession.FocusSessionEventBatchRequest;
+import az.schedule.backendservice.dto.response.FocusDailyRollupResponse;
+import az.schedule.backendservice.dto.response.FocusSessionIngestResponse;
+import az.schedule.backendservice.entity.FocusSession;
+import az.schedule.backendservice.enums.FocusSessionEventType;
+import az.schedule.backendservice.enums.FocusSessionStatus;
+import az.schedule.backendservice.exception.AppException;
+import az.schedule.backendservice.exception.ErrorCode;
+import az.schedule.backendservice.repository.FocusDailyRollupRepository;
+import az.schedule.backendservice.repository.FocusSessionRepository;
+import az.schedule.backendservice.repository.impl.FocusSessionIngestRepositoryImpl;
+import az.schedule.backendservice.service.impl.FocusSessionServiceImpl;
+import az.schedule.backendservice.support.MySqlJpaTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static az.schedule.backendservice.service.FocusSessionEvents.batch;
+import static az.schedule.backendservice.service.FocusSessionEvents.event;
+import static org.junit.jupiter.api.Assertions.*;
+
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({JpaBatchConfig.class, FocusSessionServiceImpl.class, FocusSessionIngestRepositoryImpl.class})
+@DisplayName("FocusSessionService event ingestion")
+class FocusSessionIngestTest extends MySqlJpaTest {
+
+    private static final Long ACCOUNT_ID = 1L;
+    private static final LocalDateTime NINE = LocalDateTime.of(2025, 6, 2, 9, 0);
+
+    @Autowired
+    private FocusSessionService focusSessionService;
+
+    @Autowired
+    private FocusSessionRepository focusSessionRepository;
+
+    @Autowired
+    private FocusDailyRollupRepository focusDailyRollupRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM focus_session_event");
+        focusSessionRepository.deleteAllInBatch();
+        focusDailyRollupRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("Should fold start/pause/resume/finish into focus time and a daily rollup")
+    void testIngest_FoldsSession() {
+        FocusSessionIngestResponse response = focusSessionService.ingestEvents(batch(
+                event("s-1", 0, FocusSessionEventType.START, NINE),
+                event("s-1", 1, FocusSessionEventType.PAUSE, NINE.plusMinutes(20)),
+                event("s-1", 2, FocusSessionEventType.RESUME, NINE.plusMinutes(30)),
+                event("s-1", 3, FocusSessionEventType.FINISH, NINE.plusMinutes(35))), ACCOUNT_ID);
+
+        assertEquals(4, response.getApplied());
+        FocusSession session = focusSessionRepository.findById("s-1").orElseThrow();
+        assertEquals(FocusSessionStatus.FINISHED, session.getStatus());
+        assertEquals(25 * 60, session.getFocusedSeconds());
+
+        List<FocusDailyRollupResponse> days = focusSessionService.getDailyFocus(ACCOUNT_ID,
+                NINE.toLocalDate(), NINE.toLocalDate());
+        assertEquals(1, days.size());
+        assertEquals(25, days.get(0).getFocusMinutes());
+        assertEquals(1, days.get(0).getCompletedSessions());
+    }
+
+    @Test
+    @DisplayName("Should apply a retried batch once and keep one copy in the event log")
+    void testIngest_RetryIsNoOp() {
+        FocusSessionEventBatchRequest first = batch(
+                event("s-2", 0, FocusSessionEventType.START, NINE),
+                event("s-2", 1, FocusSessionEventType.PAUSE, NINE.plusMinutes(10)));
+        focusSessionService.ingestEvents(first, ACCOUNT_ID);
+
+        FocusSessionIngestResponse retry = focusSessionService.ingestEvents(first, ACCOUNT_ID);
+        focusSessionService.ingestEvents(batch(
+                event("s-2", 2, FocusSessionEventType.RESUME, NINE.plusMinutes(15)),
+                event("s-2", 3, FocusSessionEventType.FINISH, NINE.plusMinutes(20))), ACCOUNT_ID);
+
+        assertEquals(0, retry.getApplied());
+        assertEquals(2, retry.getIgnored());
+        assertEquals(4, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM focus_session_event", Integer.class));
+        assertEquals(15, focusSessionService.getDailyFocus(ACCOUNT_ID, NINE.toLocalDate(), NINE.toLocalDate())
+                .get(0).getFocusMinutes());
+    }
+
+    @Test
+    @DisplayName("Should split an interval spanning midnight between both days")
+    void testIngest_SplitsAtMidnight() {
+        LocalDateTime late = LocalDateTime.of(2025, 6, 2, 23, 50);
+        focusSessionService.ingestEvents(batch(
+                event("s-3", 0, FocusSessionEventType.START, late),
+                event("s-3", 1, FocusSessionEventType.FINISH, late.plusMinutes(25))), ACCOUNT_ID);
+
+        List<FocusDailyRollupResponse> days = focusSessionService.getDailyFocus(ACCOUNT_ID,
+                LocalDate.of(2025, 6, 2), LocalDate.of(2025, 6, 3));
+        assertEquals(2, days.size());
+        assertEquals(10, days.get(0).getFocusMinutes());
+        assertEquals(0, days.get(0).getCompletedSessions());
+        assertEquals(15, days.get(1).getFocusMinutes());
+        assertEquals(1, days.get(1).getCompletedSessions());
+    }
+
+    @Test
+    @DisplayName("Should reject events for another account's session")
+    void testIngest_OtherAccountsSession() {
+        focusSessionService.ingestEvents(batch(event("s-4", 0, FocusSessionEventType.START, NINE)), ACCOUNT_ID);
+
+        AppException exception = assertThrows(AppException.class, () -> focusSessionService.ingestEvents(
+                batch(event("s-4", 1, FocusSessionEventType.FINISH, NINE.plusMinutes(5))), 2L));
+
+        assertEquals(ErrorCode.UNAUTHORIZED_ACCESS, exception.getErrorCode());
+        assertEquals(1, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM focus_session_event", Integer.class));
+    }
+
+    @Test
+    @DisplayName("Should reject inverted or oversized date ranges")
+    void testGetDailyFocus_InvalidRange() {
+        LocalDate day = NINE.toLocalDate();
+
+        assertThrows(AppException.class, () -> focusSessionService.getDailyFocus(ACCOUNT_ID, day, day.minusDays(1)));
+        assertThrows(AppException.class, () -> focusSessionService.getDailyFocus(ACCOUNT_ID, day, day.plusYears(2)));
+    }
+}
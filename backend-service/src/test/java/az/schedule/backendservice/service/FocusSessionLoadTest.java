@@ -0,0 +1,117 @@
+package az.schedule.backendservice.service;
+
+import az.schedule.backendservice.config.JpaBatchConfig;
+import az.schedule.backendservice.dto.request.focussession.FocusSessionEventBatchRequest;
+import az.schedule.backendservice.dto.request.focussession.FocusSessionEventRequest;
+import az.schedule.backendservice.enums.FocusSessionEventType;
+import az.schedule.backendservice.repository.impl.FocusSessionIngestRepositoryImpl;
+import az.schedule.backendservice.service.impl.FocusSessionServiceImpl;
+import az.schedule.backendservice.support.MySqlJpaTest;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static az.schedule.backendservice.service.FocusSessionEvents.batch;
+import static az.schedule.backendservice.service.FocusSessionEvents.event;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Replays the traffic of 10k pomodoro sessions running at once: every account flushes its queued
+ * events in two batches, all accounts concurrently, and then every first batch is retried as a
+ * client would after a lost response. The rollups must match the replayed sessions exactly.
+ * <p>
+ * Scale with {@code -Dfocus.load.accounts} and {@code -Dfocus.load.sessions-per-account}.
+ */
+@TestPropertySource(properties = "spring.datasource.hikari.maximum-pool-size=20")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({JpaBatchConfig.class, FocusSessionServiceImpl.class, FocusSessionIngestRepositoryImpl.class})
+@DisplayName("FocusSessionService load replay")
+@Slf4j
+class FocusSessionLoadTest extends MySqlJpaTest {
+
+    private static final int ACCOUNTS = Integer.getInteger("focus.load.accounts", 500);
+    private static final int SESSIONS_PER_ACCOUNT = Integer.getInteger("focus.load.sessions-per-account", 20);
+    private static final int CLIENT_THREADS = 32;
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 6, 2, 8, 0);
+    // Per session: 20 min focused, paused 5 min, 5 more min focused
+    private static final long FOCUS_SECONDS_PER_SESSION = 25 * 60;
+
+    @Autowired
+    private FocusSessionService focusSessionService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("Should ingest 10k concurrent sessions and absorb retried batches")
+    void testReplay_ConcurrentSessions() throws Exception {
+        List<FocusSessionEventBatchRequest> firstBatches = new ArrayList<>(ACCOUNTS);
+        List<FocusSessionEventBatchRequest> secondBatches = new ArrayList<>(ACCOUNTS);
+        for (int account = 0; account < ACCOUNTS; account++) {
+            List<FocusSessionEventRequest> first = new ArrayList<>();
+            List<FocusSessionEventRequest> second = new ArrayList<>();
+            for (int s = 0; s < SESSIONS_PER_ACCOUNT; s++) {
+                String sessionId = "a" + account + "-s" + s;
+                LocalDateTime start = BASE.plusMinutes(s);
+                first.add(event(sessionId, 0, FocusSessionEventType.START, start));
+                first.add(event(sessionId, 1, FocusSessionEventType.PAUSE, start.plusMinutes(20)));
+                second.add(event(sessionId, 2, FocusSessionEventType.RESUME, start.plusMinutes(25)));
+                second.add(event(sessionId, 3, FocusSessionEventType.FINISH, start.plusMinutes(30)));
+            }
+            firstBatches.add(batch(first));
+            secondBatches.add(batch(second));
+        }
+
+        ExecutorService clients = Executors.newFixedThreadPool(CLIENT_THREADS);
+        try {
+            long started = System.nanoTime();
+            int applied = replay(clients, firstBatches) + replay(clients, secondBatches);
+            int reapplied = replay(clients, firstBatches);
+            long elapsedMs = (System.nanoTime() - started) / 1_000_000;
+
+            int sessions = ACCOUNTS * SESSIONS_PER_ACCOUNT;
+            log.info("Replayed {} sessions ({} events, {} retried) in {} ms, {} events/s", sessions,
+                    sessions * 4, sessions * 2, elapsedMs, sessions * 6 * 1000L / Math.max(elapsedMs, 1));
+
+            assertEquals(sessions * 4, applied);
+            assertEquals(0, reapplied);
+            assertEquals(sessions * 4, jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM focus_session_event", Integer.class));
+            assertEquals(sessions * FOCUS_SECONDS_PER_SESSION, jdbcTemplate.queryForObject(
+                    "SELECT SUM(focus_seconds) FROM focus_daily_rollup", Long.class));
+            assertEquals(sessions, jdbcTemplate.queryForObject(
+                    "SELECT SUM(completed_sessions) FROM focus_daily_rollup", Integer.class));
+            assertEquals(ACCOUNTS, jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM focus_daily_rollup", Integer.class));
+        } finally {
+            clients.shutdownNow();
+        }
+    }
+
+    private int replay(ExecutorService clients, List<FocusSessionEventBatchRequest> batches) throws Exception {
+        List<Future<Integer>> results = new ArrayList<>(batches.size());
+        for (int account = 0; account < batches.size(); account++) {
+            Long accountId = account + 1L;
+            FocusSessionEventBatchRequest batch = batches.get(account);
+            results.add(clients.submit(() -> focusSessionService.ingestEvents(batch, accountId).getApplied()));
+        }
+        int applied = 0;
+        for (Future<Integer> result : results) {
+            applied += result.get();
+        }
+        return applied;
+    }
+}
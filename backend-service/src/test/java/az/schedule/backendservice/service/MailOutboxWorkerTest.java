@@ -0,0 +1,165 @@
+package az.schedule.backendservice.service;
+
+import az.schedule.backendservice.entity.MailOutbox;
+import az.schedule.backendservice.enums.MailStatus;
+import az.schedule.backendservice.repository.MailOutboxRepository;
+import az.schedule.backendservice.service.impl.MailOutboxWorker;
+import az.schedule.backendservice.support.MySqlJpaTest;
+import az.schedule.backendservice.utils.MailService;
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("Mail outbox delivery")
+class MailOutboxWorkerTest extends MySqlJpaTest {
+
+    @RegisterExtension
+    static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    @Autowired
+    private MailOutboxRepository mailOutboxRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @AfterEach
+    void tearDown() {
+        mailOutboxRepository.deleteAll();
+    }
+
+    private MailOutboxWorker worker(int smtpPort, int maxAttempts) {
+        JavaMailSenderImpl mailSender = new JavaMailSenderImpl();
+        mailSender.setHost("localhost");
+        mailSender.setPort(smtpPort);
+        MailOutboxWorker worker = new MailOutboxWorker(mailOutboxRepository, mailSender, transactionManager, meterRegistry);
+        ReflectionTestUtils.setField(worker, "from", "noreply@astramind.test");
+        ReflectionTestUtils.setField(worker, "batchSize", 2);
+        ReflectionTestUtils.setField(worker, "maxAttempts", maxAttempts);
+        ReflectionTestUtils.setField(worker, "retryBaseSeconds", 30L);
+        ReflectionTestUtils.setField(worker, "leaseSeconds", 300L);
+        ReflectionTestUtils.setField(worker, "retentionDays", 7L);
+        return worker;
+    }
+
+    private MailService mailService(MailOutboxWorker worker) {
+        return new MailService(mailOutboxRepository, worker);
+    }
+
+    private static int closedPort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    @Test
+    @DisplayName("Should queue without sending and wake the worker")
+    void testSendEmail_QueuesOnly() {
+        MailOutboxWorker worker = mock(MailOutboxWorker.class);
+
+        mailService(worker).sendEmail("alice@example.com", "Your code", "123456");
+
+        verify(worker).wakeUp();
+        assertEquals(0, greenMail.getReceivedMessages().length);
+        MailOutbox queued = mailOutboxRepository.findAll().get(0);
+        assertEquals(MailStatus.PENDING, queued.getStatus());
+        assertEquals(0, queued.getAttempts());
+    }
+
+    @Test
+    @DisplayName("Should deliver every queued mail across batches and mark them sent")
+    void testDrain_DeliversAll() throws Exception {
+        MailService mailService = mailService(mock(MailOutboxWorker.class));
+        for (int i = 0; i < 5; i++) {
+            mailService.sendEmail("user" + i + "@example.com", "Code " + i, "Body " + i);
+        }
+
+        int delivered = worker(ServerSetupTest.SMTP.getPort(), 3).drain();
+
+        assertEquals(5, delivered);
+        MimeMessage[] received = greenMail.getReceivedMessages();
+        assertEquals(5, received.length);
+        assertEquals("noreply@astramind.test", received[0].getFrom()[0].toString());
+        assertTrue(mailOutboxRepository.findAll().stream().allMatch(m -> m.getStatus() == MailStatus.SENT
+                && m.getAttempts() == 1 && m.getSentAt() != null && m.getBody() == null));
+        assertEquals(5.0, meterRegistry.counter("mail.outbox.sent").count());
+    }
+
+    @Test
+    @DisplayName("Should reschedule with backoff when the SMTP server is unreachable")
+    void testDrain_RetriesWithBackoff() throws Exception {
+        mailService(mock(MailOutboxWorker.class)).sendEmail("alice@example.com", "Your code", "123456");
+        LocalDateTime before = LocalDateTime.now();
+
+        int delivered = worker(closedPort(), 3).drain();
+
+        assertEquals(0, delivered);
+        MailOutbox mail = mailOutboxRepository.findAll().get(0);
+        assertEquals(MailStatus.PENDING, mail.getStatus());
+        assertEquals(1, mail.getAttempts());
+        assertNotNull(mail.getLastError());
+        assertTrue(mail.getNextAttemptAt().isAfter(before.plusSeconds(29)));
+        assertEquals(1.0, meterRegistry.counter("mail.outbox.retried").count());
+    }
+
+    @Test
+    @DisplayName("Should give up after the last attempt")
+    void testDrain_MarksFailedAfterMaxAttempts() throws Exception {
+        mailService(mock(MailOutboxWorker.class)).sendEmail("alice@example.com", "Your code", "123456");
+
+        worker(closedPort(), 1).drain();
+
+        List<MailOutbox> mails = mailOutboxRepository.findAll();
+        assertEquals(MailStatus.FAILED, mails.get(0).getStatus());
+        assertNull(mails.get(0).getNextAttemptAt());
+        assertNull(mails.get(0).getBody());
+        assertEquals(1.0, meterRegistry.counter("mail.outbox.failed").count());
+    }
+
+    @Test
+    @DisplayName("Should purge finished mail past the retention period and keep the rest")
+    void testPurge_DeletesOldFinishedMail() {
+        MailService mailService = mailService(mock(MailOutboxWorker.class));
+        mailService.sendEmail("old@example.com", "Your code", "123456");
+        mailService.sendEmail("recent@example.com", "Your code", "654321");
+        MailOutboxWorker worker = worker(ServerSetupTest.SMTP.getPort(), 3);
+        worker.drain();
+        mailService.sendEmail("queued@example.com", "Your code", "111111");
+        jdbcTemplate.update("UPDATE mail_outbox SET created_at = ? WHERE recipient IN ('old@example.com', 'queued@example.com')",
+                LocalDateTime.now().minusDays(8));
+
+        assertEquals(1, worker.purge());
+
+        List<String> left = mailOutboxRepository.findAll().stream().map(MailOutbox::getRecipient).sorted().toList();
+        assertEquals(List.of("queued@example.com", "recent@example.com"), left);
+    }
+}
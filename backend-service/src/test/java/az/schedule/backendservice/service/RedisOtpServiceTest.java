@@ -0,0 +1,132 @@
+package az.schedule.backendservice.service;
+
+import az.schedule.backendservice.exception.AppException;
+import az.schedule.backendservice.exception.ErrorCode;
+import az.schedule.backendservice.service.impl.RedisOtpServiceImpl;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("RedisOtpService Tests")
+class RedisOtpServiceTest {
+
+    @Container
+    static GenericContainer<?> redis = new GenericContainer<>("redis:7-alpine").withExposedPorts(6379);
+
+    private static LettuceConnectionFactory connectionFactory;
+    private static RedisTemplate<String, Object> redisTemplate;
+
+    private RedisOtpServiceImpl otpService;
+
+    @BeforeAll
+    static void connect() {
+        connectionFactory = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration(redis.getHost(), redis.getMappedPort(6379)));
+        connectionFactory.afterPropertiesSet();
+        redisTemplate = new RedisTemplate<>();
+        redisTemplate.setConnectionFactory(connectionFactory);
+        redisTemplate.setKeySerializer(new StringRedisSerializer());
+        redisTemplate.setValueSerializer(new GenericJackson2JsonRedisSerializer());
+        redisTemplate.afterPropertiesSet();
+    }
+
+    @AfterAll
+    static void disconnect() {
+        connectionFactory.destroy();
+    }
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate.getConnectionFactory().getConnection().serverCommands().flushAll();
+        otpService = new RedisOtpServiceImpl(redisTemplate);
+        ReflectionTestUtils.setField(otpService, "ttlSeconds", 300L);
+        ReflectionTestUtils.setField(otpService, "maxAttempts", 3);
+        ReflectionTestUtils.setField(otpService, "sendLimit", 2);
+        ReflectionTestUtils.setField(otpService, "sendWindowMinutes", 15L);
+    }
+
+    @Test
+    @DisplayName("Should store the code with the configured TTL")
+    void testSaveOtp_SetsTtl() {
+        otpService.saveOtp("alice", "012345");
+
+        Long ttl = redisTemplate.getExpire("otp:code:alice");
+        assertTrue(ttl != null && ttl > 0 && ttl <= 300);
+        assertTrue(otpService.verifyOtp("alice", "012345"));
+    }
+
+    @Test
+    @DisplayName("Should reject unknown or expired codes without counting an attempt")
+    void testVerifyOtp_MissingCode() {
+        assertFalse(otpService.verifyOtp("alice", "012345"));
+        assertFalse(Boolean.TRUE.equals(redisTemplate.hasKey("otp:attempts:alice")));
+    }
+
+    @Test
+    @DisplayName("Should delete the code after too many wrong guesses")
+    void testVerifyOtp_LocksOutAfterMaxAttempts() {
+        otpService.saveOtp("alice", "012345");
+
+        assertFalse(otpService.verifyOtp("alice", "111111"));
+        assertFalse(otpService.verifyOtp("alice", "222222"));
+        AppException exception = assertThrows(AppException.class, () -> otpService.verifyOtp("alice", "333333"));
+
+        assertEquals(ErrorCode.OTP_ATTEMPTS_EXCEEDED, exception.getErrorCode());
+        assertFalse(otpService.verifyOtp("alice", "012345"));
+    }
+
+    @Test
+    @DisplayName("Should reset the attempt counter when a new code is sent")
+    void testSaveOtp_ResetsAttempts() {
+        otpService.saveOtp("alice", "012345");
+        assertFalse(otpService.verifyOtp("alice", "111111"));
+        assertFalse(otpService.verifyOtp("alice", "222222"));
+
+        otpService.saveOtp("alice", "654321");
+
+        assertFalse(otpService.verifyOtp("alice", "111111"));
+        assertTrue(otpService.verifyOtp("alice", "654321"));
+    }
+
+    @Test
+    @DisplayName("Should rate limit sends per account")
+    void testTryAcquireSend_LimitsPerAccount() {
+        assertTrue(otpService.tryAcquireSend(1L));
+        assertTrue(otpService.tryAcquireSend(1L));
+        assertFalse(otpService.tryAcquireSend(1L));
+        assertTrue(otpService.tryAcquireSend(2L));
+
+        Long ttl = redisTemplate.getExpire("otp:send:1");
+        assertTrue(ttl != null && ttl > 0 && ttl <= 15 * 60);
+    }
+
+    @Test
+    @DisplayName("Should set the window on the first increment and not extend it")
+    void testIncrement_SetsWindowOnce() {
+        assertEquals(1L, otpService.increment("counter", 60L, TimeUnit.SECONDS));
+        redisTemplate.expire("counter", 10, TimeUnit.SECONDS);
+
+        assertEquals(2L, otpService.increment("counter", 60L, TimeUnit.SECONDS));
+        Long ttl = redisTemplate.getExpire("counter");
+        assertTrue(ttl != null && ttl > 0 && ttl <= 10);
+    }
+}
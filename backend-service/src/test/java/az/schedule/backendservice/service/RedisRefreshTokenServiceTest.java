@@ -0,0 +1,195 @@
+package az.schedule.backendservice.service;
+
+import az.schedule.backendservice.service.impl.BaseRedisServiceImpl;
+import az.schedule.backendservice.service.impl.RedisRefreshTokenServiceImpl;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("Redis refresh tokens and batched access")
+class RedisRefreshTokenServiceTest {
+
+    @Container
+    static GenericContainer<?> redis = new GenericContainer<>("redis:7.4-alpine").withExposedPorts(6379);
+
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate stringRedisTemplate;
+    private static RedisTemplate<String, Object> redisTemplate;
+
+    private RedisRefreshTokenServiceImpl refreshTokenService;
+    private BaseRedisServiceImpl baseRedisService;
+
+    @BeforeAll
+    static void connect() {
+        connectionFactory = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration(redis.getHost(), redis.getMappedPort(6379)));
+        connectionFactory.afterPropertiesSet();
+        stringRedisTemplate = new StringRedisTemplate(connectionFactory);
+        redisTemplate = new RedisTemplate<>();
+        redisTemplate.setConnectionFactory(connectionFactory);
+        redisTemplate.setKeySerializer(new StringRedisSerializer());
+        redisTemplate.setHashKeySerializer(new StringRedisSerializer());
+        redisTemplate.setValueSerializer(new GenericJackson2JsonRedisSerializer());
+        redisTemplate.setHashValueSerializer(new GenericJackson2JsonRedisSerializer());
+        redisTemplate.afterPropertiesSet();
+    }
+
+    @AfterAll
+    static void disconnect() {
+        connectionFactory.destroy();
+    }
+
+    @BeforeEach
+    void setUp() {
+        stringRedisTemplate.getConnectionFactory().getConnection().serverCommands().flushAll();
+        baseRedisService = new BaseRedisServiceImpl(redisTemplate);
+        refreshTokenService = new RedisRefreshTokenServiceImpl(stringRedisTemplate, baseRedisService);
+    }
+
+    @Test
+    @DisplayName("Should keep one field per device in a single hash")
+    void testStoreToken_OneHashPerAccount() {
+        refreshTokenService.storeToken(7L, "laptop-jti", 7, TimeUnit.DAYS);
+        refreshTokenService.storeToken(7L, "phone-jti", 7, TimeUnit.DAYS);
+
+        assertEquals(Set.of("refresh:7"), stringRedisTemplate.keys("refresh:*"));
+        assertEquals(Set.of("laptop-jti", "phone-jti"), stringRedisTemplate.opsForHash().keys("refresh:7"));
+    }
+
+    @Test
+    @DisplayName("Should set a TTL on each field and keep the key as long as its newest token")
+    void testStoreToken_FieldAndKeyTtl() {
+        refreshTokenService.storeToken(7L, "short-jti", 60, TimeUnit.SECONDS);
+        refreshTokenService.storeToken(7L, "long-jti", 7, TimeUnit.DAYS);
+        refreshTokenService.storeToken(7L, "other-jti", 120, TimeUnit.SECONDS);
+
+        Object fieldTtl = stringRedisTemplate.execute(connection -> connection.execute("HTTL",
+                "refresh:7".getBytes(), "FIELDS".getBytes(), "1".getBytes(), "short-jti".getBytes()), true);
+        long shortTtl = (Long) ((List<?>) fieldTtl).get(0);
+        assertTrue(shortTtl > 0 && shortTtl <= 60);
+
+        Long keyTtl = stringRedisTemplate.getExpire("refresh:7", TimeUnit.SECONDS);
+        assertTrue(keyTtl != null && keyTtl > TimeUnit.DAYS.toSeconds(6));
+    }
+
+    @Test
+    @DisplayName("Should store values as plain strings")
+    void testStoreToken_CompactValues() {
+        refreshTokenService.storeToken(7L, "laptop-jti", 7, TimeUnit.DAYS);
+
+        String raw = (String) stringRedisTemplate.opsForHash().get("refresh:7", "laptop-jti");
+        assertTrue(raw.chars().allMatch(Character::isDigit));
+    }
+
+    @Test
+    @DisplayName("Should accept a token once and reject unknown ones")
+    void testConsumeToken_SingleUse() {
+        refreshTokenService.storeToken(7L, "laptop-jti", 7, TimeUnit.DAYS);
+        refreshTokenService.storeToken(7L, "phone-jti", 7, TimeUnit.DAYS);
+
+        assertTrue(refreshTokenService.consumeToken(7L, "laptop-jti"));
+        assertFalse(refreshTokenService.consumeToken(7L, "laptop-jti"));
+        assertFalse(refreshTokenService.consumeToken(7L, "unknown-jti"));
+        assertTrue(refreshTokenService.consumeToken(7L, "phone-jti"));
+    }
+
+    @Test
+    @DisplayName("Should treat a field past its stored expiry as revoked")
+    void testConsumeToken_ExpiredValue() {
+        stringRedisTemplate.opsForHash().put("refresh:7", "stale-jti", String.valueOf(System.currentTimeMillis() / 1000 - 1));
+
+        assertFalse(refreshTokenService.consumeToken(7L, "stale-jti"));
+        assertNull(stringRedisTemplate.opsForHash().get("refresh:7", "stale-jti"));
+    }
+
+    @Test
+    @DisplayName("Should revoke one device and keep the others")
+    void testRevoke() {
+        refreshTokenService.storeToken(7L, "laptop-jti", 7, TimeUnit.DAYS);
+        refreshTokenService.storeToken(7L, "phone-jti", 7, TimeUnit.DAYS);
+
+        refreshTokenService.revokeToken(7L, "laptop-jti");
+        assertEquals(Set.of("phone-jti"), stringRedisTemplate.opsForHash().keys("refresh:7"));
+    }
+
+    @Test
+    @DisplayName("Should revoke every device of the given accounts")
+    void testRevokeAll() {
+        refreshTokenService.storeToken(7L, "laptop-jti", 7, TimeUnit.DAYS);
+        refreshTokenService.storeToken(7L, "phone-jti", 7, TimeUnit.DAYS);
+        refreshTokenService.storeToken(8L, "laptop-jti", 7, TimeUnit.DAYS);
+        refreshTokenService.storeToken(9L, "laptop-jti", 7, TimeUnit.DAYS);
+
+        refreshTokenService.revokeAll(List.of(7L, 8L));
+        assertEquals(Set.of("refresh:9"), stringRedisTemplate.keys("refresh:*"));
+        assertFalse(refreshTokenService.consumeToken(7L, "phone-jti"));
+    }
+
+    @Test
+    @DisplayName("Should match hash fields by prefix on the server, escaping glob characters")
+    void testHashGetByFieldPrefix() {
+        baseRedisService.hashSet("settings", "site:a", "1");
+        baseRedisService.hashSet("settings", "site:b", "2");
+        baseRedisService.hashSet("settings", "site*x", "3");
+        baseRedisService.hashSet("settings", "other", "4");
+
+        assertEquals(Set.of("1", "2", "3"), Set.copyOf(baseRedisService.hashGetByFieldPrefix("settings", "site")));
+        assertEquals(List.of("3"), baseRedisService.hashGetByFieldPrefix("settings", "site*"));
+    }
+
+    @Test
+    @DisplayName("Should read and delete several keys in batches")
+    void testBatchedAccess() {
+        baseRedisService.set("a", "1");
+        baseRedisService.set("b", "2");
+        baseRedisService.hashSet("h1", "f", "x");
+        baseRedisService.hashSet("h2", "f", "y");
+        baseRedisService.hashSet("h2", "g", "z");
+
+        assertEquals(Arrays.asList("1", null, "2"), baseRedisService.multiGet(List.of("a", "missing", "b")));
+        List<Map<String, Object>> hashes = baseRedisService.hashGetAll(List.of("h1", "h2", "missing"));
+        assertEquals(Map.of("f", "x"), hashes.get(0));
+        assertEquals(Map.of("f", "y", "g", "z"), hashes.get(1));
+        assertTrue(hashes.get(2).isEmpty());
+
+        baseRedisService.deleteAll(List.of("a", "b", "h1"));
+        assertFalse(baseRedisService.exists("a"));
+        assertFalse(baseRedisService.exists("b"));
+        assertFalse(baseRedisService.exists("h1"));
+        assertTrue(baseRedisService.exists("h2"));
+    }
+
+    @Test
+    @DisplayName("Should delete several hash fields in one call")
+    void testDeleteFields() {
+        baseRedisService.hashSet("h", "f", "y");
+        baseRedisService.hashSet("h", "g", "z");
+
+        baseRedisService.delete("h", new ArrayList<>(List.of("f", "g")));
+        assertFalse(baseRedisService.exists("h"));
+    }
+}
@@ -0,0 +1,165 @@
+package az.schedule.backendservice.service;
+
+import az.schedule.backendservice.service.impl.ScheduleOptimizer;
+import az.schedule.backendservice.service.impl.ScheduleOptimizer.Job;
+import az.schedule.backendservice.service.impl.ScheduleOptimizer.Plan;
+import az.schedule.backendservice.service.impl.ScheduleOptimizer.Slot;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("ScheduleOptimizer Unit Tests")
+class ScheduleOptimizerTest {
+
+    // A Monday
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 3, 3, 9, 7);
+    private static final LocalDateTime MONTH_END = LocalDateTime.of(2025, 4, 1, 0, 0);
+
+    private ScheduleOptimizer optimizer;
+
+    @BeforeEach
+    void setUp() {
+        optimizer = optimizer(Integer.MAX_VALUE);
+    }
+
+    static ScheduleOptimizer optimizer(long timeBudgetMs) {
+        ScheduleOptimizer optimizer = new ScheduleOptimizer();
+        ReflectionTestUtils.setField(optimizer, "workWindows", "08:00-12:00,14:00-17:00");
+        ReflectionTestUtils.setField(optimizer, "skipWeekends", true);
+        ReflectionTestUtils.setField(optimizer, "slotMinutes", 15);
+        ReflectionTestUtils.setField(optimizer, "timeBudgetMs", timeBudgetMs);
+        ReflectionTestUtils.setField(optimizer, "maxIterations", 20_000);
+        ReflectionTestUtils.setField(optimizer, "seed", 42L);
+        ReflectionTestUtils.invokeMethod(optimizer, "init");
+        return optimizer;
+    }
+
+    @Test
+    @DisplayName("Should return the same plan for the same input in any order")
+    void testOptimize_Deterministic() {
+        List<Job> jobs = randomJobs(300, new Random(7));
+        List<Job> shuffled = new ArrayList<>(jobs);
+        Collections.shuffle(shuffled, new Random(11));
+
+        Plan first = optimizer.optimize(jobs, NOW, MONTH_END);
+        Plan second = optimizer(Integer.MAX_VALUE).optimize(shuffled, NOW, MONTH_END);
+
+        assertEquals(first.cost(), second.cost());
+        assertEquals(first.iterations(), second.iterations());
+        for (Job job : jobs) {
+            assertEquals(first.slots().get(job.id()), second.slots().get(job.id()));
+        }
+    }
+
+    @Test
+    @DisplayName("Should never overlap suggestions or leave working hours")
+    void testOptimize_NoOverlapInsideWorkWindows() {
+        List<Job> jobs = randomJobs(300, new Random(3));
+        Plan plan = optimizer.optimize(jobs, NOW, MONTH_END);
+
+        List<Slot> slots = new ArrayList<>(plan.slots().values());
+        slots.sort(Comparator.comparing(Slot::start));
+        for (int i = 1; i < slots.size(); i++) {
+            assertFalse(slots.get(i).start().isBefore(slots.get(i - 1).end()),
+                    "overlap: " + slots.get(i - 1) + " and " + slots.get(i));
+        }
+        for (Job job : jobs) {
+            Slot slot = plan.slots().get(job.id());
+            if (slot == null || job.pinnedStart() != null && slot.start().equals(job.pinnedStart())) {
+                continue;
+            }
+            assertFalse(slot.start().isBefore(NOW));
+            assertFalse(slot.start().isBefore(job.release()));
+            assertTrue(insideWorkWindow(slot), "outside work hours: " + slot);
+        }
+        assertEquals(jobs.size(), plan.slots().size() + plan.unplaced().size());
+    }
+
+    @Test
+    @DisplayName("Should keep a free pinned slot and move the lighter of two colliding ones")
+    void testOptimize_PinnedCollision() {
+        LocalDateTime tenAm = LocalDateTime.of(2025, 3, 4, 10, 0);
+        Job heavy = new Job(1L, 60, 100, tenAm, NOW, null);
+        Job light = new Job(2L, 60, 40, tenAm.plusMinutes(30), NOW, null);
+        Job evening = new Job(3L, 60, 40, LocalDateTime.of(2025, 3, 4, 19, 0), NOW, null);
+
+        Plan plan = optimizer.optimize(List.of(heavy, light, evening), NOW, MONTH_END);
+
+        assertEquals(new Slot(tenAm, tenAm.plusHours(1)), plan.slots().get(1L));
+        assertEquals(evening.pinnedStart(), plan.slots().get(3L).start());
+        // Moved to the first working slot from now, which is before the heavy task
+        assertEquals(NOW.withMinute(15), plan.slots().get(2L).start());
+    }
+
+    @Test
+    @DisplayName("Should give the earliest slot to the heavier job and meet deadlines")
+    void testOptimize_PrioritizesWeightAndDeadline() {
+        LocalDateTime dueTomorrow = LocalDateTime.of(2025, 3, 4, 12, 0);
+        List<Job> jobs = new ArrayList<>();
+        for (long id = 1; id <= 20; id++) {
+            jobs.add(new Job(id, 120, 35, null, NOW, null));
+        }
+        jobs.add(new Job(100L, 120, 200, null, NOW, null));
+        jobs.add(new Job(101L, 120, 60, null, NOW, dueTomorrow));
+
+        Plan plan = optimizer.optimize(jobs, NOW, MONTH_END);
+
+        Slot urgent = plan.slots().get(100L);
+        assertEquals(NOW.withMinute(15), urgent.start());
+        assertFalse(plan.slots().get(101L).end().isAfter(dueTomorrow));
+        assertTrue(plan.unplaced().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should report jobs that do not fit in the horizon")
+    void testOptimize_ReportsUnplaced() {
+        Job tooLong = new Job(1L, 5 * 60, 50, null, NOW, null);
+        Job fits = new Job(2L, 60, 50, null, NOW, null);
+
+        Plan plan = optimizer.optimize(List.of(tooLong, fits), NOW, MONTH_END);
+
+        assertEquals(List.of(1L), plan.unplaced());
+        assertTrue(plan.slots().containsKey(2L));
+    }
+
+    static List<Job> randomJobs(int count, Random random) {
+        List<Job> jobs = new ArrayList<>();
+        for (long id = 1; id <= count; id++) {
+            int duration = 15 * (1 + random.nextInt(8));
+            int weight = 10 + random.nextInt(200);
+            LocalDateTime pinned = null;
+            if (random.nextInt(4) == 0) {
+                pinned = NOW.toLocalDate().plusDays(random.nextInt(28)).atTime(7 + random.nextInt(14), 15 * random.nextInt(4));
+            }
+            LocalDateTime release = random.nextInt(5) == 0 ? NOW.plusDays(random.nextInt(20)) : NOW;
+            LocalDateTime deadline = random.nextInt(3) == 0 ? release.plusDays(1 + random.nextInt(10)) : null;
+            jobs.add(new Job(id, duration, weight, pinned, release, deadline));
+        }
+        return jobs;
+    }
+
+    private static boolean insideWorkWindow(Slot slot) {
+        DayOfWeek day = slot.start().getDayOfWeek();
+        if (day == DayOfWeek.SATURDAY || day == DayOfWeek.SUNDAY || !slot.start().toLocalDate().equals(slot.end().toLocalDate())) {
+            return false;
+        }
+        LocalTime start = slot.start().toLocalTime();
+        LocalTime end = slot.end().toLocalTime();
+        return (!start.isBefore(LocalTime.of(8, 0)) && !end.isAfter(LocalTime.of(12, 0)))
+                || (!start.isBefore(LocalTime.of(14, 0)) && !end.isAfter(LocalTime.of(17, 0)));
+    }
+}
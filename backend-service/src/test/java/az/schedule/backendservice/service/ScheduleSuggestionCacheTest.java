@@ -0,0 +1,125 @@
+package az.schedule.backendservice.service;
+
+import az.schedule.backendservice.dto.TaskDTO;
+import az.schedule.backendservice.dto.response.ScheduleSuggestionResponse;
+import az.schedule.backendservice.enums.Priority;
+import az.schedule.backendservice.enums.TaskStatus;
+import az.schedule.backendservice.service.impl.AIScheduleServiceImpl;
+import az.schedule.backendservice.service.impl.ScheduleOptimizer;
+import az.schedule.backendservice.service.impl.ScheduleSuggestionCache;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("Schedule suggestion cache and background refresh")
+class ScheduleSuggestionCacheTest {
+
+    private static final Long ACCOUNT_ID = 7L;
+
+    private ScheduleSuggestionCache cache;
+    private TaskService taskService;
+    private AIScheduleServiceImpl aiScheduleService;
+    private int year;
+    private int month;
+
+    @BeforeEach
+    void setUp() {
+        cache = new ScheduleSuggestionCache();
+        ReflectionTestUtils.setField(cache, "maxSize", 100L);
+        ReflectionTestUtils.setField(cache, "ttlMinutes", 60L);
+        ReflectionTestUtils.setField(cache, "maxAgeMinutes", 15L);
+        ReflectionTestUtils.invokeMethod(cache, "init");
+
+        ScheduleOptimizer optimizer = ScheduleOptimizerTest.optimizer(200);
+        taskService = mock(TaskService.class);
+        aiScheduleService = new AIScheduleServiceImpl(taskService, optimizer, cache, ScheduleTextCatalogTest.catalog("en,vi"));
+        ReflectionTestUtils.setField(aiScheduleService, "refreshConcurrency", 2);
+        ReflectionTestUtils.invokeMethod(aiScheduleService, "init");
+
+        LocalDateTime now = LocalDateTime.now();
+        year = now.getYear();
+        month = now.getMonthValue();
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReflectionTestUtils.invokeMethod(aiScheduleService, "shutdown");
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("Should compute once and then answer from the cache")
+    void testGenerate_ServedFromCache() {
+        when(taskService.getTasksByMonth(ACCOUNT_ID, year, month)).thenReturn(List.of(unscheduledTask(1L)));
+
+        ScheduleSuggestionResponse first = aiScheduleService.generateScheduleSuggestions(ACCOUNT_ID, year, month, "en");
+        ScheduleSuggestionResponse second = aiScheduleService.generateScheduleSuggestions(ACCOUNT_ID, year, month, "en-US");
+
+        assertSame(first, second);
+        assertEquals(1, first.getSuggestions().size());
+        verify(taskService, times(1)).getTasksByMonth(ACCOUNT_ID, year, month);
+    }
+
+    @Test
+    @DisplayName("Should recompute dirty accounts in the background")
+    void testRefresh_RecomputesDirtyAccount() {
+        when(taskService.getTasksByMonth(ACCOUNT_ID, year, month))
+                .thenReturn(List.of(unscheduledTask(1L)))
+                .thenReturn(List.of(unscheduledTask(1L), unscheduledTask(2L)));
+        aiScheduleService.generateScheduleSuggestions(ACCOUNT_ID, year, month, "en");
+
+        aiScheduleService.refreshStaleSuggestions();
+        verify(taskService, times(1)).getTasksByMonth(ACCOUNT_ID, year, month);
+
+        cache.markDirty(ACCOUNT_ID);
+        aiScheduleService.refreshStaleSuggestions();
+
+        verify(taskService, times(2)).getTasksByMonth(ACCOUNT_ID, year, month);
+        ScheduleSuggestionResponse refreshed = aiScheduleService.generateScheduleSuggestions(ACCOUNT_ID, year, month, "en");
+        assertEquals(2, refreshed.getSuggestions().size());
+        assertTrue(cache.takeStale().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should mark an account dirty only after the transaction commits")
+    void testMarkDirty_AfterCommit() {
+        when(taskService.getTasksByMonth(ACCOUNT_ID, year, month)).thenReturn(List.of(unscheduledTask(1L)));
+        aiScheduleService.generateScheduleSuggestions(ACCOUNT_ID, year, month, "vi");
+
+        TransactionSynchronizationManager.initSynchronization();
+        cache.markDirty(ACCOUNT_ID);
+        assertTrue(cache.takeStale().isEmpty());
+
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+
+        assertEquals(List.of(new ScheduleSuggestionCache.Key(ACCOUNT_ID, year, month, "vi")), cache.takeStale());
+    }
+
+    private static TaskDTO unscheduledTask(Long id) {
+        return TaskDTO.builder()
+                .id(id)
+                .title("Task " + id)
+                .priority(Priority.HIGH)
+                .status(TaskStatus.TODO)
+                .build();
+    }
+}
@@ -0,0 +1,65 @@
+package az.schedule.backendservice.service;
+
+import az.schedule.backendservice.config.LocaleConfig;
+import az.schedule.backendservice.enums.ScheduleText;
+import az.schedule.backendservice.service.impl.ScheduleTextCatalog;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+@DisplayName("ScheduleTextCatalog Unit Tests")
+class ScheduleTextCatalogTest {
+
+    static ScheduleTextCatalog catalog(String languages) {
+        ScheduleTextCatalog catalog = new ScheduleTextCatalog(new LocaleConfig().messageSource());
+        ReflectionTestUtils.setField(catalog, "languages", languages);
+        ReflectionTestUtils.invokeMethod(catalog, "init");
+        return catalog;
+    }
+
+    @Test
+    @DisplayName("Should define every text with the same placeholders in every language")
+    void testBundles_CompleteAndConsistent() {
+        ScheduleTextCatalog catalog = catalog("en,vi");
+        ScheduleTextCatalog.Texts en = catalog.texts("en");
+        ScheduleTextCatalog.Texts vi = catalog.texts("vi");
+
+        for (ScheduleText text : ScheduleText.values()) {
+            assertFalse(en.render(text).contains("schedule."), text.getKey());
+            assertEquals(en.template(text).argumentCount(), vi.template(text).argumentCount(), text.getKey());
+        }
+        assertNotEquals(en.render(ScheduleText.REASON_DEFAULT), vi.render(ScheduleText.REASON_DEFAULT));
+    }
+
+    @Test
+    @DisplayName("Should resolve language tags, aliases and Accept-Language values")
+    void testResolveLanguage() {
+        ScheduleTextCatalog catalog = catalog("en,vi");
+
+        assertEquals("vi", catalog.resolveLanguage("vi"));
+        assertEquals("vi", catalog.resolveLanguage("VI-vn"));
+        assertEquals("vi", catalog.resolveLanguage("vie"));
+        assertEquals("vi", catalog.resolveLanguage("Vietnamese"));
+        assertEquals("vi", catalog.resolveLanguage("vi-VN,vi;q=0.9,en;q=0.8"));
+        assertEquals("en", catalog.resolveLanguage("en-US"));
+        assertEquals("en", catalog.resolveLanguage("fr"));
+        assertEquals("en", catalog.resolveLanguage(null));
+    }
+
+    @Test
+    @DisplayName("Should fall back to the default language for a language without a bundle")
+    void testTexts_FallBackToDefaultLanguage() {
+        ScheduleTextCatalog catalog = catalog("en,vi,de");
+
+        assertEquals("de", catalog.resolveLanguage("de-DE"));
+        assertSame(catalog.texts("en").template(ScheduleText.SUGGESTED_URGENT),
+                catalog.texts("de").template(ScheduleText.SUGGESTED_URGENT));
+        assertEquals("01 Mar 2025, 09:00 → 10:00 (URGENT)",
+                catalog.texts("de").render(ScheduleText.SUGGESTED_URGENT, "01 Mar 2025, 09:00", "10:00"));
+    }
+}
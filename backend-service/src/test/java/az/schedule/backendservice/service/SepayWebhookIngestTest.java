@@ -0,0 +1,181 @@
+package az.schedule.backendservice.service;
+
+import az.schedule.backendservice.dto.request.SepayWebhookRequest;
+import az.schedule.backendservice.entity.Account;
+import az.schedule.backendservice.entity.Subscription;
+import az.schedule.backendservice.repository.AccountRepository;
+import az.schedule.backendservice.repository.PaymentRepository;
+import az.schedule.backendservice.repository.SubscriptionRepository;
+import az.schedule.backendservice.service.impl.PaymentServiceImpl;
+import az.schedule.backendservice.support.MySqlJpaTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@TestPropertySource(properties = {
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+        "spring.datasource.hikari.maximum-pool-size=20"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import(PaymentServiceImpl.class)
+@DisplayName("Sepay webhook ingestion")
+class SepayWebhookIngestTest extends MySqlJpaTest {
+
+    private static final int DELIVERIES = 1000;
+    private static final String CONTENT = "SEVQR thanh toan premium astramind ";
+
+    @Autowired
+    private PaymentService paymentService;
+
+    @Autowired
+    private PaymentRepository paymentRepository;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private SubscriptionRepository subscriptionRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        Subscription premium = new Subscription();
+        premium.setName("Premium");
+        premium.setPrice(29000.0);
+        subscriptionRepository.save(premium);
+
+        Account account = new Account();
+        account.setUsername("alice");
+        account.setEmail("alice@example.com");
+        account.setPassword("secret");
+        accountRepository.save(account);
+    }
+
+    @AfterEach
+    void tearDown() {
+        paymentRepository.deleteAllInBatch();
+        accountRepository.deleteAllInBatch();
+        subscriptionRepository.deleteAllInBatch();
+    }
+
+    private static SepayWebhookRequest webhook(long id, double amount, String username) {
+        return SepayWebhookRequest.builder()
+                .id(id)
+                .gateway("MBBank")
+                .transactionDate("2025-06-02 09:00:00")
+                .content(CONTENT + username)
+                .transferType("in")
+                .transferAmount(amount)
+                .referenceCode("FT" + id)
+                .build();
+    }
+
+    private String status(long transactionId) {
+        return paymentRepository.findByTransactionId(String.valueOf(transactionId)).orElseThrow().getStatus();
+    }
+
+    @Test
+    @DisplayName("Should store one payment for 1,000 parallel deliveries of the same webhook")
+    void testAccept_ParallelDuplicates() throws Exception {
+        SepayWebhookRequest request = webhook(1001L, 29000.0, "alice");
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Boolean>> deliveries = new ArrayList<>();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < DELIVERIES; i++) {
+                deliveries.add(executor.submit(() -> {
+                    start.await();
+                    return paymentService.acceptSepayWebhook(request);
+                }));
+            }
+            start.countDown();
+        }
+
+        int accepted = 0;
+        for (Future<Boolean> delivery : deliveries) {
+            if (delivery.get()) {
+                accepted++;
+            }
+        }
+        assertEquals(1, accepted);
+        assertEquals(1, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM payment WHERE transactionid = '1001'", Integer.class));
+        assertEquals("PENDING", status(1001L));
+
+        assertEquals(1, paymentService.processPendingPayments(50));
+        assertEquals(0, paymentService.processPendingPayments(50));
+        assertEquals("SUCCESS", status(1001L));
+        assertEquals("Premium", accountRepository.findByUsernameIn(List.of("alice")).get(0)
+                .getSubscription().getName());
+    }
+
+    @Test
+    @DisplayName("Should settle a batch with the same outcomes as one payment at a time")
+    void testProcess_MixedBatch() {
+        assertTrue(paymentService.acceptSepayWebhook(webhook(1L, 29000.0, "alice")));
+        assertTrue(paymentService.acceptSepayWebhook(webhook(2L, 1000.0, "alice")));
+        assertTrue(paymentService.acceptSepayWebhook(webhook(3L, 29000.0, "nobody")));
+        SepayWebhookRequest noUsername = webhook(4L, 29000.0, "");
+        noUsername.setContent("chuyen tien");
+        assertTrue(paymentService.acceptSepayWebhook(noUsername));
+        SepayWebhookRequest outgoing = webhook(5L, 29000.0, "alice");
+        outgoing.setTransferType("out");
+        assertFalse(paymentService.acceptSepayWebhook(outgoing));
+
+        assertEquals(4, paymentService.processPendingPayments(50));
+
+        assertEquals("SUCCESS", status(1L));
+        assertEquals("FAILED_INVALID_AMOUNT", status(2L));
+        assertEquals("FAILED_ACCOUNT_NOT_FOUND", status(3L));
+        assertEquals("FAILED_INVALID_CONTENT", status(4L));
+        assertFalse(paymentRepository.existsByTransactionId("5"));
+        assertEquals(0, paymentRepository.countByStatus("PENDING"));
+    }
+
+    @Test
+    @DisplayName("Should fail a payment that cannot be settled without holding back its batch")
+    void testProcess_FailureIsolatedToPayment() {
+        subscriptionRepository.deleteAllInBatch();
+        assertTrue(paymentService.acceptSepayWebhook(webhook(1L, 29000.0, "alice")));
+        assertTrue(paymentService.acceptSepayWebhook(webhook(2L, 1000.0, "alice")));
+
+        assertEquals(2, paymentService.processPendingPayments(50));
+
+        assertEquals("FAILED_SUBSCRIPTION_NOT_FOUND", status(1L));
+        assertEquals("FAILED_INVALID_AMOUNT", status(2L));
+        assertEquals(0, paymentRepository.countByStatus("PENDING"));
+        assertEquals(0, paymentService.processPendingPayments(50));
+    }
+
+    @Test
+    @DisplayName("Should surface insert errors other than a duplicate transaction id")
+    void testAccept_OtherErrorsPropagate() {
+        SepayWebhookRequest request = webhook(1L, 29000.0, "alice");
+        request.setGateway("x".repeat(300));
+
+        assertThrows(DataIntegrityViolationException.class, () -> paymentService.acceptSepayWebhook(request));
+        assertFalse(paymentRepository.existsByTransactionId("1"));
+    }
+}
@@ -0,0 +1,119 @@
+package az.schedule.backendservice.service;
+
+import az.schedule.backendservice.dto.response.admin.SystemStatisticsResponse;
+import az.schedule.backendservice.entity.Account;
+import az.schedule.backendservice.entity.Category;
+import az.schedule.backendservice.entity.Role;
+import az.schedule.backendservice.entity.Task;
+import az.schedule.backendservice.enums.TaskStatus;
+import az.schedule.backendservice.service.impl.SystemStatisticsSnapshot;
+import az.schedule.backendservice.support.MySqlJpaTest;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import(SystemStatisticsSnapshot.class)
+@DisplayName("Admin system statistics snapshot")
+class SystemStatisticsSnapshotTest extends MySqlJpaTest {
+
+    @Autowired
+    private SystemStatisticsSnapshot systemStatisticsSnapshot;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @BeforeEach
+    void setUp() {
+        Role admin = role("ADMIN");
+        Role user = role("USER");
+        Account first = account("admin", admin, true);
+        account("active_user", user, true);
+        account("inactive_user", user, false);
+        account("no_role", null, true);
+
+        Category category = new Category();
+        category.setName("Work");
+        category.setAccount(first);
+        entityManager.persist(category);
+
+        TaskStatus[] statuses = {TaskStatus.DONE, TaskStatus.DONE, TaskStatus.TODO, TaskStatus.IN_PROGRESS, TaskStatus.PAUSED};
+        for (int i = 0; i < statuses.length; i++) {
+            Task task = new Task();
+            task.setTitle("Task " + i);
+            task.setStatus(statuses[i]);
+            task.setStartTime(LocalDateTime.of(2025, 6, 1, 9, 0).plusDays(i));
+            task.setAccount(first);
+            entityManager.persist(task);
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    private Role role(String code) {
+        Role role = new Role();
+        role.setCode(code);
+        return entityManager.persist(role);
+    }
+
+    private Account account(String username, Role role, boolean active) {
+        Account account = new Account();
+        account.setUsername(username);
+        account.setEmail(username + "@example.com");
+        account.setPassword("password");
+        account.setIsActive(active);
+        account.setRole(role);
+        return entityManager.persist(account);
+    }
+
+    @Test
+    @DisplayName("Should aggregate counts without loading any account or task")
+    void testRefresh_AggregatesWithoutLoadingEntities() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        SystemStatisticsResponse response = systemStatisticsSnapshot.refresh();
+
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertEquals(3, statistics.getPrepareStatementCount());
+        assertEquals(4, response.getTotalUsers());
+        assertEquals(3, response.getActiveUsers());
+        assertEquals(1, response.getInactiveUsers());
+        assertEquals(1, response.getAdminUsers());
+        assertEquals(3, response.getRegularUsers());
+        assertEquals(Map.of("ADMIN", 1L, "USER", 2L, "NONE", 1L), response.getUsersByRole());
+        assertEquals(5, response.getTotalTasks());
+        assertEquals(2, response.getCompletedTasks());
+        assertEquals(3, response.getPendingTasks());
+        assertEquals(2L, response.getTasksByStatus().get("DONE"));
+        assertEquals(1, response.getTotalCategories());
+    }
+
+    @Test
+    @DisplayName("Should serve the snapshot without querying again")
+    void testGet_ServesSnapshot() {
+        SystemStatisticsResponse first = systemStatisticsSnapshot.get();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        SystemStatisticsResponse second = systemStatisticsSnapshot.get();
+
+        assertSame(first, second);
+        assertEquals(0, statistics.getPrepareStatementCount());
+    }
+}
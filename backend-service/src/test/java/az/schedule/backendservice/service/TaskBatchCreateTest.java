@@ -0,0 +1,142 @@
+package az.schedule.backendservice.service;
+
+import az.schedule.backendservice.config.JpaBatchConfig;
+import az.schedule.backendservice.converter.TaskConverter;
+import az.schedule.backendservice.dto.TaskDTO;
+import az.schedule.backendservice.dto.request.task.TaskRequest;
+import az.schedule.backendservice.entity.Account;
+import az.schedule.backendservice.entity.Category;
+import az.schedule.backendservice.enums.Priority;
+import az.schedule.backendservice.enums.TaskStatus;
+import az.schedule.backendservice.exception.AppException;
+import az.schedule.backendservice.exception.ErrorCode;
+import az.schedule.backendservice.repository.AccountRepository;
+import az.schedule.backendservice.repository.CategoryRepository;
+import az.schedule.backendservice.repository.TaskRepository;
+import az.schedule.backendservice.service.impl.ScheduleSuggestionCache;
+import az.schedule.backendservice.service.impl.TaskCalendarCache;
+import az.schedule.backendservice.service.impl.TaskServiceImpl;
+import az.schedule.backendservice.service.impl.TrendyMessageService;
+import az.schedule.backendservice.support.MySqlJpaTest;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({JpaBatchConfig.class, TaskServiceImpl.class, TaskConverter.class, TaskCalendarCache.class,
+        ScheduleSuggestionCache.class, TrendyMessageService.class})
+@DisplayName("TaskService batch create")
+class TaskBatchCreateTest extends MySqlJpaTest {
+
+    private static final int TASK_COUNT = 150;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @MockitoBean
+    private NotificationService notificationService;
+
+    private Account account;
+    private Category category;
+
+    @BeforeEach
+    void setUp() {
+        account = new Account();
+        account.setUsername("batch_user");
+        account.setEmail("batch_user@example.com");
+        account.setPassword("password");
+        account.setIsActive(true);
+        account = accountRepository.save(account);
+
+        category = new Category();
+        category.setName("Imported");
+        category.setAccount(account);
+        category = categoryRepository.save(category);
+    }
+
+    @AfterEach
+    void tearDown() {
+        taskRepository.deleteAllInBatch();
+        categoryRepository.deleteAll();
+        accountRepository.deleteAll();
+    }
+
+    private List<TaskRequest> requests(int count, Long categoryId) {
+        LocalDateTime base = LocalDateTime.of(2025, 6, 1, 8, 0);
+        List<TaskRequest> requests = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            requests.add(TaskRequest.builder()
+                    .title("Imported task " + i)
+                    .startTime(base.plusHours(i))
+                    .endTime(base.plusHours(i).plusMinutes(30))
+                    .priority(Priority.MEDIUM)
+                    .status(TaskStatus.TODO)
+                    .categoryId(i % 2 == 0 ? categoryId : null)
+                    .build());
+        }
+        return requests;
+    }
+
+    @Test
+    @DisplayName("Should insert all tasks in a handful of batched statements")
+    void testCreateTasks_Batched() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        List<TaskDTO> created = taskService.createTasks(requests(TASK_COUNT, category.getId()), account.getId());
+
+        assertEquals(TASK_COUNT, created.size());
+        assertEquals(TASK_COUNT, created.stream().map(TaskDTO::getId).distinct().count());
+        assertEquals(TASK_COUNT, statistics.getEntityInsertCount());
+        assertEquals(TASK_COUNT, taskRepository.countByAccountId(account.getId()));
+        assertEquals("Imported", created.get(0).getCategoryName());
+        // account + categories + one prepared insert per 50-row batch + pooled id fetches
+        assertTrue(statistics.getPrepareStatementCount() <= 12,
+                "Expected batched inserts but saw " + statistics.getPrepareStatementCount() + " statements");
+    }
+
+    @Test
+    @DisplayName("Should reject the whole batch when a category belongs to another account")
+    void testCreateTasks_ForeignCategory() {
+        Account other = new Account();
+        other.setUsername("other_user");
+        other.setEmail("other_user@example.com");
+        other.setPassword("password");
+        accountRepository.save(other);
+
+        AppException exception = assertThrows(AppException.class,
+                () -> taskService.createTasks(requests(3, category.getId()), other.getId()));
+
+        assertEquals(ErrorCode.UNAUTHORIZED_ACCESS, exception.getErrorCode());
+        assertEquals(0, taskRepository.countByAccountId(other.getId()));
+    }
+}
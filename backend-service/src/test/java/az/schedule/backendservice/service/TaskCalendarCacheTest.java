@@ -0,0 +1,152 @@
+package az.schedule.backendservice.service;
+
+import az.schedule.backendservice.dto.response.CalendarTaskResponse;
+import az.schedule.backendservice.repository.TaskRepository;
+import az.schedule.backendservice.service.impl.TaskCalendarCache;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+@DisplayName("Per-account calendar cache")
+class TaskCalendarCacheTest {
+
+    private static final Long ACCOUNT_ID = 7L;
+
+    private TaskCalendarCache cache;
+    private TaskRepository taskRepository;
+
+    @BeforeEach
+    void setUp() {
+        taskRepository = mock(TaskRepository.class);
+        cache = new TaskCalendarCache(taskRepository);
+        ReflectionTestUtils.setField(cache, "maxAccounts", 1000);
+        ReflectionTestUtils.setField(cache, "ttlMinutes", 10L);
+        // Loads cover exactly the months of the window, so the expected gaps are whole months
+        ReflectionTestUtils.setField(cache, "prefetchMonths", 0);
+
+        when(taskRepository.findCalendarTasks(anyLong(), any(), any())).thenReturn(List.of());
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private static LocalDateTime day(int month, int day) {
+        return LocalDateTime.of(2025, month, day, 0, 0);
+    }
+
+    private static CalendarTaskResponse task(Long id, LocalDateTime start) {
+        return CalendarTaskResponse.builder()
+                .id(id)
+                .title("Task " + id)
+                .startTime(start)
+                .endTime(start.plusHours(1))
+                .build();
+    }
+
+    @Test
+    @DisplayName("Should load only the next month for an adjacent window")
+    void testGetTasks_AdjacentWindow() {
+        cache.getTasks(ACCOUNT_ID, day(6, 10), day(6, 17));
+        cache.getTasks(ACCOUNT_ID, day(7, 5), day(7, 12));
+
+        verify(taskRepository).findCalendarTasks(ACCOUNT_ID, day(6, 1), day(7, 1));
+        verify(taskRepository).findCalendarTasks(ACCOUNT_ID, day(7, 1), day(8, 1));
+        verifyNoMoreInteractions(taskRepository);
+    }
+
+    @Test
+    @DisplayName("Should load only the uncovered gaps on both sides of an overlapping window")
+    void testGetTasks_OverlappingWindow() {
+        cache.getTasks(ACCOUNT_ID, day(6, 10), day(6, 17));
+        cache.getTasks(ACCOUNT_ID, day(5, 20), day(7, 10));
+
+        verify(taskRepository).findCalendarTasks(ACCOUNT_ID, day(6, 1), day(7, 1));
+        verify(taskRepository).findCalendarTasks(ACCOUNT_ID, day(5, 1), day(6, 1));
+        verify(taskRepository).findCalendarTasks(ACCOUNT_ID, day(7, 1), day(8, 1));
+        verifyNoMoreInteractions(taskRepository);
+    }
+
+    @Test
+    @DisplayName("Should answer a covered window from memory without a query")
+    void testGetTasks_CoveredWindow() {
+        CalendarTaskResponse june = task(1L, day(6, 12).withHour(10));
+        CalendarTaskResponse july = task(2L, day(7, 3).withHour(9));
+        when(taskRepository.findCalendarTasks(ACCOUNT_ID, day(6, 1), day(7, 1))).thenReturn(List.of(june));
+        when(taskRepository.findCalendarTasks(ACCOUNT_ID, day(7, 1), day(8, 1))).thenReturn(List.of(july));
+        cache.getTasks(ACCOUNT_ID, day(6, 10), day(6, 17));
+        cache.getTasks(ACCOUNT_ID, day(7, 1), day(7, 8));
+
+        // The two loads merged into one covered range, so a window across them is a hit
+        List<CalendarTaskResponse> tasks = cache.getTasks(ACCOUNT_ID, day(6, 9), day(7, 9));
+
+        assertEquals(List.of(1L, 2L), tasks.stream().map(CalendarTaskResponse::getId).sorted().toList());
+        assertEquals(List.of(1L), cache.getTasks(ACCOUNT_ID, day(6, 12), day(6, 13)).stream()
+                .map(CalendarTaskResponse::getId).toList());
+        verify(taskRepository, times(2)).findCalendarTasks(anyLong(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should reload the account after evict")
+    void testEvict_ForcesReload() {
+        cache.getTasks(ACCOUNT_ID, day(6, 10), day(6, 17));
+        cache.evict(ACCOUNT_ID);
+        cache.getTasks(ACCOUNT_ID, day(6, 10), day(6, 17));
+
+        verify(taskRepository, times(2)).findCalendarTasks(ACCOUNT_ID, day(6, 1), day(7, 1));
+    }
+
+    @Test
+    @DisplayName("Should evict again after commit so a read during the transaction is not kept")
+    void testEvict_AgainAfterCommit() {
+        cache.getTasks(ACCOUNT_ID, day(6, 10), day(6, 17));
+
+        TransactionSynchronizationManager.initSynchronization();
+        cache.evict(ACCOUNT_ID);
+        // A concurrent read before commit caches the old state again
+        cache.getTasks(ACCOUNT_ID, day(6, 10), day(6, 17));
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+
+        cache.getTasks(ACCOUNT_ID, day(6, 10), day(6, 17));
+        verify(taskRepository, times(3)).findCalendarTasks(ACCOUNT_ID, day(6, 1), day(7, 1));
+    }
+
+    @Test
+    @DisplayName("Should drop the least recently used account above the bound")
+    void testMaxAccounts_DropsLeastRecentlyUsed() {
+        ReflectionTestUtils.setField(cache, "maxAccounts", 2);
+        cache.getTasks(1L, day(6, 10), day(6, 17));
+        cache.getTasks(2L, day(6, 10), day(6, 17));
+        // Account 1 is used again, so account 2 is the eldest when account 3 arrives
+        cache.getTasks(1L, day(6, 10), day(6, 17));
+        cache.getTasks(3L, day(6, 10), day(6, 17));
+
+        cache.getTasks(1L, day(6, 10), day(6, 17));
+        cache.getTasks(2L, day(6, 10), day(6, 17));
+
+        verify(taskRepository, times(1)).findCalendarTasks(1L, day(6, 1), day(7, 1));
+        verify(taskRepository, times(2)).findCalendarTasks(2L, day(6, 1), day(7, 1));
+        verify(taskRepository, times(1)).findCalendarTasks(3L, day(6, 1), day(7, 1));
+    }
+}
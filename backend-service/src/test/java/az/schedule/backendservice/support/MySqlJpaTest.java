@@ -0,0 +1,39 @@
+package az.schedule.backendservice.support;
+
+import az.schedule.backendservice.entity.Task;
+import az.schedule.backendservice.repository.TaskRepository;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * JPA slice on a MySQL 8 container, for tests that depend on MySQL behaviour. The schema is built the
+ * way the application starts: Flyway applies {@code db/migration}, then Hibernate ({@code ddl-auto=update})
+ * adds the entity tables that predate Flyway. Extra properties go in {@code @TestPropertySource},
+ * extra beans in {@code @Import}.
+ * <p>
+ * {@code @ExtendWith} is repeated here, not only inherited from {@code @DataJpaTest}: the test type filter
+ * only recognises directly annotated classes, and without it component scans in other test contexts pick up
+ * {@link JpaSliceConfig} and its repositories.
+ */
+@DataJpaTest(properties = "spring.jpa.hibernate.ddl-auto=update")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+@ContextConfiguration(classes = MySqlJpaTest.JpaSliceConfig.class)
+@ExtendWith(SpringExtension.class)
+public abstract class MySqlJpaTest {
+
+    @SpringBootConfiguration
+    @EntityScan(basePackageClasses = Task.class)
+    @EnableJpaRepositories(basePackageClasses = TaskRepository.class)
+    @Import(MySqlTestcontainersConfig.class)
+    static class JpaSliceConfig {
+    }
+}
@@ -0,0 +1,21 @@
+package az.schedule.backendservice.support;
+
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Bean;
+import org.testcontainers.containers.MySQLContainer;
+
+/**
+ * MySQL 8 container for a test application context, started with the context and stopped when it
+ * closes, so a cached context and its database always belong together. The connection runs as root
+ * so tests can read server status and switch the general log.
+ */
+@TestConfiguration(proxyBeanMethods = false)
+public class MySqlTestcontainersConfig {
+
+    @Bean
+    @ServiceConnection
+    MySQLContainer<?> mysqlContainer() {
+        return new MySQLContainer<>("mysql:8.0").withUsername("root");
+    }
+}
@@ -0,0 +1,98 @@
+package az.schedule.backendservice.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("DomainTrie Unit Tests")
+class DomainTrieTest {
+
+    @Test
+    @DisplayName("Should block a domain and its subdomains but not look-alike hosts")
+    void testMatches_DomainAndSubdomains() {
+        DomainTrie trie = DomainTrie.compile(List.of("youtube.com"));
+
+        assertTrue(trie.matches("youtube.com"));
+        assertTrue(trie.matches("m.youtube.com"));
+        assertTrue(trie.matches("WWW.YouTube.com:443"));
+        assertFalse(trie.matches("notyoutube.com"));
+        assertFalse(trie.matches("youtube.com.evil.net"));
+        assertFalse(trie.matches("com"));
+    }
+
+    @Test
+    @DisplayName("Should block only subdomains for wildcard patterns")
+    void testMatches_Wildcard() {
+        DomainTrie trie = DomainTrie.compile(List.of("*.example.com"));
+
+        assertTrue(trie.matches("a.example.com"));
+        assertTrue(trie.matches("a.b.example.com"));
+        assertFalse(trie.matches("example.com"));
+    }
+
+    @Test
+    @DisplayName("Should normalize pasted URLs and drop invalid entries")
+    void testNormalize() {
+        assertEquals("reddit.com", DomainTrie.normalize(" https://www.Reddit.com:8080/r/java?x=1 "));
+        assertEquals("*.example.com", DomainTrie.normalize("*.example.com."));
+        assertEquals("xn--bcher-kva.de", DomainTrie.normalize("bücher.de"));
+        assertNull(DomainTrie.normalize(""));
+        assertNull(DomainTrie.normalize("not a domain"));
+        assertNull(DomainTrie.normalize("youtube..com"));
+        assertNull(DomainTrie.normalize("*"));
+
+        DomainTrie trie = DomainTrie.compile(List.of("youtube.com", "https://youtube.com/", "bad entry"));
+        assertEquals(List.of("youtube.com"), trie.patterns());
+    }
+
+    @Test
+    @DisplayName("Should serialize reversed labels and prune below blocked domains")
+    void testToTree() {
+        DomainTrie trie = DomainTrie.compile(List.of("youtube.com", "m.youtube.com", "*.example.com"));
+
+        assertEquals(Map.of(
+                        "com", Map.of(
+                                "youtube", Map.of(DomainTrie.BLOCK_SELF, 1),
+                                "example", Map.of(DomainTrie.BLOCK_SUBDOMAINS, 1))),
+                trie.toTree());
+    }
+
+    @Test
+    @DisplayName("Should agree with a linear suffix scan on random block lists")
+    void testMatches_AgreesWithLinearScan() {
+        Random random = new Random(42);
+        String[] labels = {"a", "b", "cdn", "news", "shop", "com", "net", "org"};
+        List<String> patterns = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            patterns.add(randomHost(random, labels));
+        }
+        DomainTrie trie = DomainTrie.compile(patterns);
+
+        for (int i = 0; i < 2000; i++) {
+            String host = randomHost(random, labels);
+            boolean expected = patterns.stream().anyMatch(p -> host.equals(p) || host.endsWith("." + p));
+            assertEquals(expected, trie.matches(host), host);
+        }
+    }
+
+    private static String randomHost(Random random, String[] labels) {
+        int depth = 1 + random.nextInt(4);
+        StringBuilder host = new StringBuilder();
+        for (int d = 0; d < depth; d++) {
+            if (d > 0) {
+                host.append('.');
+            }
+            host.append(labels[random.nextInt(labels.length)]);
+        }
+        return host.toString();
+    }
+}
@@ -0,0 +1,93 @@
+package az.schedule.backendservice.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("FreeIntervalSet Unit Tests")
+class FreeIntervalSetTest {
+
+    @Test
+    @DisplayName("Should split on reserve and merge adjacent ranges on release")
+    void testReserveAndRelease_SplitsAndMerges() {
+        FreeIntervalSet free = new FreeIntervalSet();
+        free.release(0, 100);
+
+        free.reserve(20, 30);
+        free.reserve(50, 60);
+        assertEquals(3, free.rangeCount());
+        assertEquals(80, free.freeLength());
+        assertFalse(free.isFree(25, 35));
+        assertTrue(free.isFree(30, 50));
+
+        free.release(20, 30);
+        free.release(55, 60);
+        assertEquals(2, free.rangeCount());
+        assertEquals(95, free.freeLength());
+        assertTrue(free.isFree(0, 50));
+    }
+
+    @Test
+    @DisplayName("Should return the earliest fit that ends before the limit")
+    void testFirstFit_EarliestWithinLimit() {
+        FreeIntervalSet free = new FreeIntervalSet();
+        free.release(0, 30);
+        free.release(60, 120);
+        free.release(200, 300);
+
+        assertEquals(10, free.firstFit(10, 20, Integer.MAX_VALUE));
+        assertEquals(60, free.firstFit(20, 20, Integer.MAX_VALUE));
+        assertEquals(200, free.firstFit(0, 90, Integer.MAX_VALUE));
+        assertEquals(-1, free.firstFit(0, 90, 250));
+        assertEquals(-1, free.firstFit(0, 150, Integer.MAX_VALUE));
+    }
+
+    @Test
+    @DisplayName("Should match a boolean timeline on random operations")
+    void testOperations_MatchTimeline() {
+        Random random = new Random(42);
+        int size = 2_000;
+        boolean[] timeline = new boolean[size];
+        FreeIntervalSet free = new FreeIntervalSet();
+
+        for (int op = 0; op < 2_000; op++) {
+            int start = random.nextInt(size);
+            int end = Math.min(size, start + 1 + random.nextInt(200));
+            boolean release = random.nextBoolean();
+            if (release) {
+                free.release(start, end);
+            } else {
+                free.reserve(start, end);
+            }
+            for (int i = start; i < end; i++) {
+                timeline[i] = release;
+            }
+
+            int from = random.nextInt(size);
+            int length = 1 + random.nextInt(100);
+            assertEquals(linearFirstFit(timeline, from, length), free.firstFit(from, length, size));
+        }
+
+        long expectedFree = 0;
+        for (boolean slot : timeline) {
+            expectedFree += slot ? 1 : 0;
+        }
+        assertEquals(expectedFree, free.freeLength());
+    }
+
+    private static int linearFirstFit(boolean[] timeline, int from, int length) {
+        int run = 0;
+        for (int i = from; i < timeline.length; i++) {
+            run = timeline[i] ? run + 1 : 0;
+            if (run == length) {
+                return i - length + 1;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,72 @@
+package az.schedule.backendservice.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DisplayName("IntervalTree Unit Tests")
+class IntervalTreeTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    record Slot(int id, LocalDateTime start, LocalDateTime end) {
+    }
+
+    private static IntervalTree<Slot> treeOf(List<Slot> slots) {
+        return new IntervalTree<>(slots, Slot::start, Slot::end);
+    }
+
+    @Test
+    @DisplayName("Should include multi-day items that start before the window")
+    void testQuery_IncludesItemStartingBeforeWindow() {
+        Slot longTask = new Slot(1, BASE.minusDays(3), BASE.plusDays(2));
+        Slot inside = new Slot(2, BASE.plusDays(1), BASE.plusDays(1).plusHours(2));
+        Slot before = new Slot(3, BASE.minusDays(5), BASE.minusDays(4));
+
+        List<Slot> result = treeOf(List.of(longTask, inside, before)).query(BASE, BASE.plusDays(7));
+
+        assertEquals(List.of(longTask, inside), result);
+    }
+
+    @Test
+    @DisplayName("Should treat windows as half-open and items without end as points")
+    void testQuery_HalfOpenBoundsAndPoints() {
+        Slot endsAtStart = new Slot(1, BASE.minusHours(1), BASE);
+        Slot startsAtEnd = new Slot(2, BASE.plusDays(1), BASE.plusDays(1).plusHours(1));
+        Slot pointAtStart = new Slot(3, BASE, null);
+
+        List<Slot> result = treeOf(List.of(endsAtStart, startsAtEnd, pointAtStart)).query(BASE, BASE.plusDays(1));
+
+        assertEquals(List.of(pointAtStart), result);
+    }
+
+    @Test
+    @DisplayName("Should match a linear scan on random intervals")
+    void testQuery_MatchesLinearScan() {
+        Random random = new Random(42);
+        List<Slot> slots = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            LocalDateTime start = BASE.plusHours(random.nextInt(24 * 90));
+            slots.add(new Slot(i, start, start.plusHours(1 + random.nextInt(24 * 10))));
+        }
+        IntervalTree<Slot> tree = treeOf(slots);
+
+        for (int q = 0; q < 100; q++) {
+            LocalDateTime from = BASE.plusHours(random.nextInt(24 * 90));
+            LocalDateTime to = from.plusHours(1 + random.nextInt(24 * 31));
+            List<Integer> expected = slots.stream()
+                    .filter(s -> s.start().isBefore(to) && s.end().isAfter(from))
+                    .map(Slot::id)
+                    .sorted()
+                    .toList();
+            List<Integer> actual = tree.query(from, to).stream().map(Slot::id).sorted().toList();
+            assertEquals(expected, actual);
+        }
+    }
+}
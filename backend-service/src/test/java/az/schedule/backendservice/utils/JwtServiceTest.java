@@ -0,0 +1,101 @@
+package az.schedule.backendservice.utils;
+
+import az.schedule.backendservice.entity.Account;
+import az.schedule.backendservice.entity.Role;
+import az.schedule.backendservice.enums.TokenType;
+import az.schedule.backendservice.exception.AppException;
+import az.schedule.backendservice.exception.ErrorCode;
+import com.nimbusds.jwt.JWTClaimsSet;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("JwtService Unit Tests")
+class JwtServiceTest {
+
+    private static final String ACCESS_SECRET = "access-secret-access-secret-access-secret-access-secret-access-secret";
+    private static final String REFRESH_SECRET = "refresh-secret-refresh-secret-refresh-secret-refresh-secret-refresh!";
+
+    private JwtService jwtService;
+    private Account account;
+
+    static JwtService jwtService(long accessExpirationSeconds) {
+        JwtService service = new JwtService();
+        ReflectionTestUtils.setField(service, "jwtSecret", ACCESS_SECRET);
+        ReflectionTestUtils.setField(service, "jwtRefresh", REFRESH_SECRET);
+        ReflectionTestUtils.setField(service, "jwtExpirations", accessExpirationSeconds);
+        ReflectionTestUtils.setField(service, "jwtRefreshExpirationMs", 604800L);
+        ReflectionTestUtils.setField(service, "claimsCacheMaxSize", 100L);
+        ReflectionTestUtils.invokeMethod(service, "init");
+        return service;
+    }
+
+    @BeforeEach
+    void setUp() {
+        jwtService = jwtService(3600);
+        Role role = new Role();
+        role.setCode("USER");
+        account = new Account();
+        account.setId(7L);
+        account.setUsername("alice");
+        account.setRole(role);
+    }
+
+    @Test
+    @DisplayName("Should return the claims of a freshly issued token")
+    void testVerifyToken_RoundTrip() throws Exception {
+        String token = jwtService.generateToken(account, TokenType.ACCESS_TOKEN);
+
+        JWTClaimsSet claims = jwtService.verifyToken(token, TokenType.ACCESS_TOKEN);
+
+        assertEquals("alice", claims.getSubject());
+        assertEquals(7L, claims.getLongClaim("accountId"));
+        assertEquals("USER", claims.getStringClaim("scope"));
+    }
+
+    @Test
+    @DisplayName("Should serve repeated verification from the claims cache")
+    void testVerifyToken_CachesClaims() throws Exception {
+        String token = jwtService.generateToken(account, TokenType.ACCESS_TOKEN);
+
+        assertSame(jwtService.verifyToken(token, TokenType.ACCESS_TOKEN),
+                jwtService.verifyToken(token, TokenType.ACCESS_TOKEN));
+    }
+
+    @Test
+    @DisplayName("Should reject a token checked against the other token type")
+    void testVerifyToken_WrongType() throws Exception {
+        String access = jwtService.generateToken(account, TokenType.ACCESS_TOKEN);
+        jwtService.verifyToken(access, TokenType.ACCESS_TOKEN);
+
+        AppException exception = assertThrows(AppException.class,
+                () -> jwtService.verifyToken(access, TokenType.REFRESH_TOKEN));
+        assertEquals(ErrorCode.UNAUTHORIZED, exception.getErrorCode());
+    }
+
+    @Test
+    @DisplayName("Should reject a token whose payload was altered")
+    void testVerifyToken_Tampered() {
+        String token = jwtService.generateToken(account, TokenType.ACCESS_TOKEN);
+        String[] parts = token.split("\\.");
+        String forged = parts[0] + "." + parts[1].substring(0, parts[1].length() - 2) + "AA." + parts[2];
+
+        assertThrows(Exception.class, () -> jwtService.verifyToken(forged, TokenType.ACCESS_TOKEN));
+    }
+
+    @Test
+    @DisplayName("Should reject an expired token")
+    void testVerifyToken_Expired() {
+        JwtService expiring = jwtService(-60);
+        String token = expiring.generateToken(account, TokenType.ACCESS_TOKEN);
+
+        AppException exception = assertThrows(AppException.class,
+                () -> expiring.verifyToken(token, TokenType.ACCESS_TOKEN));
+        assertEquals(ErrorCode.UNAUTHORIZED, exception.getErrorCode());
+    }
+}
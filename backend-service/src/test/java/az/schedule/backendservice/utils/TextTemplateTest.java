@@ -0,0 +1,32 @@
+package az.schedule.backendservice.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DisplayName("TextTemplate Unit Tests")
+class TextTemplateTest {
+
+    @Test
+    @DisplayName("Should substitute placeholders in any order and keep other text literal")
+    void testRender_SubstitutesPlaceholders() {
+        TextTemplate template = TextTemplate.compile("{1} of {0} done (100%), it's {x} {} {2");
+
+        assertEquals(2, template.argumentCount());
+        assertEquals("3 of 5 done (100%), it's {x} {} {2", template.render(5, 3));
+    }
+
+    @Test
+    @DisplayName("Should append into an existing builder and render missing arguments empty")
+    void testAppendTo_ReusesBuilder() {
+        TextTemplate template = TextTemplate.compile("Due in {0} hours.");
+        StringBuilder out = new StringBuilder("⏰ ");
+
+        template.appendTo(out, 12L).append(' ');
+        template.appendTo(out);
+
+        assertEquals("⏰ Due in 12 hours. Due in  hours.", out.toString());
+        assertEquals("No placeholders", TextTemplate.compile("No placeholders").render());
+    }
+}
@@ -103,9 +103,9 @@ CREATE TABLE IF NOT EXISTS `Task` (
     PRIMARY KEY (`id`),
     FOREIGN KEY (`account_id`) REFERENCES `Account`(`id`) ON DELETE CASCADE,
     FOREIGN KEY (`category_id`) REFERENCES `Category`(`id`) ON DELETE SET NULL,
-    INDEX `idx_task_account` (`account_id`),
-    INDEX `idx_task_status` (`status`),
-    INDEX `idx_task_due_date` (`due_date`)
+    INDEX `idx_task_account_status` (`account_id`, `status`),
+    INDEX `idx_task_account_due_date_status` (`account_id`, `due_date`, `status`),
+    INDEX `idx_task_category_status` (`category_id`, `status`)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
 
 -- =====================================================